@@ -0,0 +1,79 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 휴가 부여 예측 벤치마크.
+ * 
+ * 사용자 10만 명 × 10년 예측을, 조회 테이블 엔진과 부여일을 날짜 단위로 따라가는 방식으로 비교한다.
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccrualProjectionBenchmark {
+
+    @Param({"100000"})
+    private int users;
+
+    @Param({"10"})
+    private int years;
+
+    private final LocalDate from = LocalDate.of(2026, 10, 19);
+    private final AccrualProjectionEngine engine = new AccrualProjectionEngine();
+    private final AccrualRules rules = AccrualRules.standard();
+
+    private LocalDate[] hireDates;
+    private int[] hireMonths;
+    private int[] hireDays;
+    private int[] balances;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        hireDates = new LocalDate[users];
+        hireMonths = new int[users];
+        hireDays = new int[users];
+        balances = new int[users];
+        for (int i = 0; i < users; i++) {
+            hireDates[i] = from.minusDays(random.nextInt(365 * 30));
+            hireMonths[i] = AccrualProjectionEngine.monthIndex(hireDates[i]);
+            hireDays[i] = hireDates[i].getDayOfMonth();
+            balances[i] = random.nextInt(2_500);
+        }
+    }
+
+    @Benchmark
+    public AccrualProjection lookupTable() {
+        return engine.project(hireMonths, hireDays, balances, from, years, rules);
+    }
+
+    @Benchmark
+    public long[] dateByDate() {
+        long[] yearEnd = new long[years];
+        for (int i = 0; i < users; i++) {
+            LocalDate hireDate = hireDates[i];
+            boolean monthly = from.isBefore(hireDate.plusYears(1));
+            LocalDate next = monthly
+                    ? AccrualPolicyEngine.nextMonthlyAccrual(hireDate, from)
+                    : AccrualPolicyEngine.nextAnnualAccrual(hireDate, from);
+            long balance = balances[i];
+            for (int y = 0; y < years; y++) {
+                LocalDate end = from.withDayOfMonth(1).plusMonths(12L * (y + 1)).minusDays(1);
+                while (!next.isAfter(end)) {
+                    monthly = next.isBefore(hireDate.plusYears(1));
+                    balance += monthly ? 100 : AccrualPolicyEngine.annualDays(hireDate, next) * 100L;
+                    next = monthly && AccrualPolicyEngine.nextMonthlyAccrual(hireDate, next).isBefore(hireDate.plusYears(1))
+                            ? AccrualPolicyEngine.nextMonthlyAccrual(hireDate, next)
+                            : AccrualPolicyEngine.nextAnnualAccrual(hireDate, next);
+                }
+                yearEnd[y] += balance;
+            }
+        }
+        return yearEnd;
+    }
+}
@@ -0,0 +1,82 @@
+package com.hoho.leave.domain.shared;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 휴가 일수 연산 벤치마크.
+ * 
+ * 잔여 일수 합산과 신청량 차감(잔여 부족 검사 포함)을 BigDecimal과 DayQuantity로 비교한다.
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DayQuantityBenchmark {
+
+    @Param({"100000"})
+    private int accounts;
+
+    private BigDecimal[] decimalBalances;
+    private BigDecimal[] decimalRequests;
+    private DayQuantity[] quantityBalances;
+    private DayQuantity[] quantityRequests;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        decimalBalances = new BigDecimal[accounts];
+        decimalRequests = new BigDecimal[accounts];
+        quantityBalances = new DayQuantity[accounts];
+        quantityRequests = new DayQuantity[accounts];
+        for (int i = 0; i < accounts; i++) {
+            long balance = random.nextInt(2_500);
+            long request = 25L * (1 + random.nextInt(20));     // 2시간(0.25일) 단위 신청
+            decimalBalances[i] = BigDecimal.valueOf(balance, 2);
+            decimalRequests[i] = BigDecimal.valueOf(request, 2);
+            quantityBalances[i] = DayQuantity.ofHundredths(balance);
+            quantityRequests[i] = DayQuantity.ofHundredths(request);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSum() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal balance : decimalBalances) {
+            total = total.add(balance);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public DayQuantity dayQuantitySum() {
+        DayQuantity total = DayQuantity.ZERO;
+        for (DayQuantity balance : quantityBalances) {
+            total = total.plus(balance);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int bigDecimalDeduct() {
+        int deducted = 0;
+        for (int i = 0; i < accounts; i++) {
+            BigDecimal remaining = decimalBalances[i].subtract(decimalRequests[i]);
+            if (remaining.signum() >= 0) deducted++;
+        }
+        return deducted;
+    }
+
+    @Benchmark
+    public int dayQuantityDeduct() {
+        int deducted = 0;
+        for (int i = 0; i < accounts; i++) {
+            DayQuantity remaining = quantityBalances[i].minus(quantityRequests[i]);
+            if (!remaining.isNegative()) deducted++;
+        }
+        return deducted;
+    }
+}
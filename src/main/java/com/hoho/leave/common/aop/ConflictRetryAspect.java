@@ -0,0 +1,120 @@
+package com.hoho.leave.common.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 동시성 충돌 재시도 AOP Aspect.
+ *
+ * {@link RetryOnConflict}가 선언된 메서드에서 낙관적 잠금 실패 또는
+ * 데드락/잠금 대기 오류가 발생하면 새 트랜잭션으로 재실행한다.
+ * 트랜잭션 어드바이저보다 바깥에서 동작하도록 우선순위를 높게 지정한다.
+ * 충돌 횟수는 작업명(operation)별로 메트릭에 기록된다.
+ *
+ */
+@Aspect
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConflictRetryAspect {
+
+    /** MySQL 데드락 오류 코드 */
+    private static final int MYSQL_DEADLOCK = 1213;
+    /** MySQL 잠금 대기 시간 초과 오류 코드 */
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 충돌 발생 시 재시도 정책에 따라 메서드를 다시 실행한다.
+     *
+     * 이미 바깥 트랜잭션에 참여 중이라면 재시도해도 같은 트랜잭션이 롤백되므로 그대로 실행한다.
+     *
+     *
+     * @param joinPoint AOP 조인 포인트
+     * @param retry 재시도 정책
+     * @return 원본 메서드의 반환값
+     * @throws Throwable 재시도 횟수를 모두 소진했거나 재시도 대상이 아닌 예외
+     */
+    @Around("@annotation(retry)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint, RetryOnConflict retry) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException e) {
+                String cause = classify(e);
+                boolean exhausted = attempt >= retry.maxAttempts();
+
+                meterRegistry.counter("leave.concurrency.conflicts",
+                        "operation", retry.operation(),
+                        "cause", cause,
+                        "outcome", exhausted ? "exhausted" : "retried").increment();
+
+                if (exhausted) {
+                    log.warn("Conflict retry exhausted. operation={}, cause={}, attempts={}",
+                            retry.operation(), cause, attempt);
+                    throw e;
+                }
+
+                log.info("Conflict detected. operation={}, cause={}, attempt={}", retry.operation(), cause, attempt);
+                backoff(retry, attempt, e);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * 지터가 포함된 지수 백오프로 대기한다. (full jitter)
+     * 대기 중 인터럽트되면 인터럽트 상태를 복원하고 재시도하지 않은 채 원래 충돌 예외를 던진다.
+     *
+     * @param retry 재시도 정책
+     * @param attempt 현재 시도 횟수
+     * @param conflict 재시도하려던 충돌 예외
+     */
+    private void backoff(RetryOnConflict retry, int attempt, ConcurrencyFailureException conflict) {
+        long ceiling = Math.min(retry.maxBackoffMillis(), retry.backoffMillis() << Math.min(attempt - 1, 16));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    /**
+     * 충돌 원인을 메트릭 태그로 분류한다.
+     *
+     * @param e 동시성 예외
+     * @return optimistic, deadlock, lock_wait, concurrency 중 하나
+     */
+    private String classify(ConcurrencyFailureException e) {
+        if (e instanceof OptimisticLockingFailureException) return "optimistic";
+
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql) {
+                if (sql.getErrorCode() == MYSQL_DEADLOCK) return "deadlock";
+                if (sql.getErrorCode() == MYSQL_LOCK_WAIT_TIMEOUT) return "lock_wait";
+            }
+        }
+        return "concurrency";
+    }
+}
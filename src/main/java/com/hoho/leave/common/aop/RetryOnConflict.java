@@ -0,0 +1,47 @@
+package com.hoho.leave.common.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동시성 충돌 시 재시도 정책을 선언하는 어노테이션.
+ *
+ * 낙관적 잠금 실패, MySQL 데드락(1213), 잠금 대기 시간 초과(1205)가 발생하면
+ * 지정된 횟수만큼 지터가 포함된 지수 백오프로 메서드를 다시 실행한다.
+ * 트랜잭션 경계 바깥에서 적용되어야 하므로 {@code @Transactional} 메서드에 함께 선언한다.
+ *
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    /**
+     * 메트릭에 기록될 작업명.
+     *
+     * @return 작업명
+     */
+    String operation();
+
+    /**
+     * 최초 실행을 포함한 최대 시도 횟수.
+     *
+     * @return 최대 시도 횟수
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * 백오프 기본 대기 시간(ms).
+     *
+     * @return 기본 대기 시간
+     */
+    long backoffMillis() default 50;
+
+    /**
+     * 백오프 최대 대기 시간(ms).
+     *
+     * @return 최대 대기 시간
+     */
+    long maxBackoffMillis() default 1000;
+}
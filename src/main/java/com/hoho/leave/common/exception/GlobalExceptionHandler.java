@@ -1,6 +1,7 @@
 package com.hoho.leave.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -55,6 +56,18 @@ public class GlobalExceptionHandler {
         return getProblemDetail(HttpStatus.CONFLICT, e);
     }
 
+    /**
+     * 재시도 후에도 해소되지 않은 동시성 충돌 예외를 처리한다.
+     *
+     * @param e 발생한 동시성 예외
+     * @return 409 Conflict 상태의 ProblemDetail
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ProblemDetail handleConcurrencyFailure(ConcurrencyFailureException e) {
+        log.warn("Concurrency conflict: {}", e.getMessage());
+        return getProblemDetail(HttpStatus.CONFLICT, e);
+    }
+
     /**
      * 리소스를 찾을 수 없는 예외를 처리한다.
      *
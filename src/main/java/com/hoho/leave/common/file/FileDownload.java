@@ -0,0 +1,85 @@
+package com.hoho.leave.common.file;
+
+import lombok.Getter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * 다운로드할 파일 정보.
+ *
+ * 디스크 위치와 길이, 검증자(ETag/수정 시각), 응답 헤더 정책을 담는 불변 값이다.
+ * 길이는 저장 시점에 기록된 값으로, 실제 파일과 일치하는지는 생성하는 쪽에서 확인한다.
+ *
+ */
+@Getter
+public class FileDownload {
+
+    private final Path path;
+    private final long length;
+    private final long lastModified;        // epoch millis
+    private final String eTag;
+    private final MediaType contentType;
+    private final ContentDisposition disposition;
+    private final CacheControl cacheControl;
+
+    private FileDownload(Path path, long length, long lastModified, String eTag, MediaType contentType,
+                         ContentDisposition disposition, CacheControl cacheControl) {
+        this.path = path;
+        this.length = length;
+        this.lastModified = lastModified;
+        this.eTag = eTag;
+        this.contentType = contentType;
+        this.disposition = disposition;
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * 다운로드할 파일 정보를 생성한다.
+     * 기본 정책은 인라인 표시, 비공개 캐시 + 매 요청 재검증이다.
+     *
+     * @param path 파일 경로
+     * @param length 파일 길이 (bytes)
+     * @param lastModified 마지막 수정 시각 (epoch millis)
+     * @param eTag ETag (따옴표 포함, 약한 검증자는 W/ 접두사)
+     * @param contentType 컨텐츠 타입
+     * @return 다운로드할 파일 정보
+     */
+    public static FileDownload of(Path path, long length, long lastModified, String eTag, MediaType contentType) {
+        return new FileDownload(path, length, lastModified, eTag, contentType,
+                ContentDisposition.inline().build(), CacheControl.noCache().cachePrivate());
+    }
+
+    /**
+     * 첨부 다운로드(저장 대화상자)로 응답하도록 바꾼 사본을 반환한다.
+     *
+     * @param fileName 저장될 파일명
+     * @return 다운로드할 파일 정보
+     */
+    public FileDownload asAttachment(String fileName) {
+        return new FileDownload(path, length, lastModified, eTag, contentType,
+                ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build(), cacheControl);
+    }
+
+    /**
+     * 캐시 정책을 바꾼 사본을 반환한다.
+     *
+     * @param cacheControl 캐시 정책
+     * @return 다운로드할 파일 정보
+     */
+    public FileDownload withCacheControl(CacheControl cacheControl) {
+        return new FileDownload(path, length, lastModified, eTag, contentType, disposition, cacheControl);
+    }
+
+    /**
+     * 강한 검증자인지 확인한다. 약한 ETag는 범위 요청(If-Range)에 사용할 수 없다.
+     *
+     * @return 강한 ETag면 true
+     */
+    public boolean hasStrongETag() {
+        return eTag != null && !eTag.startsWith("W/");
+    }
+}
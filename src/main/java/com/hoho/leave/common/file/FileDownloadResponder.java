@@ -0,0 +1,305 @@
+package com.hoho.leave.common.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 파일 다운로드 응답 생성기.
+ *
+ * 조건부 요청(If-None-Match/If-Modified-Since → 304)과 범위 요청(단일 → 206, 복수 → multipart/byteranges)을 처리한다.
+ * 본문은 {@link FileChannel#transferTo}로 응답 스트림에 바로 흘려보내며,
+ * 컨테이너(Tomcat NIO)가 sendfile을 지원하면 단일 구간 응답은 커널에서 직접 전송하도록 넘긴다.
+ *
+ */
+@Component
+public class FileDownloadResponder {
+
+    /** Tomcat sendfile 지원 여부 요청 속성 */
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    /** Tomcat sendfile 대상 파일 요청 속성 */
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    /** Tomcat sendfile 시작 위치 요청 속성 (포함) */
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    /** Tomcat sendfile 끝 위치 요청 속성 (제외) */
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CRLF = "\r\n";
+
+    /**
+     * 요청 헤더에 맞는 파일 응답을 생성한다.
+     *
+     * @param file 다운로드할 파일 정보
+     * @param request HTTP 요청
+     * @return 200/206/304/416 응답
+     */
+    public ResponseEntity<StreamingResponseBody> respond(FileDownload file, HttpServletRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        if (file.getETag() != null) headers.setETag(file.getETag());
+        headers.setLastModified(file.getLastModified());
+        headers.setCacheControl(file.getCacheControl());
+
+        if (isNotModified(file, request)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setContentDisposition(file.getDisposition());
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null || file.getLength() == 0 || !rangeApplies(file, request)) {
+            return single(file, new Part(0, file.getLength() - 1), HttpStatus.OK, headers, request);
+        }
+
+        List<Part> parts;
+        try {
+            parts = resolve(HttpRange.parseRanges(range), file.getLength());
+        } catch (IllegalArgumentException e) {
+            parts = List.of();
+        }
+        if (parts.isEmpty()) {
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + file.getLength());
+            return new ResponseEntity<>(headers, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        }
+        if (parts.size() == 1) {
+            Part part = parts.get(0);
+            headers.set(HttpHeaders.CONTENT_RANGE, part.contentRange(file.getLength()));
+            return single(file, part, HttpStatus.PARTIAL_CONTENT, headers, request);
+        }
+        return multipart(file, parts, headers, request);
+    }
+
+    /**
+     * 하나의 연속 구간을 응답한다. sendfile을 쓸 수 있으면 본문 없이 컨테이너에 전송을 맡긴다.
+     *
+     * @param file 다운로드할 파일 정보
+     * @param part 전송 구간
+     * @param status 응답 상태
+     * @param headers 응답 헤더
+     * @param request HTTP 요청
+     * @return 응답
+     */
+    private ResponseEntity<StreamingResponseBody> single(FileDownload file, Part part, HttpStatus status,
+                                                         HttpHeaders headers, HttpServletRequest request) {
+        headers.setContentType(file.getContentType());
+        headers.setContentLength(part.length());
+
+        if (isHead(request) || part.length() == 0) {
+            return new ResponseEntity<>(headers, status);
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, part.start);
+            request.setAttribute(SENDFILE_END, part.end + 1);
+            return new ResponseEntity<>(headers, status);
+        }
+
+        StreamingResponseBody body = out -> {
+            try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+                transfer(channel, part, Channels.newChannel(out));
+            }
+        };
+        return new ResponseEntity<>(body, headers, status);
+    }
+
+    /**
+     * 여러 구간을 multipart/byteranges로 응답한다. 전체 길이를 미리 계산해 Content-Length를 보낸다.
+     *
+     * @param file 다운로드할 파일 정보
+     * @param parts 전송 구간 목록 (정렬/병합된 상태)
+     * @param headers 응답 헤더
+     * @param request HTTP 요청
+     * @return 206 응답
+     */
+    private ResponseEntity<StreamingResponseBody> multipart(FileDownload file, List<Part> parts,
+                                                            HttpHeaders headers, HttpServletRequest request) {
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        List<byte[]> partHeaders = new ArrayList<>(parts.size());
+        long contentLength = 0;
+        for (Part part : parts) {
+            byte[] partHeader = (CRLF + "--" + boundary + CRLF
+                    + HttpHeaders.CONTENT_TYPE + ": " + file.getContentType() + CRLF
+                    + HttpHeaders.CONTENT_RANGE + ": " + part.contentRange(file.getLength()) + CRLF
+                    + CRLF).getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + part.length();
+        }
+        byte[] trailer = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+        contentLength += trailer.length;
+
+        headers.setContentType(MediaType.parseMediaType("multipart/byteranges; boundary=" + boundary));
+        headers.setContentLength(contentLength);
+        if (isHead(request)) {
+            return new ResponseEntity<>(headers, HttpStatus.PARTIAL_CONTENT);
+        }
+
+        StreamingResponseBody body = out -> {
+            try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                for (int i = 0; i < parts.size(); i++) {
+                    out.write(partHeaders.get(i));
+                    transfer(channel, parts.get(i), target);
+                }
+                out.write(trailer);
+            }
+        };
+        return new ResponseEntity<>(body, headers, HttpStatus.PARTIAL_CONTENT);
+    }
+
+    /**
+     * 파일 구간을 대상 채널로 전송한다. 전송 중 파일이 짧아지면 예외로 끊는다.
+     *
+     * @param channel 파일 채널
+     * @param part 전송 구간
+     * @param target 대상 채널
+     */
+    private static void transfer(FileChannel channel, Part part, WritableByteChannel target) throws IOException {
+        long position = part.start;
+        long remaining = part.length();
+        while (remaining > 0) {
+            long sent = channel.transferTo(position, remaining, target);
+            if (sent <= 0 && position >= channel.size()) {
+                throw new EOFException("File truncated during transfer at " + position);
+            }
+            position += sent;
+            remaining -= sent;
+        }
+    }
+
+    /**
+     * 조건부 GET에서 클라이언트 사본이 최신인지 확인한다.
+     * If-None-Match가 있으면 If-Modified-Since는 보지 않는다. (RFC 9110 13.2.2)
+     *
+     * @param file 다운로드할 파일 정보
+     * @param request HTTP 요청
+     * @return 304로 응답해도 되면 true
+     */
+    static boolean isNotModified(FileDownload file, HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !isHead(request)) return false;
+
+        List<String> ifNoneMatch = Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH));
+        if (!ifNoneMatch.isEmpty()) {
+            return file.getETag() != null && ifNoneMatch.stream()
+                    .flatMap(value -> List.of(value.split(",")).stream())
+                    .map(String::trim)
+                    .anyMatch(tag -> tag.equals("*") || weakEquals(tag, file.getETag()));
+        }
+
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && file.getLastModified() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * If-Range 조건이 맞아 범위 요청을 적용해도 되는지 확인한다.
+     * ETag는 강한 비교만 허용하고, 날짜는 마지막 수정 시각과 정확히 같아야 한다.
+     *
+     * @param file 다운로드할 파일 정보
+     * @param request HTTP 요청
+     * @return 범위 요청을 적용하면 true, 전체를 보내야 하면 false
+     */
+    static boolean rangeApplies(FileDownload file, HttpServletRequest request) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return file.hasStrongETag() && value.equals(file.getETag());
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && file.getLastModified() / 1000 == date / 1000;
+    }
+
+    /**
+     * 요청 범위를 파일 길이에 맞춰 자르고, 정렬 후 겹치거나 맞닿은 구간을 합친다.
+     * 만족할 수 없는 구간은 버린다.
+     *
+     * @param ranges 요청 범위 목록
+     * @param length 파일 길이
+     * @return 전송 구간 목록 (비어 있으면 416)
+     */
+    static List<Part> resolve(List<HttpRange> ranges, long length) {
+        List<Part> parts = new ArrayList<>(ranges.size());
+        for (HttpRange range : ranges) {
+            try {
+                long start = range.getRangeStart(length);
+                long end = range.getRangeEnd(length);
+                if (start <= end) parts.add(new Part(start, end));
+            } catch (IllegalArgumentException ignored) {
+                // 시작 위치가 파일 길이를 넘는 구간
+            }
+        }
+        parts.sort(Comparator.comparingLong(p -> p.start));
+
+        List<Part> merged = new ArrayList<>(parts.size());
+        for (Part part : parts) {
+            Part last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && part.start <= last.end + 1) {
+                merged.set(merged.size() - 1, new Part(last.start, Math.max(last.end, part.end)));
+            } else {
+                merged.add(part);
+            }
+        }
+        return merged;
+    }
+
+    private static boolean weakEquals(String tag, String eTag) {
+        return stripWeak(tag).equals(stripWeak(eTag));
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static boolean isHead(HttpServletRequest request) {
+        return HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 전송 구간 (양 끝 포함).
+     */
+    static final class Part {
+        final long start;
+        final long end;
+
+        Part(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        long length() {
+            return end - start + 1;
+        }
+
+        String contentRange(long total) {
+            return "bytes " + start + "-" + end + "/" + total;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.hoho.leave.common.file;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * 디스크를 쓰는 문자열 외부 정렬기.
+ *
+ * 줄을 받아 일정 개수마다 정렬해 임시 파일(run)로 내보내고, 읽을 때 run들을 k-way 병합해 정렬 순서로 돌려준다.
+ * 메모리에는 run 하나 분량과 run별 현재 줄만 남으므로 전체 개수와 관계없이 힙 사용량이 일정하다.
+ * 줄에는 줄바꿈 문자가 없어야 한다. 닫으면 임시 파일을 모두 지운다.
+ *
+ */
+public class SortedLineSpool implements Closeable {
+
+    private final Path workDir;
+    private final int runSize;
+    private final List<String> buffer = new ArrayList<>();
+    private final List<Path> runs = new ArrayList<>();
+    private final List<BufferedReader> readers = new ArrayList<>();
+    private long size;
+
+    private SortedLineSpool(Path workDir, int runSize) {
+        this.workDir = workDir;
+        this.runSize = runSize;
+    }
+
+    /**
+     * 임시 디렉토리를 만들고 정렬기를 생성한다.
+     *
+     * @param parent 임시 디렉토리를 만들 위치
+     * @param runSize run 하나에 담을 줄 수 (메모리에 한 번에 올리는 최대 개수)
+     * @return 정렬기
+     * @throws IOException 임시 디렉토리 생성 실패
+     */
+    public static SortedLineSpool create(Path parent, int runSize) throws IOException {
+        Files.createDirectories(parent);
+        return new SortedLineSpool(Files.createTempDirectory(parent, "spool-"), Math.max(1, runSize));
+    }
+
+    /**
+     * 줄을 추가한다. 버퍼가 차면 정렬해 run 파일로 내보낸다.
+     *
+     * @param line 추가할 줄 (줄바꿈 없음)
+     * @throws IOException run 쓰기 실패
+     */
+    public void add(String line) throws IOException {
+        buffer.add(line);
+        size++;
+        if (buffer.size() >= runSize) spill();
+    }
+
+    /**
+     * 추가된 줄 수를 반환한다.
+     *
+     * @return 줄 수
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 추가된 모든 줄을 정렬 순서로 읽는다. 이후에는 줄을 추가할 수 없다.
+     * run이 하나도 없으면 메모리 버퍼만 정렬해 돌려준다.
+     *
+     * @return 정렬된 줄 반복자 (읽기 실패는 {@link UncheckedIOException})
+     * @throws IOException run 쓰기/열기 실패
+     */
+    public Iterator<String> sorted() throws IOException {
+        if (runs.isEmpty()) {
+            Collections.sort(buffer);
+            return List.copyOf(buffer).iterator();
+        }
+        if (!buffer.isEmpty()) spill();
+
+        PriorityQueue<Head> heads = new PriorityQueue<>();
+        for (Path run : runs) {
+            BufferedReader reader = Files.newBufferedReader(run, StandardCharsets.UTF_8);
+            readers.add(reader);
+            Head head = new Head(reader);
+            if (head.advance()) heads.add(head);
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public String next() {
+                Head head = heads.poll();
+                if (head == null) throw new NoSuchElementException();
+                String line = head.line;
+                try {
+                    if (head.advance()) heads.add(head);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return line;
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (BufferedReader reader : readers) {
+            try {
+                reader.close();
+            } catch (IOException ignored) {
+                // 지우기 전에 닫기만 시도한다
+            }
+        }
+        for (Path run : runs) Files.deleteIfExists(run);
+        Files.deleteIfExists(workDir);
+        buffer.clear();
+    }
+
+    private void spill() throws IOException {
+        Collections.sort(buffer);
+        Path run = workDir.resolve("run-" + runs.size());
+        try (BufferedWriter writer = Files.newBufferedWriter(run, StandardCharsets.UTF_8)) {
+            for (String line : buffer) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        runs.add(run);
+        buffer.clear();
+    }
+
+    /**
+     * run별 현재 줄.
+     */
+    private static final class Head implements Comparable<Head> {
+        private final BufferedReader reader;
+        private String line;
+
+        Head(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        boolean advance() throws IOException {
+            line = reader.readLine();
+            return line != null;
+        }
+
+        @Override
+        public int compareTo(Head other) {
+            return line.compareTo(other.line);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.hoho.leave.common.file;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 응답 스트림에 바로 쓰는 ZIP 묶음 작성기.
+ * 
+ * 임시 파일 없이 파일을 하나씩 읽어 ZIP 항목으로 흘려보내므로 메모리 사용량은 파일 수/크기와 무관하다.
+ * 이미 압축된 형식(JPEG/PNG/PDF)은 다시 압축해도 줄지 않으므로 STORED로 넣는다.
+ * STORED 항목은 헤더에 CRC가 먼저 필요해 파일을 한 번 더 읽는다. (두 번째 읽기는 대부분 페이지 캐시에서 끝난다)
+ * 없는 파일은 건너뛰고 마지막에 목록을 {@value #MISSING_ENTRY} 항목으로 남긴다. (응답 상태는 이미 보냈으므로)
+ * 
+ */
+public class ZipBundleWriter implements AutoCloseable {
+
+    /** 누락 파일 목록 항목 이름 */
+    public static final String MISSING_ENTRY = "_missing.txt";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final List<String> STORED_TYPES = List.of("image/jpeg", "image/png", "application/pdf");
+
+    private final ZipOutputStream zip;
+    private final List<String> missing = new ArrayList<>();
+    private final ByteBuffer crcBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * ZIP 묶음 작성기를 생성한다.
+     *
+     * @param out 응답 스트림 (닫기 시 함께 닫지 않는다)
+     */
+    public ZipBundleWriter(OutputStream out) {
+        this.zip = new ZipOutputStream(new NonClosingOutputStream(out), StandardCharsets.UTF_8);
+        this.zip.setLevel(Deflater.BEST_SPEED);
+    }
+
+    /**
+     * 파일 하나를 ZIP 항목으로 추가한다.
+     *
+     * @param name 항목 이름 (폴더는 '/'로 구분)
+     * @param path 파일 경로
+     * @param contentType 컨텐츠 타입 (압축 방식 결정)
+     * @throws IOException 쓰기 실패
+     */
+    public void add(String name, Path path, String contentType) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        try {
+            entry.setLastModifiedTime(Files.getLastModifiedTime(path));
+            if (isStored(contentType)) {
+                prepareStored(entry, path);
+            }
+        } catch (NoSuchFileException e) {
+            missing.add(name);
+            return;
+        }
+
+        zip.putNextEntry(entry);
+        Files.copy(path, zip);
+        zip.closeEntry();
+    }
+
+    /**
+     * 누락 목록을 쓰고 ZIP 중앙 디렉토리를 마무리한다. 응답 스트림은 닫지 않는다.
+     *
+     * @throws IOException 쓰기 실패
+     */
+    @Override
+    public void close() throws IOException {
+        if (!missing.isEmpty()) {
+            ZipEntry entry = new ZipEntry(MISSING_ENTRY);
+            entry.setLastModifiedTime(FileTime.fromMillis(System.currentTimeMillis()));
+            zip.putNextEntry(entry);
+            zip.write(String.join("\n", missing).getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        zip.close();
+    }
+
+    /**
+     * 다시 압축하지 않을 형식인지 확인한다.
+     *
+     * @param contentType 컨텐츠 타입
+     * @return STORED로 넣으면 true
+     */
+    static boolean isStored(String contentType) {
+        return contentType != null && STORED_TYPES.contains(contentType);
+    }
+
+    /**
+     * STORED 항목 헤더에 필요한 크기와 CRC를 채운다.
+     * 이후 복사하는 동안 파일이 바뀌면 ZipOutputStream이 크기/CRC 불일치로 실패시킨다.
+     *
+     * @param entry ZIP 항목
+     * @param path 파일 경로
+     * @throws IOException 읽기 실패
+     */
+    private void prepareStored(ZipEntry entry, Path path) throws IOException {
+        CRC32 crc = new CRC32();
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            crcBuffer.clear();
+            while (channel.read(crcBuffer) != -1) {
+                crcBuffer.flip();
+                size += crcBuffer.remaining();
+                crc.update(crcBuffer);
+                crcBuffer.clear();
+            }
+        }
+
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc.getValue());
+    }
+
+    /**
+     * ZIP을 마무리해도 응답 스트림은 컨테이너가 닫도록 남겨 둔다.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.hoho.leave.common.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층형 타이머 휠.
+ * 
+ * 키마다 하나의 만료 시각을 보관하고, 시간을 진행시키면 만료된 키를 돌려준다.
+ * 0단계 휠은 tickMillis 간격의 슬롯 wheelSize개로 구성되며, 범위를 넘는 만료 시각은
+ * 간격이 wheelSize배인 상위 휠에 두었다가 해당 구간이 다가오면 하위 휠로 내려보낸다.
+ * 등록/취소는 O(1), 시간 진행은 지나간 틱 수에 비례하며 전체 타이머를 훑지 않는다.
+ * 만료 판정은 틱 단위이므로 최대 tickMillis만큼 일찍 만료될 수 있다.
+ * 모든 메서드는 동기화되어 있어 여러 스레드에서 호출할 수 있다.
+ * 
+ *
+ * @param <K> 타이머 키 타입
+ */
+public final class HierarchicalTimerWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+
+    /** 단계별 휠 (필요할 때 상위 단계를 만든다) */
+    private final List<Level<K>> levels = new ArrayList<>();
+
+    /** 키별 등록된 타이머 */
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    /** 등록 시점에 이미 만료된 키 (다음 진행 시 반환) */
+    private final Set<K> expiredOnSchedule = new LinkedHashSet<>();
+
+    /** 0단계 휠의 현재 시각 (tickMillis 단위로 정렬) */
+    private long currentTime;
+
+    /**
+     * 타이머 휠을 생성한다.
+     *
+     * @param tickMillis 0단계 휠의 슬롯 간격(ms)
+     * @param wheelSize 단계별 슬롯 수
+     * @param startMillis 시작 시각(epoch ms)
+     */
+    public HierarchicalTimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        this.levels.add(new Level<>(tickMillis, wheelSize, currentTime));
+    }
+
+    /**
+     * 키의 만료 시각을 등록한다. 이미 등록된 키면 만료 시각을 바꾼다.
+     *
+     * @param key 타이머 키
+     * @param deadlineMillis 만료 시각(epoch ms)
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+
+        Entry<K> entry = new Entry<>(key, deadlineMillis);
+        entries.put(key, entry);
+        if (!place(entry)) {
+            entries.remove(key);
+            expiredOnSchedule.add(key);
+        }
+    }
+
+    /**
+     * 키의 타이머를 취소한다.
+     *
+     * @param key 타이머 키
+     * @return 취소된 타이머가 있었는지 여부
+     */
+    public synchronized boolean cancel(K key) {
+        boolean removed = expiredOnSchedule.remove(key);
+
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) return removed;
+
+        entry.bucket.entries.remove(entry);
+        return true;
+    }
+
+    /**
+     * 지정 시각까지 시간을 진행시키고 만료된 키를 반환한다.
+     *
+     * @param nowMillis 현재 시각(epoch ms)
+     * @return 만료된 키 목록 (만료 시각 순서는 틱 단위로만 보장)
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>(expiredOnSchedule);
+        expiredOnSchedule.clear();
+
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+
+            // 하위 휠로 내려보낼 때 기준 시각이 맞도록 모든 단계의 시각을 먼저 맞춘다.
+            for (Level<K> level : levels) {
+                level.currentTime = currentTime - Math.floorMod(currentTime, level.tick);
+            }
+
+            for (int i = levels.size() - 1; i >= 0; i--) {
+                Level<K> level = levels.get(i);
+                Bucket<K> bucket = level.bucketAt(currentTime);
+                if (bucket.expiration == Bucket.NONE || bucket.expiration > currentTime) continue;
+
+                List<Entry<K>> flushed = new ArrayList<>(bucket.entries);
+                bucket.entries.clear();
+                bucket.expiration = Bucket.NONE;
+
+                for (Entry<K> entry : flushed) {
+                    if (!place(entry)) {
+                        entries.remove(entry.key);
+                        expired.add(entry.key);
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 등록된 타이머 수를 반환한다.
+     *
+     * @return 타이머 수
+     */
+    public synchronized int size() {
+        return entries.size() + expiredOnSchedule.size();
+    }
+
+    /**
+     * 타이머를 알맞은 단계의 슬롯에 넣는다.
+     *
+     * @param entry 타이머
+     * @return 슬롯에 넣었으면 true, 이미 만료되었으면 false
+     */
+    private boolean place(Entry<K> entry) {
+        if (entry.deadline < currentTime + tickMillis) return false;
+
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level<K> top = levels.get(i - 1);
+                levels.add(new Level<>(top.interval, wheelSize, currentTime));
+            }
+            Level<K> level = levels.get(i);
+            if (entry.deadline < level.currentTime + level.interval) {
+                long virtualId = Math.floorDiv(entry.deadline, level.tick);
+                Bucket<K> bucket = level.buckets[(int) Math.floorMod(virtualId, (long) wheelSize)];
+                bucket.expiration = virtualId * level.tick;
+                bucket.entries.add(entry);
+                entry.bucket = bucket;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 한 단계의 휠.
+     */
+    private static final class Level<K> {
+        final long tick;
+        final long interval;
+        final Bucket<K>[] buckets;
+        long currentTime;
+
+        @SuppressWarnings("unchecked")
+        Level(long tick, int wheelSize, long startTime) {
+            this.tick = tick;
+            this.interval = tick * wheelSize;
+            this.currentTime = startTime - Math.floorMod(startTime, tick);
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) buckets[i] = new Bucket<>();
+        }
+
+        Bucket<K> bucketAt(long time) {
+            return buckets[(int) Math.floorMod(Math.floorDiv(time, tick), (long) buckets.length)];
+        }
+    }
+
+    /**
+     * 같은 구간에 만료되는 타이머 묶음.
+     */
+    private static final class Bucket<K> {
+        static final long NONE = Long.MIN_VALUE;
+
+        final Set<Entry<K>> entries = new LinkedHashSet<>();
+        long expiration = NONE;
+    }
+
+    /**
+     * 등록된 타이머.
+     */
+    private static final class Entry<K> {
+        final K key;
+        final long deadline;
+        Bucket<K> bucket;
+
+        Entry(K key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.hoho.leave.config.attachment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 첨부파일 후처리 스레드 풀 설정 클래스.
+ *
+ * 업로드 요청 스레드가 기다리지 않도록 썸네일 생성, 이미지 재압축 등 첨부파일 후처리를 전용 풀에서 실행한다.
+ * 큐가 차면 작업을 거절하며(TaskRejectedException), 호출한 쪽은 요청을 버리고 다음 기회에 다시 요청한다.
+ *
+ */
+@Configuration
+public class AttachmentTaskConfig {
+
+    /**
+     * 썸네일 생성 스레드 풀.
+     * 요청 처리보다 우선하지 않도록 낮은 우선순위의 데몬 스레드를 쓰고,
+     * 종료 시에는 만들던 썸네일을 기다리지 않는다. (다음 조회 때 다시 만든다)
+     *
+     * @param workers 썸네일 작업 스레드 수
+     * @param queueCapacity 대기 가능한 썸네일 작업 수
+     * @return 썸네일 생성 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor attachmentThumbnailTaskExecutor(
+            @Value("${leave.attachment.thumbnail.workers:2}") int workers,
+            @Value("${leave.attachment.thumbnail.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("attachment-thumbnail-");
+        executor.setDaemon(true);
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        return executor;
+    }
+
+    /**
+     * 첨부 이미지 재압축 스레드 풀.
+     * 썸네일 풀과 같이 낮은 우선순위의 데몬 스레드를 쓰고 종료 시 기다리지 않는다.
+     * (진행 중이던 결과는 임시 파일로 남았다가 정리 작업이 지운다)
+     *
+     * @param workers 재압축 작업 스레드 수
+     * @param queueCapacity 대기 가능한 재압축 작업 수
+     * @return 재압축 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor attachmentRecompressTaskExecutor(
+            @Value("${leave.attachment.recompress.workers:1}") int workers,
+            @Value("${leave.attachment.recompress.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("attachment-recompress-");
+        executor.setDaemon(true);
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        return executor;
+    }
+}
@@ -0,0 +1,45 @@
+package com.hoho.leave.config.jpa;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 범위 EntityManager(Open EntityManager In View) 설정 클래스.
+ *
+ * 기본 설정과 같이 요청 동안 EntityManager를 열어 두되, 첨부파일 내용을 내려보내는 경로는 제외한다.
+ * 이 경로들은 보관 계층 복원과 응답 스트리밍이 길어질 수 있어, 첫 조회 후 요청이 끝날 때까지 DB 연결을 붙잡지 않도록
+ * 조회마다 짧은 트랜잭션에서 연결을 쓰고 바로 돌려준다.
+ * spring.jpa.open-in-view=false로 Spring Boot 기본 등록을 끄고 여기서 대신 등록한다.
+ *
+ */
+@Configuration
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+    /** 요청 범위 EntityManager를 열지 않는 첨부파일 내용 경로 */
+    private static final String[] STREAMING_PATHS = {
+            "/api/v1/attachment/images/**",
+            "/api/v1/attachment/thumbnails/**",
+            "/api/v1/attachment/download/**",
+            "/api/v1/attachment/bundle",
+            "/api/v1/attachment/bundle/**"
+    };
+
+    /**
+     * 요청 범위 EntityManager 인터셉터.
+     *
+     * @return 요청 범위 EntityManager 인터셉터
+     */
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(STREAMING_PATHS);
+    }
+}
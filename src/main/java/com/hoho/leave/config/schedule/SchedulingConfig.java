@@ -1,7 +1,10 @@
 package com.hoho.leave.config.schedule;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * 스케줄링 관련 설정 클래스.
@@ -13,4 +16,57 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
+
+    /**
+     * 휴가 부여 배치의 파티션을 병렬로 처리할 스레드 풀.
+     * 실행마다 새로 만들지 않고 애플리케이션 전체에서 하나를 공유한다.
+     *
+     * @param partitions 병렬로 처리할 파티션 수
+     * @return 휴가 부여 배치 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor accrualTaskExecutor(@Value("${leave.accrual.partitions:4}") int partitions) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(partitions);
+        executor.setMaxPoolSize(partitions);
+        executor.setThreadNamePrefix("accrual-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 잔여 일수 재계산의 ID 구간을 병렬로 처리할 스레드 풀.
+     * 재계산은 한 번에 하나만 실행되므로 풀 크기가 곧 작업 스레드 수다.
+     *
+     * @param workers 병렬 작업 스레드 수
+     * @return 잔여 일수 재계산 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor balanceRebuildTaskExecutor(@Value("${leave.balance-rebuild.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("balance-rebuild-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 휴가 일괄 조정 작업을 실행할 스레드 풀.
+     * 일괄 조정은 한 번에 하나만 실행되므로 스레드 하나로 충분하다.
+     *
+     * @return 휴가 일괄 조정 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor bulkAdjustmentTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("bulk-adjustment-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
 }
@@ -53,6 +53,16 @@ public class AuditLogService {
         auditLogRepository.save(auditLog);
     }
 
+    /**
+     * 여러 감사 로그를 한 번에 저장한다.
+     *
+     * @param auditLogs 저장할 감사 로그 목록
+     */
+    public void createLogs(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) return;
+        auditLogRepository.saveAll(auditLogs);
+    }
+
     /**
      * 감사 로그 목록을 페이징하여 조회한다.
      * 
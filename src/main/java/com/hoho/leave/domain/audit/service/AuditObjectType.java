@@ -28,6 +28,8 @@ public final class AuditObjectType {
     public static final String LEAVE_POLICY = "LEAVE_POLICY";
     /** 기본 승인자 */
     public static final String DEFAULT_APPROVER = "DEFAULT_APPROVER";
+    /** 결재자 위임 */
+    public static final String APPROVER_DELEGATION = "APPROVER_DELEGATION";
     /** 인수인계 */
     public static final String HANDOVER = "HANDOVER";
 }
@@ -0,0 +1,49 @@
+package com.hoho.leave.domain.leave.account.controller;
+
+import com.hoho.leave.domain.leave.account.dto.response.BalanceRebuildResponse;
+import com.hoho.leave.domain.leave.account.service.BalanceRebuildService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 휴가 잔여 일수 재계산 컨트롤러.
+ * 
+ * 관리자가 원장 기준 잔여 일수 검증/보정 작업을 시작하고 진행 보고서를 조회한다.
+ * 
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/leaves/rebuild")
+public class LeaveBalanceRebuildController {
+
+    private final BalanceRebuildService balanceRebuildService;
+
+    /**
+     * 잔여 일수 재계산을 시작한다.
+     *
+     * @param repair true면 불일치 계정을 원장 합계로 보정, false면 비교만 수행
+     * @return 시작 시점의 진행 보고서
+     */
+    @PostMapping
+    public ResponseEntity<?> startRebuild(@RequestParam(defaultValue = "false") boolean repair) {
+
+        BalanceRebuildResponse response = balanceRebuildService.start(repair);
+
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * 마지막 재계산의 진행 보고서를 조회한다.
+     *
+     * @return 진행 보고서
+     */
+    @GetMapping
+    public ResponseEntity<?> getRebuildReport() {
+
+        BalanceRebuildResponse response = balanceRebuildService.getReport();
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+}
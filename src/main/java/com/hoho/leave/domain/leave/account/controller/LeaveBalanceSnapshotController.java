@@ -0,0 +1,81 @@
+package com.hoho.leave.domain.leave.account.controller;
+
+import com.hoho.leave.domain.leave.account.dto.response.BalanceAsOfListResponse;
+import com.hoho.leave.domain.leave.account.dto.response.BalanceAsOfResponse;
+import com.hoho.leave.domain.leave.account.service.BalanceSnapshotService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 기준일 잔여 일수 컨트롤러.
+ * 
+ * 스냅샷 기반 기준일 잔여 일수 조회와 관리자용 스냅샷 생성 기능을 제공한다.
+ * 
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/leaves/balance")
+public class LeaveBalanceSnapshotController {
+
+    private final BalanceSnapshotService balanceSnapshotService;
+
+    /**
+     * 사용자의 기준일 잔여 일수를 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param asOf 기준일
+     * @return 기준일 잔여 일수
+     */
+    @GetMapping("/{userId}")
+    public ResponseEntity<?> getBalanceAsOf(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+
+        BalanceAsOfResponse response = balanceSnapshotService.getBalanceAsOf(userId, asOf);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * 전체 휴가 계정의 기준일 잔여 일수를 휴가 계정 ID 순으로 조회한다.
+     *
+     * @param asOf 기준일
+     * @param afterId 직전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 기준일 잔여 일수 목록
+     */
+    @GetMapping
+    public ResponseEntity<?> getBalancesAsOf(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "1000") @Min(1) @Max(5000) Integer size) {
+
+        BalanceAsOfListResponse response = balanceSnapshotService.getBalancesAsOf(asOf, afterId, size);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * 기준일 스냅샷을 생성한다.
+     *
+     * @param date 기준일
+     * @param replace true면 기준일과 그 이후 월말 스냅샷을 다시 생성
+     * @return 생성된 스냅샷 수
+     */
+    @PostMapping("/snapshots")
+    public ResponseEntity<?> createSnapshots(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean replace) {
+
+        long created = balanceSnapshotService.createSnapshots(date, replace);
+
+        return new ResponseEntity<>(created, HttpStatus.OK);
+    }
+}
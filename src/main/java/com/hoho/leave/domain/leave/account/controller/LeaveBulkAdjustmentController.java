@@ -0,0 +1,52 @@
+package com.hoho.leave.domain.leave.account.controller;
+
+import com.hoho.leave.domain.leave.account.dto.request.BulkAdjustmentRequest;
+import com.hoho.leave.domain.leave.account.dto.response.BulkAdjustmentResponse;
+import com.hoho.leave.domain.leave.account.service.BulkAdjustmentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 휴가 일괄 조정 컨트롤러.
+ * 
+ * 관리자가 여러 사용자의 휴가를 한 번에 부여/차감하고 진행 보고서를 조회한다.
+ * 
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/leaves/adjustments")
+public class LeaveBulkAdjustmentController {
+
+    private final BulkAdjustmentService bulkAdjustmentService;
+
+    /**
+     * 일괄 조정을 시작한다.
+     *
+     * @param request 일괄 조정 요청
+     * @return 시작 시점의 진행 보고서
+     */
+    @PostMapping
+    public ResponseEntity<?> startBulkAdjustment(@RequestBody @Valid BulkAdjustmentRequest request) {
+
+        BulkAdjustmentResponse response = bulkAdjustmentService.start(request);
+
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * 일괄 조정 작업의 진행 보고서를 조회한다.
+     *
+     * @param jobId 작업 ID
+     * @return 진행 보고서
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getBulkAdjustment(@PathVariable String jobId) {
+
+        BulkAdjustmentResponse response = bulkAdjustmentService.getReport(jobId);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+}
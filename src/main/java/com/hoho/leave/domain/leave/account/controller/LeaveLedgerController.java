@@ -1,17 +1,22 @@
 package com.hoho.leave.domain.leave.account.controller;
 
+import com.hoho.leave.domain.leave.account.dto.response.LeaveLedgerHistoryResponse;
 import com.hoho.leave.domain.leave.account.dto.response.LeaveLedgerListResponse;
 import com.hoho.leave.domain.leave.account.service.LeaveLedgerService;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+
 /**
  * 휴가 원장 컨트롤러.
  * 
@@ -39,4 +44,25 @@ public class LeaveLedgerController {
 
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
+
+    /**
+     * 사용자의 휴가 원장 이력을 최신순 키셋 페이징으로 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @param cursorEffectiveAt 직전 페이지 마지막 건의 적용 일시 (첫 페이지는 생략)
+     * @param cursorId 직전 페이지 마지막 건의 원장 ID (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20, 최소값: 1, 최대값: 100)
+     * @return 휴가 원장 이력 응답
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<?> getLedgerHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorEffectiveAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
+
+        LeaveLedgerHistoryResponse response = leaveLedgerService.getLedgerHistory(userId, cursorEffectiveAt, cursorId, size);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
 }
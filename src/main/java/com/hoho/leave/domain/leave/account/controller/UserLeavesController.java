@@ -1,14 +1,15 @@
 package com.hoho.leave.domain.leave.account.controller;
 
+import com.hoho.leave.domain.leave.account.dto.request.AccrualProjectionRequest;
+import com.hoho.leave.domain.leave.account.dto.response.AccrualProjectionResponse;
 import com.hoho.leave.domain.leave.account.dto.response.UserLeavesDetailResponse;
+import com.hoho.leave.domain.leave.account.service.AccrualProjectionService;
 import com.hoho.leave.domain.leave.account.service.LeaveAccountService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 /**
  * 사용자 휴가 정보 컨트롤러.
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserLeavesController {
 
     private final LeaveAccountService leaveAccountService;
+    private final AccrualProjectionService accrualProjectionService;
 
     /**
      * 특정 사용자의 휴가 정보를 조회한다.
@@ -36,4 +38,19 @@ public class UserLeavesController {
 
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
+
+    /**
+     * 재직 중인 사용자의 잔여 일수를 연도 수만큼 예측한다.
+     * 부여 규칙 항목을 지정하면 규정 변경 시의 결과를 시뮬레이션한다.
+     *
+     * @param accrualProjectionRequest 예측 요청 정보
+     * @return 예측 응답
+     */
+    @PostMapping("/projection")
+    public ResponseEntity<?> projectLeaves(@RequestBody @Valid AccrualProjectionRequest accrualProjectionRequest) {
+
+        AccrualProjectionResponse response = accrualProjectionService.project(accrualProjectionRequest);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
 }
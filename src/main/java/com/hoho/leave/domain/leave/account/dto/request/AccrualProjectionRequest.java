@@ -0,0 +1,67 @@
+package com.hoho.leave.domain.leave.account.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 휴가 부여 예측 요청 DTO.
+ * 
+ * 예측 기간과, 규정 변경을 시뮬레이션할 때 바꿀 부여 규칙을 담는다.
+ * 규칙 항목을 비워 두면 사내 부여 규정(SFR-101) 값을 사용한다.
+ * 
+ */
+@Data
+public class AccrualProjectionRequest {
+    /**
+     * 예측 연도 수
+     */
+    @NotNull
+    @Min(1)
+    @Max(30)
+    Integer years;
+
+    /**
+     * 월차 1회 부여 일수
+     */
+    @DecimalMin("0.00")
+    @Digits(integer = 2, fraction = 2)
+    BigDecimal monthlyDays;
+
+    /**
+     * 입사 첫해 월차 부여 횟수
+     */
+    @Min(0)
+    @Max(11)
+    Integer monthlyMonths;
+
+    /**
+     * 1년 근속 시 연차 부여 일수
+     */
+    @Min(0)
+    @Max(99)
+    Integer annualBaseDays;
+
+    /**
+     * 연차 가산 주기(년)
+     */
+    @Min(1)
+    Integer incrementEveryYears;
+
+    /**
+     * 연차 부여 일수 상한
+     */
+    @Min(0)
+    @Max(99)
+    Integer annualMaxDays;
+
+    /**
+     * 사용자별 예측 곡선 포함 여부
+     */
+    Boolean includeUsers;
+}
@@ -0,0 +1,61 @@
+package com.hoho.leave.domain.leave.account.dto.request;
+
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 휴가 일괄 조정 요청 DTO.
+ * 
+ * 조정 대상(사용자 ID 목록, 또는 팀 하위 조직/직급)과 증감량, 사유를 담는다.
+ * 사용자 ID 목록을 지정하면 팀/직급 조건은 함께 쓸 수 없고, 팀과 직급은 함께 지정하면 둘 다 만족하는 재직자가 대상이다.
+ * 
+ */
+@Data
+public class BulkAdjustmentRequest {
+    /**
+     * 조정을 요청한 관리자 ID
+     */
+    @NotNull
+    Long actorId;
+
+    /**
+     * 대상 사용자 ID 목록
+     */
+    @Size(max = 100_000)
+    List<Long> userIds;
+
+    /**
+     * 대상 팀 ID (하위 팀 포함)
+     */
+    Long teamId;
+
+    /**
+     * 대상 직급 ID
+     */
+    Long gradeId;
+
+    /**
+     * 증감량 (음수면 차감)
+     */
+    @NotNull
+    @Digits(integer = 3, fraction = 2)
+    BigDecimal amountDays;
+
+    /**
+     * 사유 코드 (ADJUST_ADMIN 또는 GRANT_BONUS)
+     */
+    @NotNull
+    ReasonCode reasonCode;
+
+    /**
+     * 비고
+     */
+    @Size(max = 200)
+    String note;
+}
@@ -0,0 +1,63 @@
+package com.hoho.leave.domain.leave.account.dto.response;
+
+import com.hoho.leave.domain.leave.account.service.support.AccrualRules;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 휴가 부여 예측 응답 DTO.
+ * 
+ * 적용한 부여 규칙과 전체 사용자의 월말 잔여 일수 합계 곡선, 사용자별 예측 곡선을 담는다.
+ * 사용(차감)은 반영하지 않은 부여 기준 예측이다.
+ * 
+ */
+@Data
+public class AccrualProjectionResponse {
+    LocalDate from;
+
+    Integer years;
+
+    AccrualRules rules;
+
+    Integer userCount;
+
+    /**
+     * 합계 곡선의 첫 달 (이후 한 달씩)
+     */
+    YearMonth startMonth;
+
+    List<BigDecimal> totalBalanceDays;
+
+    List<AccrualProjectionUserResponse> users;
+
+    /**
+     * 예측 응답 DTO를 생성한다.
+     *
+     * @param from 예측 기준일
+     * @param years 예측 연도 수
+     * @param rules 적용한 부여 규칙
+     * @param userCount 예측 대상 사용자 수
+     * @param totalBalanceDays 월말 잔여 일수 합계
+     * @param users 사용자별 예측 (요청하지 않았으면 빈 목록)
+     * @return 예측 응답
+     */
+    public static AccrualProjectionResponse of(LocalDate from, Integer years, AccrualRules rules, Integer userCount,
+                                               List<BigDecimal> totalBalanceDays,
+                                               List<AccrualProjectionUserResponse> users) {
+        AccrualProjectionResponse response = new AccrualProjectionResponse();
+
+        response.from = from;
+        response.years = years;
+        response.rules = rules;
+        response.userCount = userCount;
+        response.startMonth = YearMonth.from(from);
+        response.totalBalanceDays = totalBalanceDays;
+        response.users = users;
+
+        return response;
+    }
+}
@@ -0,0 +1,44 @@
+package com.hoho.leave.domain.leave.account.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 사용자별 휴가 부여 예측 응답 DTO.
+ * 
+ * 사용자의 현재 잔여 일수와 예측 연도별 마지막 달 말일의 잔여 일수를 담는다.
+ * 
+ */
+@Data
+public class AccrualProjectionUserResponse {
+    Long userLeavesId;
+
+    Long userId;
+
+    BigDecimal balanceDays;
+
+    List<BigDecimal> yearEndBalanceDays;
+
+    /**
+     * 사용자별 예측 응답 DTO를 생성한다.
+     *
+     * @param userLeavesId 휴가 계정 ID
+     * @param userId 사용자 ID
+     * @param balanceDays 현재 잔여 일수
+     * @param yearEndBalanceDays 예측 연도별 잔여 일수
+     * @return 사용자별 예측 응답
+     */
+    public static AccrualProjectionUserResponse of(Long userLeavesId, Long userId, BigDecimal balanceDays,
+                                                   List<BigDecimal> yearEndBalanceDays) {
+        AccrualProjectionUserResponse response = new AccrualProjectionUserResponse();
+
+        response.userLeavesId = userLeavesId;
+        response.userId = userId;
+        response.balanceDays = balanceDays;
+        response.yearEndBalanceDays = yearEndBalanceDays;
+
+        return response;
+    }
+}
@@ -0,0 +1,45 @@
+package com.hoho.leave.domain.leave.account.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기준일 잔여 일수 목록 응답 DTO.
+ * 
+ * 휴가 계정 ID 순 한 페이지의 기준일 잔여 일수와 다음 페이지 커서를 담는다.
+ * 
+ */
+@Data
+public class BalanceAsOfListResponse {
+    LocalDate asOf;
+
+    List<BalanceAsOfResponse> items;
+
+    Boolean hasNext;
+
+    /**
+     * 다음 페이지 조회 시 afterId로 넘길 값
+     */
+    Long nextCursor;
+
+    /**
+     * 기준일 잔여 일수 목록 응답 DTO를 생성한다.
+     *
+     * @param asOf 기준일
+     * @param items 기준일 잔여 일수 목록
+     * @param hasNext 다음 페이지 존재 여부
+     * @return 기준일 잔여 일수 목록 응답
+     */
+    public static BalanceAsOfListResponse of(LocalDate asOf, List<BalanceAsOfResponse> items, boolean hasNext) {
+        BalanceAsOfListResponse response = new BalanceAsOfListResponse();
+
+        response.asOf = asOf;
+        response.items = items;
+        response.hasNext = hasNext;
+        response.nextCursor = hasNext ? items.get(items.size() - 1).getUserLeavesId() : null;
+
+        return response;
+    }
+}
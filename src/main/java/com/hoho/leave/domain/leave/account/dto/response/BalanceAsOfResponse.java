@@ -0,0 +1,51 @@
+package com.hoho.leave.domain.leave.account.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 기준일 잔여 일수 응답 DTO.
+ * 
+ * 기준일 종료 시점의 잔여 일수와 계산에 사용한 스냅샷 기준일을 담는다.
+ * 
+ */
+@Data
+public class BalanceAsOfResponse {
+    Long userLeavesId;
+
+    Long userId;
+
+    LocalDate asOf;
+
+    /**
+     * 계산에 사용한 스냅샷 기준일 (없으면 원장 전체 합산)
+     */
+    LocalDate snapshotDate;
+
+    BigDecimal balanceDays;
+
+    /**
+     * 기준일 잔여 일수 응답 DTO를 생성한다.
+     *
+     * @param userLeavesId 휴가 계정 ID
+     * @param userId 사용자 ID
+     * @param asOf 기준일
+     * @param snapshotDate 사용한 스냅샷 기준일
+     * @param balanceDays 기준일 잔여 일수
+     * @return 기준일 잔여 일수 응답
+     */
+    public static BalanceAsOfResponse of(Long userLeavesId, Long userId, LocalDate asOf,
+                                         LocalDate snapshotDate, BigDecimal balanceDays) {
+        BalanceAsOfResponse response = new BalanceAsOfResponse();
+
+        response.userLeavesId = userLeavesId;
+        response.userId = userId;
+        response.asOf = asOf;
+        response.snapshotDate = snapshotDate;
+        response.balanceDays = balanceDays;
+
+        return response;
+    }
+}
@@ -0,0 +1,49 @@
+package com.hoho.leave.domain.leave.account.dto.response;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.BalanceDiffRow;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 휴가 잔여 일수 불일치 응답 DTO.
+ * 
+ * 휴가 계정의 잔여 일수와 원장 합계, 그 차이를 담는다.
+ * 
+ */
+@Data
+public class BalanceDiffResponse {
+    Long userLeavesId;
+
+    Long userId;
+
+    BigDecimal balanceDays;
+
+    BigDecimal ledgerDays;
+
+    /**
+     * 잔여 일수 - 원장 합계
+     */
+    BigDecimal driftDays;
+
+    Long entryCount;
+
+    /**
+     * 불일치 프로젝션으로부터 응답 DTO를 생성한다.
+     *
+     * @param row 불일치 프로젝션
+     * @return 불일치 응답
+     */
+    public static BalanceDiffResponse of(BalanceDiffRow row) {
+        BalanceDiffResponse response = new BalanceDiffResponse();
+
+        response.userLeavesId = row.getUserLeavesId();
+        response.userId = row.getUserId();
+        response.balanceDays = row.getBalanceDays();
+        response.ledgerDays = row.getLedgerDays();
+        response.driftDays = row.getBalanceDays().subtract(row.getLedgerDays());
+        response.entryCount = row.getEntryCount();
+
+        return response;
+    }
+}
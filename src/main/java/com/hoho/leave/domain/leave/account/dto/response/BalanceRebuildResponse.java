@@ -0,0 +1,74 @@
+package com.hoho.leave.domain.leave.account.dto.response;
+
+import com.hoho.leave.domain.leave.account.service.support.BalanceRebuildReport;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 휴가 잔여 일수 재계산 보고서 응답 DTO.
+ * 
+ * 재계산 진행 상태와 집계, 불일치 목록(상한까지)을 담는다.
+ * 
+ */
+@Data
+public class BalanceRebuildResponse {
+    BalanceRebuildReport.Status status;
+
+    Boolean repair;
+
+    LocalDateTime startedAt;
+
+    LocalDateTime finishedAt;
+
+    Long totalRanges;
+
+    Long processedRanges;
+
+    Double progress;
+
+    Long scannedAccounts;
+
+    Long mismatchedAccounts;
+
+    Long repairedAccounts;
+
+    Long failedRanges;
+
+    /**
+     * 불일치 목록이 상한에서 잘렸는지 여부
+     */
+    Boolean diffsTruncated;
+
+    List<BalanceDiffResponse> diffs;
+
+    String error;
+
+    /**
+     * 진행 보고서로부터 응답 DTO를 생성한다.
+     *
+     * @param report 진행 보고서
+     * @return 재계산 보고서 응답
+     */
+    public static BalanceRebuildResponse of(BalanceRebuildReport report) {
+        BalanceRebuildResponse response = new BalanceRebuildResponse();
+
+        response.status = report.getStatus();
+        response.repair = report.isRepair();
+        response.startedAt = report.getStartedAt();
+        response.finishedAt = report.getFinishedAt();
+        response.totalRanges = report.getTotalRanges();
+        response.processedRanges = report.getProcessedRanges().get();
+        response.progress = report.progress();
+        response.scannedAccounts = report.getScannedAccounts().get();
+        response.mismatchedAccounts = report.getMismatchedAccounts().get();
+        response.repairedAccounts = report.getRepairedAccounts().get();
+        response.failedRanges = report.getFailedRanges().get();
+        response.diffsTruncated = response.mismatchedAccounts > report.getDiffLimit();
+        response.diffs = report.getDiffs().stream().map(BalanceDiffResponse::of).toList();
+        response.error = report.getError();
+
+        return response;
+    }
+}
@@ -0,0 +1,72 @@
+package com.hoho.leave.domain.leave.account.dto.response;
+
+import com.hoho.leave.domain.leave.account.service.support.BulkAdjustmentReport;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 휴가 일괄 조정 보고서 응답 DTO.
+ * 
+ * 일괄 조정 작업의 진행 상태와 집계, 건너뛴 계정 목록(상한까지)을 담는다.
+ * 
+ */
+@Data
+public class BulkAdjustmentResponse {
+    String jobId;
+
+    BulkAdjustmentReport.Status status;
+
+    BigDecimal amountDays;
+
+    LocalDateTime startedAt;
+
+    LocalDateTime finishedAt;
+
+    Long totalAccounts;
+
+    Long processedAccounts;
+
+    Double progress;
+
+    Long adjustedAccounts;
+
+    /**
+     * 잔여 일수 부족으로 건너뛴 계정 수
+     */
+    Long skippedAccounts;
+
+    /**
+     * 건너뛴 휴가 계정 ID 목록 (상한까지)
+     */
+    List<Long> skippedUserLeavesIds;
+
+    String error;
+
+    /**
+     * 진행 보고서로부터 응답 DTO를 생성한다.
+     *
+     * @param report 진행 보고서
+     * @return 일괄 조정 보고서 응답
+     */
+    public static BulkAdjustmentResponse of(BulkAdjustmentReport report) {
+        BulkAdjustmentResponse response = new BulkAdjustmentResponse();
+
+        response.jobId = report.getJobId();
+        response.status = report.getStatus();
+        response.amountDays = report.getAmountDays();
+        response.startedAt = report.getStartedAt();
+        response.finishedAt = report.getFinishedAt();
+        response.totalAccounts = report.getTotalAccounts();
+        response.processedAccounts = report.getProcessedAccounts().get();
+        response.progress = report.progress();
+        response.adjustedAccounts = report.getAdjustedAccounts().get();
+        response.skippedAccounts = report.getSkippedAccounts().get();
+        response.skippedUserLeavesIds = List.copyOf(report.getSkippedUserLeavesIds());
+        response.error = report.getError();
+
+        return response;
+    }
+}
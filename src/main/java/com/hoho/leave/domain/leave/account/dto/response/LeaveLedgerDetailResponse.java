@@ -4,6 +4,7 @@ import com.hoho.leave.domain.leave.account.entity.ReasonCode;
 import com.hoho.leave.domain.leave.account.entity.UserLeaveLedger;
 import lombok.Data;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -24,6 +25,8 @@ public class LeaveLedgerDetailResponse {
 
     String amount;
 
+    BigDecimal amountDays;
+
     ReasonCode reasonCode;
 
     String note;
@@ -42,6 +45,7 @@ public class LeaveLedgerDetailResponse {
         response.employeeNo = ledger.getUserLeaves().getUser().getEmployeeNo();
         response.effectiveAt = ledger.getEffectiveAt();
         response.amount = ledger.getAmount();
+        response.amountDays = ledger.getAmountDays() == null ? null : ledger.getAmountDays().toBigDecimal();
         response.reasonCode = ledger.getReasonCode();
         response.note = ledger.getNote();
 
@@ -0,0 +1,48 @@
+package com.hoho.leave.domain.leave.account.dto.response;
+
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository.LedgerHistoryRow;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 휴가 원장 이력 항목 응답 DTO.
+ * 
+ * 한 사용자의 원장 이력 중 개별 항목을 담는다.
+ * 
+ */
+@Data
+public class LeaveLedgerHistoryItemResponse {
+    Long id;
+
+    LocalDateTime effectiveAt;
+
+    String amount;
+
+    BigDecimal amountDays;
+
+    ReasonCode reasonCode;
+
+    String note;
+
+    /**
+     * 원장 이력 행으로부터 응답 DTO를 생성한다.
+     *
+     * @param row 원장 이력 행
+     * @return 원장 이력 항목 응답
+     */
+    public static LeaveLedgerHistoryItemResponse of(LedgerHistoryRow row) {
+        LeaveLedgerHistoryItemResponse response = new LeaveLedgerHistoryItemResponse();
+
+        response.id = row.getId();
+        response.effectiveAt = row.getEffectiveAt();
+        response.amount = row.getAmount();
+        response.amountDays = row.getAmountDays();
+        response.reasonCode = ReasonCode.valueOf(row.getReason());
+        response.note = row.getNote();
+
+        return response;
+    }
+}
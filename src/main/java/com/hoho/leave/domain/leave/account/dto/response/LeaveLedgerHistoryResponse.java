@@ -0,0 +1,60 @@
+package com.hoho.leave.domain.leave.account.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 휴가 원장 이력 응답 DTO.
+ * 
+ * 키셋 페이징된 한 사용자의 원장 이력과 다음 페이지 커서를 담는다.
+ * 
+ */
+@Data
+public class LeaveLedgerHistoryResponse {
+    Long userId;
+
+    /**
+     * 원장 이력 목록 (최신순)
+     */
+    List<LeaveLedgerHistoryItemResponse> leaveLedgers;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    Boolean hasNext;
+
+    /**
+     * 다음 페이지 커서 - 적용 일시
+     */
+    LocalDateTime nextCursorEffectiveAt;
+
+    /**
+     * 다음 페이지 커서 - 원장 ID
+     */
+    Long nextCursorId;
+
+    /**
+     * 원장 이력과 다음 페이지 정보로 응답 DTO를 생성한다.
+     *
+     * @param userId 사용자 ID
+     * @param leaveLedgers 원장 이력 목록
+     * @param hasNext 다음 페이지 존재 여부
+     * @param nextCursorEffectiveAt 다음 페이지 커서 - 적용 일시
+     * @param nextCursorId 다음 페이지 커서 - 원장 ID
+     * @return 원장 이력 응답 DTO
+     */
+    public static LeaveLedgerHistoryResponse of(Long userId, List<LeaveLedgerHistoryItemResponse> leaveLedgers,
+                                                boolean hasNext, LocalDateTime nextCursorEffectiveAt, Long nextCursorId) {
+        LeaveLedgerHistoryResponse response = new LeaveLedgerHistoryResponse();
+
+        response.userId = userId;
+        response.leaveLedgers = leaveLedgers;
+        response.hasNext = hasNext;
+        response.nextCursorEffectiveAt = nextCursorEffectiveAt;
+        response.nextCursorId = nextCursorId;
+
+        return response;
+    }
+}
@@ -2,6 +2,7 @@ package com.hoho.leave.domain.leave.account.dto.response;
 
 import com.hoho.leave.domain.leave.account.entity.LeaveStage;
 import com.hoho.leave.domain.leave.account.entity.UserLeaves;
+import com.hoho.leave.domain.leave.account.service.support.BalanceView;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -41,8 +42,27 @@ public class UserLeavesDetailResponse {
         response.employeeNo = userLeaves.getUser().getEmployeeNo();
         response.leaveStage = userLeaves.getLeaveStage();
         response.nextAccrualAt = userLeaves.getNextAccrualAt();
-        response.balanceDays = userLeaves.getBalanceDays();
+        response.balanceDays = userLeaves.getBalanceDays().toBigDecimal();
 
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * 잔여 일수 조회 정보로부터 응답 DTO를 생성한다.
+     *
+     * @param view 잔여 일수 조회 정보
+     * @return 사용자 휴가 정보 상세 응답
+     */
+    public static UserLeavesDetailResponse of(BalanceView view) {
+        UserLeavesDetailResponse response = new UserLeavesDetailResponse();
+
+        response.id = view.getUserLeavesId();
+        response.username = view.getUsername();
+        response.employeeNo = view.getEmployeeNo();
+        response.leaveStage = view.getLeaveStage();
+        response.nextAccrualAt = view.getNextAccrualAt();
+        response.balanceDays = view.getBalanceDays().toBigDecimal();
+
+        return response;
+    }
+}
@@ -0,0 +1,88 @@
+package com.hoho.leave.domain.leave.account.entity;
+
+import com.hoho.leave.domain.shared.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 휴가 부여 배치 체크포인트 엔티티.
+ * 
+ * 부여 기준일별로 휴가 계정 ID 구간(파티션)마다 어디까지 처리했는지 기록한다.
+ * 청크 처리와 같은 트랜잭션에서 갱신되므로 중단 후 재실행하면 마지막으로 커밋된 청크 다음부터 이어서 처리한다.
+ * 
+ */
+@Entity
+@Getter
+@Table(
+        name = "accrual_job_checkpoint",
+        uniqueConstraints = {
+                // 기준일 + 파티션당 하나
+                @UniqueConstraint(name = "uq_ajc_run_partition", columnNames = {"run_date", "partition_no"})
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccrualJobCheckpoint extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;              // 부여 기준일
+
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;            // 파티션 번호
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;                  // 파티션 마지막 휴가 계정 ID (포함)
+
+    @Column(name = "last_user_leaves_id", nullable = false)
+    private Long lastUserLeavesId;          // 마지막으로 처리한 휴가 계정 ID
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount = 0L;       // 부여한 계정 수
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed = false;      // 파티션 완료 여부
+
+    /**
+     * 파티션 체크포인트를 생성한다.
+     *
+     * @param runDate 부여 기준일
+     * @param partitionNo 파티션 번호
+     * @param rangeStart 파티션 시작 직전 휴가 계정 ID (제외)
+     * @param rangeEnd 파티션 마지막 휴가 계정 ID (포함)
+     * @return 생성된 체크포인트
+     */
+    public static AccrualJobCheckpoint create(LocalDate runDate, Integer partitionNo, Long rangeStart, Long rangeEnd) {
+        AccrualJobCheckpoint checkpoint = new AccrualJobCheckpoint();
+
+        checkpoint.runDate = runDate;
+        checkpoint.partitionNo = partitionNo;
+        checkpoint.lastUserLeavesId = rangeStart;
+        checkpoint.rangeEnd = rangeEnd;
+
+        return checkpoint;
+    }
+
+    /**
+     * 청크 처리 결과를 반영한다.
+     *
+     * @param lastUserLeavesId 청크에서 마지막으로 읽은 휴가 계정 ID
+     * @param granted 청크에서 부여한 계정 수
+     */
+    public void advance(Long lastUserLeavesId, int granted) {
+        this.lastUserLeavesId = lastUserLeavesId;
+        this.processedCount += granted;
+    }
+
+    /**
+     * 파티션 처리를 완료한다.
+     */
+    public void complete() {
+        this.completed = true;
+    }
+}
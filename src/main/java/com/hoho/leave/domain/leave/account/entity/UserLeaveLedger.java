@@ -2,6 +2,7 @@ package com.hoho.leave.domain.leave.account.entity;
 
 import com.hoho.leave.domain.leave.account.service.support.LedgerRecord;
 import com.hoho.leave.domain.shared.BaseEntity;
+import com.hoho.leave.domain.shared.DayQuantity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -18,7 +19,17 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Getter
-@Table(name = "user_leave_ledger")
+@Table(
+        name = "user_leave_ledger",
+        uniqueConstraints = {
+                // 배치 기록 중복 방지 (예: EXPIRE:2026:{휴가 계정 ID})
+                @UniqueConstraint(name = "uq_ull_idempotency_key", columnNames = {"idempotency_key"})
+        },
+        indexes = {
+                // 기준일 잔여 일수 조회, 계정별 원장 이력 키셋 조회 (InnoDB가 PK를 덧붙여 (계정, 적용 일시, id)를 덮는다)
+                @Index(name = "idx_ull_leaves_effective", columnList = "user_leaves_id, effective_at")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserLeaveLedger extends BaseEntity {
     @Id
@@ -33,7 +44,10 @@ public class UserLeaveLedger extends BaseEntity {
     private LocalDateTime effectiveAt;
 
     @Column(name = "amount", nullable = false)
-    private String amount;
+    private String amount;                  // 부호가 붙은 표시용 증감량 (예: +15)
+
+    @Column(name = "amount_days", precision = 7, scale = 2)
+    private DayQuantity amountDays;         // 증감량 (집계 기준)
 
     @Enumerated(EnumType.STRING)
     @Column(name = "reason", nullable = false)
@@ -42,6 +56,9 @@ public class UserLeaveLedger extends BaseEntity {
     @Column(name = "note")
     private String note;
 
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
     /**
      * 원장 레코드로부터 휴가 원장 엔티티를 생성한다.
      *
@@ -53,10 +70,21 @@ public class UserLeaveLedger extends BaseEntity {
 
         userLeaveLedger.userLeaves = ledgerRecord.getUserLeaves();
         userLeaveLedger.effectiveAt = ledgerRecord.getEffectiveAt();
-        userLeaveLedger.amount = ledgerRecord.getAmount();
+        userLeaveLedger.amountDays = ledgerRecord.getAmountDays();
+        userLeaveLedger.amount = formatAmount(ledgerRecord.getAmountDays());
         userLeaveLedger.reasonCode = ledgerRecord.getReasonCode();
         userLeaveLedger.note = ledgerRecord.getNote();
 
         return userLeaveLedger;
     }
+
+    /**
+     * 증감량을 부호가 붙은 표시용 문자열로 변환한다. 소수점 뒤의 0은 표시하지 않는다.
+     *
+     * @param amount 증감량
+     * @return 표시용 증감량 (예: +15, -0.5)
+     */
+    public static String formatAmount(DayQuantity amount) {
+        return (amount.isNegative() ? "" : "+") + amount.toPlainString();
+    }
 }
@@ -0,0 +1,44 @@
+package com.hoho.leave.domain.leave.account.entity;
+
+import com.hoho.leave.domain.shared.BaseEntity;
+import com.hoho.leave.domain.shared.DayQuantity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자 휴가 잔여 일수 스냅샷 엔티티.
+ * 
+ * 기준일 종료 시점의 잔여 일수(해당 일까지 적용된 원장 합계)를 기록한다.
+ * 기준일 잔여 일수 조회는 가장 가까운 이전 스냅샷에 그 이후 원장만 더해 계산한다.
+ * 스냅샷은 배치에서 INSERT ... SELECT로만 생성한다.
+ * 
+ */
+@Entity
+@Getter
+@Table(
+        name = "user_leave_snapshot",
+        uniqueConstraints = {
+                // 계정 + 기준일당 하나
+                @UniqueConstraint(name = "uq_uls_leaves_date", columnNames = {"user_leaves_id", "snapshot_date"})
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserLeaveSnapshot extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_leaves_id", nullable = false)
+    private UserLeaves userLeaves;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;         // 기준일 (해당 일 종료 시점)
+
+    @Column(name = "balance_days", nullable = false, precision = 7, scale = 2)
+    private DayQuantity balanceDays;        // 기준일 종료 시점 잔여 일수
+}
@@ -2,13 +2,13 @@ package com.hoho.leave.domain.leave.account.entity;
 
 import com.hoho.leave.domain.leave.account.service.support.AccrualSchedule;
 import com.hoho.leave.domain.shared.BaseEntity;
+import com.hoho.leave.domain.shared.DayQuantity;
 import com.hoho.leave.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 /**
@@ -38,7 +38,13 @@ public class UserLeaves extends BaseEntity {
     private LocalDate nextAccrualAt;
 
     @Column(name = "balance_days", nullable = false, precision = 5, scale = 2)
-    private BigDecimal balanceDays = new BigDecimal("0.00");
+    private DayQuantity balanceDays = DayQuantity.ZERO;
+
+    @Column(name = "balance_version", nullable = false)
+    private Long balanceVersion = 0L;       // 잔여 일수가 바뀔 때마다 1씩 증가 (캐시 갱신 순서 판단)
+
+    @Column(name = "expired_year")
+    private Integer expiredYear;            // 연말 소멸을 마지막으로 처리한 연도
 
     /**
      * 사용자 휴가 계정을 생성한다.
@@ -48,7 +54,7 @@ public class UserLeaves extends BaseEntity {
      * @param balanceDays 초기 잔여 일수
      * @return 생성된 사용자 휴가 계정
      */
-    public static UserLeaves create(User user, AccrualSchedule schedule, BigDecimal balanceDays) {
+    public static UserLeaves create(User user, AccrualSchedule schedule, DayQuantity balanceDays) {
         UserLeaves userLeaves = new UserLeaves();
 
         userLeaves.user = user;
@@ -58,14 +64,5 @@ public class UserLeaves extends BaseEntity {
 
         return userLeaves;
     }
-
-    /**
-     * 휴가 잔여 일수를 업데이트한다.
-     *
-     * @param newBalanceDays 새로운 잔여 일수
-     */
-    public void updateBalanceDays(BigDecimal newBalanceDays) {
-        this.balanceDays = newBalanceDays;
-    }
 }
 
@@ -0,0 +1,39 @@
+package com.hoho.leave.domain.leave.account.entity;
+
+import com.hoho.leave.domain.shared.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 휴가 잔여 일수 변경 기록 엔티티.
+ * 
+ * 잔여 일수가 바뀐 트랜잭션에서 함께 기록되며, 각 노드가 ID 순으로 주기적으로 읽어 자기 잔여 일수 캐시를 무효화한다.
+ * 짧은 기간만 보관하고 정리한다. 기록은 INSERT ... SELECT로만 생성한다.
+ * 
+ */
+@Entity
+@Getter
+@Table(
+        name = "user_leaves_change",
+        indexes = {
+                // 보관 기간 지난 기록 정리
+                @Index(name = "idx_ulc_created_at", columnList = "created_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserLeavesChange extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_leaves_id", nullable = false)
+    private Long userLeavesId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "balance_version", nullable = false)
+    private Long balanceVersion;            // 변경 직후의 잔여 일수 버전
+}
@@ -0,0 +1,23 @@
+package com.hoho.leave.domain.leave.account.repository;
+
+import com.hoho.leave.domain.leave.account.entity.AccrualJobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 휴가 부여 배치 체크포인트 리포지토리.
+ * 
+ * 부여 배치의 파티션별 진행 상황에 대한 데이터베이스 접근을 제공한다.
+ * 
+ */
+public interface AccrualJobCheckpointRepository extends JpaRepository<AccrualJobCheckpoint, Long> {
+    /**
+     * 부여 기준일의 파티션 체크포인트를 조회한다.
+     *
+     * @param runDate 부여 기준일
+     * @return 파티션 번호 순 체크포인트 목록
+     */
+    List<AccrualJobCheckpoint> findByRunDateOrderByPartitionNo(LocalDate runDate);
+}
@@ -1,10 +1,20 @@
 package com.hoho.leave.domain.leave.account.repository;
 
 import com.hoho.leave.domain.leave.account.entity.UserLeaveLedger;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.IdRange;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 사용자 휴가 원장 리포지토리.
@@ -22,4 +32,232 @@ public interface UserLeaveLedgerRepository extends JpaRepository<UserLeaveLedger
      */
     @EntityGraph(attributePaths = {"userLeaves", "userLeaves.user"})
     Page<UserLeaveLedger> findAll(Pageable pageable);
+
+    /**
+     * 같은 부여 내역의 원장을 휴가 계정 목록에 한 번의 INSERT로 기록한다.
+     *
+     * @param userLeavesIds 휴가 계정 ID 목록
+     * @param effectiveAt 적용 일시
+     * @param amountDays 증감량
+     * @param amount 표시용 증감량
+     * @param reason 사유 코드
+     * @param note 비고
+     * @param now 생성 시각
+     * @return 생성된 원장 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_leave_ledger
+            (user_leaves_id, effective_at, amount_days, amount, reason, note, created_at, updated_at)
+        SELECT ul.id, :effectiveAt, :amountDays, :amount, :reason, :note, :now, :now
+          FROM user_leaves ul
+         WHERE ul.id IN (:userLeavesIds)
+        """, nativeQuery = true)
+    int insertAll(@Param("userLeavesIds") Collection<Long> userLeavesIds,
+                  @Param("effectiveAt") LocalDateTime effectiveAt,
+                  @Param("amountDays") BigDecimal amountDays,
+                  @Param("amount") String amount,
+                  @Param("reason") String reason,
+                  @Param("note") String note,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * ID 구간에서 연말 기준 잔여 일수가 남은 휴가 계정의 연말 소멸 원장을 한 번의 INSERT로 기록한다.
+     * 
+     * 소멸량은 연말 시점의 잔여 일수로, 현재 잔여 일수에서 적용 일시가 연말 이후인 원장(새해 부여, 새해 사용 등)을
+     * 뺀 값이다. 소멸 작업이 새해 부여 이후에 실행되거나 재개되어도 새해 부여분은 소멸되지 않는다.
+     * 연도별 멱등 키(EXPIRE:{연도}:{휴가 계정 ID})가 이미 있는 계정과 해당 연도 안에 생성되지 않은 계정은 제외한다.
+     * 표시용 증감량은 다른 원장과 같이 소수점 뒤의 0을 뺀다. (예: -3, -2.5)
+     * 
+     *
+     * @param year 소멸 연도
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @param yearEnd 소멸 연도 다음 해 1월 1일 0시
+     * @param note 비고
+     * @param now 생성 시각
+     * @return 생성된 원장 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_leave_ledger
+            (user_leaves_id, effective_at, amount_days, amount, reason, note, idempotency_key, created_at, updated_at)
+        SELECT ul.id, :yearEnd, -(ul.balance_days - COALESCE(f.amount_days, 0)),
+               CONCAT('-', TRIM(TRAILING '.' FROM TRIM(TRAILING '0' FROM
+                   CAST(ul.balance_days - COALESCE(f.amount_days, 0) AS CHAR)))), 'EXPIRE', :note,
+               CONCAT('EXPIRE:', :year, ':', ul.id), :now, :now
+          FROM user_leaves ul
+          LEFT JOIN (SELECT n.user_leaves_id, SUM(n.amount_days) AS amount_days
+                       FROM user_leave_ledger n
+                      WHERE n.user_leaves_id >= :fromId
+                        AND n.user_leaves_id < :toId
+                        AND n.effective_at >= :yearEnd
+                      GROUP BY n.user_leaves_id) f
+            ON f.user_leaves_id = ul.id
+         WHERE ul.id >= :fromId
+           AND ul.id < :toId
+           AND ul.balance_days - COALESCE(f.amount_days, 0) > 0
+           AND ul.created_at < :yearEnd
+           AND (ul.expired_year IS NULL OR ul.expired_year < :year)
+           AND NOT EXISTS (SELECT 1
+                             FROM user_leave_ledger l
+                            WHERE l.idempotency_key = CONCAT('EXPIRE:', :year, ':', ul.id))
+        """, nativeQuery = true)
+    int insertExpiries(@Param("year") int year,
+                       @Param("fromId") long fromId,
+                       @Param("toId") long toId,
+                       @Param("yearEnd") LocalDateTime yearEnd,
+                       @Param("note") String note,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 숫자 증감량이 채워지지 않은 원장이 있는지 확인한다.
+     *
+     * @return 미변환 원장 존재 여부
+     */
+    boolean existsByAmountDaysIsNull();
+
+    /**
+     * 숫자 증감량이 채워지지 않은 원장의 ID 구간을 조회한다.
+     *
+     * @return ID 구간 (없으면 값이 null)
+     */
+    @Query("select min(l.id) as minId, max(l.id) as maxId from UserLeaveLedger l where l.amountDays is null")
+    IdRange findUnmigratedIdRange();
+
+    /**
+     * ID 구간의 문자열 증감량(예: +15, -2.5)을 숫자 증감량으로 변환해 채운다.
+     *
+     * @param fromId 구간 시작 원장 ID (포함)
+     * @param toId 구간 끝 원장 ID (제외)
+     * @return 변환된 원장 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE user_leave_ledger
+           SET amount_days = CAST(REPLACE(TRIM(amount), '+', '') AS DECIMAL(7, 2))
+         WHERE id >= :fromId
+           AND id < :toId
+           AND amount_days IS NULL
+        """, nativeQuery = true)
+    int backfillAmountDays(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 휴가 계정의 적용 일시 구간 원장 증감량 합계를 구한다.
+     * (user_leaves_id, effective_at) 인덱스 범위만 읽는다.
+     *
+     * @param userLeavesId 휴가 계정 ID
+     * @param from 적용 일시 하한 (포함)
+     * @param to 적용 일시 상한 (제외)
+     * @return 증감량 합계 (없으면 0)
+     */
+    @Query("""
+        select coalesce(sum(l.amountDays), 0)
+          from UserLeaveLedger l
+         where l.userLeaves.id = :userLeavesId
+           and l.effectiveAt >= :from
+           and l.effectiveAt < :to
+    """)
+    BigDecimal sumAmountDays(@Param("userLeavesId") Long userLeavesId,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to);
+
+    /**
+     * 휴가 계정의 원장 이력 첫 페이지를 최신순으로 조회한다.
+     * 안쪽 쿼리는 (user_leaves_id, effective_at) 인덱스(+ PK)만으로 ID를 고르고,
+     * 바깥 쿼리는 고른 ID의 행만 읽는다.
+     *
+     * @param userLeavesId 휴가 계정 ID
+     * @param size 조회 건수
+     * @return 원장 이력 행 목록
+     */
+    @Query(value = """
+        SELECT l.id AS id, l.effective_at AS effectiveAt, l.amount AS amount,
+               l.amount_days AS amountDays, l.reason AS reason, l.note AS note
+          FROM (SELECT id
+                  FROM user_leave_ledger
+                 WHERE user_leaves_id = :userLeavesId
+                 ORDER BY effective_at DESC, id DESC
+                 LIMIT :size) k
+          JOIN user_leave_ledger l ON l.id = k.id
+         ORDER BY l.effective_at DESC, l.id DESC
+        """, nativeQuery = true)
+    List<LedgerHistoryRow> findHistoryFirstPage(@Param("userLeavesId") Long userLeavesId,
+                                                @Param("size") int size);
+
+    /**
+     * 커서 이전의 원장 이력 페이지를 최신순으로 조회한다.
+     * 오프셋 없이 (effective_at, id) 키셋으로 이어서 읽으므로 깊은 페이지도 비용이 같다.
+     *
+     * @param userLeavesId 휴가 계정 ID
+     * @param cursorEffectiveAt 직전 페이지 마지막 건의 적용 일시
+     * @param cursorId 직전 페이지 마지막 건의 원장 ID
+     * @param size 조회 건수
+     * @return 원장 이력 행 목록
+     */
+    @Query(value = """
+        SELECT l.id AS id, l.effective_at AS effectiveAt, l.amount AS amount,
+               l.amount_days AS amountDays, l.reason AS reason, l.note AS note
+          FROM (SELECT id
+                  FROM user_leave_ledger
+                 WHERE user_leaves_id = :userLeavesId
+                   AND (effective_at < :cursorEffectiveAt
+                        OR (effective_at = :cursorEffectiveAt AND id < :cursorId))
+                 ORDER BY effective_at DESC, id DESC
+                 LIMIT :size) k
+          JOIN user_leave_ledger l ON l.id = k.id
+         ORDER BY l.effective_at DESC, l.id DESC
+        """, nativeQuery = true)
+    List<LedgerHistoryRow> findHistoryBefore(@Param("userLeavesId") Long userLeavesId,
+                                             @Param("cursorEffectiveAt") LocalDateTime cursorEffectiveAt,
+                                             @Param("cursorId") Long cursorId,
+                                             @Param("size") int size);
+
+    /**
+     * 원장 이력 조회 결과 행.
+     */
+    interface LedgerHistoryRow {
+        /**
+         * 원장 ID를 반환한다.
+         *
+         * @return 원장 ID
+         */
+        Long getId();
+
+        /**
+         * 적용 일시를 반환한다.
+         *
+         * @return 적용 일시
+         */
+        LocalDateTime getEffectiveAt();
+
+        /**
+         * 표시용 증감량을 반환한다.
+         *
+         * @return 표시용 증감량
+         */
+        String getAmount();
+
+        /**
+         * 증감량을 반환한다.
+         *
+         * @return 증감량
+         */
+        BigDecimal getAmountDays();
+
+        /**
+         * 사유 코드를 반환한다.
+         *
+         * @return 사유 코드 이름
+         */
+        String getReason();
+
+        /**
+         * 비고를 반환한다.
+         *
+         * @return 비고
+         */
+        String getNote();
+    }
 }
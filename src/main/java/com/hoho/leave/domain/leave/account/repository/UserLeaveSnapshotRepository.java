@@ -0,0 +1,189 @@
+package com.hoho.leave.domain.leave.account.repository;
+
+import com.hoho.leave.domain.leave.account.entity.UserLeaveSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자 휴가 잔여 일수 스냅샷 리포지토리.
+ * 
+ * 스냅샷 생성과 기준일 잔여 일수 조회에 대한 데이터베이스 접근을 제공한다.
+ * 
+ */
+public interface UserLeaveSnapshotRepository extends JpaRepository<UserLeaveSnapshot, Long> {
+    /**
+     * 기준일 이전(포함)의 가장 가까운 스냅샷을 조회한다.
+     *
+     * @param userLeavesId 휴가 계정 ID
+     * @param asOf 기준일
+     * @return 스냅샷
+     */
+    Optional<UserLeaveSnapshot> findFirstByUserLeavesIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+            Long userLeavesId, LocalDate asOf);
+
+    /**
+     * 휴가 계정들의 기준일 이후(포함) 스냅샷을 삭제한다.
+     * 그 날짜 이전으로 소급된 원장이 기록되어 더 이상 맞지 않는 스냅샷을 무효화할 때 사용한다.
+     *
+     * @param userLeavesIds 휴가 계정 ID 목록
+     * @param fromDate 무효화 시작 기준일 (포함)
+     * @return 삭제된 스냅샷 수
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM user_leave_snapshot
+         WHERE user_leaves_id IN (:userLeavesIds)
+           AND snapshot_date >= :fromDate
+        """, nativeQuery = true)
+    int deleteFrom(@Param("userLeavesIds") Collection<Long> userLeavesIds,
+                   @Param("fromDate") LocalDate fromDate);
+
+    /**
+     * ID 구간 휴가 계정들의 기준일 이후(포함) 스냅샷을 삭제한다.
+     * 스냅샷을 다시 만들거나 구간 단위로 소급 원장이 기록되었을 때 사용한다.
+     *
+     * @param fromDate 무효화 시작 기준일 (포함)
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @return 삭제된 스냅샷 수
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM user_leave_snapshot
+         WHERE user_leaves_id >= :fromId
+           AND user_leaves_id < :toId
+           AND snapshot_date >= :fromDate
+        """, nativeQuery = true)
+    int deleteRangeFrom(@Param("fromDate") LocalDate fromDate,
+                        @Param("fromId") long fromId,
+                        @Param("toId") long toId);
+
+    /**
+     * ID 구간의 휴가 계정마다 기준일 스냅샷을 한 번의 INSERT ... SELECT로 생성한다.
+     * 
+     * 직전 스냅샷 잔여 일수에 그 다음 날부터 기준일까지 적용된 원장만 더하므로
+     * 전체 원장을 다시 합산하지 않는다. 직전 스냅샷이 없으면 처음부터 합산한다.
+     * 이미 기준일 스냅샷이 있는 계정은 건너뛰므로, 무효화로 빠진 스냅샷만 다시 채울 때도 사용한다.
+     * 
+     *
+     * @param snapshotDate 기준일
+     * @param cutoff 기준일 다음 날 0시 (원장 적용 일시 상한, 제외)
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @param now 생성 시각
+     * @return 생성된 스냅샷 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_leave_snapshot
+            (user_leaves_id, snapshot_date, balance_days, created_at, updated_at)
+        SELECT ul.id,
+               :snapshotDate,
+               COALESCE(s.balance_days, 0)
+                 + COALESCE((SELECT SUM(l.amount_days)
+                               FROM user_leave_ledger l
+                              WHERE l.user_leaves_id = ul.id
+                                AND l.effective_at >= COALESCE(DATE_ADD(s.snapshot_date, INTERVAL 1 DAY), '1000-01-01')
+                                AND l.effective_at < :cutoff), 0),
+               :now, :now
+          FROM user_leaves ul
+          LEFT JOIN user_leave_snapshot s
+            ON s.user_leaves_id = ul.id
+           AND s.snapshot_date = (SELECT MAX(s2.snapshot_date)
+                                    FROM user_leave_snapshot s2
+                                   WHERE s2.user_leaves_id = ul.id
+                                     AND s2.snapshot_date < :snapshotDate)
+         WHERE ul.id >= :fromId
+           AND ul.id < :toId
+           AND NOT EXISTS (SELECT 1
+                             FROM user_leave_snapshot x
+                            WHERE x.user_leaves_id = ul.id
+                              AND x.snapshot_date = :snapshotDate)
+        """, nativeQuery = true)
+    int insertRange(@Param("snapshotDate") LocalDate snapshotDate,
+                    @Param("cutoff") LocalDateTime cutoff,
+                    @Param("fromId") long fromId,
+                    @Param("toId") long toId,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 전체 휴가 계정의 기준일 잔여 일수를 한 번의 집합 쿼리로 조회한다.
+     * 
+     * 계정마다 기준일 이전(포함)의 가장 가까운 스냅샷에 그 이후 기준일까지의 원장만 더한다.
+     * 휴가 계정 ID 키셋으로 나눠 읽는다.
+     * 
+     *
+     * @param asOf 기준일
+     * @param cutoff 기준일 다음 날 0시 (원장 적용 일시 상한, 제외)
+     * @param afterId 직전 페이지의 마지막 휴가 계정 ID (제외)
+     * @param size 조회 건수
+     * @return 기준일 잔여 일수 목록 (휴가 계정 ID 순)
+     */
+    @Query(value = """
+        SELECT ul.id AS userLeavesId,
+               ul.user_id AS userId,
+               s.snapshot_date AS snapshotDate,
+               COALESCE(s.balance_days, 0) + COALESCE(SUM(l.amount_days), 0) AS balanceDays
+          FROM user_leaves ul
+          LEFT JOIN user_leave_snapshot s
+            ON s.user_leaves_id = ul.id
+           AND s.snapshot_date = (SELECT MAX(s2.snapshot_date)
+                                    FROM user_leave_snapshot s2
+                                   WHERE s2.user_leaves_id = ul.id
+                                     AND s2.snapshot_date <= :asOf)
+          LEFT JOIN user_leave_ledger l
+            ON l.user_leaves_id = ul.id
+           AND l.effective_at >= COALESCE(DATE_ADD(s.snapshot_date, INTERVAL 1 DAY), '1000-01-01')
+           AND l.effective_at < :cutoff
+         WHERE ul.id > :afterId
+         GROUP BY ul.id, ul.user_id, s.snapshot_date, s.balance_days
+         ORDER BY ul.id
+         LIMIT :size
+        """, nativeQuery = true)
+    List<BalanceAsOfRow> findBalancesAsOf(@Param("asOf") LocalDate asOf,
+                                          @Param("cutoff") LocalDateTime cutoff,
+                                          @Param("afterId") long afterId,
+                                          @Param("size") int size);
+
+    /**
+     * 기준일 잔여 일수 프로젝션.
+     */
+    interface BalanceAsOfRow {
+        /**
+         * 휴가 계정 ID를 반환한다.
+         *
+         * @return 휴가 계정 ID
+         */
+        Long getUserLeavesId();
+
+        /**
+         * 사용자 ID를 반환한다.
+         *
+         * @return 사용자 ID
+         */
+        Long getUserId();
+
+        /**
+         * 사용한 스냅샷 기준일을 반환한다.
+         *
+         * @return 스냅샷 기준일 (없으면 null)
+         */
+        LocalDate getSnapshotDate();
+
+        /**
+         * 기준일 잔여 일수를 반환한다.
+         *
+         * @return 잔여 일수
+         */
+        BigDecimal getBalanceDays();
+    }
+}
@@ -0,0 +1,143 @@
+package com.hoho.leave.domain.leave.account.repository;
+
+import com.hoho.leave.domain.leave.account.entity.UserLeavesChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 휴가 잔여 일수 변경 기록 리포지토리.
+ * 
+ * 변경 기록의 생성, 폴링, 정리에 대한 데이터베이스 접근을 제공한다.
+ * 
+ */
+public interface UserLeavesChangeRepository extends JpaRepository<UserLeavesChange, Long> {
+    /**
+     * 휴가 계정 목록의 현재 잔여 일수 버전을 변경 기록으로 남긴다.
+     * 잔여 일수를 갱신한 트랜잭션 안에서 호출한다.
+     *
+     * @param userLeavesIds 휴가 계정 ID 목록
+     * @param now 기록 시각
+     * @return 기록된 변경 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_leaves_change (user_leaves_id, user_id, balance_version, created_at, updated_at)
+        SELECT ul.id, ul.user_id, ul.balance_version, :now, :now
+          FROM user_leaves ul
+         WHERE ul.id IN (:userLeavesIds)
+        """, nativeQuery = true)
+    int recordChanges(@Param("userLeavesIds") Collection<Long> userLeavesIds, @Param("now") LocalDateTime now);
+
+    /**
+     * ID 구간에서 이번 연말 소멸로 갱신된 휴가 계정을 변경 기록으로 남긴다.
+     * 소멸 UPDATE가 남긴 처리 연도와 갱신 시각으로 이번 트랜잭션에서 갱신된 계정만 고른다.
+     *
+     * @param year 소멸 연도
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @param now 소멸 UPDATE의 갱신 시각
+     * @return 기록된 변경 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_leaves_change (user_leaves_id, user_id, balance_version, created_at, updated_at)
+        SELECT ul.id, ul.user_id, ul.balance_version, :now, :now
+          FROM user_leaves ul
+         WHERE ul.id >= :fromId
+           AND ul.id < :toId
+           AND ul.expired_year = :year
+           AND ul.updated_at = :now
+        """, nativeQuery = true)
+    int recordExpiryChanges(@Param("year") int year,
+                            @Param("fromId") long fromId,
+                            @Param("toId") long toId,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 가장 최근 변경 기록 ID를 조회한다. 폴링 시작 위치로 사용한다.
+     *
+     * @return 최대 변경 기록 ID (없으면 0)
+     */
+    @Query(value = "SELECT COALESCE(MAX(c.id), 0) FROM user_leaves_change c", nativeQuery = true)
+    long findMaxId();
+
+    /**
+     * 기준 ID 이후의 변경 기록을 ID 순으로 조회한다.
+     *
+     * @param afterId 기준 변경 기록 ID (제외)
+     * @param size 최대 조회 건수
+     * @return 변경 기록 행 목록
+     */
+    @Query(value = """
+        SELECT c.id AS id, c.user_leaves_id AS userLeavesId, c.user_id AS userId, c.balance_version AS balanceVersion
+          FROM user_leaves_change c
+         WHERE c.id > :afterId
+         ORDER BY c.id
+         LIMIT :size
+        """, nativeQuery = true)
+    List<ChangeRow> findChangesAfter(@Param("afterId") long afterId, @Param("size") int size);
+
+    /**
+     * 지정된 ID의 변경 기록을 조회한다. 늦게 커밋되어 건너뛴 기록을 다시 확인할 때 사용한다.
+     *
+     * @param ids 변경 기록 ID 목록
+     * @return 변경 기록 행 목록
+     */
+    @Query(value = """
+        SELECT c.id AS id, c.user_leaves_id AS userLeavesId, c.user_id AS userId, c.balance_version AS balanceVersion
+          FROM user_leaves_change c
+         WHERE c.id IN (:ids)
+        """, nativeQuery = true)
+    List<ChangeRow> findChangesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 보관 기간이 지난 변경 기록을 삭제한다.
+     *
+     * @param cutoff 삭제 기준 시각 (이전 기록 삭제)
+     * @return 삭제된 기록 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_leaves_change WHERE created_at < :cutoff", nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 변경 기록 행.
+     */
+    interface ChangeRow {
+        /**
+         * 변경 기록 ID를 반환한다.
+         *
+         * @return 변경 기록 ID
+         */
+        Long getId();
+
+        /**
+         * 휴가 계정 ID를 반환한다.
+         *
+         * @return 휴가 계정 ID
+         */
+        Long getUserLeavesId();
+
+        /**
+         * 사용자 ID를 반환한다.
+         *
+         * @return 사용자 ID
+         */
+        Long getUserId();
+
+        /**
+         * 변경 직후의 잔여 일수 버전을 반환한다.
+         *
+         * @return 잔여 일수 버전
+         */
+        Long getBalanceVersion();
+    }
+}
@@ -1,9 +1,20 @@
 package com.hoho.leave.domain.leave.account.repository;
 
+import com.hoho.leave.domain.leave.account.entity.LeaveStage;
 import com.hoho.leave.domain.leave.account.entity.UserLeaves;
+import com.hoho.leave.domain.shared.DayQuantity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,4 +41,500 @@ public interface UserLeavesRepository extends JpaRepository<UserLeaves, Long> {
      */
     @EntityGraph(attributePaths = {"user"})
     Optional<UserLeaves> findByUserId(Long userId);
+
+    /**
+     * 특정 사용자의 잔여 일수 조회용 정보를 조회한다. 잔여 일수 캐시를 채울 때 사용한다.
+     *
+     * @param userId 사용자 ID
+     * @return 잔여 일수 조회 행
+     */
+    @Query("""
+        select ul.id as userLeavesId,
+               u.id as userId,
+               u.username as username,
+               u.employeeNo as employeeNo,
+               ul.leaveStage as leaveStage,
+               ul.nextAccrualAt as nextAccrualAt,
+               ul.balanceDays as balanceDays,
+               ul.balanceVersion as balanceVersion
+          from UserLeaves ul
+          join ul.user u
+         where u.id = :userId
+    """)
+    Optional<BalanceViewRow> findBalanceViewByUserId(@Param("userId") Long userId);
+
+    /**
+     * 휴가 계정 목록의 잔여 일수 조회용 정보를 조회한다. 잔여 일수가 바뀐 캐시 항목을 다시 채울 때 사용한다.
+     *
+     * @param ids 휴가 계정 ID 목록
+     * @return 잔여 일수 조회 행 목록
+     */
+    @Query("""
+        select ul.id as userLeavesId,
+               u.id as userId,
+               u.username as username,
+               u.employeeNo as employeeNo,
+               ul.leaveStage as leaveStage,
+               ul.nextAccrualAt as nextAccrualAt,
+               ul.balanceDays as balanceDays,
+               ul.balanceVersion as balanceVersion
+          from UserLeaves ul
+          join ul.user u
+         where ul.id in :ids
+    """)
+    List<BalanceViewRow> findBalanceViews(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 특정 사용자의 휴가 계정 ID만 조회한다.
+     *
+     * @param userId 사용자 ID
+     * @return 휴가 계정 ID
+     */
+    @Query("select ul.id from UserLeaves ul where ul.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    /**
+     * 휴가 계정 ID의 최소/최대값을 조회한다. 부여 배치의 파티션 구간을 나눌 때 사용한다.
+     *
+     * @return ID 구간 (계정이 없으면 값이 null)
+     */
+    @Query("select min(ul.id) as minId, max(ul.id) as maxId from UserLeaves ul")
+    IdRange findIdRange();
+
+    /**
+     * 파티션 구간에서 부여일이 도래한 휴가 계정을 ID 순으로 한 청크만큼 조회한다.
+     * 오프셋 없이 직전 청크의 마지막 ID 이후부터 읽는다.
+     *
+     * @param afterId 직전 청크의 마지막 휴가 계정 ID (제외)
+     * @param rangeEnd 파티션 마지막 휴가 계정 ID (포함)
+     * @param today 부여 기준일
+     * @param stages 부여 대상 휴가 단계
+     * @param pageable 청크 크기 (정렬은 쿼리에 고정)
+     * @return 부여 대상 목록
+     */
+    @Query("""
+        select ul.id as userLeavesId,
+               ul.leaveStage as leaveStage,
+               ul.nextAccrualAt as nextAccrualAt,
+               u.hireDate as hireDate
+          from UserLeaves ul
+          join ul.user u
+         where ul.id > :afterId
+           and ul.id <= :rangeEnd
+           and ul.nextAccrualAt <= :today
+           and ul.leaveStage in :stages
+           and u.active = true
+         order by ul.id asc
+    """)
+    List<AccrualTargetRow> findAccrualTargets(@Param("afterId") Long afterId,
+                                              @Param("rangeEnd") Long rangeEnd,
+                                              @Param("today") LocalDate today,
+                                              @Param("stages") Collection<LeaveStage> stages,
+                                              Pageable pageable);
+
+    /**
+     * 다음 부여일이 기대값과 같은 휴가 계정에 쓰기 잠금을 걸고 그 ID를 조회한다.
+     * 잠긴 계정은 다른 실행이 부여할 수 없으므로, 부여는 잠긴 계정에만 반영한다.
+     * 교착을 피하려고 ID 순서로 잠근다.
+     *
+     * @param ids 휴가 계정 ID 목록
+     * @param expectedAccrualAt 부여 전 다음 부여일
+     * @return 잠근 휴가 계정 ID 목록
+     */
+    @Query(value = """
+        SELECT ul.id
+          FROM user_leaves ul
+         WHERE ul.id IN (:ids)
+           AND ul.next_accrual_at = :expectedAccrualAt
+         ORDER BY ul.id
+           FOR UPDATE
+        """, nativeQuery = true)
+    List<Long> lockAccrualDue(@Param("ids") Collection<Long> ids,
+                              @Param("expectedAccrualAt") LocalDate expectedAccrualAt);
+
+    /**
+     * 같은 부여일/부여량/다음 스케줄을 가진 휴가 계정에 부여를 한 번에 반영한다.
+     * 다음 부여일이 기대값과 같을 때만 갱신하므로 이미 부여된 계정에 중복 부여되지 않는다.
+     * 잔여 일수 필드는 {@link DayQuantity}로 변환되므로 컬럼 산술은 네이티브 쿼리로 수행한다.
+     *
+     * @param ids 휴가 계정 ID 목록
+     * @param expectedAccrualAt 부여 전 다음 부여일
+     * @param amount 부여 일수 (소수 둘째 자리)
+     * @param stage 부여 후 휴가 단계 이름
+     * @param nextAccrualAt 부여 후 다음 부여일
+     * @param now 갱신 시각
+     * @return 갱신된 계정 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE user_leaves ul
+           SET ul.balance_days = ul.balance_days + :amount,
+               ul.balance_version = ul.balance_version + 1,
+               ul.leave_stage = :stage,
+               ul.next_accrual_at = :nextAccrualAt,
+               ul.updated_at = :now
+         WHERE ul.id IN (:ids)
+           AND ul.next_accrual_at = :expectedAccrualAt
+        """, nativeQuery = true)
+    int applyAccruals(@Param("ids") Collection<Long> ids,
+                      @Param("expectedAccrualAt") LocalDate expectedAccrualAt,
+                      @Param("amount") BigDecimal amount,
+                      @Param("stage") String stage,
+                      @Param("nextAccrualAt") LocalDate nextAccrualAt,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 재직 중인 사용자의 휴가 부여 예측 입력을 조회한다.
+     *
+     * @return 예측 입력 목록 (휴가 계정 ID 순)
+     */
+    @Query("""
+        select ul.id as userLeavesId,
+               u.id as userId,
+               u.hireDate as hireDate,
+               ul.balanceDays as balanceDays
+          from UserLeaves ul
+          join ul.user u
+         where u.active = true
+         order by ul.id asc
+    """)
+    List<ProjectionRow> findProjectionRows();
+
+    /**
+     * ID 구간에서 연말 소멸 원장이 기록된 휴가 계정의 잔여 일수를 한 번의 UPDATE ... JOIN으로 차감한다.
+     * 
+     * 원장에 기록된 소멸량(연말 시점 잔여 일수)만큼 빼므로 연말 이후의 부여/사용과 기록 이후의 변동은 유지된다.
+     * 처리한 연도를 함께 남겨 같은 연도로 다시 실행해도 두 번 차감하지 않는다.
+     * 
+     *
+     * @param year 소멸 연도
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @param now 갱신 시각
+     * @return 갱신된 계정 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        UPDATE user_leaves ul
+          JOIN user_leave_ledger l
+            ON l.idempotency_key = CONCAT('EXPIRE:', :year, ':', ul.id)
+           SET ul.balance_days = ul.balance_days + l.amount_days,
+               ul.balance_version = ul.balance_version + 1,
+               ul.expired_year = :year,
+               ul.updated_at = :now
+         WHERE ul.id >= :fromId
+           AND ul.id < :toId
+           AND (ul.expired_year IS NULL OR ul.expired_year < :year)
+        """, nativeQuery = true)
+    int expireBalances(@Param("year") int year,
+                       @Param("fromId") long fromId,
+                       @Param("toId") long toId,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * ID 구간의 휴가 계정 수를 센다.
+     *
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @return 휴가 계정 수
+     */
+    long countByIdGreaterThanEqualAndIdLessThan(Long fromId, Long toId);
+
+    /**
+     * ID 구간에서 잔여 일수가 원장 합계와 다른 휴가 계정을 조회한다.
+     * 원장이 없는 계정은 합계를 0으로 본다.
+     * 원장은 모두 더하기만 하는 증감량이므로 합계가 적용 일시 순서로 재생한 결과와 같다.
+     *
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @return 불일치 목록
+     */
+    @Query(value = """
+        SELECT ul.id AS userLeavesId,
+               ul.user_id AS userId,
+               ul.balance_days AS balanceDays,
+               COALESCE(SUM(l.amount_days), 0) AS ledgerDays,
+               COUNT(l.id) AS entryCount
+          FROM user_leaves ul
+          LEFT JOIN user_leave_ledger l ON l.user_leaves_id = ul.id
+         WHERE ul.id >= :fromId
+           AND ul.id < :toId
+         GROUP BY ul.id, ul.user_id, ul.balance_days
+        HAVING ul.balance_days <> COALESCE(SUM(l.amount_days), 0)
+        """, nativeQuery = true)
+    List<BalanceDiffRow> findBalanceDiffs(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 사용자 ID 목록에 해당하는 휴가 계정 ID를 조회한다. 일괄 조정 대상 선정에 사용한다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 휴가 계정 ID 목록 (오름차순)
+     */
+    @Query("select ul.id from UserLeaves ul where ul.user.id in :userIds order by ul.id")
+    List<Long> findIdsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 팀(하위 팀 포함)/직급 조건을 만족하는 재직자의 휴가 계정 ID를 조회한다. 일괄 조정 대상 선정에 사용한다.
+     * 조건 값이 null이면 해당 조건은 적용하지 않는다.
+     *
+     * @param teamId 팀 ID
+     * @param gradeId 직급 ID
+     * @return 휴가 계정 ID 목록 (오름차순)
+     */
+    @Query(value = """
+        WITH RECURSIVE sub_team (id) AS (
+            SELECT t.id FROM team t WHERE t.id = :teamId
+            UNION ALL
+            SELECT c.id FROM team c JOIN sub_team s ON c.parent_id = s.id
+        )
+        SELECT ul.id
+          FROM user_leaves ul
+          JOIN users u ON u.id = ul.user_id
+         WHERE u.is_active = TRUE
+           AND (:teamId IS NULL OR u.team_id IN (SELECT id FROM sub_team))
+           AND (:gradeId IS NULL OR u.grade_id = :gradeId)
+         ORDER BY ul.id
+        """, nativeQuery = true)
+    List<Long> findAdjustmentTargetIds(@Param("teamId") Long teamId, @Param("gradeId") Long gradeId);
+
+    /**
+     * 잔여 일수가 기준보다 적은 휴가 계정 ID를 조회한다. 일괄 차감에서 제외할 계정을 고른다.
+     *
+     * @param ids 휴가 계정 ID 목록
+     * @param required 필요한 잔여 일수
+     * @return 잔여 일수가 부족한 휴가 계정 ID 목록
+     */
+    @Query("select ul.id from UserLeaves ul where ul.id in :ids and ul.balanceDays < :required")
+    List<Long> findIdsWithBalanceBelow(@Param("ids") Collection<Long> ids, @Param("required") DayQuantity required);
+
+    /**
+     * 휴가 계정 목록의 잔여 일수를 한 번에 증감한다.
+     * 증감 후 잔여 일수가 음수가 되는 계정은 갱신하지 않는다.
+     *
+     * @param ids 휴가 계정 ID 목록
+     * @param amountDays 증감량
+     * @param now 갱신 시각
+     * @return 갱신된 계정 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE user_leaves ul
+           SET ul.balance_days = ul.balance_days + :amountDays,
+               ul.balance_version = ul.balance_version + 1,
+               ul.updated_at = :now
+         WHERE ul.id IN (:ids)
+           AND ul.balance_days + :amountDays >= 0
+        """, nativeQuery = true)
+    int adjustBalances(@Param("ids") Collection<Long> ids,
+                       @Param("amountDays") BigDecimal amountDays,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 휴가 계정의 잔여 일수를 원장 합계로 다시 맞춘다.
+     *
+     * @param ids 휴가 계정 ID 목록
+     * @param now 갱신 시각
+     * @return 갱신된 계정 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        UPDATE user_leaves ul
+          LEFT JOIN (SELECT l.user_leaves_id, SUM(l.amount_days) AS ledger_days
+                       FROM user_leave_ledger l
+                      WHERE l.user_leaves_id IN (:ids)
+                      GROUP BY l.user_leaves_id) x
+            ON x.user_leaves_id = ul.id
+           SET ul.balance_days = COALESCE(x.ledger_days, 0),
+               ul.balance_version = ul.balance_version + 1,
+               ul.updated_at = :now
+         WHERE ul.id IN (:ids)
+           AND ul.balance_days <> COALESCE(x.ledger_days, 0)
+        """, nativeQuery = true)
+    int rebuildBalances(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 휴가 계정 ID 구간 프로젝션.
+     */
+    interface IdRange {
+        /**
+         * 최소 ID를 반환한다.
+         *
+         * @return 최소 ID
+         */
+        Long getMinId();
+
+        /**
+         * 최대 ID를 반환한다.
+         *
+         * @return 최대 ID
+         */
+        Long getMaxId();
+    }
+
+    /**
+     * 휴가 부여 대상 프로젝션.
+     */
+    interface AccrualTargetRow {
+        /**
+         * 휴가 계정 ID를 반환한다.
+         *
+         * @return 휴가 계정 ID
+         */
+        Long getUserLeavesId();
+
+        /**
+         * 현재 휴가 단계를 반환한다.
+         *
+         * @return 휴가 단계
+         */
+        LeaveStage getLeaveStage();
+
+        /**
+         * 도래한 부여일을 반환한다.
+         *
+         * @return 부여일
+         */
+        LocalDate getNextAccrualAt();
+
+        /**
+         * 사용자 입사일을 반환한다.
+         *
+         * @return 입사일
+         */
+        LocalDate getHireDate();
+    }
+
+    /**
+     * 휴가 부여 예측 입력 프로젝션.
+     */
+    interface ProjectionRow {
+        /**
+         * 휴가 계정 ID를 반환한다.
+         *
+         * @return 휴가 계정 ID
+         */
+        Long getUserLeavesId();
+
+        /**
+         * 사용자 ID를 반환한다.
+         *
+         * @return 사용자 ID
+         */
+        Long getUserId();
+
+        /**
+         * 사용자 입사일을 반환한다.
+         *
+         * @return 입사일
+         */
+        LocalDate getHireDate();
+
+        /**
+         * 현재 잔여 일수를 반환한다.
+         *
+         * @return 잔여 일수
+         */
+        DayQuantity getBalanceDays();
+    }
+
+    /**
+     * 잔여 일수 불일치 프로젝션.
+     */
+    interface BalanceDiffRow {
+        /**
+         * 휴가 계정 ID를 반환한다.
+         *
+         * @return 휴가 계정 ID
+         */
+        Long getUserLeavesId();
+
+        /**
+         * 사용자 ID를 반환한다.
+         *
+         * @return 사용자 ID
+         */
+        Long getUserId();
+
+        /**
+         * 휴가 계정의 잔여 일수를 반환한다.
+         *
+         * @return 잔여 일수
+         */
+        BigDecimal getBalanceDays();
+
+        /**
+         * 원장 증감량 합계를 반환한다.
+         *
+         * @return 원장 합계
+         */
+        BigDecimal getLedgerDays();
+
+        /**
+         * 원장 건수를 반환한다.
+         *
+         * @return 원장 건수
+         */
+        Long getEntryCount();
+    }
+
+    /**
+     * 잔여 일수 조회 행.
+     */
+    interface BalanceViewRow {
+        /**
+         * 휴가 계정 ID를 반환한다.
+         *
+         * @return 휴가 계정 ID
+         */
+        Long getUserLeavesId();
+
+        /**
+         * 사용자 ID를 반환한다.
+         *
+         * @return 사용자 ID
+         */
+        Long getUserId();
+
+        /**
+         * 사용자 이름을 반환한다.
+         *
+         * @return 사용자 이름
+         */
+        String getUsername();
+
+        /**
+         * 사번을 반환한다.
+         *
+         * @return 사번
+         */
+        String getEmployeeNo();
+
+        /**
+         * 휴가 단계를 반환한다.
+         *
+         * @return 휴가 단계
+         */
+        LeaveStage getLeaveStage();
+
+        /**
+         * 다음 부여일을 반환한다.
+         *
+         * @return 다음 부여일
+         */
+        LocalDate getNextAccrualAt();
+
+        /**
+         * 잔여 일수를 반환한다.
+         *
+         * @return 잔여 일수
+         */
+        DayQuantity getBalanceDays();
+
+        /**
+         * 잔여 일수 버전을 반환한다.
+         *
+         * @return 잔여 일수 버전
+         */
+        Long getBalanceVersion();
+    }
 }
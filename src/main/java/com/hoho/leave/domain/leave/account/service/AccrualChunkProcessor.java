@@ -0,0 +1,131 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.leave.account.entity.AccrualJobCheckpoint;
+import com.hoho.leave.domain.leave.account.entity.LeaveStage;
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import com.hoho.leave.domain.leave.account.entity.UserLeaveLedger;
+import com.hoho.leave.domain.leave.account.repository.AccrualJobCheckpointRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.AccrualTargetRow;
+import com.hoho.leave.domain.leave.account.service.support.AccrualGrant;
+import com.hoho.leave.domain.leave.account.service.support.AccrualPolicyEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 휴가 부여 배치 청크 처리기.
+ * 
+ * 파티션 체크포인트 이후의 부여 대상 한 청크를 하나의 트랜잭션에서 처리한다.
+ * 같은 부여 내역끼리 묶어 잔여 일수 갱신과 원장 기록을 각각 한 번의 쿼리로 반영하고,
+ * 체크포인트도 같은 트랜잭션에서 전진시키므로 청크 단위로 원자적으로 커밋된다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccrualChunkProcessor {
+
+    /** 부여 대상 휴가 단계 */
+    private static final List<LeaveStage> ACCRUING_STAGES = List.of(LeaveStage.MONTHLY, LeaveStage.ANNUAL);
+    /** 한 번에 따라잡을 최대 부여 횟수 (배치가 오래 멈췄던 경우) */
+    private static final int MAX_CATCH_UP = 24;
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final UserLeaveLedgerRepository ledgerRepository;
+    private final AccrualJobCheckpointRepository checkpointRepository;
+    private final AccrualPolicyEngine engine;
+    private final BalanceChangeRecorder balanceChangeRecorder;
+    private final BalanceSnapshotInvalidator balanceSnapshotInvalidator;
+
+    /**
+     * 파티션의 다음 청크를 처리한다.
+     * 
+     * 부여일이 여러 번 밀린 계정은 부여일 순서대로 모두 부여한다.
+     * 부여마다 다음 부여일이 기대값과 같은 계정만 잠그고 반영하므로,
+     * 다른 실행이 먼저 부여한 계정은 그 부여만 건너뛰고 나머지 계정은 그대로 처리한다.
+     * 
+     *
+     * @param checkpointId 파티션 체크포인트 ID
+     * @param chunkSize 청크 크기
+     * @return 처리할 청크가 남아 있으면 true
+     */
+    @Transactional
+    public boolean processChunk(Long checkpointId, int chunkSize) {
+        AccrualJobCheckpoint checkpoint = checkpointRepository.findById(checkpointId)
+                .orElseThrow(() -> new NotFoundException("Not Found AccrualJobCheckpoint : " + checkpointId));
+        if (checkpoint.isCompleted()) return false;
+
+        LocalDate today = checkpoint.getRunDate();
+        List<AccrualTargetRow> rows = userLeavesRepository.findAccrualTargets(
+                checkpoint.getLastUserLeavesId(), checkpoint.getRangeEnd(), today, ACCRUING_STAGES, PageRequest.of(0, chunkSize));
+
+        Map<AccrualGrant, List<Long>> grants = new LinkedHashMap<>();
+        for (AccrualTargetRow row : rows) {
+            LeaveStage stage = row.getLeaveStage();
+            LocalDate accrualDate = row.getNextAccrualAt();
+            for (int i = 0; i < MAX_CATCH_UP && !accrualDate.isAfter(today); i++) {
+                AccrualGrant grant = engine.nextGrant(row.getHireDate(), stage, accrualDate);
+                grants.computeIfAbsent(grant, k -> new ArrayList<>()).add(row.getUserLeavesId());
+                stage = grant.getLeaveStage();
+                accrualDate = grant.getNextAccrualAt();
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> changed = new LinkedHashSet<>();
+        grants.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(AccrualGrant::getAccrualDate)))
+                .forEach(e -> changed.addAll(apply(e.getKey(), e.getValue(), now)));
+        balanceChangeRecorder.recordChanged(changed, now);
+
+        boolean last = rows.size() < chunkSize;
+        checkpoint.advance(last ? checkpoint.getRangeEnd() : rows.get(rows.size() - 1).getUserLeavesId(), rows.size());
+        if (last) checkpoint.complete();
+
+        return !last;
+    }
+
+    /**
+     * 같은 부여 내역을 가진 계정들에 잔여 일수를 더하고 원장을 기록한다.
+     * 다음 부여일이 이미 바뀐(다른 실행이 부여한) 계정은 건너뛴다.
+     *
+     * @param grant 부여 내역
+     * @param userLeavesIds 휴가 계정 ID 목록
+     * @param now 처리 시각
+     * @return 부여가 반영된 휴가 계정 ID 목록
+     */
+    private List<Long> apply(AccrualGrant grant, List<Long> userLeavesIds, LocalDateTime now) {
+        List<Long> targets = userLeavesRepository.lockAccrualDue(userLeavesIds, grant.getAccrualDate());
+        if (targets.size() != userLeavesIds.size()) {
+            log.info("Accrual already applied, skipped. accrualDate={}, skipped={}",
+                    grant.getAccrualDate(), userLeavesIds.size() - targets.size());
+        }
+        if (targets.isEmpty()) return targets;
+
+        int updated = userLeavesRepository.applyAccruals(targets, grant.getAccrualDate(),
+                grant.getAmount().toBigDecimal(), grant.getLeaveStage().name(), grant.getNextAccrualAt(), now);
+        if (updated != targets.size()) {
+            throw new ConcurrencyFailureException("Accrual changed under lock. accrualDate=" + grant.getAccrualDate()
+                    + ", expected=" + targets.size() + ", updated=" + updated);
+        }
+
+        String note = grant.getReasonCode() == ReasonCode.GRANT_MONTHLY
+                ? "휴가 부여 배치에 의한 월차 부여"
+                : "휴가 부여 배치에 의한 연차 부여";
+        ledgerRepository.insertAll(targets, grant.getAccrualDate().atStartOfDay(), grant.getAmount().toBigDecimal(),
+                UserLeaveLedger.formatAmount(grant.getAmount()), grant.getReasonCode().name(), note, now);
+        // 밀린 부여일을 따라잡으면 이미 만든 스냅샷보다 이른 원장이 된다
+        balanceSnapshotInvalidator.invalidate(targets, grant.getAccrualDate().atStartOfDay());
+        return targets;
+    }
+}
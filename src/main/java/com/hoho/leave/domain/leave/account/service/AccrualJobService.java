@@ -0,0 +1,126 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.entity.AccrualJobCheckpoint;
+import com.hoho.leave.domain.leave.account.repository.AccrualJobCheckpointRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.IdRange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 휴가 부여 배치 서비스.
+ * 
+ * 휴가 계정을 ID 구간으로 나눈 파티션을 병렬로, 각 파티션은 청크 단위로 처리한다.
+ * 파티션 구간과 진행 위치는 기준일별 체크포인트에 남기므로 같은 기준일로 다시 실행하면
+ * 완료된 파티션은 건너뛰고 나머지는 마지막으로 커밋된 청크 다음부터 이어서 처리한다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccrualJobService {
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final AccrualJobCheckpointRepository checkpointRepository;
+    private final AccrualChunkProcessor chunkProcessor;
+    private final ThreadPoolTaskExecutor accrualTaskExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /** 병렬로 처리할 파티션 수 */
+    @Value("${leave.accrual.partitions:4}")
+    private int partitions;
+
+    /** 한 트랜잭션에서 처리할 휴가 계정 수 */
+    @Value("${leave.accrual.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 기준일에 도래한 휴가 부여를 처리한다.
+     * 이미 실행 중이면 건너뛴다.
+     *
+     * @param runDate 부여 기준일
+     */
+    public void run(LocalDate runDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Accrual job already running. runDate={}", runDate);
+            return;
+        }
+
+        try {
+            List<AccrualJobCheckpoint> pending = prepareCheckpoints(runDate).stream()
+                    .filter(c -> !c.isCompleted())
+                    .toList();
+            if (pending.isEmpty()) return;
+
+            long started = System.currentTimeMillis();
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                pending.forEach(c -> futures.add(accrualTaskExecutor.submit(() -> runPartition(c))));
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (Exception e) {
+                log.warn("Accrual job interrupted. runDate={}: {}", runDate, e.getMessage());
+            }
+
+            log.info("Accrual job finished. runDate={}, partitions={}, elapsedMs={}",
+                    runDate, pending.size(), System.currentTimeMillis() - started);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 파티션의 청크를 모두 처리한다.
+     * 청크 처리에 실패하면 해당 파티션만 중단하고, 다음 실행에서 체크포인트부터 이어서 처리한다.
+     *
+     * @param checkpoint 파티션 체크포인트
+     */
+    private void runPartition(AccrualJobCheckpoint checkpoint) {
+        try {
+            int chunks = 0;
+            while (chunkProcessor.processChunk(checkpoint.getId(), chunkSize)) {
+                chunks++;
+            }
+            log.info("Accrual partition completed. runDate={}, partition={}, chunks={}",
+                    checkpoint.getRunDate(), checkpoint.getPartitionNo(), chunks + 1);
+        } catch (Exception e) {
+            log.warn("Accrual partition failed. runDate={}, partition={}: {}",
+                    checkpoint.getRunDate(), checkpoint.getPartitionNo(), e.getMessage());
+        }
+    }
+
+    /**
+     * 기준일의 파티션 체크포인트를 조회하고, 없으면 휴가 계정 ID 구간을 나눠 생성한다.
+     *
+     * @param runDate 부여 기준일
+     * @return 파티션 체크포인트 목록
+     */
+    private List<AccrualJobCheckpoint> prepareCheckpoints(LocalDate runDate) {
+        List<AccrualJobCheckpoint> checkpoints = checkpointRepository.findByRunDateOrderByPartitionNo(runDate);
+        if (!checkpoints.isEmpty()) return checkpoints;
+
+        IdRange range = userLeavesRepository.findIdRange();
+        if (range == null || range.getMinId() == null) return List.of();
+
+        long lower = range.getMinId() - 1;
+        long span = range.getMaxId() - lower;
+        int count = (int) Math.max(1, Math.min(partitions, span));
+
+        List<AccrualJobCheckpoint> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            created.add(AccrualJobCheckpoint.create(runDate, i, lower + span * i / count, lower + span * (i + 1) / count));
+        }
+        return checkpointRepository.saveAll(created);
+    }
+}
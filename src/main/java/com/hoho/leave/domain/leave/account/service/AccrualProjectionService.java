@@ -0,0 +1,97 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.dto.request.AccrualProjectionRequest;
+import com.hoho.leave.domain.leave.account.dto.response.AccrualProjectionResponse;
+import com.hoho.leave.domain.leave.account.dto.response.AccrualProjectionUserResponse;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.ProjectionRow;
+import com.hoho.leave.domain.leave.account.service.support.AccrualProjection;
+import com.hoho.leave.domain.leave.account.service.support.AccrualProjectionEngine;
+import com.hoho.leave.domain.leave.account.service.support.AccrualRules;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 휴가 부여 예측 서비스.
+ * 
+ * 재직 중인 사용자의 입사일과 잔여 일수를 원시 배열로 모아 예측 엔진에 넘기고,
+ * 결과를 일 단위 응답으로 변환한다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class AccrualProjectionService {
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final AccrualProjectionEngine projectionEngine;
+
+    /**
+     * 요청한 규칙으로 연도 수만큼 잔여 일수를 예측한다.
+     *
+     * @param request 예측 요청
+     * @return 예측 응답
+     */
+    @Transactional(readOnly = true)
+    public AccrualProjectionResponse project(AccrualProjectionRequest request) {
+        AccrualRules rules = toRules(request);
+        LocalDate from = LocalDate.now();
+
+        List<ProjectionRow> rows = userLeavesRepository.findProjectionRows();
+        int size = rows.size();
+        int[] hireMonths = new int[size];
+        int[] hireDays = new int[size];
+        int[] balances = new int[size];
+        for (int i = 0; i < size; i++) {
+            ProjectionRow row = rows.get(i);
+            hireMonths[i] = AccrualProjectionEngine.monthIndex(row.getHireDate());
+            hireDays[i] = row.getHireDate().getDayOfMonth();
+            balances[i] = Math.toIntExact(row.getBalanceDays().toHundredths());
+        }
+
+        AccrualProjection projection = projectionEngine.project(hireMonths, hireDays, balances, from, request.getYears(), rules);
+
+        List<BigDecimal> total = Arrays.stream(projection.getAggregate()).mapToObj(AccrualProjectionService::toDays).toList();
+        List<AccrualProjectionUserResponse> users = new ArrayList<>();
+        if (Boolean.TRUE.equals(request.getIncludeUsers())) {
+            for (int i = 0; i < size; i++) {
+                List<BigDecimal> curve = new ArrayList<>(request.getYears());
+                for (int y = 0; y < request.getYears(); y++) {
+                    curve.add(toDays(projection.userBalanceAt(i, y)));
+                }
+                ProjectionRow row = rows.get(i);
+                users.add(AccrualProjectionUserResponse.of(row.getUserLeavesId(), row.getUserId(), row.getBalanceDays().toBigDecimal(), curve));
+            }
+        }
+
+        return AccrualProjectionResponse.of(from, request.getYears(), rules, size, total, users);
+    }
+
+    /**
+     * 요청에 지정된 항목만 기본 규정 값에 덮어써 부여 규칙을 만든다.
+     *
+     * @param request 예측 요청
+     * @return 부여 규칙
+     */
+    private AccrualRules toRules(AccrualProjectionRequest request) {
+        AccrualRules rules = AccrualRules.standard();
+
+        if (request.getMonthlyDays() != null) rules.setMonthlyDays(request.getMonthlyDays());
+        if (request.getMonthlyMonths() != null) rules.setMonthlyMonths(request.getMonthlyMonths());
+        if (request.getAnnualBaseDays() != null) rules.setAnnualBaseDays(request.getAnnualBaseDays());
+        if (request.getIncrementEveryYears() != null) rules.setIncrementEveryYears(request.getIncrementEveryYears());
+        if (request.getAnnualMaxDays() != null) rules.setAnnualMaxDays(request.getAnnualMaxDays());
+
+        return rules;
+    }
+
+    private static BigDecimal toDays(long hundredths) {
+        return BigDecimal.valueOf(hundredths, 2);
+    }
+}
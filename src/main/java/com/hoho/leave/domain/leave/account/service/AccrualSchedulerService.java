@@ -0,0 +1,35 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * 휴가 부여 스케줄러 서비스.
+ * 
+ * 매일 부여일이 도래한 휴가 계정에 월차/연차를 부여한다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccrualSchedulerService {
+
+    private final AccrualJobService accrualJobService;
+
+    /**
+     * 휴가 부여 배치를 정기적으로 실행한다.
+     * 매일 00시 30분에 오늘까지 도래한 부여를 처리한다.
+     */
+    @Scheduled(cron = "0 30 00 * * *", zone = "Asia/Seoul")
+    public void AccrualSchedule() {
+        try {
+            accrualJobService.run(LocalDate.now());
+        } catch (Exception e) {
+            log.warn("Accrual job failed: {}", e.getMessage());
+        }
+    }
+}
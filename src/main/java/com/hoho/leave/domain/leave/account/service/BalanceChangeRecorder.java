@@ -0,0 +1,50 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeavesChangeRepository;
+import com.hoho.leave.domain.leave.account.service.support.BalanceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 휴가 잔여 일수 변경 기록기.
+ * 
+ * 잔여 일수를 갱신한 트랜잭션 안에서 호출되어, 다른 노드용 변경 기록을 남기고
+ * 커밋 후 이 노드의 캐시를 갱신할 이벤트를 발행한다.
+ * 
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceChangeRecorder {
+
+    private final UserLeavesChangeRepository changeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 휴가 계정 목록의 잔여 일수 변경을 기록한다.
+     *
+     * @param userLeavesIds 휴가 계정 ID 목록
+     * @param now 기록 시각
+     */
+    public void recordChanged(Collection<Long> userLeavesIds, LocalDateTime now) {
+        if (userLeavesIds.isEmpty()) return;
+        changeRepository.recordChanges(userLeavesIds, now);
+        eventPublisher.publishEvent(BalanceChangedEvent.ofIds(userLeavesIds));
+    }
+
+    /**
+     * ID 구간의 연말 소멸로 인한 잔여 일수 변경을 기록한다.
+     *
+     * @param year 소멸 연도
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @param now 소멸 UPDATE의 갱신 시각
+     */
+    public void recordExpired(int year, long fromId, long toId, LocalDateTime now) {
+        if (changeRepository.recordExpiryChanges(year, fromId, toId, now) == 0) return;
+        eventPublisher.publishEvent(BalanceChangedEvent.ofRange(fromId, toId));
+    }
+}
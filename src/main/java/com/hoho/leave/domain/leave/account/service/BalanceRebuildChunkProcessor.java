@@ -0,0 +1,51 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.BalanceDiffRow;
+import com.hoho.leave.domain.leave.account.service.support.BalanceRebuildReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 휴가 잔여 일수 재계산 청크 처리기.
+ * 
+ * 휴가 계정 ID 구간 하나를 원장 합계와 비교하고, 보정 모드면 같은 트랜잭션에서 잔여 일수를 원장 합계로 맞춘다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceRebuildChunkProcessor {
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final BalanceChangeRecorder balanceChangeRecorder;
+
+    /**
+     * ID 구간의 잔여 일수를 원장 합계와 비교(보정)하고 결과를 보고서에 더한다.
+     *
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @param report 진행 보고서
+     */
+    @Transactional
+    public void rebuildRange(long fromId, long toId, BalanceRebuildReport report) {
+        long scanned = userLeavesRepository.countByIdGreaterThanEqualAndIdLessThan(fromId, toId);
+        List<BalanceDiffRow> diffs = userLeavesRepository.findBalanceDiffs(fromId, toId);
+
+        int repaired = 0;
+        if (report.isRepair() && !diffs.isEmpty()) {
+            List<Long> ids = diffs.stream().map(BalanceDiffRow::getUserLeavesId).toList();
+            LocalDateTime now = LocalDateTime.now();
+            repaired = userLeavesRepository.rebuildBalances(ids, now);
+            balanceChangeRecorder.recordChanged(ids, now);
+            log.info("Balances rebuilt from ledger. range=[{}, {}), ids={}", fromId, toId, ids);
+        }
+
+        report.record(scanned, diffs, repaired);
+    }
+}
@@ -0,0 +1,187 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.common.exception.BusinessException;
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.leave.account.dto.response.BalanceRebuildResponse;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.IdRange;
+import com.hoho.leave.domain.leave.account.service.support.BalanceRebuildReport;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 휴가 잔여 일수 재계산 서비스.
+ * 
+ * 원장 증감량 합계를 기준으로 휴가 계정의 잔여 일수를 검증하고, 요청 시 원장 기준으로 보정한다.
+ * 계정별 원장을 적용 일시 순서대로 재생하지 않고 합계로 비교한다. 모든 원장 사유(부여, 소멸, 차감/환급, 조정,
+ * 초기 잔액)는 잔여 일수에 증감량을 더하기만 하고 증감량은 고정 소수점이므로, 순서대로 재생한 결과는 합계와 같다.
+ * 합계는 DB에서 구간 단위로 계산하므로 원장 행을 애플리케이션으로 옮기지 않는다.
+ * 잔여 일수를 특정 값으로 덮어쓰는 원장 사유가 생기면 순서대로 재생하는 방식으로 바꿔야 한다.
+ * 관리자 요청으로 백그라운드에서 실행되며, 재계산 스레드 풀(balanceRebuildTaskExecutor)의 작업들이
+ * 공유 커서로 ID 구간을 하나씩 가져가 병렬 처리한다. 마지막 작업이 끝날 때 보고서를 마무리한다.
+ * 진행 상황은 조회 API와 메트릭(leave.balance.rebuild.*)으로 확인한다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceRebuildService {
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final UserLeaveLedgerRepository ledgerRepository;
+    private final BalanceRebuildChunkProcessor chunkProcessor;
+    private final LedgerAmountMigrationService ledgerAmountMigrationService;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor balanceRebuildTaskExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile BalanceRebuildReport lastReport;
+
+    /** 한 트랜잭션에서 처리할 휴가 계정 ID 구간 폭 */
+    @Value("${leave.balance-rebuild.range-size:2000}")
+    private int rangeSize;
+
+    /** 보고서에 보관할 최대 불일치 수 */
+    @Value("${leave.balance-rebuild.diff-limit:1000}")
+    private int diffLimit;
+
+    /**
+     * 진행 메트릭을 등록한다.
+     */
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("leave.balance.rebuild.progress", this, s -> s.lastReport == null ? 0 : s.lastReport.progress())
+                .register(meterRegistry);
+        Gauge.builder("leave.balance.rebuild.scanned", this,
+                        s -> s.lastReport == null ? 0 : s.lastReport.getScannedAccounts().get())
+                .register(meterRegistry);
+        Gauge.builder("leave.balance.rebuild.mismatched", this,
+                        s -> s.lastReport == null ? 0 : s.lastReport.getMismatchedAccounts().get())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 잔여 일수 재계산을 백그라운드로 시작한다.
+     * 원장 증감량 변환이 끝나지 않았으면 먼저 다시 시도하고, 그래도 남으면 시작하지 않는다.
+     *
+     * @param repair true면 불일치 계정을 원장 합계로 보정, false면 비교만 수행
+     * @return 시작 시점의 진행 보고서
+     */
+    public BalanceRebuildResponse start(boolean repair) {
+        if (ledgerRepository.existsByAmountDaysIsNull() && !ledgerAmountMigrationService.migrate()) {
+            throw new BusinessException("Rebuild Failed : 원장 증감량 변환이 끝나지 않았습니다. : "
+                    + ledgerAmountMigrationService.getLastError());
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException("Rebuild Failed : 이미 재계산이 진행 중입니다.");
+        }
+
+        try {
+            IdRange range = userLeavesRepository.findIdRange();
+            boolean empty = range == null || range.getMinId() == null;
+            long minId = empty ? 0 : range.getMinId();
+            long maxId = empty ? -1 : range.getMaxId();
+
+            BalanceRebuildReport report = new BalanceRebuildReport(repair, empty ? 0 : (maxId - minId) / rangeSize + 1, diffLimit);
+            lastReport = report;
+
+            submit(report, minId, maxId);
+
+            return BalanceRebuildResponse.of(report);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 마지막 재계산의 진행 보고서를 조회한다.
+     *
+     * @return 진행 보고서
+     */
+    public BalanceRebuildResponse getReport() {
+        BalanceRebuildReport report = lastReport;
+        if (report == null) {
+            throw new NotFoundException("Not Found BalanceRebuild : 실행된 재계산이 없습니다.");
+        }
+        return BalanceRebuildResponse.of(report);
+    }
+
+    /**
+     * 풀 크기만큼 작업을 넣고, 모든 작업이 끝나면 보고서를 마무리한다.
+     * 작업을 넣다가 실패하면 이미 넣은 작업을 취소하고 예외를 던진다.
+     *
+     * @param report 진행 보고서
+     * @param minId 최소 휴가 계정 ID
+     * @param maxId 최대 휴가 계정 ID
+     */
+    private void submit(BalanceRebuildReport report, long minId, long maxId) {
+        AtomicLong cursor = new AtomicLong(minId);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < balanceRebuildTaskExecutor.getCorePoolSize(); i++) {
+                futures.add(balanceRebuildTaskExecutor.submitCompletable(() -> work(report, cursor, maxId)));
+            }
+        } catch (RuntimeException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw e;
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, e) -> finish(report, e));
+    }
+
+    /**
+     * 공유 커서에서 ID 구간을 하나씩 가져가 처리한다. 실패한 구간은 기록하고 다음 구간을 계속 처리한다.
+     *
+     * @param report 진행 보고서
+     * @param cursor 다음 구간 시작 ID
+     * @param maxId 최대 휴가 계정 ID
+     */
+    private void work(BalanceRebuildReport report, AtomicLong cursor, long maxId) {
+        for (long fromId = cursor.getAndAdd(rangeSize); fromId <= maxId; fromId = cursor.getAndAdd(rangeSize)) {
+            try {
+                chunkProcessor.rebuildRange(fromId, fromId + rangeSize, report);
+            } catch (Exception e) {
+                report.recordFailure(fromId, fromId + rangeSize, e.getMessage());
+                log.warn("Balance rebuild range failed. range=[{}, {}): {}",
+                        fromId, fromId + rangeSize, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 모든 작업이 끝난 뒤 보고서를 마무리하고 다음 실행을 허용한다.
+     *
+     * @param report 진행 보고서
+     * @param error 작업이 예외로 끝났으면 그 예외, 아니면 null
+     */
+    private void finish(BalanceRebuildReport report, Throwable error) {
+        try {
+            if (error == null) {
+                report.complete();
+                log.info("Balance rebuild finished. repair={}, scanned={}, mismatched={}, repaired={}, failedRanges={}",
+                        report.isRepair(), report.getScannedAccounts().get(), report.getMismatchedAccounts().get(),
+                        report.getRepairedAccounts().get(), report.getFailedRanges().get());
+            } else {
+                report.fail(error.getMessage());
+                log.warn("Balance rebuild failed: {}", error.getMessage());
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+}
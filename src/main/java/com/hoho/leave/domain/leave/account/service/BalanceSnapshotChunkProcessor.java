@@ -0,0 +1,40 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeaveSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 휴가 잔여 일수 스냅샷 청크 처리기.
+ * 
+ * 휴가 계정 ID 구간 하나의 기준일 스냅샷을 하나의 트랜잭션에서 생성한다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceSnapshotChunkProcessor {
+
+    private final UserLeaveSnapshotRepository snapshotRepository;
+
+    /**
+     * ID 구간의 기준일 스냅샷을 생성한다.
+     *
+     * @param snapshotDate 기준일
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @param replace true면 기준일과 그 이후 스냅샷을 지우고 기준일 스냅샷을 다시 생성
+     * @return 생성된 스냅샷 수
+     */
+    @Transactional
+    public int snapshotRange(LocalDate snapshotDate, long fromId, long toId, boolean replace) {
+        if (replace) {
+            snapshotRepository.deleteRangeFrom(snapshotDate, fromId, toId);
+        }
+        return snapshotRepository.insertRange(snapshotDate, snapshotDate.plusDays(1).atStartOfDay(),
+                fromId, toId, LocalDateTime.now());
+    }
+}
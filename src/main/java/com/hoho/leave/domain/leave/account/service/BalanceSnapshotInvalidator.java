@@ -0,0 +1,55 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeaveSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 휴가 잔여 일수 스냅샷 무효화기.
+ *
+ * 원장을 기록한 트랜잭션 안에서 호출되어, 원장 적용일 이후(포함)의 스냅샷을 지운다.
+ * 스냅샷이 지워진 기간은 더 이른 스냅샷과 원장으로 계산되므로 조회 결과는 바로 맞아지고,
+ * 빠진 월말 스냅샷은 스냅샷 스케줄러가 오래된 것부터 다시 채운다.
+ *
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceSnapshotInvalidator {
+
+    private final UserLeaveSnapshotRepository snapshotRepository;
+
+    /**
+     * 휴가 계정 목록에 기록된 원장의 적용일 이후 스냅샷을 무효화한다.
+     *
+     * @param userLeavesIds 휴가 계정 ID 목록
+     * @param effectiveAt 원장 적용 일시
+     */
+    public void invalidate(Collection<Long> userLeavesIds, LocalDateTime effectiveAt) {
+        if (userLeavesIds.isEmpty()) return;
+        int deleted = snapshotRepository.deleteFrom(userLeavesIds, effectiveAt.toLocalDate());
+        if (deleted > 0) {
+            log.info("Balance snapshots invalidated. accounts={}, from={}, deleted={}",
+                    userLeavesIds.size(), effectiveAt.toLocalDate(), deleted);
+        }
+    }
+
+    /**
+     * ID 구간에 기록된 원장의 적용일 이후 스냅샷을 무효화한다.
+     *
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @param effectiveAt 원장 적용 일시
+     */
+    public void invalidateRange(long fromId, long toId, LocalDateTime effectiveAt) {
+        int deleted = snapshotRepository.deleteRangeFrom(effectiveAt.toLocalDate(), fromId, toId);
+        if (deleted > 0) {
+            log.info("Balance snapshots invalidated. range=[{}, {}), from={}, deleted={}",
+                    fromId, toId, effectiveAt.toLocalDate(), deleted);
+        }
+    }
+}
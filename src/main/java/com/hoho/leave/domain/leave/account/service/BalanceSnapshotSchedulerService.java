@@ -0,0 +1,47 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * 휴가 잔여 일수 스냅샷 스케줄러 서비스.
+ * 
+ * 매월 전월 말일 기준 잔여 일수 스냅샷을 생성한다.
+ * 소급 원장으로 무효화된 지난 월말 스냅샷도 오래된 것부터 다시 채운다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceSnapshotSchedulerService {
+
+    private final BalanceSnapshotService balanceSnapshotService;
+
+    /** 빠진 스냅샷을 다시 채울 지난 월말 수 */
+    @Value("${leave.snapshot.backfill-months:12}")
+    private int backfillMonths;
+
+    /**
+     * 월말 스냅샷을 생성한다.
+     * 매월 1일 01시(연말 소멸, 휴가 부여 배치 이후)에 전월 말일 기준으로 생성한다.
+     * 각 스냅샷은 직전 스냅샷에서 이어 계산하므로 가장 오래된 월말부터 채운다.
+     * 이미 있는 계정은 건너뛰므로 무효화된 계정만 다시 생성된다.
+     */
+    @Scheduled(cron = "0 00 01 1 * *", zone = "Asia/Seoul")
+    public void BalanceSnapshotSchedule() {
+        LocalDate firstOfMonth = LocalDate.now().withDayOfMonth(1);
+        for (int months = Math.max(backfillMonths, 1); months >= 1; months--) {
+            LocalDate snapshotDate = firstOfMonth.minusMonths(months - 1).minusDays(1);
+            try {
+                balanceSnapshotService.createSnapshots(snapshotDate, false);
+            } catch (Exception e) {
+                log.warn("Balance snapshot failed for {}: {}", snapshotDate, e.getMessage());
+            }
+        }
+    }
+}
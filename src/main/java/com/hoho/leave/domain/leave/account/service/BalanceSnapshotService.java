@@ -0,0 +1,132 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.leave.account.dto.response.BalanceAsOfListResponse;
+import com.hoho.leave.domain.leave.account.dto.response.BalanceAsOfResponse;
+import com.hoho.leave.domain.leave.account.entity.UserLeaveSnapshot;
+import com.hoho.leave.domain.leave.account.entity.UserLeaves;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveSnapshotRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveSnapshotRepository.BalanceAsOfRow;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.IdRange;
+import com.hoho.leave.domain.shared.DayQuantity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 휴가 잔여 일수 스냅샷 서비스.
+ * 
+ * 기준일 스냅샷 생성 배치와, 스냅샷을 이용한 기준일 잔여 일수 조회 기능을 제공한다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceSnapshotService {
+
+    /** 스냅샷이 없을 때 원장 합산 하한 */
+    private static final LocalDateTime LEDGER_START = LocalDate.of(1000, 1, 1).atStartOfDay();
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final UserLeaveLedgerRepository ledgerRepository;
+    private final UserLeaveSnapshotRepository snapshotRepository;
+    private final BalanceSnapshotChunkProcessor chunkProcessor;
+
+    /** 한 트랜잭션에서 처리할 휴가 계정 ID 구간 폭 */
+    @Value("${leave.snapshot.chunk-size:5000}")
+    private int chunkSize;
+
+    /**
+     * 전체 휴가 계정의 기준일 스냅샷을 생성한다.
+     * 
+     * 다시 생성하면 기준일 이후 스냅샷도 모두 직전 값에 기대고 있으므로 함께 지우고,
+     * 기준일 이후의 지난 월말 스냅샷을 순서대로 다시 생성한다.
+     * 
+     *
+     * @param snapshotDate 기준일
+     * @param replace true면 기준일과 그 이후 스냅샷을 다시 생성
+     * @return 생성된 스냅샷 수
+     */
+    public long createSnapshots(LocalDate snapshotDate, boolean replace) {
+        IdRange range = userLeavesRepository.findIdRange();
+        if (range == null || range.getMinId() == null) return 0;
+
+        long created = createSnapshots(range, snapshotDate, replace);
+        if (replace) {
+            LocalDate today = LocalDate.now();
+            for (LocalDate monthEnd = YearMonth.from(snapshotDate).atEndOfMonth(); monthEnd.isBefore(today);
+                 monthEnd = YearMonth.from(monthEnd).plusMonths(1).atEndOfMonth()) {
+                if (monthEnd.isAfter(snapshotDate)) created += createSnapshots(range, monthEnd, false);
+            }
+        }
+        return created;
+    }
+
+    private long createSnapshots(IdRange range, LocalDate snapshotDate, boolean replace) {
+        long created = 0;
+        for (long fromId = range.getMinId(); fromId <= range.getMaxId(); fromId += chunkSize) {
+            created += chunkProcessor.snapshotRange(snapshotDate, fromId, fromId + chunkSize, replace);
+        }
+
+        log.info("Balance snapshots created. snapshotDate={}, replace={}, created={}", snapshotDate, replace, created);
+        return created;
+    }
+
+    /**
+     * 사용자의 기준일 잔여 일수를 조회한다.
+     * 기준일 이전의 가장 가까운 스냅샷에 그 다음 날부터 기준일까지의 원장만 더한다.
+     *
+     * @param userId 사용자 ID
+     * @param asOf 기준일
+     * @return 기준일 잔여 일수 응답
+     */
+    @Transactional(readOnly = true)
+    public BalanceAsOfResponse getBalanceAsOf(Long userId, LocalDate asOf) {
+        UserLeaves userLeaves = userLeavesRepository.findByUserId(userId)
+                .orElseThrow(() -> new NotFoundException("Not Found UserLeaves : " + userId));
+
+        Optional<UserLeaveSnapshot> snapshot = snapshotRepository
+                .findFirstByUserLeavesIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(userLeaves.getId(), asOf);
+        DayQuantity base = snapshot.map(UserLeaveSnapshot::getBalanceDays).orElse(DayQuantity.ZERO);
+        LocalDateTime from = snapshot.map(s -> s.getSnapshotDate().plusDays(1).atStartOfDay()).orElse(LEDGER_START);
+
+        DayQuantity tail = DayQuantity.of(
+                ledgerRepository.sumAmountDays(userLeaves.getId(), from, asOf.plusDays(1).atStartOfDay()));
+
+        return BalanceAsOfResponse.of(userLeaves.getId(), userId, asOf,
+                snapshot.map(UserLeaveSnapshot::getSnapshotDate).orElse(null), base.plus(tail).toBigDecimal());
+    }
+
+    /**
+     * 전체 휴가 계정의 기준일 잔여 일수를 휴가 계정 ID 순으로 한 페이지 조회한다.
+     *
+     * @param asOf 기준일
+     * @param afterId 직전 페이지의 마지막 휴가 계정 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 기준일 잔여 일수 목록 응답
+     */
+    @Transactional(readOnly = true)
+    public BalanceAsOfListResponse getBalancesAsOf(LocalDate asOf, Long afterId, Integer size) {
+        List<BalanceAsOfRow> rows = snapshotRepository.findBalancesAsOf(asOf, asOf.plusDays(1).atStartOfDay(),
+                afterId == null ? 0L : afterId, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<BalanceAsOfResponse> items = rows.stream()
+                .limit(size)
+                .map(row -> BalanceAsOfResponse.of(row.getUserLeavesId(), row.getUserId(), asOf,
+                        row.getSnapshotDate(), row.getBalanceDays()))
+                .toList();
+
+        return BalanceAsOfListResponse.of(asOf, items, hasNext);
+    }
+}
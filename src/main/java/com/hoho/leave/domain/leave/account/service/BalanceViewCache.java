@@ -0,0 +1,243 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeavesChangeRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesChangeRepository.ChangeRow;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.service.support.BalanceChangedEvent;
+import com.hoho.leave.domain.leave.account.service.support.BalanceView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 휴가 잔여 일수 캐시.
+ * 
+ * 사용자 ID별 잔여 일수 조회 정보를 크기 제한과 만료 시간이 있는 LRU로 보관한다. (read-through)
+ * 이 노드에서 잔여 일수가 바뀌면 커밋 직후 캐시에 있는 계정만 다시 읽어 덮어쓰고(write-through),
+ * 다른 노드의 변경은 변경 기록 테이블을 ID 순으로 주기적으로 읽어 무효화한다.
+ * ID는 커밋 순서가 아니라 INSERT 순서로 정해지므로, 건너뛴 ID는 트랜잭션이 끝날 만큼의 시간 동안 다시 확인한다.
+ * 그래도 놓친 변경은 항목 만료 시간이 지나면 다시 읽혀 바로잡힌다.
+ * 모든 쓰기는 잔여 일수 버전을 비교해 더 오래된 값이 최신 값을 덮어쓰지 못하게 한다.
+ * 
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceViewCache {
+
+    /** 변경 기록 보관 기간 */
+    private static final Duration CHANGE_RETENTION = Duration.ofHours(1);
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final UserLeavesChangeRepository changeRepository;
+
+    /** 최대 보관 항목 수 */
+    @Value("${leave.balance-cache.max-size:10000}")
+    private int maxSize;
+
+    /** 항목 만료 시간(초). 폴링으로 놓친 변경이 남아 있을 수 있는 최대 시간이다. */
+    @Value("${leave.balance-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    /** 한 번의 폴링에서 읽을 최대 변경 수 (남은 변경은 다음 폴링에서 읽는다) */
+    @Value("${leave.balance-cache.poll-size:5000}")
+    private int pollSize;
+
+    /** 건너뛴 변경 기록 ID를 다시 확인하는 시간(초). 가장 긴 트랜잭션 시간보다 길게 잡는다. */
+    @Value("${leave.balance-cache.gap-timeout-seconds:120}")
+    private long gapTimeoutSeconds;
+
+    /** 다시 확인할 건너뛴 ID의 최대 수 (넘으면 캐시 전체를 비운다) */
+    @Value("${leave.balance-cache.max-gaps:1000}")
+    private int maxGaps;
+
+    /** 사용자 ID별 조회 정보 (접근 순서, lock 으로 보호) */
+    private final LinkedHashMap<Long, Entry> views = new LinkedHashMap<>(256, 0.75f, true);
+    /** 휴가 계정 ID → 사용자 ID (views 와 함께 갱신) */
+    private final Map<Long, Long> userIdByLeavesId = new HashMap<>();
+    private final Object lock = new Object();
+
+    /** 잔여 일수 변경을 반영할 때마다 증가. 조회 도중 변경이 있었으면 읽은 값을 캐시에 넣지 않는다. */
+    private final AtomicLong changeSeq = new AtomicLong();
+
+    /** 마지막으로 읽은 변경 기록 ID (폴링 스레드에서만 사용) */
+    private long lastChangeId = -1;
+    /** 아직 보이지 않는 건너뛴 변경 기록 ID → 처음 건너뛴 시각(ms) (폴링 스레드에서만 사용) */
+    private final Map<Long, Long> gaps = new HashMap<>();
+
+    /**
+     * 사용자의 잔여 일수 조회 정보를 조회한다. 캐시에 없으면 DB에서 읽어 채운다.
+     *
+     * @param userId 사용자 ID
+     * @return 잔여 일수 조회 정보
+     */
+    public Optional<BalanceView> get(Long userId) {
+        synchronized (lock) {
+            Entry cached = views.get(userId);
+            if (cached != null && !cached.isExpired()) return Optional.of(cached.view);
+        }
+
+        long seq = changeSeq.get();
+        Optional<BalanceView> loaded = userLeavesRepository.findBalanceViewByUserId(userId).map(BalanceView::of);
+        if (loaded.isPresent() && changeSeq.get() == seq) {
+            putIfNotOlder(loaded.get());
+        }
+        return loaded;
+    }
+
+    /**
+     * 잔여 일수 변경이 커밋되면 캐시에 있는 해당 계정을 다시 읽어 덮어쓴다.
+     *
+     * @param event 잔여 일수 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        changeSeq.incrementAndGet();
+
+        List<Long> cachedIds;
+        synchronized (lock) {
+            cachedIds = event.isRange()
+                    ? userIdByLeavesId.keySet().stream()
+                        .filter(id -> id >= event.getFromId() && id < event.getToId()).toList()
+                    : event.getUserLeavesIds().stream().filter(userIdByLeavesId::containsKey).toList();
+        }
+        if (cachedIds.isEmpty()) return;
+
+        try {
+            userLeavesRepository.findBalanceViews(cachedIds).forEach(row -> putIfNotOlder(BalanceView.of(row)));
+        } catch (Exception e) {
+            log.warn("Balance cache refresh failed. evicting {} entries: {}", cachedIds.size(), e.getMessage());
+            synchronized (lock) {
+                cachedIds.forEach(this::evictByLeavesId);
+            }
+        }
+    }
+
+    /**
+     * 다른 노드가 남긴 변경 기록을 읽어, 캐시에 있는 값보다 새 버전이 있으면 무효화한다.
+     * 이 노드가 남긴 기록은 이미 같은 버전으로 덮어썼으므로 그대로 둔다.
+     * 마지막으로 읽은 ID 이후의 기록과 아직 보이지 않던 건너뛴 ID의 기록을 함께 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${leave.balance-cache.poll-millis:1000}")
+    public void pollChanges() {
+        long now = System.currentTimeMillis();
+        List<ChangeRow> changes;
+        try {
+            if (lastChangeId < 0) {
+                lastChangeId = changeRepository.findMaxId();
+                return;
+            }
+            long gapCutoff = now - Duration.ofSeconds(gapTimeoutSeconds).toMillis();
+            gaps.values().removeIf(noticedAt -> noticedAt < gapCutoff);
+
+            changes = new ArrayList<>(changeRepository.findChangesAfter(lastChangeId, pollSize));
+            if (!gaps.isEmpty()) changes.addAll(changeRepository.findChangesByIds(List.copyOf(gaps.keySet())));
+        } catch (Exception e) {
+            log.warn("Balance change poll failed: {}", e.getMessage());
+            return;
+        }
+        if (changes.isEmpty()) return;
+        changeSeq.incrementAndGet();
+
+        boolean overflow = false;
+        for (ChangeRow change : changes) {
+            long id = change.getId();
+            if (gaps.remove(id) != null || id <= lastChangeId) continue;
+            for (long skipped = lastChangeId + 1; skipped < id && !overflow; skipped++) {
+                gaps.put(skipped, now);
+                overflow = gaps.size() > maxGaps;
+            }
+            lastChangeId = id;
+        }
+
+        synchronized (lock) {
+            if (overflow) {
+                gaps.clear();
+                views.clear();
+                userIdByLeavesId.clear();
+                log.info("Balance cache cleared. skipped change ids exceeded {}", maxGaps);
+                return;
+            }
+            for (ChangeRow change : changes) {
+                Entry cached = views.get(change.getUserId());
+                if (cached != null && cached.view.getBalanceVersion() < change.getBalanceVersion()) {
+                    evictByLeavesId(cached.view.getUserLeavesId());
+                }
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 변경 기록을 정리한다.
+     */
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul")
+    public void purgeChanges() {
+        try {
+            changeRepository.deleteOlderThan(LocalDateTime.now().minus(CHANGE_RETENTION));
+        } catch (Exception e) {
+            log.warn("Balance change purge failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시의 값보다 오래되지 않은 경우에만 넣는다. 크기 제한을 넘으면 가장 오래 쓰지 않은 항목을 내보낸다.
+     *
+     * @param view 잔여 일수 조회 정보
+     */
+    private void putIfNotOlder(BalanceView view) {
+        synchronized (lock) {
+            Entry cached = views.get(view.getUserId());
+            if (cached != null && !cached.isExpired() && !view.isNotOlderThan(cached.view)) return;
+
+            long expiresAt = System.nanoTime() + Duration.ofSeconds(ttlSeconds).toNanos();
+            views.put(view.getUserId(), new Entry(view, expiresAt));
+            userIdByLeavesId.put(view.getUserLeavesId(), view.getUserId());
+
+            if (views.size() > maxSize) {
+                Long eldest = views.keySet().iterator().next();
+                userIdByLeavesId.remove(views.remove(eldest).view.getUserLeavesId());
+            }
+        }
+    }
+
+    /**
+     * 휴가 계정 ID로 항목을 내보낸다. lock 을 잡은 상태에서 호출한다.
+     *
+     * @param userLeavesId 휴가 계정 ID
+     */
+    private void evictByLeavesId(Long userLeavesId) {
+        Long userId = userIdByLeavesId.remove(userLeavesId);
+        if (userId != null) views.remove(userId);
+    }
+
+    /**
+     * 잔여 일수 조회 정보와 만료 시각(System.nanoTime 기준).
+     */
+    private static final class Entry {
+        final BalanceView view;
+        final long expiresAt;
+
+        Entry(BalanceView view, long expiresAt) {
+            this.view = view;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
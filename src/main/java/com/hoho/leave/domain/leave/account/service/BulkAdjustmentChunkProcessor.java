@@ -0,0 +1,75 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.common.aop.RetryOnConflict;
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import com.hoho.leave.domain.leave.account.entity.UserLeaveLedger;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.shared.DayQuantity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 휴가 일괄 조정 청크 처리기.
+ * 
+ * 휴가 계정 ID 청크 하나의 잔여 일수 증감과 원장 기록을 하나의 트랜잭션에서 집합 단위로 처리한다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkAdjustmentChunkProcessor {
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final UserLeaveLedgerRepository ledgerRepository;
+    private final BalanceChangeRecorder balanceChangeRecorder;
+    private final BalanceSnapshotInvalidator balanceSnapshotInvalidator;
+
+    /**
+     * 청크의 잔여 일수를 증감하고 같은 증감량의 원장을 한 번에 기록한다.
+     * 차감이면 잔여 일수가 부족한 계정은 건너뛴다.
+     * 선별과 갱신 사이에 잔여 일수가 바뀌면 청크를 롤백하고 다시 선별한다.
+     *
+     * @param userLeavesIds 휴가 계정 ID 청크
+     * @param amountDays 증감량
+     * @param reasonCode 사유 코드
+     * @param note 비고
+     * @return 잔여 일수 부족으로 건너뛴 휴가 계정 ID 목록
+     */
+    @RetryOnConflict(operation = "leave-adjustment.bulk")
+    @Transactional
+    public List<Long> adjustChunk(List<Long> userLeavesIds, DayQuantity amountDays, ReasonCode reasonCode, String note) {
+        List<Long> skipped = amountDays.isNegative()
+                ? userLeavesRepository.findIdsWithBalanceBelow(userLeavesIds, amountDays.negate())
+                : List.of();
+
+        List<Long> targets = userLeavesIds;
+        if (!skipped.isEmpty()) {
+            Set<Long> skippedSet = new HashSet<>(skipped);
+            targets = userLeavesIds.stream().filter(id -> !skippedSet.contains(id)).toList();
+        }
+
+        if (!targets.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+
+            int updated = userLeavesRepository.adjustBalances(targets, amountDays.toBigDecimal(), now);
+            if (updated != targets.size()) {
+                throw new ConcurrencyFailureException("Balance changed during bulk adjustment. expected="
+                        + targets.size() + ", updated=" + updated);
+            }
+
+            ledgerRepository.insertAll(targets, now, amountDays.toBigDecimal(), UserLeaveLedger.formatAmount(amountDays),
+                    reasonCode.name(), note, now);
+            balanceChangeRecorder.recordChanged(targets, now);
+            balanceSnapshotInvalidator.invalidate(targets, now);
+        }
+
+        return skipped;
+    }
+}
@@ -0,0 +1,194 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.common.exception.BusinessException;
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.audit.entity.Action;
+import com.hoho.leave.domain.audit.service.AuditLogService;
+import com.hoho.leave.domain.audit.service.AuditObjectType;
+import com.hoho.leave.domain.leave.account.dto.request.BulkAdjustmentRequest;
+import com.hoho.leave.domain.leave.account.dto.response.BulkAdjustmentResponse;
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.service.support.BulkAdjustmentReport;
+import com.hoho.leave.domain.shared.DayQuantity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 휴가 일괄 조정 서비스.
+ * 
+ * 관리자가 지정한 대상(사용자 목록, 팀 하위 조직, 직급)의 잔여 일수를 집합 단위로 증감한다.
+ * 대상 선정은 요청 시 한 번의 쿼리로 끝내고, 조정은 일괄 조정 스레드 풀(bulkAdjustmentTaskExecutor)에서 청크 단위 트랜잭션으로 진행한다.
+ * 감사 로그는 대상별이 아니라 작업 단위로 한 건만 남긴다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkAdjustmentService {
+
+    /** 일괄 조정에 허용되는 사유 코드 */
+    private static final Set<ReasonCode> ALLOWED_REASONS = Set.of(ReasonCode.ADJUST_ADMIN, ReasonCode.GRANT_BONUS);
+    /** 조회용으로 보관할 최근 작업 수 */
+    private static final int RECENT_JOBS = 20;
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final BulkAdjustmentChunkProcessor chunkProcessor;
+    private final AuditLogService auditLogService;
+    private final ThreadPoolTaskExecutor bulkAdjustmentTaskExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<String, BulkAdjustmentReport> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, BulkAdjustmentReport> eldest) {
+                    return size() > RECENT_JOBS;
+                }
+            });
+
+    /** 한 트랜잭션에서 처리할 휴가 계정 수 */
+    @Value("${leave.bulk-adjustment.chunk-size:1000}")
+    private int chunkSize;
+
+    /** 보고서에 보관할 최대 건너뛴 계정 수 */
+    @Value("${leave.bulk-adjustment.skipped-limit:1000}")
+    private int skippedLimit;
+
+    /**
+     * 일괄 조정을 백그라운드로 시작한다.
+     *
+     * @param request 일괄 조정 요청
+     * @return 시작 시점의 진행 보고서
+     */
+    public BulkAdjustmentResponse start(BulkAdjustmentRequest request) {
+        validate(request);
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException("Bulk Adjustment Failed : 이미 일괄 조정이 진행 중입니다.");
+        }
+
+        try {
+            List<Long> targetIds = findTargetIds(request);
+
+            BulkAdjustmentReport report = new BulkAdjustmentReport(UUID.randomUUID().toString(),
+                    request.getAmountDays(), targetIds.size(), skippedLimit);
+            bulkAdjustmentTaskExecutor.execute(() -> run(report, targetIds, request));
+            jobs.put(report.getJobId(), report);
+
+            return BulkAdjustmentResponse.of(report);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 일괄 조정 작업의 진행 보고서를 조회한다.
+     *
+     * @param jobId 작업 ID
+     * @return 진행 보고서
+     */
+    public BulkAdjustmentResponse getReport(String jobId) {
+        BulkAdjustmentReport report = jobs.get(jobId);
+        if (report == null) {
+            throw new NotFoundException("Not Found BulkAdjustment : " + jobId);
+        }
+        return BulkAdjustmentResponse.of(report);
+    }
+
+    /**
+     * 대상 계정을 청크 단위로 조정하고, 끝나면 작업 단위 감사 로그를 남긴다.
+     * 실패하면 이미 커밋된 청크는 그대로 두고 보고서에 진행 위치를 남긴다.
+     *
+     * @param report 진행 보고서
+     * @param targetIds 대상 휴가 계정 ID 목록
+     * @param request 일괄 조정 요청
+     */
+    void run(BulkAdjustmentReport report, List<Long> targetIds, BulkAdjustmentRequest request) {
+        try {
+            DayQuantity amount = DayQuantity.of(request.getAmountDays());
+            for (int from = 0; from < targetIds.size(); from += chunkSize) {
+                List<Long> chunk = targetIds.subList(from, Math.min(from + chunkSize, targetIds.size()));
+                List<Long> skipped = chunkProcessor.adjustChunk(chunk, amount,
+                        request.getReasonCode(), request.getNote());
+                report.record(chunk.size(), chunk.size() - skipped.size(), skipped);
+            }
+            report.complete();
+            log.info("Bulk adjustment finished. jobId={}, total={}, adjusted={}, skipped={}", report.getJobId(),
+                    report.getTotalAccounts(), report.getAdjustedAccounts().get(), report.getSkippedAccounts().get());
+        } catch (Exception e) {
+            report.fail(e.getMessage());
+            log.warn("Bulk adjustment failed. jobId={}, processed={}: {}", report.getJobId(),
+                    report.getProcessedAccounts().get(), e.getMessage());
+        } finally {
+            running.set(false);
+            createAuditLog(report, request);
+        }
+    }
+
+    /**
+     * 요청 조건을 검증한다.
+     *
+     * @param request 일괄 조정 요청
+     */
+    private void validate(BulkAdjustmentRequest request) {
+        boolean byUsers = request.getUserIds() != null && !request.getUserIds().isEmpty();
+        boolean byOrg = request.getTeamId() != null || request.getGradeId() != null;
+
+        if (byUsers == byOrg) {
+            throw new BusinessException("Bulk Adjustment Failed : 사용자 목록 또는 팀/직급 중 하나로 대상을 지정해야 합니다.");
+        }
+        if (request.getAmountDays().signum() == 0) {
+            throw new BusinessException("Bulk Adjustment Failed : 증감량은 0일 수 없습니다.");
+        }
+        if (!ALLOWED_REASONS.contains(request.getReasonCode())) {
+            throw new BusinessException("Bulk Adjustment Failed : 허용되지 않는 사유 코드입니다. " + request.getReasonCode());
+        }
+    }
+
+    /**
+     * 조정 대상 휴가 계정 ID를 조회한다.
+     *
+     * @param request 일괄 조정 요청
+     * @return 대상 휴가 계정 ID 목록 (오름차순)
+     */
+    private List<Long> findTargetIds(BulkAdjustmentRequest request) {
+        if (request.getUserIds() != null && !request.getUserIds().isEmpty()) {
+            return userLeavesRepository.findIdsByUserIds(request.getUserIds());
+        }
+        return userLeavesRepository.findAdjustmentTargetIds(request.getTeamId(), request.getGradeId());
+    }
+
+    /**
+     * 작업 단위 감사 로그를 남긴다.
+     *
+     * @param report 진행 보고서
+     * @param request 일괄 조정 요청
+     */
+    private void createAuditLog(BulkAdjustmentReport report, BulkAdjustmentRequest request) {
+        try {
+            auditLogService.createLog(
+                    Action.LEAVE_ADJUSTMENT_POSTED,
+                    request.getActorId(),
+                    AuditObjectType.USER_LEAVES,
+                    null,
+                    "관리자 일괄 조정(" + report.getJobId() + ") " + request.getReasonCode() + " "
+                            + report.getAmountDays().toPlainString() + "일 : 대상 " + report.getTotalAccounts()
+                            + "명, 적용 " + report.getAdjustedAccounts().get()
+                            + "명, 잔여 부족 " + report.getSkippedAccounts().get() + "명, 상태 " + report.getStatus()
+            );
+        } catch (Exception e) {
+            log.warn("Bulk adjustment audit log failed. jobId={}: {}", report.getJobId(), e.getMessage());
+        }
+    }
+}
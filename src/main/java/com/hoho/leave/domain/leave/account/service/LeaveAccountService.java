@@ -7,10 +7,11 @@ import com.hoho.leave.domain.leave.account.entity.UserLeaves;
 import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
 import com.hoho.leave.domain.leave.account.service.support.AccrualPolicyEngine;
 import com.hoho.leave.domain.leave.account.service.support.AccrualSchedule;
+import com.hoho.leave.domain.leave.account.service.support.BalanceView;
+import com.hoho.leave.domain.shared.DayQuantity;
 import com.hoho.leave.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 
@@ -26,6 +27,7 @@ public class LeaveAccountService {
 
     private final UserLeavesRepository userLeavesRepository;
     private final AccrualPolicyEngine engine;
+    private final BalanceViewCache balanceViewCache;
 
     /**
      * 사용자의 첫 휴가 계정을 생성한다.
@@ -37,20 +39,21 @@ public class LeaveAccountService {
     public UserLeaves firstCreateUserLeaves(User user, BigDecimal balanceDays) {
         checkDuplicateUserLeaves(user);
         AccrualSchedule accrualSchedule = engine.getAccountEvent(user);
-        UserLeaves userLeaves = UserLeaves.create(user, accrualSchedule, balanceDays);
+        UserLeaves userLeaves = UserLeaves.create(user, accrualSchedule, DayQuantity.of(balanceDays));
         return userLeavesRepository.save(userLeaves);
     }
 
     /**
      * 사용자의 휴가 정보를 조회한다.
+     * 잔여 일수 캐시를 거쳐 조회한다.
      *
      * @param userId 사용자 ID
      * @return 사용자 휴가 정보 응답
      */
-    @Transactional(readOnly = true)
     public UserLeavesDetailResponse getUserLeaves(Long userId) {
-        UserLeaves userLeaves = getUserLeavesByUserId(userId);
-        return UserLeavesDetailResponse.of(userLeaves);
+        BalanceView view = balanceViewCache.get(userId)
+                .orElseThrow(() -> new NotFoundException("UserLeaves not found for userId: " + userId));
+        return UserLeavesDetailResponse.of(view);
     }
 
     /**
@@ -0,0 +1,52 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 연말 휴가 소멸 청크 처리기.
+ * 
+ * 휴가 계정 ID 구간 하나의 소멸 원장 기록과 잔여 일수 차감을 하나의 트랜잭션에서 처리한다.
+ * 엔티티를 읽지 않고 INSERT ... SELECT와 UPDATE ... JOIN 두 문장으로만 처리한다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaveExpiryChunkProcessor {
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final UserLeaveLedgerRepository ledgerRepository;
+    private final BalanceChangeRecorder balanceChangeRecorder;
+    private final BalanceSnapshotInvalidator balanceSnapshotInvalidator;
+
+    /**
+     * ID 구간의 연말 소멸을 처리한다.
+     *
+     * @param year 소멸 연도
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @return 소멸 처리된 계정 수
+     */
+    @Transactional
+    public int expireRange(int year, long fromId, long toId) {
+        LocalDateTime yearEnd = LocalDate.of(year + 1, 1, 1).atStartOfDay();
+        LocalDateTime now = LocalDateTime.now();
+
+        int recorded = ledgerRepository.insertExpiries(year, fromId, toId, yearEnd, year + "년 미사용 휴가 소멸", now);
+        int expired = userLeavesRepository.expireBalances(year, fromId, toId, now);
+        if (recorded != expired) {
+            throw new ConcurrencyFailureException("Leave expiry mismatch. year=" + year + ", range=[" + fromId + ", " + toId
+                    + "), recorded=" + recorded + ", expired=" + expired);
+        }
+        balanceChangeRecorder.recordExpired(year, fromId, toId, now);
+        if (recorded > 0) balanceSnapshotInvalidator.invalidateRange(fromId, toId, yearEnd);
+        return expired;
+    }
+}
@@ -0,0 +1,37 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * 연말 휴가 소멸 스케줄러 서비스.
+ * 
+ * 새해 첫 주 동안 매일 직전 연도의 미사용 휴가를 소멸시킨다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaveExpirySchedulerService {
+
+    private final LeaveExpiryService leaveExpiryService;
+
+    /**
+     * 연말 휴가 소멸을 실행한다.
+     * 1월 1일~7일 00시 10분(휴가 부여 배치 이전)에 실행하며,
+     * 이미 처리된 계정은 건너뛰므로 첫 실행이 중단되어도 이후 실행에서 이어서 처리된다.
+     */
+    @Scheduled(cron = "0 10 00 1-7 1 *", zone = "Asia/Seoul")
+    public void LeaveExpirySchedule() {
+        int year = LocalDate.now().getYear() - 1;
+        try {
+            leaveExpiryService.expire(year);
+        } catch (Exception e) {
+            log.warn("Leave expiry failed for {}: {}", year, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.IdRange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 연말 휴가 소멸 서비스.
+ * 
+ * 휴가 계정 ID 범위를 고정 폭 구간으로 나눠 구간마다 소멸을 처리한다.
+ * 구간 처리는 연도별로 멱등하므로 중단되면 같은 연도로 다시 실행하면 된다.
+ * 한 구간이 실패해도 기록만 하고 나머지 구간은 계속 처리한다. (실패한 구간은 다음 실행에서 다시 처리된다)
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaveExpiryService {
+
+    private final UserLeavesRepository userLeavesRepository;
+    private final LeaveExpiryChunkProcessor chunkProcessor;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /** 한 트랜잭션에서 처리할 휴가 계정 ID 구간 폭 */
+    @Value("${leave.expiry.chunk-size:5000}")
+    private int chunkSize;
+
+    /**
+     * 연도의 미사용 휴가를 소멸시킨다.
+     * 이미 실행 중이면 건너뛴다.
+     *
+     * @param year 소멸 연도
+     * @return 소멸 처리된 계정 수
+     */
+    public long expire(int year) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Leave expiry already running. year={}", year);
+            return 0;
+        }
+
+        try {
+            IdRange range = userLeavesRepository.findIdRange();
+            if (range == null || range.getMinId() == null) return 0;
+
+            long started = System.currentTimeMillis();
+            long expired = 0;
+            int failedChunks = 0;
+            for (long fromId = range.getMinId(); fromId <= range.getMaxId(); fromId += chunkSize) {
+                long toId = fromId + chunkSize;
+                try {
+                    expired += chunkProcessor.expireRange(year, fromId, toId);
+                } catch (Exception e) {
+                    failedChunks++;
+                    log.warn("Leave expiry chunk failed. year={}, range=[{}, {}): {}", year, fromId, toId, e.getMessage());
+                }
+            }
+
+            log.info("Leave expiry finished. year={}, expired={}, failedChunks={}, elapsedMs={}",
+                    year, expired, failedChunks, System.currentTimeMillis() - started);
+            return expired;
+        } finally {
+            running.set(false);
+        }
+    }
+}
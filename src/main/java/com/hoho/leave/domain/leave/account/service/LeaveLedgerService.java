@@ -1,10 +1,15 @@
 package com.hoho.leave.domain.leave.account.service;
 
+import com.hoho.leave.common.exception.NotFoundException;
 import com.hoho.leave.domain.leave.account.dto.response.LeaveLedgerDetailResponse;
+import com.hoho.leave.domain.leave.account.dto.response.LeaveLedgerHistoryItemResponse;
+import com.hoho.leave.domain.leave.account.dto.response.LeaveLedgerHistoryResponse;
 import com.hoho.leave.domain.leave.account.dto.response.LeaveLedgerListResponse;
 import com.hoho.leave.domain.leave.account.service.support.LedgerRecord;
 import com.hoho.leave.domain.leave.account.entity.UserLeaveLedger;
 import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository.LedgerHistoryRow;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -13,6 +18,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -26,14 +32,19 @@ import java.util.List;
 public class LeaveLedgerService {
 
     private final UserLeaveLedgerRepository ledgerRepository;
+    private final UserLeavesRepository userLeavesRepository;
+    private final BalanceSnapshotInvalidator balanceSnapshotInvalidator;
 
     /**
      * 사용자 휴가 원장을 생성한다.
+     * 적용 일시가 기존 스냅샷 기준일 이전(포함)이면 그 이후 스냅샷을 무효화한다.
      *
      * @param ledgerRecord 원장 레코드
      */
+    @Transactional
     public void createUserLeaveLedger(LedgerRecord ledgerRecord) {
         ledgerRepository.save(UserLeaveLedger.create(ledgerRecord));
+        balanceSnapshotInvalidator.invalidate(List.of(ledgerRecord.getUserLeaves().getId()), ledgerRecord.getEffectiveAt());
     }
 
     /**
@@ -52,6 +63,38 @@ public class LeaveLedgerService {
         return LeaveLedgerListResponse.of(pageList, list);
     }
 
+    /**
+     * 사용자의 휴가 원장 이력을 최신순 키셋 페이징으로 조회한다.
+     * 
+     * 커서가 없으면 첫 페이지를, 있으면 커서 이전 페이지를 조회한다.
+     * 
+     *
+     * @param userId 사용자 ID
+     * @param cursorEffectiveAt 직전 페이지 마지막 건의 적용 일시
+     * @param cursorId 직전 페이지 마지막 건의 원장 ID
+     * @param size 페이지 크기
+     * @return 휴가 원장 이력 응답
+     */
+    @Transactional(readOnly = true)
+    public LeaveLedgerHistoryResponse getLedgerHistory(Long userId, LocalDateTime cursorEffectiveAt, Long cursorId, Integer size) {
+        Long userLeavesId = userLeavesRepository.findIdByUserId(userId)
+                .orElseThrow(() -> new NotFoundException("Not Found UserLeaves : " + userId));
+
+        List<LedgerHistoryRow> rows = (cursorEffectiveAt == null || cursorId == null)
+                ? ledgerRepository.findHistoryFirstPage(userLeavesId, size + 1)
+                : ledgerRepository.findHistoryBefore(userLeavesId, cursorEffectiveAt, cursorId, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<LedgerHistoryRow> page = hasNext ? rows.subList(0, size) : rows;
+
+        List<LeaveLedgerHistoryItemResponse> list = page.stream().map(LeaveLedgerHistoryItemResponse::of).toList();
+        LedgerHistoryRow last = page.isEmpty() ? null : page.getLast();
+
+        return LeaveLedgerHistoryResponse.of(userId, list, hasNext,
+                last == null ? null : last.getEffectiveAt(),
+                last == null ? null : last.getId());
+    }
+
     /**
      * 페이지 정보를 생성한다.
      *
@@ -0,0 +1,95 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.IdRange;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 휴가 원장 증감량 변환 서비스.
+ *
+ * 문자열로만 저장되어 있던 기존 원장 증감량(예: +15)을 숫자 증감량 컬럼으로 옮긴다.
+ * 기동 시 미변환 원장이 있을 때만 ID 구간 단위로 실행되며, 변환이 끝나면 아무 일도 하지 않는다.
+ * 실패한 구간은 건너뛰고 나머지 구간을 계속 변환하며, 실패 사유는 보관하고 메트릭(leave.ledger.amount-migration.failed)으로 알린다.
+ * 변환이 끝나지 않았으면 잔여 일수 재계산을 시작할 때 다시 시도한다.
+ *
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerAmountMigrationService {
+
+    /** 한 번에 변환할 원장 ID 구간 폭 */
+    private static final int RANGE_SIZE = 10_000;
+
+    private final UserLeaveLedgerRepository ledgerRepository;
+    private final MeterRegistry meterRegistry;
+
+    /** 마지막 변환 실패 사유 (성공했으면 null) */
+    private volatile String lastError;
+
+    /**
+     * 변환 실패 메트릭을 등록한다.
+     */
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("leave.ledger.amount-migration.failed", this, s -> s.lastError == null ? 0 : 1)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 미변환 원장의 숫자 증감량을 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateAmounts() {
+        migrate();
+    }
+
+    /**
+     * 미변환 원장의 숫자 증감량을 채운다.
+     * 구간 하나가 실패해도 나머지 구간을 계속 변환한다.
+     *
+     * @return 모든 원장이 변환되었으면 true
+     */
+    public synchronized boolean migrate() {
+        IdRange range = ledgerRepository.findUnmigratedIdRange();
+        if (range == null || range.getMinId() == null) {
+            lastError = null;
+            return true;
+        }
+
+        long migrated = 0;
+        String error = null;
+        for (long fromId = range.getMinId(); fromId <= range.getMaxId(); fromId += RANGE_SIZE) {
+            try {
+                migrated += ledgerRepository.backfillAmountDays(fromId, fromId + RANGE_SIZE);
+            } catch (Exception e) {
+                error = "range=[" + fromId + ", " + (fromId + RANGE_SIZE) + "): " + e.getMessage();
+                log.warn("Ledger amount migration failed. {}", error);
+            }
+        }
+
+        lastError = error;
+        if (error == null) {
+            log.info("Ledger amount migration finished. migrated={}", migrated);
+        } else {
+            log.warn("Ledger amount migration incomplete. migrated={}, lastError={}", migrated, error);
+        }
+        return error == null;
+    }
+
+    /**
+     * 마지막 변환 실패 사유를 반환한다.
+     *
+     * @return 실패 사유 (성공했거나 실행 전이면 null)
+     */
+    public String getLastError() {
+        return lastError;
+    }
+}
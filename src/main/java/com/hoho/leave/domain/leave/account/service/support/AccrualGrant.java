@@ -0,0 +1,27 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import com.hoho.leave.domain.leave.account.entity.LeaveStage;
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import com.hoho.leave.domain.shared.DayQuantity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 휴가 부여 내역 DTO.
+ * 
+ * 한 번의 부여일에 지급할 일수와 사유, 부여 후의 휴가 단계와 다음 부여일을 담는다.
+ * 
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccrualGrant {
+    LocalDate accrualDate;
+    DayQuantity amount;
+    ReasonCode reasonCode;
+    LeaveStage leaveStage;
+    LocalDate nextAccrualAt;
+}
@@ -1,6 +1,8 @@
 package com.hoho.leave.domain.leave.account.service.support;
 
 import com.hoho.leave.domain.leave.account.entity.LeaveStage;
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import com.hoho.leave.domain.shared.DayQuantity;
 import com.hoho.leave.domain.user.entity.User;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +16,14 @@ import java.time.LocalDate;
  */
 @Service
 public class AccrualPolicyEngine {
+
+    /** 월차 1회 부여 일수 */
+    private static final DayQuantity MONTHLY_DAYS = DayQuantity.ONE_DAY;
+    /** 1년 근속 시 연차 부여 일수 */
+    private static final int ANNUAL_BASE_DAYS = 15;
+    /** 연차 부여 일수 상한 */
+    private static final int ANNUAL_MAX_DAYS = 25;
+
     /**
      * 사용자의 휴가 부여 스케줄을 계산한다.
      *
@@ -35,6 +45,45 @@ public class AccrualPolicyEngine {
         return new AccrualSchedule(leaveStage, nextAccrualAt);
     }
 
+    /**
+     * 부여일에 지급할 휴가와 그 다음 부여 스케줄을 계산한다.
+     * 
+     * 월차 단계에서 입사 1주년이 된 부여일은 첫 연차 부여로 전환된다.
+     * 다음 부여일은 오늘이 아닌 이번 부여일을 기준으로 계산하므로
+     * 밀린 부여일을 순서대로 따라잡을 수 있다.
+     * 
+     *
+     * @param hireDate 입사일
+     * @param stage 현재 휴가 단계
+     * @param accrualDate 이번 부여일
+     * @return 부여 내역과 다음 스케줄
+     */
+    public AccrualGrant nextGrant(LocalDate hireDate, LeaveStage stage, LocalDate accrualDate) {
+        boolean annual = stage == LeaveStage.ANNUAL || !accrualDate.isBefore(hireDate.plusYears(1));
+        if (!annual) {
+            return new AccrualGrant(accrualDate, MONTHLY_DAYS, ReasonCode.GRANT_MONTHLY,
+                    LeaveStage.MONTHLY, nextMonthlyAccrual(hireDate, accrualDate));
+        }
+
+        return new AccrualGrant(accrualDate, DayQuantity.ofDays(annualDays(hireDate, accrualDate)), ReasonCode.GRANT_REGULAR,
+                LeaveStage.ANNUAL, nextAnnualAccrual(hireDate, accrualDate));
+    }
+
+    /**
+     * 근속 연수에 따른 연차 일수를 계산한다.
+     * 1년 근속 시 15일, 이후 2년마다 1일씩 가산하며 25일을 넘지 않는다.
+     *
+     * @param hireDate 입사일
+     * @param accrualDate 부여일
+     * @return 연차 일수
+     */
+    public static int annualDays(LocalDate hireDate, LocalDate accrualDate) {
+        // 2월 29일 입사자는 평년 2월 28일이 기념일이므로 말일 보정된 기념일 기준으로 근속 연수를 센다
+        LocalDate anniversary = withDayOrMonthEnd(accrualDate.getYear(), hireDate.getMonthValue(), hireDate.getDayOfMonth());
+        int years = accrualDate.getYear() - hireDate.getYear() - (accrualDate.isBefore(anniversary) ? 1 : 0);
+        return Math.min(ANNUAL_MAX_DAYS, ANNUAL_BASE_DAYS + (Math.max(1, years) - 1) / 2);
+    }
+
     /**
      * 다음 월차 부여일을 계산한다.
      *
@@ -0,0 +1,35 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 휴가 잔여 일수 예측 결과.
+ * 
+ * 사용자별 연말(예측 연도 경계) 잔여 일수와 전체 사용자의 월말 잔여 일수 합계 곡선을 담는다.
+ * 값은 모두 1/100일 단위이며, 사용자 곡선은 사용자 순서대로 연도 수만큼 이어 붙인 1차원 배열이다.
+ * 
+ */
+@Getter
+@RequiredArgsConstructor
+public class AccrualProjection {
+    /** 예측 연도 수 */
+    private final int years;
+
+    /** 사용자별 연도 경계 잔여 일수 (사용자 수 × 연도 수) */
+    private final int[] userCurves;
+
+    /** 월말 잔여 일수 합계 (연도 수 × 12) */
+    private final long[] aggregate;
+
+    /**
+     * 사용자의 예측 연도 경계 잔여 일수를 반환한다.
+     *
+     * @param user 사용자 순번
+     * @param year 예측 연도 순번 (0부터)
+     * @return 잔여 일수 (1/100일)
+     */
+    public int userBalanceAt(int user, int year) {
+        return userCurves[user * years + year];
+    }
+}
@@ -0,0 +1,145 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 휴가 부여 예측 엔진.
+ * 
+ * 부여 규칙을 근속 개월 수 조회 테이블로 컴파일한 뒤,
+ * 입사 연월/일과 현재 잔여 일수를 담은 원시 배열을 포크-조인으로 나눠 병렬로 계산한다.
+ * 사용자별로는 월말마다 테이블 값 차이만 더하므로 부여일을 날짜 단위로 따라가지 않는다.
+ * 사용(차감)은 예측에 포함하지 않는다.
+ * 
+ */
+@Service
+public class AccrualProjectionEngine {
+
+    private static final int MONTHS_PER_YEAR = 12;
+    /** 한 작업 단위로 직접 계산할 최대 사용자 수 */
+    private static final int SPLIT_THRESHOLD = 4_096;
+
+    /**
+     * 기준일부터 연도 수만큼 잔여 일수를 예측한다.
+     * 
+     * 입사 연월은 {@code 연도 * 12 + (월 - 1)}로 표현한다.
+     * 월차/연차는 입사일과 같은 날(없으면 말일)에 부여되므로 월말 시점의 근속 개월 수는
+     * 두 연월 인덱스의 차와 같다.
+     * 
+     *
+     * @param hireMonths 사용자별 입사 연월 인덱스
+     * @param hireDays 사용자별 입사일(일)
+     * @param balances 사용자별 현재 잔여 일수 (1/100일)
+     * @param from 예측 기준일
+     * @param years 예측 연도 수
+     * @param rules 부여 규칙
+     * @return 예측 결과
+     */
+    public AccrualProjection project(int[] hireMonths, int[] hireDays, int[] balances,
+                                     LocalDate from, int years, AccrualRules rules) {
+        int users = hireMonths.length;
+        int points = years * MONTHS_PER_YEAR;
+        int startMonth = monthIndex(from);
+
+        int minHireMonth = Integer.MAX_VALUE;
+        for (int hireMonth : hireMonths) {
+            minHireMonth = Math.min(minHireMonth, hireMonth);
+        }
+        int maxTenure = users == 0 ? 0 : startMonth + points - 1 - minHireMonth;
+        AccrualRuleTable table = AccrualRuleTable.compile(rules, maxTenure);
+
+        int[] userCurves = new int[users * years];
+        ProjectionTask task = new ProjectionTask(table, hireMonths, hireDays, balances, userCurves,
+                startMonth, from.getDayOfMonth(), from.lengthOfMonth(), years, 0, users);
+        long[] aggregate = users == 0 ? new long[points] : ForkJoinPool.commonPool().invoke(task);
+
+        return new AccrualProjection(years, userCurves, aggregate);
+    }
+
+    /**
+     * 날짜의 연월 인덱스를 반환한다.
+     *
+     * @param date 날짜
+     * @return {@code 연도 * 12 + (월 - 1)}
+     */
+    public static int monthIndex(LocalDate date) {
+        return date.getYear() * MONTHS_PER_YEAR + date.getMonthValue() - 1;
+    }
+
+    /**
+     * 사용자 구간을 나눠 계산하고 구간별 월말 합계를 더해 반환하는 포크-조인 작업.
+     */
+    private static final class ProjectionTask extends RecursiveTask<long[]> {
+        private final AccrualRuleTable table;
+        private final int[] hireMonths;
+        private final int[] hireDays;
+        private final int[] balances;
+        private final int[] userCurves;
+        private final int startMonth;
+        private final int fromDay;
+        private final int fromMonthLength;
+        private final int years;
+        private final int lo;
+        private final int hi;
+
+        private ProjectionTask(AccrualRuleTable table, int[] hireMonths, int[] hireDays, int[] balances,
+                               int[] userCurves, int startMonth, int fromDay, int fromMonthLength,
+                               int years, int lo, int hi) {
+            this.table = table;
+            this.hireMonths = hireMonths;
+            this.hireDays = hireDays;
+            this.balances = balances;
+            this.userCurves = userCurves;
+            this.startMonth = startMonth;
+            this.fromDay = fromDay;
+            this.fromMonthLength = fromMonthLength;
+            this.years = years;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (hi - lo > SPLIT_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                ProjectionTask left = split(lo, mid);
+                ProjectionTask right = split(mid, hi);
+                left.fork();
+                long[] sum = right.compute();
+                long[] other = left.join();
+                for (int k = 0; k < sum.length; k++) {
+                    sum[k] += other[k];
+                }
+                return sum;
+            }
+
+            int points = years * MONTHS_PER_YEAR;
+            long[] sum = new long[points];
+            for (int i = lo; i < hi; i++) {
+                int hireMonth = hireMonths[i];
+                // 이번 달 부여일(입사일, 없으면 말일)이 아직 오지 않았으면 근속 개월 수에서 뺀다
+                int anchorDay = Math.min(hireDays[i], fromMonthLength);
+                int tenureNow = startMonth - hireMonth - (fromDay < anchorDay ? 1 : 0);
+                int base = balances[i] - table.cumulativeAt(tenureNow);
+
+                int curveOffset = i * years;
+                for (int k = 0; k < points; k++) {
+                    int balance = base + table.cumulativeAt(startMonth + k - hireMonth);
+                    sum[k] += balance;
+                    if (k % MONTHS_PER_YEAR == MONTHS_PER_YEAR - 1) {
+                        userCurves[curveOffset + k / MONTHS_PER_YEAR] = balance;
+                    }
+                }
+            }
+            return sum;
+        }
+
+        private ProjectionTask split(int from, int to) {
+            return new ProjectionTask(table, hireMonths, hireDays, balances, userCurves,
+                    startMonth, fromDay, fromMonthLength, years, from, to);
+        }
+    }
+}
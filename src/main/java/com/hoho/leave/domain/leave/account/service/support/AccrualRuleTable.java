@@ -0,0 +1,74 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import java.math.BigDecimal;
+
+/**
+ * 근속 개월 수별 누적 부여량 조회 테이블.
+ * 
+ * 부여 규칙을 근속 개월 수를 인덱스로 하는 누적 부여량 배열로 미리 계산해 둔다.
+ * 두 시점 사이의 부여량은 날짜 계산 없이 배열 값 두 개의 차로 구한다.
+ * 부여량은 소수 둘째 자리까지를 정수로 다루기 위해 1/100일 단위로 저장한다.
+ * 
+ */
+public final class AccrualRuleTable {
+
+    /** 일수를 1/100일 단위로 바꾸는 배율 */
+    public static final int SCALE = 100;
+
+    private static final int MONTHS_PER_YEAR = 12;
+
+    /** 근속 개월 수별 누적 부여량 (1/100일) */
+    private final int[] cumulative;
+
+    private AccrualRuleTable(int[] cumulative) {
+        this.cumulative = cumulative;
+    }
+
+    /**
+     * 부여 규칙을 조회 테이블로 컴파일한다.
+     * 
+     * 근속 1~11개월째(월차 부여 횟수 이내)에는 월차를, 근속 12개월의 배수마다 연차를 부여한다.
+     * 
+     *
+     * @param rules 부여 규칙
+     * @param maxTenureMonths 조회할 최대 근속 개월 수
+     * @return 조회 테이블
+     */
+    public static AccrualRuleTable compile(AccrualRules rules, int maxTenureMonths) {
+        int monthly = rules.getMonthlyDays().multiply(BigDecimal.valueOf(SCALE)).intValueExact();
+        int monthlyMonths = Math.min(rules.getMonthlyMonths(), MONTHS_PER_YEAR - 1);
+
+        int[] cumulative = new int[Math.max(0, maxTenureMonths) + 1];
+        for (int m = 1; m < cumulative.length; m++) {
+            int grant = 0;
+            if (m % MONTHS_PER_YEAR == 0) {
+                int years = m / MONTHS_PER_YEAR;
+                grant = Math.min(rules.getAnnualMaxDays(),
+                        rules.getAnnualBaseDays() + (years - 1) / rules.getIncrementEveryYears()) * SCALE;
+            } else if (m < MONTHS_PER_YEAR && m <= monthlyMonths) {
+                grant = monthly;
+            }
+            cumulative[m] = cumulative[m - 1] + grant;
+        }
+        return new AccrualRuleTable(cumulative);
+    }
+
+    /**
+     * 근속 개월 수까지의 누적 부여량을 반환한다. 입사 전(0 이하)은 0이다.
+     *
+     * @param tenureMonths 근속 개월 수
+     * @return 누적 부여량 (1/100일)
+     */
+    public int cumulativeAt(int tenureMonths) {
+        return tenureMonths <= 0 ? 0 : cumulative[tenureMonths];
+    }
+
+    /**
+     * 테이블이 다루는 최대 근속 개월 수를 반환한다.
+     *
+     * @return 최대 근속 개월 수
+     */
+    public int maxTenureMonths() {
+        return cumulative.length - 1;
+    }
+}
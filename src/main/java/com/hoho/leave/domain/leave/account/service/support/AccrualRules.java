@@ -0,0 +1,44 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 휴가 부여 규칙 DTO.
+ * 
+ * 월차/연차 부여 일수 규칙을 담는다. 기본값은 사내 부여 규정(SFR-101)이며,
+ * 부여 예측에서는 값을 바꿔 규정 변경 시의 잔여 일수를 시뮬레이션한다.
+ * 
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccrualRules {
+    /** 월차 1회 부여 일수 */
+    BigDecimal monthlyDays;
+
+    /** 입사 첫해 월차 부여 횟수 (최대 11) */
+    Integer monthlyMonths;
+
+    /** 1년 근속 시 연차 부여 일수 */
+    Integer annualBaseDays;
+
+    /** 연차 가산 주기(년) */
+    Integer incrementEveryYears;
+
+    /** 연차 부여 일수 상한 */
+    Integer annualMaxDays;
+
+    /**
+     * 사내 부여 규정(SFR-101) 규칙을 생성한다.
+     * 첫해 월차 1일씩 11회, 1년 근속 시 연차 15일, 3년차부터 2년마다 1일 가산, 상한 25일.
+     *
+     * @return 기본 부여 규칙
+     */
+    public static AccrualRules standard() {
+        return new AccrualRules(BigDecimal.ONE, 11, 15, 2, 25);
+    }
+}
@@ -0,0 +1,57 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 휴가 잔여 일수 변경 이벤트.
+ * 
+ * 잔여 일수를 바꾼 트랜잭션이 커밋된 뒤 잔여 일수 캐시가 해당 계정을 다시 채우도록 알린다.
+ * 계정 ID 목록 또는 ID 구간(연말 소멸처럼 구간 단위로 갱신한 경우) 중 하나를 담는다.
+ * 
+ */
+@Getter
+public class BalanceChangedEvent {
+
+    private final List<Long> userLeavesIds;
+    private final Long fromId;
+    private final Long toId;
+
+    private BalanceChangedEvent(List<Long> userLeavesIds, Long fromId, Long toId) {
+        this.userLeavesIds = userLeavesIds;
+        this.fromId = fromId;
+        this.toId = toId;
+    }
+
+    /**
+     * 휴가 계정 ID 목록으로 이벤트를 생성한다.
+     *
+     * @param userLeavesIds 휴가 계정 ID 목록
+     * @return 잔여 일수 변경 이벤트
+     */
+    public static BalanceChangedEvent ofIds(Collection<Long> userLeavesIds) {
+        return new BalanceChangedEvent(List.copyOf(userLeavesIds), null, null);
+    }
+
+    /**
+     * 휴가 계정 ID 구간으로 이벤트를 생성한다.
+     *
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @return 잔여 일수 변경 이벤트
+     */
+    public static BalanceChangedEvent ofRange(long fromId, long toId) {
+        return new BalanceChangedEvent(List.of(), fromId, toId);
+    }
+
+    /**
+     * ID 구간 이벤트인지 확인한다.
+     *
+     * @return ID 구간 이벤트면 true
+     */
+    public boolean isRange() {
+        return fromId != null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.BalanceDiffRow;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 휴가 잔여 일수 재계산 진행 보고서.
+ * 
+ * 여러 작업 스레드가 구간마다 결과를 더하므로 카운터는 원자 변수로 관리한다.
+ * 불일치 목록은 상한까지만 보관해 계정 수와 관계없이 메모리 사용량이 일정하다.
+ * 실패한 구간은 건수와 마지막 실패 사유만 남기고 나머지 구간은 계속 처리한다.
+ * 
+ */
+@Getter
+public class BalanceRebuildReport {
+
+    /**
+     * 재계산 진행 상태.
+     */
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        COMPLETED_WITH_ERRORS,      // 일부 구간 실패
+        FAILED
+    }
+
+    private final boolean repair;
+    private final long totalRanges;
+    private final int diffLimit;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    private final AtomicLong processedRanges = new AtomicLong();
+    private final AtomicLong scannedAccounts = new AtomicLong();
+    private final AtomicLong mismatchedAccounts = new AtomicLong();
+    private final AtomicLong repairedAccounts = new AtomicLong();
+    private final AtomicLong failedRanges = new AtomicLong();
+
+    private final Queue<BalanceDiffRow> diffs = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 진행 보고서를 생성한다.
+     *
+     * @param repair 불일치 보정 여부
+     * @param totalRanges 전체 ID 구간 수
+     * @param diffLimit 보관할 최대 불일치 수
+     */
+    public BalanceRebuildReport(boolean repair, long totalRanges, int diffLimit) {
+        this.repair = repair;
+        this.totalRanges = totalRanges;
+        this.diffLimit = diffLimit;
+    }
+
+    /**
+     * 구간 하나의 처리 결과를 더한다.
+     *
+     * @param scanned 확인한 계정 수
+     * @param rangeDiffs 구간의 불일치 목록
+     * @param repaired 보정한 계정 수
+     */
+    public void record(long scanned, List<BalanceDiffRow> rangeDiffs, int repaired) {
+        scannedAccounts.addAndGet(scanned);
+        repairedAccounts.addAndGet(repaired);
+        for (BalanceDiffRow diff : rangeDiffs) {
+            if (mismatchedAccounts.incrementAndGet() <= diffLimit) {
+                diffs.add(diff);
+            }
+        }
+        processedRanges.incrementAndGet();
+    }
+
+    /**
+     * 구간 하나의 실패를 기록한다.
+     *
+     * @param fromId 구간 시작 휴가 계정 ID (포함)
+     * @param toId 구간 끝 휴가 계정 ID (제외)
+     * @param message 실패 사유
+     */
+    public void recordFailure(long fromId, long toId, String message) {
+        error = "range=[" + fromId + ", " + toId + "): " + message;
+        failedRanges.incrementAndGet();
+        processedRanges.incrementAndGet();
+    }
+
+    /**
+     * 처리를 완료한다. 실패한 구간이 있으면 일부 실패로 완료한다.
+     */
+    public void complete() {
+        finishedAt = LocalDateTime.now();
+        status = failedRanges.get() == 0 ? Status.COMPLETED : Status.COMPLETED_WITH_ERRORS;
+    }
+
+    /**
+     * 처리를 실패로 종료한다.
+     *
+     * @param error 실패 사유
+     */
+    public void fail(String error) {
+        this.error = error;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    /**
+     * 진행률(0~1)을 반환한다.
+     *
+     * @return 진행률
+     */
+    public double progress() {
+        return totalRanges == 0 ? 1.0 : (double) processedRanges.get() / totalRanges;
+    }
+}
@@ -0,0 +1,58 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import com.hoho.leave.domain.leave.account.entity.LeaveStage;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.BalanceViewRow;
+import com.hoho.leave.domain.shared.DayQuantity;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 휴가 잔여 일수 조회 정보.
+ * 
+ * 잔여 일수 캐시에 보관되는 불변 값이며, 잔여 일수 버전으로 더 최신 값인지 판단한다.
+ * 
+ */
+@Getter
+public class BalanceView {
+
+    private final Long userLeavesId;
+    private final Long userId;
+    private final String username;
+    private final String employeeNo;
+    private final LeaveStage leaveStage;
+    private final LocalDate nextAccrualAt;
+    private final DayQuantity balanceDays;
+    private final long balanceVersion;
+
+    private BalanceView(BalanceViewRow row) {
+        this.userLeavesId = row.getUserLeavesId();
+        this.userId = row.getUserId();
+        this.username = row.getUsername();
+        this.employeeNo = row.getEmployeeNo();
+        this.leaveStage = row.getLeaveStage();
+        this.nextAccrualAt = row.getNextAccrualAt();
+        this.balanceDays = row.getBalanceDays();
+        this.balanceVersion = row.getBalanceVersion();
+    }
+
+    /**
+     * 잔여 일수 조회 행으로부터 조회 정보를 생성한다.
+     *
+     * @param row 잔여 일수 조회 행
+     * @return 잔여 일수 조회 정보
+     */
+    public static BalanceView of(BalanceViewRow row) {
+        return new BalanceView(row);
+    }
+
+    /**
+     * 다른 조회 정보보다 최신인지 확인한다.
+     *
+     * @param other 비교할 조회 정보 (null이면 최신으로 본다)
+     * @return 같거나 더 최신이면 true
+     */
+    public boolean isNotOlderThan(BalanceView other) {
+        return other == null || balanceVersion >= other.balanceVersion;
+    }
+}
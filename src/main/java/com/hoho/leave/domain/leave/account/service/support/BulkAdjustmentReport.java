@@ -0,0 +1,106 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 휴가 일괄 조정 진행 보고서.
+ * 
+ * 백그라운드 작업이 청크마다 결과를 더하고, 조회 API가 동시에 읽으므로 카운터는 원자 변수로 관리한다.
+ * 잔여 일수 부족으로 건너뛴 계정은 상한까지만 보관한다.
+ * 
+ */
+@Getter
+public class BulkAdjustmentReport {
+
+    /**
+     * 일괄 조정 진행 상태.
+     */
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String jobId;
+    private final BigDecimal amountDays;
+    private final long totalAccounts;
+    private final int skippedLimit;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    private final AtomicLong processedAccounts = new AtomicLong();
+    private final AtomicLong adjustedAccounts = new AtomicLong();
+    private final AtomicLong skippedAccounts = new AtomicLong();
+
+    private final Queue<Long> skippedUserLeavesIds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 진행 보고서를 생성한다.
+     *
+     * @param jobId 작업 ID
+     * @param amountDays 증감량
+     * @param totalAccounts 전체 대상 계정 수
+     * @param skippedLimit 보관할 최대 건너뛴 계정 수
+     */
+    public BulkAdjustmentReport(String jobId, BigDecimal amountDays, long totalAccounts, int skippedLimit) {
+        this.jobId = jobId;
+        this.amountDays = amountDays;
+        this.totalAccounts = totalAccounts;
+        this.skippedLimit = skippedLimit;
+    }
+
+    /**
+     * 청크 하나의 처리 결과를 더한다.
+     *
+     * @param processed 처리한 계정 수
+     * @param adjusted 조정한 계정 수
+     * @param skippedIds 잔여 일수 부족으로 건너뛴 휴가 계정 ID 목록
+     */
+    public void record(long processed, long adjusted, List<Long> skippedIds) {
+        adjustedAccounts.addAndGet(adjusted);
+        for (Long id : skippedIds) {
+            if (skippedAccounts.incrementAndGet() <= skippedLimit) {
+                skippedUserLeavesIds.add(id);
+            }
+        }
+        processedAccounts.addAndGet(processed);
+    }
+
+    /**
+     * 처리를 완료한다.
+     */
+    public void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    /**
+     * 처리를 실패로 종료한다.
+     *
+     * @param error 실패 사유
+     */
+    public void fail(String error) {
+        this.error = error;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    /**
+     * 진행률(0~1)을 반환한다.
+     *
+     * @return 진행률
+     */
+    public double progress() {
+        return totalAccounts == 0 ? 1.0 : (double) processedAccounts.get() / totalAccounts;
+    }
+}
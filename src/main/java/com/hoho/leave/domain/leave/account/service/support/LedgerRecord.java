@@ -2,6 +2,7 @@ package com.hoho.leave.domain.leave.account.service.support;
 
 import com.hoho.leave.domain.leave.account.entity.ReasonCode;
 import com.hoho.leave.domain.leave.account.entity.UserLeaves;
+import com.hoho.leave.domain.shared.DayQuantity;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -18,7 +19,7 @@ public class LedgerRecord {
 
     LocalDateTime effectiveAt;
 
-    String amount;
+    DayQuantity amountDays;
 
     ReasonCode reasonCode;
 
@@ -29,18 +30,18 @@ public class LedgerRecord {
      *
      * @param userLeaves 사용자 휴가 계정
      * @param effectiveAt 적용 일시
-     * @param amount 증감량
+     * @param amountDays 증감량 (부여는 양수, 차감은 음수)
      * @param reasonCode 사유 코드
      * @param note 비고
      * @return 원장 레코드
      */
     public static LedgerRecord of(UserLeaves userLeaves, LocalDateTime effectiveAt,
-                                  String amount, ReasonCode reasonCode, String note) {
+                                  DayQuantity amountDays, ReasonCode reasonCode, String note) {
         LedgerRecord ledgerRecord = new LedgerRecord();
 
         ledgerRecord.userLeaves = userLeaves;
         ledgerRecord.effectiveAt = effectiveAt;
-        ledgerRecord.amount = amount;
+        ledgerRecord.amountDays = amountDays;
         ledgerRecord.reasonCode = reasonCode;
         ledgerRecord.note = note;
 
@@ -0,0 +1,72 @@
+package com.hoho.leave.domain.leave.facade;
+
+import com.hoho.leave.domain.audit.entity.Action;
+import com.hoho.leave.domain.audit.service.AuditLogService;
+import com.hoho.leave.domain.audit.service.AuditObjectType;
+import com.hoho.leave.domain.leave.request.dto.request.ApproverDelegationCreateRequest;
+import com.hoho.leave.domain.leave.request.dto.response.ApproverDelegationResponse;
+import com.hoho.leave.domain.leave.request.entity.ApproverDelegation;
+import com.hoho.leave.domain.leave.request.service.ApproverDelegationService;
+import com.hoho.leave.domain.user.entity.User;
+import com.hoho.leave.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결재자 위임 파사드.
+ * 
+ * 결재자 위임 생성, 철회 시 사용자, 위임, 감사 로그 서비스를 조율한다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class ApproverDelegationFacade {
+
+    private final UserService userService;
+    private final ApproverDelegationService delegationService;
+    private final AuditLogService auditLogService;
+
+    /**
+     * 결재자 위임을 생성한다.
+     *
+     * @param request 위임 생성 요청
+     * @return 결재자 위임 응답
+     */
+    @Transactional
+    public ApproverDelegationResponse createDelegation(ApproverDelegationCreateRequest request) {
+        User delegator = userService.getUserEntity(request.getDelegatorId());
+        User delegate = userService.getUserEntity(request.getDelegateId());
+
+        ApproverDelegation delegation = delegationService.createDelegation(delegator, delegate, request);
+
+        auditLogService.createLog(
+                Action.LEAVE_DELEGATION_CREATE,
+                delegator.getId(),
+                AuditObjectType.APPROVER_DELEGATION,
+                delegation.getId(),
+                delegator.getUsername() + "의 결재 권한을 " + delegate.getUsername() + "에게 위임("
+                        + request.getStartDate() + " ~ " + (request.getEndDate() == null ? "무기한" : request.getEndDate()) + ")"
+        );
+
+        return ApproverDelegationResponse.of(delegation);
+    }
+
+    /**
+     * 결재자 위임을 철회한다.
+     *
+     * @param delegationId 위임 ID
+     */
+    @Transactional
+    public void revokeDelegation(Long delegationId) {
+        ApproverDelegation delegation = delegationService.revokeDelegation(delegationId);
+
+        auditLogService.createLog(
+                Action.LEAVE_DELEGATION_REVOKE,
+                delegation.getDelegator().getId(),
+                AuditObjectType.APPROVER_DELEGATION,
+                delegationId,
+                "결재 위임(" + delegationId + ") 철회"
+        );
+    }
+}
@@ -0,0 +1,253 @@
+package com.hoho.leave.domain.leave.facade;
+
+import com.hoho.leave.common.aop.RetryOnConflict;
+import com.hoho.leave.domain.audit.entity.Action;
+import com.hoho.leave.domain.audit.entity.AuditLog;
+import com.hoho.leave.domain.audit.service.AuditLogService;
+import com.hoho.leave.domain.audit.service.AuditObjectType;
+import com.hoho.leave.domain.leave.request.dto.request.LeaveApprovalBulkRequest;
+import com.hoho.leave.domain.leave.request.dto.request.LeaveApprovalUpdateRequest;
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalBulkResponse;
+import com.hoho.leave.domain.leave.request.entity.ApprovalSlaStage;
+import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestStatus;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.ActiveStepRow;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.SlaTargetRow;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.StepApproverRow;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestRepository.RequestApplicantRow;
+import com.hoho.leave.domain.leave.request.service.ApprovalWorkflowEngine;
+import com.hoho.leave.domain.leave.request.service.DelegationResolver;
+import com.hoho.leave.domain.leave.request.service.LeaveRequestApprovalService;
+import com.hoho.leave.domain.leave.request.service.LeaveRequestService;
+import com.hoho.leave.domain.leave.request.service.support.BulkDecisionResult;
+import com.hoho.leave.domain.leave.request.service.support.WorkflowTransition;
+import com.hoho.leave.domain.notification.entity.Notification;
+import com.hoho.leave.domain.notification.entity.NotificationType;
+import com.hoho.leave.domain.notification.service.NotificationService;
+import com.hoho.leave.domain.user.entity.User;
+import com.hoho.leave.domain.user.entity.UserRole;
+import com.hoho.leave.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 휴가 결재 파사드.
+ * 
+ * 결재 처리 시 결재, 결재선 진행, 알림, 감사 로그 서비스를 조율한다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaveApprovalFacade {
+
+    private final UserService userService;
+    private final LeaveRequestApprovalService approvalService;
+    private final LeaveRequestService leaveRequestService;
+    private final ApprovalWorkflowEngine approvalWorkflowEngine;
+    private final DelegationResolver delegationResolver;
+    private final NotificationService notificationService;
+    private final AuditLogService auditLogService;
+
+    /**
+     * 휴가 결재를 승인 또는 반려한다.
+     * 
+     * 결재선을 다음 단계로 진행시키고, 다음 결재자 또는 신청자에게 알림을 보낸다.
+     * 
+     *
+     * @param approvalId 결재 ID
+     * @param request 결재 상태 변경 요청
+     */
+    @Transactional
+    @RetryOnConflict(operation = "leave-approval.update")
+    public void updateLeaveApproval(Long approvalId, LeaveApprovalUpdateRequest request) {
+        User actor = userService.getUserEntity(request.getActorId());
+
+        WorkflowTransition transition =
+                approvalWorkflowEngine.decide(approvalId, request.getStatus(), request.getComment(), actor);
+
+        List<Notification> notifications = new ArrayList<>();
+        if (transition.isRequestClosed()) {
+            notifications.add(Notification.create(
+                    userService.getUserEntity(transition.getApplicantId()),
+                    NotificationType.LEAVE_STATUS_CHANGED,
+                    "휴가 신청(" + transition.getLeaveRequestId() + ")이 " + transition.getRequestStatus() + " 처리되었습니다."));
+        } else if (transition.getNextApproverId() != null) {
+            notifications.add(Notification.create(
+                    userService.getUserEntity(transition.getNextApproverId()),
+                    NotificationType.LEAVE_APPROVAL_REQUESTED,
+                    "휴가 신청(" + transition.getLeaveRequestId() + ")의 " + (transition.getStepNo() + 1) + "단계 결재를 요청합니다."));
+        }
+        notificationService.createNotifications(notifications);
+
+        Action action = transition.getDecision() == ApprovalStatus.APPROVED ? Action.LEAVE_APPROVE : Action.LEAVE_REJECT;
+        auditLogService.createLogs(List.of(AuditLog.createLog(
+                action,
+                actor.getId(),
+                AuditObjectType.LEAVE_REQUEST,
+                transition.getLeaveRequestId(),
+                actor.getUsername() + "에 의한 결재(" + approvalId + ") " + transition.getDecision())));
+    }
+
+    /**
+     * 여러 휴가 결재를 한 번에 승인 또는 반려한다.
+     * 
+     * 결재 상태 변경, 결재선 진행, 알림 발송, 감사 로그 기록을 각각 한 번의 일괄 작업으로 처리한다.
+     * 단건 처리와 같이 종료된 신청은 신청자에게, 다음 단계가 활성화된 신청은 다음 결재자에게 알린다.
+     * 
+     *
+     * @param request 결재 일괄 처리 요청
+     * @return 결재 건별 처리 결과
+     */
+    @Transactional
+    @RetryOnConflict(operation = "leave-approval.bulk")
+    public LeaveApprovalBulkResponse bulkUpdateLeaveApproval(LeaveApprovalBulkRequest request) {
+        User approver = userService.getUserEntity(request.getApproverId());
+
+        BulkDecisionResult result = approvalService.bulkUpdateLeaveApproval(request, approver);
+        if (result.getAppliedRows().isEmpty()) {
+            return LeaveApprovalBulkResponse.of(result.getItems());
+        }
+
+        LeaveRequestStatus closeStatus = request.getStatus() == ApprovalStatus.APPROVED
+                ? LeaveRequestStatus.APPROVED
+                : LeaveRequestStatus.REJECTED;
+        List<ActiveStepRow> activated = approvalWorkflowEngine.advanceAll(result.getAppliedRows(), request.getStatus());
+        List<RequestApplicantRow> closed =
+                leaveRequestService.closeLeaveRequests(result.getAppliedLeaveRequestIds(), closeStatus);
+
+        notifyBulkResult(closed, closeStatus, activated);
+        writeAuditLogs(approver, request.getStatus(), result);
+
+        return LeaveApprovalBulkResponse.of(result.getItems());
+    }
+
+    /**
+     * 처리 기한이 지난 결재에 알림 또는 에스컬레이션 조치를 한다.
+     * 
+     * 조치 전인 결재는 결재자(위임 중이면 수임자 포함)에게 기한 경과 알림을 보내고,
+     * 이미 알림을 보낸 결재는 다음 단계 결재자에게, 마지막 단계면 관리자에게 에스컬레이션 알림을 보낸다.
+     * 에스컬레이션은 알림만 보내며 결재자를 바꾸지 않는다.
+     * 조치 단계를 먼저 조건부 UPDATE로 올려 선점한 결재만 알리므로 여러 인스턴스에서 실행되어도 한 번만 알린다.
+     * 
+     *
+     * @param approvalIds 조치 시각이 지난 결재 ID 목록
+     * @return 기한 경과 알림을 보낸 결재 목록 (에스컬레이션 타이머 등록 대상)
+     */
+    @Transactional
+    public List<SlaTargetRow> handleOverdueApprovals(List<Long> approvalIds) {
+        List<SlaTargetRow> targets = approvalService.claimSlaTargets(
+                approvalService.getOverdueTargets(approvalIds, LocalDateTime.now()));
+        if (targets.isEmpty()) return List.of();
+
+        List<SlaTargetRow> reminders = targets.stream().filter(t -> t.getSlaStage() == ApprovalSlaStage.NONE).toList();
+        List<SlaTargetRow> escalations = targets.stream().filter(t -> t.getSlaStage() == ApprovalSlaStage.REMINDED).toList();
+
+        Map<SlaTargetRow, List<Long>> recipients = new LinkedHashMap<>();
+        for (SlaTargetRow row : reminders) {
+            Long delegateId = delegationResolver.delegateOf(row.getApproverId());
+            recipients.put(row, delegateId == null ? List.of(row.getApproverId()) : List.of(row.getApproverId(), delegateId));
+        }
+        if (!escalations.isEmpty()) {
+            Map<String, Long> approverByStep = approvalService.getStepApprovers(
+                            escalations.stream().map(SlaTargetRow::getLeaveRequestId).distinct().toList()).stream()
+                    .collect(Collectors.toMap(s -> s.getLeaveRequestId() + ":" + s.getStepNo(), StepApproverRow::getApproverId));
+
+            List<Long> adminIds = null;
+            for (SlaTargetRow row : escalations) {
+                Long nextApproverId = approverByStep.get(row.getLeaveRequestId() + ":" + (row.getStepNo() + 1));
+                if (nextApproverId != null) {
+                    recipients.put(row, List.of(nextApproverId));
+                    continue;
+                }
+                if (adminIds == null) {
+                    adminIds = userService.getActiveUserEntitiesByRole(UserRole.ROLE_ADMIN).stream().map(User::getId).toList();
+                }
+                recipients.put(row, adminIds);
+            }
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        recipients.values().forEach(userIds::addAll);
+        Map<Long, User> userMap = userService.getUserEntityList(List.copyOf(userIds)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Notification> notifications = new ArrayList<>();
+        recipients.forEach((row, ids) -> {
+            boolean reminder = row.getSlaStage() == ApprovalSlaStage.NONE;
+            String message = reminder
+                    ? "휴가 신청(" + row.getLeaveRequestId() + ")의 " + row.getStepNo() + "단계 결재 기한(" + row.getDueAt() + ")이 지났습니다."
+                    : "휴가 신청(" + row.getLeaveRequestId() + ")의 " + row.getStepNo() + "단계 결재가 기한을 넘겨 에스컬레이션되었습니다.";
+            ids.stream().map(userMap::get).filter(Objects::nonNull).forEach(user -> notifications.add(Notification.create(
+                    user,
+                    reminder ? NotificationType.LEAVE_APPROVAL_REMINDER : NotificationType.LEAVE_APPROVAL_ESCALATED,
+                    message)));
+        });
+        notificationService.createNotifications(notifications);
+
+        return reminders;
+    }
+
+    /**
+     * 종료된 휴가 신청의 신청자와 다음 단계가 활성화된 결재자들에게 알림을 일괄 발송한다.
+     *
+     * @param closed 종료된 휴가 신청 목록
+     * @param status 종료 상태
+     * @param activated 새로 활성화된 다음 단계 결재 목록
+     */
+    private void notifyBulkResult(List<RequestApplicantRow> closed, LeaveRequestStatus status,
+                                  List<ActiveStepRow> activated) {
+        if (closed.isEmpty() && activated.isEmpty()) return;
+
+        Set<Long> userIds = new HashSet<>();
+        closed.forEach(row -> userIds.add(row.getApplicantId()));
+        activated.forEach(row -> userIds.add(row.getApproverId()));
+        Map<Long, User> userMap = userService.getUserEntityList(List.copyOf(userIds)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Notification> notifications = new ArrayList<>();
+        closed.forEach(row -> notifications.add(Notification.create(
+                userMap.get(row.getApplicantId()),
+                NotificationType.LEAVE_STATUS_CHANGED,
+                "휴가 신청(" + row.getLeaveRequestId() + ")이 " + status + " 처리되었습니다.")));
+        activated.forEach(row -> notifications.add(Notification.create(
+                userMap.get(row.getApproverId()),
+                NotificationType.LEAVE_APPROVAL_REQUESTED,
+                "휴가 신청(" + row.getLeaveRequestId() + ")의 " + row.getStepNo() + "단계 결재를 요청합니다.")));
+
+        notificationService.createNotifications(notifications);
+    }
+
+    /**
+     * 반영된 결재 건들의 감사 로그를 일괄 기록한다.
+     *
+     * @param approver 결재자
+     * @param status 결재 상태
+     * @param result 일괄 처리 결과
+     */
+    private void writeAuditLogs(User approver, ApprovalStatus status, BulkDecisionResult result) {
+        Action action = status == ApprovalStatus.APPROVED ? Action.LEAVE_APPROVE : Action.LEAVE_REJECT;
+
+        List<AuditLog> logs = result.getAppliedRows().stream()
+                .map(row -> AuditLog.createLog(
+                        action,
+                        approver.getId(),
+                        AuditObjectType.LEAVE_REQUEST,
+                        row.getLeaveRequestId(),
+                        approver.getUsername() + "에 의한 결재(" + row.getApprovalId() + ") 일괄 " + status))
+                .toList();
+
+        auditLogService.createLogs(logs);
+    }
+}
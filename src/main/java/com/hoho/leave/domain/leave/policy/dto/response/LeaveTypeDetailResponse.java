@@ -39,7 +39,7 @@ public class LeaveTypeDetailResponse {
         response.leaveTypeId = leaveType.getId();
         response.leaveTypeName = leaveType.getLeaveName();
         response.leaveCode = leaveType.getLeaveCode().toString();
-        response.unitDays = leaveType.getUnitDays();
+        response.unitDays = leaveType.getUnitDays().toBigDecimal();
         response.leaveDecrement = leaveType.isLeaveDecrement();
         response.requiresAttachment = leaveType.isRequiresAttachment();
         response.leaveDescription = leaveType.getLeaveDescription();
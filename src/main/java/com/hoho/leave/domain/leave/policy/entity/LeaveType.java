@@ -3,12 +3,12 @@ package com.hoho.leave.domain.leave.policy.entity;
 import com.hoho.leave.domain.leave.policy.dto.request.LeaveTypeCreateRequest;
 import com.hoho.leave.domain.leave.policy.dto.request.LeaveTypeUpdateRequest;
 import com.hoho.leave.domain.shared.BaseEntity;
+import com.hoho.leave.domain.shared.DayQuantity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 
 /**
  * 휴가 유형 엔티티.
@@ -34,7 +34,7 @@ public class LeaveType extends BaseEntity {
     private String leaveName;
 
     @Column(name = "unit_days", nullable = false, precision = 5, scale = 2)
-    private BigDecimal unitDays;
+    private DayQuantity unitDays;
 
     @Column(name = "leave_decrement", nullable = false)
     private boolean leaveDecrement = true;
@@ -59,7 +59,7 @@ public class LeaveType extends BaseEntity {
         LeaveType leaveType = new LeaveType();
 
         leaveType.leaveName = req.getLeaveTypeName();
-        leaveType.unitDays = req.getUnitDays();
+        leaveType.unitDays = DayQuantity.of(req.getUnitDays());
         leaveType.leaveDecrement = req.isLeaveDecrement();
         leaveType.requiresAttachment = req.isRequiresAttachment();
         leaveType.leaveCode = LeaveCode.valueOf(req.getLeaveCode());
@@ -75,7 +75,7 @@ public class LeaveType extends BaseEntity {
      */
     public void update(LeaveTypeUpdateRequest req) {
         this.leaveName = req.getLeaveTypeName();
-        this.unitDays = req.getUnitDays();
+        this.unitDays = DayQuantity.of(req.getUnitDays());
         this.leaveDecrement = req.isLeaveDecrement();
         this.requiresAttachment = req.isRequiresAttachment();
         this.leaveCode = LeaveCode.valueOf(req.getLeaveCode());
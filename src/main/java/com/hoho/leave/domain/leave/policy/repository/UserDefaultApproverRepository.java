@@ -18,4 +18,12 @@ public interface UserDefaultApproverRepository extends JpaRepository<UserDefault
      * @return 존재 여부
      */
     boolean existsByUserIdAndApproverId(Long userId, Long approverId);
+
+    /**
+     * 사용자에게 기본 결재자가 한 명이라도 지정되어 있는지 확인한다.
+     *
+     * @param userId 사용자 ID
+     * @return 존재 여부
+     */
+    boolean existsByUserId(Long userId);
 }
@@ -0,0 +1,71 @@
+package com.hoho.leave.domain.leave.request.controller;
+
+import com.hoho.leave.domain.leave.facade.ApproverDelegationFacade;
+import com.hoho.leave.domain.leave.request.dto.request.ApproverDelegationCreateRequest;
+import com.hoho.leave.domain.leave.request.dto.response.ApproverDelegationResponse;
+import com.hoho.leave.domain.leave.request.service.ApproverDelegationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 결재자 위임 컨트롤러.
+ * 
+ * 결재자 부재 시 결재 권한 위임의 등록, 철회, 조회 기능을 제공한다.
+ * 
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/leave/delegation")
+public class ApproverDelegationController {
+
+    private final ApproverDelegationFacade delegationFacade;
+    private final ApproverDelegationService delegationService;
+
+    /**
+     * 결재자 위임을 등록한다.
+     *
+     * @param request 위임 생성 요청
+     * @return 결재자 위임 응답
+     */
+    @PostMapping("")
+    public ResponseEntity<ApproverDelegationResponse> createDelegation(
+            @RequestBody @Valid ApproverDelegationCreateRequest request) {
+
+        ApproverDelegationResponse response = delegationFacade.createDelegation(request);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * 결재자 위임을 철회한다.
+     *
+     * @param delegationId 위임 ID
+     * @return 철회 성공 메시지
+     */
+    @PatchMapping("/{delegationId}/revoke")
+    public ResponseEntity<?> revokeDelegation(@PathVariable Long delegationId) {
+
+        delegationFacade.revokeDelegation(delegationId);
+
+        return ResponseEntity.status(HttpStatus.OK).body("결재 위임 철회");
+    }
+
+    /**
+     * 위임자의 위임 목록을 조회한다.
+     *
+     * @param delegatorId 위임자 ID
+     * @return 결재자 위임 응답 목록
+     */
+    @GetMapping("/delegator/{delegatorId}")
+    public ResponseEntity<List<ApproverDelegationResponse>> getDelegations(@PathVariable Long delegatorId) {
+
+        List<ApproverDelegationResponse> response = delegationService.getDelegations(delegatorId);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+}
@@ -1,28 +1,35 @@
 package com.hoho.leave.domain.leave.request.controller;
 
+import com.hoho.leave.common.file.FileDownloadResponder;
 import com.hoho.leave.domain.leave.request.dto.request.AttachmentUploadRequest;
+import com.hoho.leave.domain.leave.request.dto.request.ChunkedUploadInitRequest;
 import com.hoho.leave.domain.leave.request.dto.response.AttachmentResponse;
+import com.hoho.leave.domain.leave.request.dto.response.ChunkedUploadStatusResponse;
+import com.hoho.leave.domain.leave.request.service.AttachmentBundleService;
 import com.hoho.leave.domain.leave.request.service.AttachmentService;
+import com.hoho.leave.domain.leave.request.service.ChunkedUploadService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.net.MalformedURLException;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * 첨부파일 컨트롤러.
  * 
- * 휴가 신청서에 첨부되는 파일의 업로드, 조회, 다운로드, 삭제 기능을 제공한다.
+ * 휴가 신청서에 첨부되는 파일의 업로드(일반/분할), 조회, 다운로드, 삭제 기능을 제공한다.
  * 
  */
 @RestController
@@ -30,6 +37,9 @@ import java.util.List;
 @RequestMapping("/api/v1/attachment")
 public class AttachmentController {
     private final AttachmentService attachmentService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final AttachmentBundleService attachmentBundleService;
+    private final FileDownloadResponder fileDownloadResponder;
 
     /**
      * 첨부파일을 업로드한다.
@@ -49,6 +59,81 @@ public class AttachmentController {
         return ResponseEntity.status(HttpStatus.OK).body("파일 업로드 성공");
     }
 
+    /**
+     * 분할 업로드를 시작한다.
+     *
+     * @param request 분할 업로드 시작 요청 정보
+     * @return 업로드 ID와 청크 크기
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<ChunkedUploadStatusResponse> initChunkedUpload(@RequestBody @Valid ChunkedUploadInitRequest request) {
+
+        ChunkedUploadStatusResponse response = chunkedUploadService.init(request);
+
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    /**
+     * 분할 업로드의 청크 하나를 전송한다.
+     *
+     * @param uploadId 업로드 ID
+     * @param offset 청크 시작 위치 (bytes)
+     * @param request HTTP 요청 (본문이 청크 내용)
+     * @return 분할 업로드 상태
+     * @throws IOException 요청 본문을 읽을 수 없는 경우
+     */
+    @PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ChunkedUploadStatusResponse> putChunk(@PathVariable String uploadId,
+                                                                @RequestParam long offset,
+                                                                HttpServletRequest request) throws IOException {
+
+        ChunkedUploadStatusResponse response = chunkedUploadService.putChunk(uploadId, offset, request.getInputStream());
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * 분할 업로드 상태(받지 못한 청크)를 조회한다.
+     *
+     * @param uploadId 업로드 ID
+     * @return 분할 업로드 상태
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<ChunkedUploadStatusResponse> getChunkedUpload(@PathVariable String uploadId) {
+
+        ChunkedUploadStatusResponse response = chunkedUploadService.getStatus(uploadId);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * 분할 업로드를 완료하고 첨부파일로 등록한다.
+     *
+     * @param uploadId 업로드 ID
+     * @return 파일 업로드 성공 메시지
+     */
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<?> completeChunkedUpload(@PathVariable String uploadId) {
+
+        chunkedUploadService.complete(uploadId);
+
+        return ResponseEntity.status(HttpStatus.OK).body("파일 업로드 성공");
+    }
+
+    /**
+     * 분할 업로드를 취소한다.
+     *
+     * @param uploadId 업로드 ID
+     * @return 업로드 취소 메시지
+     */
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<?> abortChunkedUpload(@PathVariable String uploadId) {
+
+        chunkedUploadService.abort(uploadId);
+
+        return ResponseEntity.status(HttpStatus.OK).body("업로드 취소");
+    }
+
     /**
      * 특정 휴가 신청서의 첨부파일 목록을 조회한다.
      *
@@ -65,37 +150,75 @@ public class AttachmentController {
 
     /**
      * 이미지 파일을 조회한다.
+     * ETag/Last-Modified 조건부 요청과 Range 요청을 지원한다.
      *
-     * @param fileName 파일명
-     * @return 이미지 리소스
-     * @throws MalformedURLException URL 형식이 잘못된 경우
+     * @param fileName 저장 파일명
+     * @param request HTTP 요청
+     * @return 이미지 응답 (200/206/304/416)
      */
     @GetMapping("/images/{fileName}")
-    public ResponseEntity<?> getImages(@PathVariable String fileName) throws MalformedURLException {
+    public ResponseEntity<StreamingResponseBody> getImages(@PathVariable String fileName, HttpServletRequest request) {
+
+        return fileDownloadResponder.respond(attachmentService.getAttachmentFile(fileName), request);
+    }
 
-        UrlResource resource = new UrlResource("file:" + attachmentService.getFullPath(fileName));
+    /**
+     * 이미지 첨부파일의 썸네일을 조회한다.
+     * 썸네일은 오래 캐시되며, 아직 만들어지지 않았으면 이번 한 번은 원본을 보낸다.
+     *
+     * @param fileName 저장 파일명
+     * @param request HTTP 요청
+     * @return 썸네일 응답 (200/304)
+     */
+    @GetMapping("/thumbnails/{fileName}")
+    public ResponseEntity<StreamingResponseBody> getThumbnail(@PathVariable String fileName, HttpServletRequest request) {
 
-        return new ResponseEntity<>(resource, HttpStatus.OK);
+        return fileDownloadResponder.respond(attachmentService.getAttachmentThumbnail(fileName), request);
     }
 
     /**
      * 파일을 다운로드한다.
+     * ETag/Last-Modified 조건부 요청과 Range(이어받기, 복수 구간) 요청을 지원한다.
      *
-     * @param fileName 파일명
-     * @return 다운로드할 파일 리소스
-     * @throws MalformedURLException URL 형식이 잘못된 경우
+     * @param fileName 저장 파일명
+     * @param request HTTP 요청
+     * @return 다운로드 응답 (200/206/304/416)
      */
     @GetMapping("/download/{fileName}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable String fileName) throws MalformedURLException {
+    public ResponseEntity<StreamingResponseBody> downloadFile(@PathVariable String fileName, HttpServletRequest request) {
+
+        return fileDownloadResponder.respond(attachmentService.getAttachmentDownload(fileName), request);
+    }
+
+    /**
+     * 휴가 신청의 모든 첨부파일을 ZIP으로 내려받는다.
+     *
+     * @param leaveRequestId 휴가 신청 ID
+     * @return ZIP 스트림 응답
+     */
+    @GetMapping("/bundle/{leaveRequestId}")
+    public ResponseEntity<StreamingResponseBody> downloadBundle(@PathVariable Long leaveRequestId) {
 
-        UrlResource resource = new UrlResource("file:" + attachmentService.getFullPath(fileName));
+        StreamingResponseBody body = attachmentBundleService.bundleLeaveRequest(leaveRequestId);
 
-        String encodedFileName = UriUtils.encode(fileName, StandardCharsets.UTF_8);
-        String contentDisposition = "attachment; filename=\"" + encodedFileName + "\"";
+        return zipResponse("leave-request-" + leaveRequestId + "-attachments.zip", body);
+    }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .body(resource);
+    /**
+     * 기간이 겹치는 휴가 신청들의 첨부파일을 ZIP으로 내려받는다. (감사용)
+     *
+     * @param from 조회 시작일
+     * @param to 조회 종료일
+     * @return ZIP 스트림 응답
+     */
+    @GetMapping("/bundle")
+    public ResponseEntity<StreamingResponseBody> downloadBundleByPeriod(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        StreamingResponseBody body = attachmentBundleService.bundleByLeavePeriod(from, to);
+
+        return zipResponse("attachments-" + from + "-" + to + ".zip", body);
     }
 
     /**
@@ -111,4 +234,19 @@ public class AttachmentController {
 
         return ResponseEntity.status(HttpStatus.OK).body("파일 삭제 성공");
     }
+
+    /**
+     * ZIP 스트림 응답을 만든다. 길이는 미리 알 수 없으므로 chunked로 보낸다.
+     *
+     * @param fileName 저장될 파일명
+     * @param body ZIP 응답 본문
+     * @return ZIP 스트림 응답
+     */
+    private static ResponseEntity<StreamingResponseBody> zipResponse(String fileName, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
 }
@@ -1,16 +1,26 @@
 package com.hoho.leave.domain.leave.request.controller;
 
+import com.hoho.leave.domain.leave.facade.LeaveApprovalFacade;
+import com.hoho.leave.domain.leave.request.dto.request.LeaveApprovalBulkRequest;
 import com.hoho.leave.domain.leave.request.dto.request.LeaveApprovalUpdateRequest;
+import com.hoho.leave.domain.leave.request.dto.response.ApproverPendingCountResponse;
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalBulkResponse;
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalInboxResponse;
 import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalListResponse;
 import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalResponse;
+import com.hoho.leave.domain.leave.request.service.ApprovalInboxService;
 import com.hoho.leave.domain.leave.request.service.LeaveRequestApprovalService;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 /**
  * 휴가 결재 컨트롤러.
  * 
@@ -23,6 +33,8 @@ import org.springframework.web.bind.annotation.*;
 public class LeaveRequestApprovalController {
 
     private final LeaveRequestApprovalService leaveRequestApprovalService;
+    private final LeaveApprovalFacade leaveApprovalFacade;
+    private final ApprovalInboxService approvalInboxService;
 
     /**
      * 휴가 결재 상태를 변경한다.
@@ -33,13 +45,28 @@ public class LeaveRequestApprovalController {
      */
     @PutMapping("/{approvalId}")
     public ResponseEntity<?> updateLeaveApproval(@PathVariable Long approvalId,
-                                                 @RequestBody LeaveApprovalUpdateRequest updateRequest) {
+                                                 @RequestBody @Valid LeaveApprovalUpdateRequest updateRequest) {
 
-        leaveRequestApprovalService.updateLeaveApproval(approvalId, updateRequest);
+        leaveApprovalFacade.updateLeaveApproval(approvalId, updateRequest);
 
         return ResponseEntity.status(HttpStatus.OK).body("휴가 신청 상태 변경");
     }
 
+    /**
+     * 여러 휴가 결재를 한 번에 승인 또는 반려한다.
+     *
+     * @param request 결재 일괄 처리 요청
+     * @return 결재 건별 처리 결과
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<LeaveApprovalBulkResponse> bulkUpdateLeaveApproval(
+            @RequestBody @Valid LeaveApprovalBulkRequest request) {
+
+        LeaveApprovalBulkResponse response = leaveApprovalFacade.bulkUpdateLeaveApproval(request);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     /**
      * 특정 휴가 결재 정보를 조회한다.
      *
@@ -73,5 +100,38 @@ public class LeaveRequestApprovalController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    /**
+     * 결재자의 결재함(대기 중인 활성 결재)을 키셋 페이징으로 조회한다.
+     *
+     * @param approverId 결재자 ID
+     * @param cursorCreatedAt 직전 페이지 마지막 건의 생성 일시 (첫 페이지는 생략)
+     * @param cursorId 직전 페이지 마지막 건의 ID (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 결재함 응답
+     */
+    @GetMapping("/inbox/{approverId}")
+    public ResponseEntity<LeaveApprovalInboxResponse> getInbox(
+            @PathVariable Long approverId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
+
+        LeaveApprovalInboxResponse response = approvalInboxService.getInbox(approverId, cursorCreatedAt, cursorId, size);
 
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * 결재자의 대기 결재 건수를 조회한다.
+     *
+     * @param approverId 결재자 ID
+     * @return 결재자 대기 건수 응답
+     */
+    @GetMapping("/inbox/{approverId}/count")
+    public ResponseEntity<ApproverPendingCountResponse> getPendingCount(@PathVariable Long approverId) {
+
+        ApproverPendingCountResponse response = approvalInboxService.getPendingCount(approverId);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
 }
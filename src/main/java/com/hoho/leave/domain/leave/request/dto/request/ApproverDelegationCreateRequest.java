@@ -0,0 +1,45 @@
+package com.hoho.leave.domain.leave.request.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 결재자 위임 생성 요청 DTO.
+ * 
+ * 결재자가 부재 기간 동안 결재 권한을 위임할 때 필요한 정보를 담는다.
+ * 
+ */
+@Data
+public class ApproverDelegationCreateRequest {
+    /**
+     * 위임자(원 결재자) ID
+     */
+    @NotNull
+    Long delegatorId;
+
+    /**
+     * 수임자 ID
+     */
+    @NotNull
+    Long delegateId;
+
+    /**
+     * 시작일
+     */
+    @NotNull
+    LocalDate startDate;
+
+    /**
+     * 종료일 (생략 시 무기한)
+     */
+    LocalDate endDate;
+
+    /**
+     * 메모
+     */
+    @Size(max = 500)
+    String comment;
+}
@@ -0,0 +1,54 @@
+package com.hoho.leave.domain.leave.request.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * 분할 업로드 시작 요청 DTO.
+ * 
+ * 큰 첨부파일을 청크 단위로 나눠 올리기 전에 파일 정보와 전체 체크섬을 등록한다.
+ * 
+ */
+@Data
+public class ChunkedUploadInitRequest {
+    /**
+     * 사용자 ID
+     */
+    @NotNull
+    Long userId;
+
+    /**
+     * 휴가 신청 ID
+     */
+    @NotNull
+    Long leaveRequestId;
+
+    /**
+     * 원본 파일명
+     */
+    @NotBlank
+    String fileName;
+
+    /**
+     * 컨텐츠 타입
+     */
+    @NotBlank
+    String contentType;
+
+    /**
+     * 전체 크기 (bytes)
+     */
+    @NotNull
+    @Positive
+    Long totalSize;
+
+    /**
+     * 전체 파일 SHA-256 (hex)
+     */
+    @NotNull
+    @Pattern(regexp = "^[0-9a-fA-F]{64}$")
+    String sha256;
+}
@@ -0,0 +1,42 @@
+package com.hoho.leave.domain.leave.request.dto.request;
+
+import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 휴가 결재 일괄 처리 요청 DTO.
+ * 
+ * 여러 결재 건을 한 번에 승인 또는 반려할 때 필요한 정보를 담는다.
+ * 
+ */
+@Data
+public class LeaveApprovalBulkRequest {
+    /**
+     * 처리자 ID (본인 결재 또는 위임받은 결재를 처리)
+     */
+    @NotNull
+    Long approverId;
+
+    /**
+     * 처리할 결재 ID 목록
+     */
+    @NotEmpty
+    @Size(max = 200)
+    List<Long> approvalIds;
+
+    /**
+     * 결재 상태 (APPROVED / REJECTED)
+     */
+    @NotNull
+    ApprovalStatus status;
+
+    /**
+     * 결재 의견
+     */
+    String comment;
+}
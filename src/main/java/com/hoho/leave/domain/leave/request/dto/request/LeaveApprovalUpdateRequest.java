@@ -1,6 +1,7 @@
 package com.hoho.leave.domain.leave.request.dto.request;
 
 import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 /**
@@ -12,8 +13,15 @@ import lombok.Data;
 @Data
 public class LeaveApprovalUpdateRequest {
     /**
-     * 결재 상태
+     * 처리자 ID
      */
+    @NotNull
+    Long actorId;
+
+    /**
+     * 결재 상태 (APPROVED / REJECTED)
+     */
+    @NotNull
     ApprovalStatus status;
 
     /**
@@ -0,0 +1,82 @@
+package com.hoho.leave.domain.leave.request.dto.response;
+
+import com.hoho.leave.domain.leave.request.entity.ApproverDelegation;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 결재자 위임 응답 DTO.
+ * 
+ * 결재자 위임 정보를 담는다.
+ * 
+ */
+@Data
+public class ApproverDelegationResponse {
+    /**
+     * 위임 ID
+     */
+    Long delegationId;
+
+    /**
+     * 위임자 ID
+     */
+    Long delegatorId;
+
+    /**
+     * 위임자명
+     */
+    String delegatorName;
+
+    /**
+     * 수임자 ID
+     */
+    Long delegateId;
+
+    /**
+     * 수임자명
+     */
+    String delegateName;
+
+    /**
+     * 시작일
+     */
+    LocalDate startDate;
+
+    /**
+     * 종료일
+     */
+    LocalDate endDate;
+
+    /**
+     * 활성 여부
+     */
+    boolean active;
+
+    /**
+     * 메모
+     */
+    String comment;
+
+    /**
+     * 엔티티로부터 응답 DTO를 생성한다.
+     *
+     * @param delegation 결재자 위임 엔티티
+     * @return 결재자 위임 응답 DTO
+     */
+    public static ApproverDelegationResponse of(ApproverDelegation delegation) {
+        ApproverDelegationResponse response = new ApproverDelegationResponse();
+
+        response.delegationId = delegation.getId();
+        response.delegatorId = delegation.getDelegator().getId();
+        response.delegatorName = delegation.getDelegator().getUsername();
+        response.delegateId = delegation.getDelegate().getId();
+        response.delegateName = delegation.getDelegate().getUsername();
+        response.startDate = delegation.getStartDate();
+        response.endDate = delegation.getEndDate();
+        response.active = delegation.isActive();
+        response.comment = delegation.getComment();
+
+        return response;
+    }
+}
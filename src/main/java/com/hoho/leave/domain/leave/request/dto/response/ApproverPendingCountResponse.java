@@ -0,0 +1,38 @@
+package com.hoho.leave.domain.leave.request.dto.response;
+
+import lombok.Data;
+
+/**
+ * 결재자 대기 건수 응답 DTO.
+ * 
+ * 대시보드 배지에 표시할 결재 대기 건수를 담는다.
+ * 
+ */
+@Data
+public class ApproverPendingCountResponse {
+    /**
+     * 결재자 ID
+     */
+    Long approverId;
+
+    /**
+     * 대기 중인 결재 건수
+     */
+    Long pendingCount;
+
+    /**
+     * 결재자 ID와 대기 건수로 응답 DTO를 생성한다.
+     *
+     * @param approverId 결재자 ID
+     * @param pendingCount 대기 건수
+     * @return 결재자 대기 건수 응답 DTO
+     */
+    public static ApproverPendingCountResponse of(Long approverId, Long pendingCount) {
+        ApproverPendingCountResponse response = new ApproverPendingCountResponse();
+
+        response.approverId = approverId;
+        response.pendingCount = pendingCount;
+
+        return response;
+    }
+}
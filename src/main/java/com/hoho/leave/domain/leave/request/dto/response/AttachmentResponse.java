@@ -34,6 +34,26 @@ public class AttachmentResponse {
      */
     Long size;
 
+    /**
+     * 재압축 전 파일 크기 (bytes), 재압축하지 않았으면 null
+     */
+    Long originalSize;
+
+    /**
+     * 이미지 너비(px), 이미지가 아니면 null
+     */
+    Integer imageWidth;
+
+    /**
+     * 이미지 높이(px), 이미지가 아니면 null
+     */
+    Integer imageHeight;
+
+    /**
+     * PDF 페이지 수, 알 수 없으면 null
+     */
+    Integer pageCount;
+
     /**
      * 업로드한 사용자명
      */
@@ -58,8 +78,12 @@ public class AttachmentResponse {
         response.originalName = attachment.getOriginalName();
         response.storeName = attachment.getStoreName();
         response.size = attachment.getSizeBytes();
+        response.originalSize = attachment.getOriginalSizeBytes();
+        response.imageWidth = attachment.getImageWidth();
+        response.imageHeight = attachment.getImageHeight();
+        response.pageCount = attachment.getPageCount();
         response.uploadBy = attachment.getUploadedBy().getUsername();
-        response.uploadAt = attachment.getUpdatedAt();
+        response.uploadAt = attachment.getCreatedAt();
 
         return response;
     }
@@ -0,0 +1,66 @@
+package com.hoho.leave.domain.leave.request.dto.response;
+
+import com.hoho.leave.domain.leave.request.service.support.ChunkBitmap;
+import com.hoho.leave.domain.leave.request.service.support.ChunkedUpload;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 분할 업로드 상태 응답 DTO.
+ * 
+ * 클라이언트가 끊긴 업로드를 이어서 보낼 수 있도록 청크 크기와 아직 받지 못한 청크를 담는다.
+ * 
+ */
+@Data
+public class ChunkedUploadStatusResponse {
+    /**
+     * 업로드 ID
+     */
+    String uploadId;
+
+    /**
+     * 전체 크기 (bytes)
+     */
+    Long totalSize;
+
+    /**
+     * 청크 크기 (bytes)
+     */
+    Integer chunkSize;
+
+    /**
+     * 받은 크기 (bytes)
+     */
+    Long receivedBytes;
+
+    /**
+     * 받지 못한 청크 번호 목록 (오프셋 = 번호 x 청크 크기)
+     */
+    List<Integer> missingChunks;
+
+    /**
+     * 모든 청크 수신 여부
+     */
+    Boolean complete;
+
+    /**
+     * 세션 정보와 수신 비트맵으로 응답 DTO를 생성한다.
+     *
+     * @param upload 분할 업로드 세션 정보
+     * @param bitmap 청크 수신 비트맵
+     * @return 분할 업로드 상태 응답 DTO
+     */
+    public static ChunkedUploadStatusResponse of(ChunkedUpload upload, ChunkBitmap bitmap) {
+        ChunkedUploadStatusResponse response = new ChunkedUploadStatusResponse();
+
+        response.uploadId = upload.getUploadId();
+        response.totalSize = upload.getTotalSize();
+        response.chunkSize = upload.getChunkSize();
+        response.receivedBytes = upload.receivedBytes(bitmap);
+        response.missingChunks = bitmap.missing();
+        response.complete = bitmap.isComplete();
+
+        return response;
+    }
+}
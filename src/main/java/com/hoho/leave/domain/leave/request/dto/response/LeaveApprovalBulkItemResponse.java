@@ -0,0 +1,56 @@
+package com.hoho.leave.domain.leave.request.dto.response;
+
+import lombok.Data;
+
+/**
+ * 휴가 결재 일괄 처리 건별 결과 DTO.
+ * 
+ * 개별 결재 건의 처리 결과를 담는다.
+ * 
+ */
+@Data
+public class LeaveApprovalBulkItemResponse {
+    /**
+     * 결재 ID
+     */
+    Long approvalId;
+
+    /**
+     * 처리 결과
+     */
+    Outcome outcome;
+
+    /**
+     * 결재 ID와 처리 결과로 응답 DTO를 생성한다.
+     *
+     * @param approvalId 결재 ID
+     * @param outcome 처리 결과
+     * @return 건별 처리 결과 DTO
+     */
+    public static LeaveApprovalBulkItemResponse of(Long approvalId, Outcome outcome) {
+        LeaveApprovalBulkItemResponse response = new LeaveApprovalBulkItemResponse();
+
+        response.approvalId = approvalId;
+        response.outcome = outcome;
+
+        return response;
+    }
+
+    /**
+     * 결재 건별 처리 결과.
+     */
+    public enum Outcome {
+        /** 반영됨 */
+        APPLIED,
+        /** 존재하지 않는 결재 */
+        NOT_FOUND,
+        /** 결재 권한 없음 */
+        FORBIDDEN,
+        /** 이전 단계 결재가 끝나지 않아 아직 활성화되지 않은 결재 */
+        NOT_ACTIVE,
+        /** 이미 처리된 결재 */
+        ALREADY_DECIDED,
+        /** 처리 중 다른 요청과 충돌 */
+        CONFLICT
+    }
+}
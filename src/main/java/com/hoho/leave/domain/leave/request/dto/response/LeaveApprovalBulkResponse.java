@@ -0,0 +1,47 @@
+package com.hoho.leave.domain.leave.request.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 휴가 결재 일괄 처리 응답 DTO.
+ * 
+ * 결재 건별 처리 결과와 집계 정보를 담는다.
+ * 
+ */
+@Data
+public class LeaveApprovalBulkResponse {
+    /**
+     * 요청된 결재 건수
+     */
+    Integer requested;
+
+    /**
+     * 실제 반영된 결재 건수
+     */
+    Integer applied;
+
+    /**
+     * 결재 건별 처리 결과
+     */
+    List<LeaveApprovalBulkItemResponse> results;
+
+    /**
+     * 건별 처리 결과로 응답 DTO를 생성한다.
+     *
+     * @param results 결재 건별 처리 결과
+     * @return 일괄 처리 응답 DTO
+     */
+    public static LeaveApprovalBulkResponse of(List<LeaveApprovalBulkItemResponse> results) {
+        LeaveApprovalBulkResponse response = new LeaveApprovalBulkResponse();
+
+        response.requested = results.size();
+        response.applied = (int) results.stream()
+                .filter(r -> r.getOutcome() == LeaveApprovalBulkItemResponse.Outcome.APPLIED)
+                .count();
+        response.results = results;
+
+        return response;
+    }
+}
@@ -0,0 +1,56 @@
+package com.hoho.leave.domain.leave.request.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결재함 응답 DTO.
+ * 
+ * 키셋 페이징된 대기 결재 목록과 다음 페이지 커서를 담는다.
+ * 
+ */
+@Data
+public class LeaveApprovalInboxResponse {
+    /**
+     * 대기 중인 휴가 결재 목록
+     */
+    List<LeaveApprovalResponse> leaveApprovals;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    Boolean hasNext;
+
+    /**
+     * 다음 페이지 커서 - 생성 일시
+     */
+    LocalDateTime nextCursorCreatedAt;
+
+    /**
+     * 다음 페이지 커서 - 결재 ID
+     */
+    Long nextCursorId;
+
+    /**
+     * 결재 목록과 다음 페이지 정보로 응답 DTO를 생성한다.
+     *
+     * @param leaveApprovals 휴가 결재 목록
+     * @param hasNext 다음 페이지 존재 여부
+     * @param nextCursorCreatedAt 다음 페이지 커서 - 생성 일시
+     * @param nextCursorId 다음 페이지 커서 - 결재 ID
+     * @return 결재함 응답 DTO
+     */
+    public static LeaveApprovalInboxResponse of(List<LeaveApprovalResponse> leaveApprovals, boolean hasNext,
+                                                LocalDateTime nextCursorCreatedAt, Long nextCursorId) {
+        LeaveApprovalInboxResponse response = new LeaveApprovalInboxResponse();
+
+        response.leaveApprovals = leaveApprovals;
+        response.hasNext = hasNext;
+        response.nextCursorCreatedAt = nextCursorCreatedAt;
+        response.nextCursorId = nextCursorId;
+
+        return response;
+    }
+}
@@ -26,6 +26,11 @@ public class LeaveApprovalResponse {
      */
     ApprovalStatus status;
 
+    /**
+     * 지정된 결재자 ID (위임받은 결재면 수임자가 아닌 원 결재자)
+     */
+    Long approverId;
+
     /**
      * 신청자 ID
      */
@@ -72,9 +77,10 @@ public class LeaveApprovalResponse {
 
         response.approvalId = request.getId();
         response.status = request.getStatus();
+        response.approverId = request.getApprover().getId();
         response.authorId = request.getLeaveRequest().getUser().getId();
         response.authorName = request.getLeaveRequest().getUser().getUsername();
-        response.quantityDays = request.getLeaveRequest().getQuantityDays();
+        response.quantityDays = request.getLeaveRequest().getQuantityDays().toBigDecimal();
         response.startDay = request.getLeaveRequest().getStartDay();
         response.endDay = request.getLeaveRequest().getEndDay();
         response.startTime = request.getLeaveRequest().getStartTime();
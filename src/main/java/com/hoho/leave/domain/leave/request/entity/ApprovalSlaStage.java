@@ -0,0 +1,16 @@
+package com.hoho.leave.domain.leave.request.entity;
+
+/**
+ * 결재 처리 기한(SLA) 단계.
+ * 
+ * 대기 중인 결재가 기한을 넘겼을 때 어디까지 조치되었는지를 나타낸다.
+ * 
+ */
+public enum ApprovalSlaStage {
+    /** 조치 없음 */
+    NONE,
+    /** 결재자에게 기한 경과 알림 발송 */
+    REMINDED,
+    /** 다음 결재자(또는 관리자)에게 에스컬레이션 알림 발송 (결재자는 바뀌지 않음) */
+    ESCALATED,
+}
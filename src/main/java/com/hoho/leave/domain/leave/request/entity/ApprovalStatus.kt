@@ -1,7 +1,9 @@
 package com.hoho.leave.domain.leave.request.entity
 
 enum class ApprovalStatus {
+    WAITING,    // 이전 단계 미결로 아직 활성화되지 않음
     PENDING,
     APPROVED,
-    REJECTED
-}
\ No newline at end of file
+    REJECTED,
+    SKIPPED     // 앞 단계 반려로 처리되지 않고 종료됨
+}
@@ -3,7 +3,9 @@ package com.hoho.leave.domain.leave.request.entity;
 import com.hoho.leave.domain.shared.BaseEntity;
 import com.hoho.leave.domain.user.entity.User;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
@@ -20,8 +22,13 @@ import java.time.LocalDate;
         uniqueConstraints = {
                 // 정책 예시) 같은 위임자(delegator)가 같은 '시작일'로 중복 등록 금지
                 @UniqueConstraint(name = "uq_ad_delegator_start", columnNames = {"delegator_id", "start_date"})
+        },
+        indexes = {
+                // 위임 해석기 증분 갱신: 마지막 반영 시각 이후 변경분 조회
+                @Index(name = "idx_ad_updated_at", columnList = "updated_at")
         }
 )
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ApproverDelegation extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -51,4 +58,34 @@ public class ApproverDelegation extends BaseEntity {
     /** 메모 */
     @Column(name = "comment", length = 500)
     private String comment;
+
+    /**
+     * 결재자 위임을 생성한다.
+     *
+     * @param delegator 위임자(원 승인자)
+     * @param delegate 수임자
+     * @param startDate 시작일
+     * @param endDate 종료일 (null = 무기한)
+     * @param comment 메모
+     * @return 생성된 결재자 위임 엔티티
+     */
+    public static ApproverDelegation create(User delegator, User delegate,
+                                            LocalDate startDate, LocalDate endDate, String comment) {
+        ApproverDelegation delegation = new ApproverDelegation();
+
+        delegation.delegator = delegator;
+        delegation.delegate = delegate;
+        delegation.startDate = startDate;
+        delegation.endDate = endDate;
+        delegation.comment = comment;
+
+        return delegation;
+    }
+
+    /**
+     * 위임을 철회한다.
+     */
+    public void revoke() {
+        this.active = false;
+    }
 }
@@ -0,0 +1,34 @@
+package com.hoho.leave.domain.leave.request.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재자별 대기 건수 엔티티.
+ * 
+ * 결재 상태가 바뀔 때마다 함께 갱신되는 비정규화 카운터로,
+ * 대시보드 배지를 집계 쿼리 없이 한 행 조회로 제공한다.
+ * 
+ */
+@Entity
+@Getter
+@Table(name = "approver_pending_count")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApproverPendingCount {
+    /** 결재자 ID */
+    @Id
+    @Column(name = "approver_id")
+    private Long approverId;
+
+    /** 대기 중인 결재 건수 */
+    @Column(name = "pending_count", nullable = false)
+    private Long pendingCount;
+
+    /** 수정 일시 */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,62 @@
+package com.hoho.leave.domain.leave.request.entity;
+
+import com.hoho.leave.domain.shared.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * 첨부파일 내용(blob) 엔티티.
+ * 
+ * 같은 내용의 파일은 SHA-256 기준으로 한 번만 저장하고, 첨부파일들이 참조 수로 공유한다.
+ * 참조 수가 0이 되면 정리 대상 시각을 남기고, 실제 파일 삭제는 스위퍼가 유예 시간 후에 처리한다.
+ * 행은 업로드 시 INSERT ... ON DUPLICATE KEY UPDATE로만 생성/증가한다.
+ * 오래된 휴가 신청의 내용은 보관 계층으로 옮겨지며(tier), 로컬 사본은 캐시로만 남는다.
+ * 
+ */
+@Entity
+@Getter
+@Table(
+        name = "attachment_blob",
+        uniqueConstraints = {
+                // 내용당 하나
+                @UniqueConstraint(name = "uq_ab_sha256", columnNames = {"sha256"})
+        },
+        indexes = {
+                // 참조가 끊긴 blob 정리
+                @Index(name = "idx_ab_orphaned_at", columnList = "orphaned_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AttachmentBlob extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sha256", nullable = false, length = 64)
+    private String sha256;                  // 내용 SHA-256 (hex)
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @Column(name = "storage_key", nullable = false)
+    private String storageKey;              // 저장소 기준 상대 경로 (예: ab/cd/abcd...)
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;                   // 이 내용을 참조하는 첨부파일 수
+
+    @Column(name = "orphaned_at")
+    private LocalDateTime orphanedAt;       // 참조 수가 0이 된 시각 (참조 중이면 null)
+
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'LOCAL'")
+    @Column(name = "tier", nullable = false, length = 16)
+    private StorageTier tier = StorageTier.LOCAL;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;       // 보관 계층으로 옮긴 시각
+}
@@ -1,14 +1,16 @@
 package com.hoho.leave.domain.leave.request.entity;
 
+import com.hoho.leave.common.exception.BusinessException;
 import com.hoho.leave.domain.leave.policy.entity.LeaveType;
 import com.hoho.leave.domain.leave.request.dto.request.LeaveRequestCreateRequest;
 import com.hoho.leave.domain.shared.BaseEntity;
+import com.hoho.leave.domain.shared.DayQuantity;
 import com.hoho.leave.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -46,7 +48,7 @@ public class LeaveRequest extends BaseEntity {
 
     /** 총 사용량 */
     @Column(name = "quantity_days", nullable = false, precision = 5, scale = 2)
-    private BigDecimal quantityDays; 
+    private DayQuantity quantityDays;
 
     /** 시작/종료일 */
     @Column(name = "start_day", nullable = false)
@@ -62,6 +64,12 @@ public class LeaveRequest extends BaseEntity {
     @Column(name = "end_time")
     private LocalTime endTime;
 
+    /** 낙관적 잠금 버전 (신청자/결재자 동시 변경 시 갱신 유실 방지) */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /** 첨부파일(복수) */
     @OneToMany(mappedBy = "leaveRequest", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<LeaveRequestAttachment> attachments = new ArrayList<>();
@@ -75,7 +83,7 @@ public class LeaveRequest extends BaseEntity {
     public static LeaveRequest create(LeaveRequestCreateRequest request) {
         LeaveRequest leaveRequest = new LeaveRequest();
 
-        leaveRequest.quantityDays = request.getQuantityDays();
+        leaveRequest.quantityDays = DayQuantity.of(request.getQuantityDays());
         leaveRequest.startDay = request.getStartDay();
         leaveRequest.endDay = request.getEndDay();
         leaveRequest.startTime = request.getStartTime();
@@ -125,9 +133,18 @@ public class LeaveRequest extends BaseEntity {
     /**
      * 휴가 신청 상태를 변경한다.
      *
+     * 대기 중인 신청만 승인/반려/취소로 종료할 수 있다. 종료된 신청(승인/반려/취소)은 다시 변경할 수 없고,
+     * 대기 상태로 되돌릴 수도 없다.
+     *
      * @param status 변경할 상태
      */
     public void updateStatus(LeaveRequestStatus status) {
+        if (this.status != LeaveRequestStatus.PENDING) {
+            throw new BusinessException("이미 종료된 휴가 신청입니다. : " + this.status);
+        }
+        if (status == LeaveRequestStatus.PENDING) {
+            throw new BusinessException("대기 상태로는 변경할 수 없습니다.");
+        }
         this.status = status;
     }
 }
@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +14,8 @@ import java.time.LocalDateTime;
  * 휴가 결재 엔티티.
  * 
  * 휴가 신청에 대한 결재 단계별 승인 정보를 관리한다.
+ * 생성 후의 모든 변경은 리포지토리의 조건부 벌크 갱신(예: status = 'PENDING'인 행만)으로 하며,
+ * 동시에 처리된 결재는 그 조건에 걸려 갱신 행 수 0으로 드러난다. 엔티티 버전(@Version)으로는 보호하지 않는다.
  * 
  */
 @Entity
@@ -22,6 +25,12 @@ import java.time.LocalDateTime;
         uniqueConstraints = {
                 // 한 신청건 + 같은 단계 중복 방지 (단일 승인자 단계일 때)
                 @UniqueConstraint(name = "uq_lra_request_step", columnNames = {"leave_request_id", "step_no"})
+        },
+        indexes = {
+                // 결재함 조회: 결재자별 대기 건을 생성일 순으로 키셋 페이징
+                @Index(name = "idx_lra_inbox", columnList = "approver_id, status, created_at"),
+                // 기동 시 SLA 타이머 적재: 대기 중이고 기한이 있는 결재
+                @Index(name = "idx_lra_sla", columnList = "status, due_at")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -56,6 +65,18 @@ public class LeaveRequestApproval extends BaseEntity {
     @Column(name = "acted_at")
     private LocalDateTime actedAt;        // 실제 처리 시각
 
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;          // 처리 기한 (단계가 활성화될 때 정해짐)
+
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'NONE'")
+    @Column(name = "sla_stage", nullable = false, length = 20)
+    private ApprovalSlaStage slaStage = ApprovalSlaStage.NONE;   // 기한 경과 조치 단계
+
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;                 // 변경 횟수 (벌크 갱신마다 1 증가, 낙관적 잠금에는 쓰지 않음)
+
     /**
      * 휴가 결재를 생성한다.
      *
@@ -73,17 +94,4 @@ public class LeaveRequestApproval extends BaseEntity {
 
         return approval;
     }
-
-    /**
-     * 결재 정보를 수정한다.
-     *
-     * @param status 결재 상태
-     * @param comment 결재 의견
-     */
-    public void update(ApprovalStatus status, String comment) {
-        this.status = status;
-        this.comment = comment;
-        this.actedBy = null;
-        this.actedAt = LocalDateTime.now();
-    }
 }
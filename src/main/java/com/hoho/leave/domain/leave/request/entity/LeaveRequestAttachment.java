@@ -15,9 +15,11 @@ import lombok.*;
 @Getter
 @Table(
         name = "leave_request_attachment",
-        uniqueConstraints = {
-                // 같은 물리 파일 경로는 한 번만(스토리지 키가 유일하다면 권장)
-                @UniqueConstraint(name = "uq_lra_file_path", columnNames = {"file_path"})
+        indexes = {
+                // 저장 파일명으로 조회/다운로드
+                @Index(name = "idx_lra_store_name", columnList = "store_Name"),
+                // 같은 내용(blob)은 여러 첨부파일이 공유하므로 파일 경로는 유일하지 않다
+                @Index(name = "idx_lra_file_path", columnList = "file_path")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -45,6 +47,29 @@ public class LeaveRequestAttachment extends BaseEntity {
     @Column(name = "size_bytes", nullable = false)
     private Long sizeBytes;
 
+    @Column(name = "content_sha256", length = 64)
+    private String contentHash;             // 내용 SHA-256 (hex). 다운로드 ETag로 사용, 도입 이전 파일은 null
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_id")
+    private AttachmentBlob blob;            // 공유 내용. 도입 이전 파일은 null (파일을 단독 소유)
+
+    @Column(name = "image_width")
+    private Integer imageWidth;             // 이미지 너비(px), 이미지가 아니거나 도입 이전 파일은 null
+
+    @Column(name = "image_height")
+    private Integer imageHeight;            // 이미지 높이(px)
+
+    @Column(name = "page_count")
+    private Integer pageCount;              // PDF 페이지 수, 알 수 없으면 null
+
+    @Column(name = "original_size_bytes")
+    private Long originalSizeBytes;         // 재압축 전 크기, 재압축하지 않았으면 null
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "original_blob_id")
+    private AttachmentBlob originalBlob;    // 보관 정책으로 남긴 재압축 전 원본, 없으면 null
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by_id", nullable = false)
     private User uploadedBy;
@@ -56,24 +81,60 @@ public class LeaveRequestAttachment extends BaseEntity {
      * @param storeName 저장된 파일명
      * @param filePath 파일 경로
      * @param contentType 컨텐츠 타입
-     * @param sizeBytes 파일 크기 (bytes)
+     * @param blob 공유 내용
      * @param uploadedBy 업로드한 사용자
      * @return 생성된 첨부파일 엔티티
      */
     public static LeaveRequestAttachment create(String originalName, String storeName, String filePath,
-                                                String contentType, Long sizeBytes, User uploadedBy) {
+                                                String contentType, AttachmentBlob blob, User uploadedBy) {
         LeaveRequestAttachment attachment = new LeaveRequestAttachment();
 
         attachment.originalName = originalName;
         attachment.storeName = storeName;
         attachment.filePath = filePath;
         attachment.contentType = contentType;
-        attachment.sizeBytes = sizeBytes;
+        attachment.sizeBytes = blob.getSizeBytes();
+        attachment.contentHash = blob.getSha256();
+        attachment.blob = blob;
         attachment.uploadedBy = uploadedBy;
 
         return attachment;
     }
 
+    /**
+     * 업로드 시 내용에서 읽은 메타데이터를 기록한다.
+     *
+     * @param imageWidth 이미지 너비(px)
+     * @param imageHeight 이미지 높이(px)
+     * @param pageCount PDF 페이지 수
+     */
+    public void describeContent(Integer imageWidth, Integer imageHeight, Integer pageCount) {
+        this.imageWidth = imageWidth;
+        this.imageHeight = imageHeight;
+        this.pageCount = pageCount;
+    }
+
+    /**
+     * 재압축된 내용으로 바꾼다. 처음 크기는 한 번만 기록한다.
+     *
+     * @param blob 재압축된 내용
+     * @param filePath 재압축된 파일 경로
+     * @param imageWidth 재압축 후 이미지 너비(px)
+     * @param imageHeight 재압축 후 이미지 높이(px)
+     * @param originalBlob 보관할 원본 (보관하지 않으면 null)
+     */
+    public void replaceContent(AttachmentBlob blob, String filePath, Integer imageWidth, Integer imageHeight,
+                               AttachmentBlob originalBlob) {
+        if (this.originalSizeBytes == null) this.originalSizeBytes = this.sizeBytes;
+        this.originalBlob = originalBlob;
+        this.blob = blob;
+        this.filePath = filePath;
+        this.sizeBytes = blob.getSizeBytes();
+        this.contentHash = blob.getSha256();
+        this.imageWidth = imageWidth;
+        this.imageHeight = imageHeight;
+    }
+
     /**
      * 휴가 신청을 설정한다.
      *
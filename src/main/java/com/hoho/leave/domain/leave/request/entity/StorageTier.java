@@ -0,0 +1,14 @@
+package com.hoho.leave.domain.leave.request.entity;
+
+/**
+ * 첨부파일 내용(blob) 저장 계층.
+ * 
+ * 로컬 디스크 사본은 계층과 무관하게 캐시로 취급한다. 보관 계층 blob도 읽히면 로컬로 복원된다.
+ * 
+ */
+public enum StorageTier {
+    /** 로컬 디스크(hot)에만 있음 */
+    LOCAL,
+    /** 보관 저장소(cold)로 옮겨짐 */
+    ARCHIVE,
+}
@@ -0,0 +1,141 @@
+package com.hoho.leave.domain.leave.request.repository;
+
+import com.hoho.leave.domain.leave.request.entity.ApproverDelegation;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결재자 위임 리포지토리.
+ * 
+ * 결재자 위임 정보의 데이터 접근을 담당한다.
+ * 
+ */
+public interface ApproverDelegationRepository extends JpaRepository<ApproverDelegation, Long> {
+    /**
+     * 위임자의 위임 목록을 시작일 역순으로 조회한다.
+     *
+     * @param delegatorId 위임자 ID
+     * @return 위임 목록
+     */
+    @EntityGraph(attributePaths = {"delegator", "delegate"})
+    List<ApproverDelegation> findByDelegatorIdOrderByStartDateDesc(Long delegatorId);
+
+    /**
+     * 위임자의 활성 위임 중 기간이 겹치는 위임이 있는지 확인한다.
+     *
+     * @param delegatorId 위임자 ID
+     * @param from 시작일
+     * @param to 종료일 (무기한이면 충분히 먼 날짜)
+     * @return 존재 여부
+     */
+    @Query("""
+        select count(d) > 0
+          from ApproverDelegation d
+         where d.delegator.id = :delegatorId
+           and d.active = true
+           and d.startDate <= :to
+           and (d.endDate is null or d.endDate >= :from)
+    """)
+    boolean existsOverlapping(@Param("delegatorId") Long delegatorId,
+                              @Param("from") LocalDate from,
+                              @Param("to") LocalDate to);
+
+    /**
+     * 기준일 이후에도 유효한 활성 위임을 조회한다. 위임 해석기 초기 적재에 사용한다.
+     *
+     * @param date 기준일
+     * @return 위임 정보 목록
+     */
+    @Query("""
+        select d.id as delegationId,
+               d.delegator.id as delegatorId,
+               d.delegate.id as delegateId,
+               d.startDate as startDate,
+               d.endDate as endDate,
+               d.active as active,
+               d.updatedAt as updatedAt
+          from ApproverDelegation d
+         where d.active = true
+           and (d.endDate is null or d.endDate >= :date)
+    """)
+    List<DelegationRow> findEffectiveFrom(@Param("date") LocalDate date);
+
+    /**
+     * 지정 시각 이후 변경된 위임을 조회한다. 철회된 위임도 포함한다.
+     *
+     * @param since 마지막 반영 시각
+     * @return 위임 정보 목록
+     */
+    @Query("""
+        select d.id as delegationId,
+               d.delegator.id as delegatorId,
+               d.delegate.id as delegateId,
+               d.startDate as startDate,
+               d.endDate as endDate,
+               d.active as active,
+               d.updatedAt as updatedAt
+          from ApproverDelegation d
+         where d.updatedAt >= :since
+    """)
+    List<DelegationRow> findChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 위임 정보를 담는 프로젝션 인터페이스.
+     */
+    interface DelegationRow {
+        /**
+         * 위임 ID를 반환한다.
+         *
+         * @return 위임 ID
+         */
+        Long getDelegationId();
+
+        /**
+         * 위임자 ID를 반환한다.
+         *
+         * @return 위임자 ID
+         */
+        Long getDelegatorId();
+
+        /**
+         * 수임자 ID를 반환한다.
+         *
+         * @return 수임자 ID
+         */
+        Long getDelegateId();
+
+        /**
+         * 시작일을 반환한다.
+         *
+         * @return 시작일
+         */
+        LocalDate getStartDate();
+
+        /**
+         * 종료일을 반환한다.
+         *
+         * @return 종료일 (null = 무기한)
+         */
+        LocalDate getEndDate();
+
+        /**
+         * 활성 여부를 반환한다.
+         *
+         * @return 활성 여부
+         */
+        Boolean getActive();
+
+        /**
+         * 수정 일시를 반환한다.
+         *
+         * @return 수정 일시
+         */
+        LocalDateTime getUpdatedAt();
+    }
+}
@@ -0,0 +1,73 @@
+package com.hoho.leave.domain.leave.request.repository;
+
+import com.hoho.leave.domain.leave.request.entity.ApproverPendingCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 결재자별 대기 건수 리포지토리.
+ * 
+ * 결재자별 대기 건수 카운터의 데이터 접근을 담당한다.
+ * 
+ */
+public interface ApproverPendingCountRepository extends JpaRepository<ApproverPendingCount, Long> {
+    /**
+     * 결재자의 대기 건수를 증감한다. 행이 없으면 새로 만든다.
+     * 음수로 내려가지 않도록 0에서 멈춘다.
+     *
+     * @param approverId 결재자 ID
+     * @param delta 증감량
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO approver_pending_count (approver_id, pending_count, updated_at)
+        VALUES (:approverId, GREATEST(:delta, 0), NOW(6))
+        ON DUPLICATE KEY UPDATE
+            pending_count = GREATEST(pending_count + :delta, 0),
+            updated_at = NOW(6)
+        """, nativeQuery = true)
+    void addPendingCount(@Param("approverId") Long approverId, @Param("delta") long delta);
+
+    /**
+     * 대기 결재가 있지만 카운터 행이 없는 결재자의 카운터를 만든다. 카운터 보정 시 사용한다.
+     * 그 사이 다른 트랜잭션이 행을 만들었으면 그대로 둔다. (이어지는 보정 UPDATE가 값을 맞춘다)
+     *
+     * @return 생성된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO approver_pending_count (approver_id, pending_count, updated_at)
+        SELECT a.approver_id, COUNT(*), NOW(6)
+          FROM leave_request_approval a
+          LEFT JOIN approver_pending_count pc ON pc.approver_id = a.approver_id
+         WHERE a.status = 'PENDING'
+           AND pc.approver_id IS NULL
+         GROUP BY a.approver_id
+        ON DUPLICATE KEY UPDATE approver_pending_count.updated_at = approver_pending_count.updated_at
+        """, nativeQuery = true)
+    int insertMissingCounts();
+
+    /**
+     * 모든 카운터를 실제 대기 결재 수로 한 번에 맞춘다. 카운터 보정 시 사용한다.
+     * 집계와 갱신을 한 문장에서 처리하므로 그 사이 커밋된 증감이 덮어써지지 않는다.
+     * 결재자별 집계는 (approver_id, status, created_at) 인덱스 범위만 읽는다.
+     *
+     * @return 값이 바뀐 행 수 (어긋나 있던 카운터 수)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE approver_pending_count pc
+           SET pending_count = (SELECT COUNT(*)
+                                  FROM leave_request_approval a
+                                 WHERE a.approver_id = pc.approver_id
+                                   AND a.status = 'PENDING'),
+               updated_at = NOW(6)
+         WHERE pc.pending_count <> (SELECT COUNT(*)
+                                      FROM leave_request_approval a
+                                     WHERE a.approver_id = pc.approver_id
+                                       AND a.status = 'PENDING')
+        """, nativeQuery = true)
+    int reconcileCounts();
+}
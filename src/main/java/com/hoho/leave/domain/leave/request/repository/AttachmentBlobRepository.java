@@ -0,0 +1,187 @@
+package com.hoho.leave.domain.leave.request.repository;
+
+import com.hoho.leave.domain.leave.request.entity.AttachmentBlob;
+import com.hoho.leave.domain.leave.request.entity.StorageTier;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 첨부파일 blob 리포지토리.
+ * 
+ * 내용 주소 기반 blob의 참조 수 증감과 정리 대상 조회를 담당한다.
+ * 
+ */
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, Long> {
+    /**
+     * 해시로 blob을 조회한다.
+     *
+     * @param sha256 내용 SHA-256 (hex)
+     * @return blob
+     */
+    Optional<AttachmentBlob> findBySha256(String sha256);
+
+    /**
+     * blob을 새로 등록하거나, 이미 있으면 참조 수를 1 늘린다.
+     * 정리 대기 중이던 blob도 다시 참조되면 정리 대상에서 빠진다.
+     * 행 잠금을 잡으므로 같은 blob을 지우려는 스위퍼는 이 트랜잭션이 끝날 때까지 기다린다.
+     *
+     * @param sha256 내용 SHA-256 (hex)
+     * @param sizeBytes 크기 (bytes)
+     * @param storageKey 저장소 키
+     * @param now 처리 시각
+     * @return 영향받은 행 수 (MySQL 기준 신규 1, 증가 2)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO attachment_blob (sha256, size_bytes, storage_key, ref_count, orphaned_at, tier, created_at, updated_at)
+        VALUES (:sha256, :sizeBytes, :storageKey, 1, NULL, 'LOCAL', :now, :now)
+        ON DUPLICATE KEY UPDATE ref_count = ref_count + 1,
+                                orphaned_at = NULL,
+                                updated_at = :now
+        """, nativeQuery = true)
+    int acquire(@Param("sha256") String sha256,
+                @Param("sizeBytes") long sizeBytes,
+                @Param("storageKey") String storageKey,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * blob의 참조 수를 1 줄이고, 0이 되면 정리 대상 시각을 남긴다.
+     * orphaned_at을 먼저 계산하므로 MySQL의 좌→우 SET 평가 순서와 무관하게 감소 전 값을 본다.
+     *
+     * @param id blob ID
+     * @param now 처리 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE attachment_blob
+           SET orphaned_at = CASE WHEN ref_count = 1 THEN :now ELSE orphaned_at END,
+               ref_count = ref_count - 1,
+               updated_at = :now
+         WHERE id = :id
+           AND ref_count > 0
+        """, nativeQuery = true)
+    int release(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 유예 시간이 지난 미참조 blob ID를 조회한다.
+     *
+     * @param cutoff 이 시각 이전에 참조가 끊긴 blob만 대상
+     * @param pageable 조회 개수
+     * @return blob ID 목록
+     */
+    @Query("""
+        select b.id
+          from AttachmentBlob b
+         where b.refCount = 0
+           and b.orphanedAt < :cutoff
+         order by b.orphanedAt asc
+    """)
+    List<Long> findOrphanedIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 여전히 참조가 없을 때만 blob 행을 삭제한다.
+     *
+     * @param id blob ID
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM attachment_blob WHERE id = :id AND ref_count = 0", nativeQuery = true)
+    int deleteIfUnreferenced(@Param("id") Long id);
+
+    /**
+     * 보관 계층으로 옮길 수 있는 blob ID를 ID 순서로 조회한다. (키셋 페이징)
+     * 참조하는 모든 첨부파일의 휴가 신청이 종료(대기 중이 아님)되었고, 기준일 이전에 끝난 blob만 대상이다.
+     * 재압축 전 원본으로 남긴 blob(original_blob_id)도 같은 조건으로 판단한다.
+     * 이미 보관된 blob도 포함한다. (복원된 로컬 사본 정리 대상)
+     *
+     * @param cutoff 이 날짜 이전에 끝난 휴가 신청만 대상
+     * @param afterId 이전 페이지의 마지막 blob ID (처음은 0)
+     * @param limit 조회 개수
+     * @return blob ID 목록
+     */
+    @Query(value = """
+        SELECT b.id
+          FROM attachment_blob b
+         WHERE b.id > :afterId
+           AND b.ref_count > 0
+           AND NOT EXISTS (
+                 SELECT 1
+                   FROM leave_request_attachment a
+                   JOIN leave_request r ON r.id = a.leave_request_id
+                  WHERE (a.blob_id = b.id OR a.original_blob_id = b.id)
+                    AND (r.status = 'PENDING' OR COALESCE(r.end_day, r.start_day) >= :cutoff))
+         ORDER BY b.id
+         LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findArchiveCandidateIds(@Param("cutoff") LocalDate cutoff,
+                                       @Param("afterId") Long afterId,
+                                       @Param("limit") int limit);
+
+    /**
+     * 로컬 계층 blob을 보관 계층으로 표시한다.
+     *
+     * @param id blob ID
+     * @param now 처리 시각
+     * @return 갱신된 행 수 (이미 보관되었으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        UPDATE attachment_blob
+           SET tier = 'ARCHIVE',
+               archived_at = :now,
+               updated_at = :now
+         WHERE id = :id
+           AND tier = 'LOCAL'
+        """, nativeQuery = true)
+    int markArchived(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * blob의 저장소 키를 ID 순서로 한 페이지씩 조회한다. (키셋 페이징, 파일 정합성 점검용)
+     *
+     * @param afterId 이전 페이지의 마지막 blob ID (처음은 0)
+     * @param pageable 페이지 크기
+     * @return 저장소 키 행 목록
+     */
+    @Query("""
+       select b.id as id, b.storageKey as storageKey, b.tier as tier
+       from AttachmentBlob b
+       where b.id > :afterId
+       order by b.id
+    """)
+    List<BlobKeyRow> findKeyRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * blob 저장소 키와 저장 계층만 담는 프로젝션 인터페이스.
+     */
+    interface BlobKeyRow {
+        /**
+         * blob ID를 반환한다.
+         *
+         * @return blob ID
+         */
+        Long getId();
+
+        /**
+         * 저장소 키를 반환한다.
+         *
+         * @return 저장소 키
+         */
+        String getStorageKey();
+
+        /**
+         * 저장 계층을 반환한다.
+         *
+         * @return 저장 계층
+         */
+        StorageTier getTier();
+    }
+}
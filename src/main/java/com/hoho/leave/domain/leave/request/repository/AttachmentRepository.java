@@ -1,12 +1,16 @@
 package com.hoho.leave.domain.leave.request.repository;
 
 import com.hoho.leave.domain.leave.request.entity.LeaveRequestAttachment;
+import com.hoho.leave.domain.leave.request.entity.StorageTier;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 첨부파일 리포지토리.
@@ -24,6 +28,24 @@ public interface AttachmentRepository extends JpaRepository<LeaveRequestAttachme
     @EntityGraph(attributePaths = {"uploadedBy"})
     List<LeaveRequestAttachment> findByLeaveRequestId(Long leaveRequestId);
 
+    /**
+     * 저장 파일명으로 첨부파일을 내용(blob)과 함께 조회한다.
+     * 호출한 쪽이 트랜잭션 밖에서 blob 정보를 쓸 수 있도록 함께 읽는다.
+     *
+     * @param storeName 저장 파일명
+     * @return 첨부파일
+     */
+    @EntityGraph(attributePaths = {"blob"})
+    Optional<LeaveRequestAttachment> findByStoreName(String storeName);
+
+    /**
+     * 같은 내용(blob)을 참조하는 첨부파일 목록을 조회한다.
+     *
+     * @param blobId blob ID
+     * @return 첨부파일 목록
+     */
+    List<LeaveRequestAttachment> findByBlobId(Long blobId);
+
     /**
      * 여러 휴가 신청의 첨부파일 개수를 집계한다.
      *
@@ -38,6 +60,148 @@ public interface AttachmentRepository extends JpaRepository<LeaveRequestAttachme
     """)
     List<ReqIdCount> countByLeaveRequestIds(@Param("ids") List<Long> ids);
 
+    /**
+     * 휴가 신청 하나의 첨부파일을 ID 순서로 조회한다.
+     *
+     * @param leaveRequestId 휴가 신청 ID
+     * @return 묶음 다운로드용 첨부파일 행 목록
+     */
+    @Query("""
+       select a.id as id, r.id as leaveRequestId, u.username as requesterName,
+              a.originalName as originalName, a.filePath as filePath, a.contentType as contentType,
+              b.storageKey as storageKey, b.tier as blobTier
+       from LeaveRequestAttachment a
+       join a.leaveRequest r
+       join r.user u
+       left join a.blob b
+       where r.id = :leaveRequestId
+       order by a.id
+    """)
+    List<BundleRow> findBundleRowsByLeaveRequestId(@Param("leaveRequestId") Long leaveRequestId);
+
+    /**
+     * 기간이 겹치는 휴가 신청의 첨부파일을 ID 순서로 한 페이지씩 조회한다. (키셋 페이징)
+     *
+     * @param from 조회 시작일
+     * @param to 조회 종료일
+     * @param afterId 이전 페이지의 마지막 첨부파일 ID (처음은 0)
+     * @param pageable 페이지 크기
+     * @return 묶음 다운로드용 첨부파일 행 목록
+     */
+    @Query("""
+       select a.id as id, r.id as leaveRequestId, u.username as requesterName,
+              a.originalName as originalName, a.filePath as filePath, a.contentType as contentType,
+              b.storageKey as storageKey, b.tier as blobTier
+       from LeaveRequestAttachment a
+       join a.leaveRequest r
+       join r.user u
+       left join a.blob b
+       where r.startDay <= :to
+         and coalesce(r.endDay, r.startDay) >= :from
+         and a.id > :afterId
+       order by a.id
+    """)
+    List<BundleRow> findBundleRowsByLeavePeriod(@Param("from") LocalDate from,
+                                                @Param("to") LocalDate to,
+                                                @Param("afterId") Long afterId,
+                                                Pageable pageable);
+
+    /**
+     * blob 도입 이전 첨부파일의 파일 경로를 ID 순서로 한 페이지씩 조회한다. (키셋 페이징, 파일 정합성 점검용)
+     *
+     * @param afterId 이전 페이지의 마지막 첨부파일 ID (처음은 0)
+     * @param pageable 페이지 크기
+     * @return 파일 경로 행 목록
+     */
+    @Query("""
+       select a.id as id, a.filePath as filePath
+       from LeaveRequestAttachment a
+       where a.blob is null
+         and a.id > :afterId
+       order by a.id
+    """)
+    List<FilePathRow> findLegacyFilePathsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 첨부파일 ID와 파일 경로만 담는 프로젝션 인터페이스.
+     */
+    interface FilePathRow {
+        /**
+         * 첨부파일 ID를 반환한다.
+         *
+         * @return 첨부파일 ID
+         */
+        Long getId();
+
+        /**
+         * 파일 경로를 반환한다.
+         *
+         * @return 파일 경로
+         */
+        String getFilePath();
+    }
+
+    /**
+     * 묶음 다운로드에 필요한 첨부파일 정보만 담는 프로젝션 인터페이스.
+     */
+    interface BundleRow {
+        /**
+         * 첨부파일 ID를 반환한다.
+         *
+         * @return 첨부파일 ID
+         */
+        Long getId();
+
+        /**
+         * 휴가 신청 ID를 반환한다.
+         *
+         * @return 휴가 신청 ID
+         */
+        Long getLeaveRequestId();
+
+        /**
+         * 신청자 이름을 반환한다.
+         *
+         * @return 신청자 이름
+         */
+        String getRequesterName();
+
+        /**
+         * 원본 파일명을 반환한다.
+         *
+         * @return 원본 파일명
+         */
+        String getOriginalName();
+
+        /**
+         * 파일 경로를 반환한다.
+         *
+         * @return 파일 경로
+         */
+        String getFilePath();
+
+        /**
+         * 컨텐츠 타입을 반환한다.
+         *
+         * @return 컨텐츠 타입
+         */
+        String getContentType();
+
+        /**
+         * blob 저장소 키를 반환한다.
+         *
+         * @return 저장소 키 (blob이 없는 이전 첨부파일은 null)
+         */
+        String getStorageKey();
+
+        /**
+         * blob 저장 계층을 반환한다.
+         *
+         * @return 저장 계층 (blob이 없는 이전 첨부파일은 null)
+         */
+        StorageTier getBlobTier();
+    }
+
     /**
      * 휴가 신청 ID와 첨부파일 개수를 담는 프로젝션 인터페이스.
      */
@@ -1,11 +1,21 @@
 package com.hoho.leave.domain.leave.request.repository;
 
+import com.hoho.leave.domain.leave.request.entity.ApprovalSlaStage;
+import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
 import com.hoho.leave.domain.leave.request.entity.LeaveRequestApproval;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestStatus;
+import com.hoho.leave.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,7 +31,7 @@ public interface LeaveRequestApprovalRepository extends JpaRepository<LeaveReque
      * @param id 결재 ID
      * @return 휴가 결재
      */
-    @EntityGraph(attributePaths = {"leaveRequest", "leaveRequest.applicant"})
+    @EntityGraph(attributePaths = {"leaveRequest", "leaveRequest.user"})
     Optional<LeaveRequestApproval> findById(Long id);
 
     /**
@@ -31,6 +41,493 @@ public interface LeaveRequestApprovalRepository extends JpaRepository<LeaveReque
      * @param pageable 페이지 정보
      * @return 휴가 결재 페이지
      */
-    @EntityGraph(attributePaths = {"leaveRequest", "leaveRequest.applicant"})
+    @EntityGraph(attributePaths = {"leaveRequest", "leaveRequest.user"})
     Page<LeaveRequestApproval> findByApproverId(Long approverId, Pageable pageable);
+
+    /**
+     * 결재자의 결재함 첫 페이지를 조회한다.
+     * (approver_id, status, created_at) 인덱스를 따라 대기 중인 활성 단계만 읽는다.
+     * 위임받은 결재는 위임자 ID를 함께 넘겨 같은 조건으로 읽는다.
+     *
+     * @param approverIds 결재자 ID 목록 (본인 및 위임자)
+     * @param pending 대기 상태
+     * @param pageable 조회 건수 (정렬은 쿼리에 고정)
+     * @return 결재 목록
+     */
+    @Query("""
+        select a
+          from LeaveRequestApproval a
+          join fetch a.leaveRequest r
+          join fetch r.user
+         where a.approver.id in :approverIds
+           and a.status = :pending
+         order by a.createdAt asc, a.id asc
+    """)
+    List<LeaveRequestApproval> findInboxFirstPage(@Param("approverIds") Collection<Long> approverIds,
+                                                  @Param("pending") ApprovalStatus pending,
+                                                  Pageable pageable);
+
+    /**
+     * 커서 이후의 결재함 페이지를 조회한다.
+     * 오프셋 없이 (createdAt, id) 키셋으로 이어서 읽으므로 깊은 페이지도 비용이 같다.
+     *
+     * @param approverIds 결재자 ID 목록 (본인 및 위임자)
+     * @param pending 대기 상태
+     * @param cursorCreatedAt 직전 페이지 마지막 건의 생성 일시
+     * @param cursorId 직전 페이지 마지막 건의 ID
+     * @param pageable 조회 건수 (정렬은 쿼리에 고정)
+     * @return 결재 목록
+     */
+    @Query("""
+        select a
+          from LeaveRequestApproval a
+          join fetch a.leaveRequest r
+          join fetch r.user
+         where a.approver.id in :approverIds
+           and a.status = :pending
+           and (a.createdAt > :cursorCreatedAt
+                or (a.createdAt = :cursorCreatedAt and a.id > :cursorId))
+         order by a.createdAt asc, a.id asc
+    """)
+    List<LeaveRequestApproval> findInboxAfter(@Param("approverIds") Collection<Long> approverIds,
+                                              @Param("pending") ApprovalStatus pending,
+                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    /**
+     * 일괄 처리 대상 결재의 권한 확인용 정보를 한 번에 조회한다.
+     *
+     * @param ids 결재 ID 목록
+     * @return 결재 처리 정보 목록
+     */
+    @Query("""
+        select a.id as approvalId,
+               a.approver.id as approverId,
+               a.status as status,
+               a.stepNo as stepNo,
+               r.id as leaveRequestId,
+               r.user.id as applicantId
+          from LeaveRequestApproval a
+          join a.leaveRequest r
+         where a.id in :ids
+    """)
+    List<ApprovalDecisionRow> findDecisionRowsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 대기 중인 결재들을 한 번에 승인 또는 반려한다.
+     * 대기 상태가 아닌 결재는 갱신되지 않는다.
+     *
+     * @param ids 결재 ID 목록
+     * @param status 변경할 결재 상태
+     * @param comment 결재 의견
+     * @param actor 실제 처리자
+     * @param actedAt 처리 시각
+     * @param pending 대기 상태
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update LeaveRequestApproval a
+           set a.status = :status,
+               a.comment = :comment,
+               a.actedBy = :actor,
+               a.actedAt = :actedAt,
+               a.updatedAt = :actedAt,
+               a.version = a.version + 1
+         where a.id in :ids
+           and a.status = :pending
+    """)
+    int decideAll(@Param("ids") Collection<Long> ids,
+                  @Param("status") ApprovalStatus status,
+                  @Param("comment") String comment,
+                  @Param("actor") User actor,
+                  @Param("actedAt") LocalDateTime actedAt,
+                  @Param("pending") ApprovalStatus pending);
+
+    /**
+     * 신청자의 기본 결재선으로 휴가 신청의 결재 단계를 한 번에 생성한다.
+     * 
+     * 단계 번호는 기본 결재선의 순서대로 1부터 다시 매기며,
+     * 첫 단계만 대기(PENDING)로, 나머지는 미활성(WAITING)으로 만든다.
+     * 처리 기한은 대기 상태가 된 첫 단계에만 지정한다.
+     * 
+     *
+     * @param leaveRequestId 휴가 신청 ID
+     * @param userId 신청자 ID
+     * @param now 생성 시각
+     * @param dueAt 첫 단계 처리 기한
+     * @return 생성된 결재 단계 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO leave_request_approval
+            (leave_request_id, approver_id, step_no, status, due_at, sla_stage, version, created_at, updated_at)
+        SELECT :leaveRequestId,
+               line.approver_id,
+               line.step_no,
+               CASE WHEN line.step_no = 1 THEN 'PENDING' ELSE 'WAITING' END,
+               CASE WHEN line.step_no = 1 THEN :dueAt ELSE NULL END,
+               'NONE', 0, :now, :now
+          FROM (SELECT uda.approver_id,
+                       ROW_NUMBER() OVER (ORDER BY uda.step_no) AS step_no
+                  FROM user_default_approver uda
+                 WHERE uda.user_id = :userId) line
+        """, nativeQuery = true)
+    int openApprovalLine(@Param("leaveRequestId") Long leaveRequestId,
+                         @Param("userId") Long userId,
+                         @Param("now") LocalDateTime now,
+                         @Param("dueAt") LocalDateTime dueAt);
+
+    /**
+     * 휴가 신청들의 지정된 결재 단계를 대기 상태로 활성화한다.
+     * 미활성(WAITING) 상태인 단계만 갱신되므로 중복 활성화되지 않는다.
+     *
+     * @param leaveRequestIds 휴가 신청 ID 목록
+     * @param stepNo 활성화할 결재 단계
+     * @param waiting 미활성 상태
+     * @param pending 대기 상태
+     * @param now 처리 시각
+     * @param dueAt 처리 기한
+     * @return 활성화된 행 수 (0이면 다음 단계가 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update LeaveRequestApproval a
+           set a.status = :pending,
+               a.dueAt = :dueAt,
+               a.updatedAt = :now,
+               a.version = a.version + 1
+         where a.leaveRequest.id in :leaveRequestIds
+           and a.stepNo = :stepNo
+           and a.status = :waiting
+    """)
+    int activateSteps(@Param("leaveRequestIds") Collection<Long> leaveRequestIds,
+                      @Param("stepNo") Integer stepNo,
+                      @Param("waiting") ApprovalStatus waiting,
+                      @Param("pending") ApprovalStatus pending,
+                      @Param("now") LocalDateTime now,
+                      @Param("dueAt") LocalDateTime dueAt);
+
+    /**
+     * 반려된 휴가 신청들의 미활성 단계를 건너뜀 상태로 종료한다.
+     * 반려 이후 활성화될 일이 없는 단계가 미활성 상태로 남지 않게 한다.
+     *
+     * @param leaveRequestIds 휴가 신청 ID 목록
+     * @param waiting 미활성 상태
+     * @param skipped 건너뜀 상태
+     * @param now 처리 시각
+     * @return 종료된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update LeaveRequestApproval a
+           set a.status = :skipped,
+               a.updatedAt = :now,
+               a.version = a.version + 1
+         where a.leaveRequest.id in :leaveRequestIds
+           and a.status = :waiting
+    """)
+    int skipWaitingSteps(@Param("leaveRequestIds") Collection<Long> leaveRequestIds,
+                         @Param("waiting") ApprovalStatus waiting,
+                         @Param("skipped") ApprovalStatus skipped,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 휴가 신청들의 지정된 단계 중 대기 상태인 결재를 조회한다.
+     * 단계 활성화 직후 카운터/SLA 타이머 반영과 알림 대상 조회에 사용한다.
+     *
+     * @param leaveRequestIds 휴가 신청 ID 목록
+     * @param stepNo 결재 단계
+     * @param pending 대기 상태
+     * @return 활성 결재 목록
+     */
+    @Query("""
+        select a.id as approvalId,
+               a.leaveRequest.id as leaveRequestId,
+               a.stepNo as stepNo,
+               a.approver.id as approverId,
+               a.dueAt as dueAt
+          from LeaveRequestApproval a
+         where a.leaveRequest.id in :leaveRequestIds
+           and a.stepNo = :stepNo
+           and a.status = :pending
+    """)
+    List<ActiveStepRow> findActiveSteps(@Param("leaveRequestIds") Collection<Long> leaveRequestIds,
+                                        @Param("stepNo") Integer stepNo,
+                                        @Param("pending") ApprovalStatus pending);
+
+    /**
+     * 기한 경과 조치가 남은 대기 중 결재를 조회한다. 기동 시 SLA 타이머 적재에 사용한다.
+     *
+     * @param pending 대기 상태
+     * @param escalated 에스컬레이션 완료 단계
+     * @return SLA 대상 결재 목록
+     */
+    @Query("""
+        select a.id as approvalId,
+               a.approver.id as approverId,
+               a.leaveRequest.id as leaveRequestId,
+               a.stepNo as stepNo,
+               a.dueAt as dueAt,
+               a.slaStage as slaStage
+          from LeaveRequestApproval a
+         where a.status = :pending
+           and a.dueAt is not null
+           and a.slaStage <> :escalated
+    """)
+    List<SlaTargetRow> findSlaTimers(@Param("pending") ApprovalStatus pending,
+                                     @Param("escalated") ApprovalSlaStage escalated);
+
+    /**
+     * 기한이 지난 결재 중 아직 대기 중인 결재를 조회한다.
+     * 이미 처리되었거나 휴가 신청이 종료된 결재, 현재 조치 단계의 조치 시각이 아직 오지 않은 결재는 제외한다.
+     *
+     * @param ids 결재 ID 목록
+     * @param pending 대기 상태
+     * @param requestPending 휴가 신청 대기 상태
+     * @param none 조치 전 단계
+     * @param reminded 알림 완료 단계
+     * @param remindBefore 알림 대상 처리 기한 (이하)
+     * @param escalateBefore 에스컬레이션 대상 처리 기한 (이하)
+     * @return SLA 대상 결재 목록
+     */
+    @Query("""
+        select a.id as approvalId,
+               a.approver.id as approverId,
+               r.id as leaveRequestId,
+               a.stepNo as stepNo,
+               a.dueAt as dueAt,
+               a.slaStage as slaStage
+          from LeaveRequestApproval a
+          join a.leaveRequest r
+         where a.id in :ids
+           and a.status = :pending
+           and r.status = :requestPending
+           and ((a.slaStage = :none and a.dueAt <= :remindBefore)
+                or (a.slaStage = :reminded and a.dueAt <= :escalateBefore))
+    """)
+    List<SlaTargetRow> findSlaTargets(@Param("ids") Collection<Long> ids,
+                                      @Param("pending") ApprovalStatus pending,
+                                      @Param("requestPending") LeaveRequestStatus requestPending,
+                                      @Param("none") ApprovalSlaStage none,
+                                      @Param("reminded") ApprovalSlaStage reminded,
+                                      @Param("remindBefore") LocalDateTime remindBefore,
+                                      @Param("escalateBefore") LocalDateTime escalateBefore);
+
+    /**
+     * 휴가 신청들의 단계별 결재자를 조회한다. 에스컬레이션 대상 결정에 사용한다.
+     *
+     * @param leaveRequestIds 휴가 신청 ID 목록
+     * @return 단계별 결재자 목록
+     */
+    @Query("""
+        select a.leaveRequest.id as leaveRequestId,
+               a.stepNo as stepNo,
+               a.approver.id as approverId
+          from LeaveRequestApproval a
+         where a.leaveRequest.id in :leaveRequestIds
+    """)
+    List<StepApproverRow> findStepApprovers(@Param("leaveRequestIds") Collection<Long> leaveRequestIds);
+
+    /**
+     * 대기 중인 결재들의 SLA 조치 단계를 올린다.
+     * 조치 단계 조건을 걸어 같은 조치가 두 번 반영되지 않게 한다. (여러 인스턴스 간 조치 선점에 사용)
+     *
+     * @param ids 결재 ID 목록
+     * @param from 현재 조치 단계
+     * @param to 변경할 조치 단계
+     * @param pending 대기 상태
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update LeaveRequestApproval a
+           set a.slaStage = :to
+         where a.id in :ids
+           and a.slaStage = :from
+           and a.status = :pending
+    """)
+    int advanceSlaStage(@Param("ids") Collection<Long> ids,
+                        @Param("from") ApprovalSlaStage from,
+                        @Param("to") ApprovalSlaStage to,
+                        @Param("pending") ApprovalStatus pending);
+
+    /**
+     * 아직 대기 중인 결재에 쓰기 잠금을 걸고 그 ID를 조회한다.
+     * 일괄 처리 전에 잠가 두면 잠긴 건은 다른 요청이 처리할 수 없으므로 잠긴 ID가 곧 반영될 ID다.
+     * 교착을 피하려고 ID 순서로 잠근다.
+     *
+     * @param ids 결재 ID 목록
+     * @return 잠근 결재 ID 목록
+     */
+    @Query(value = """
+        SELECT a.id
+          FROM leave_request_approval a
+         WHERE a.id IN (:ids)
+           AND a.status = 'PENDING'
+         ORDER BY a.id
+           FOR UPDATE
+    """, nativeQuery = true)
+    List<Long> lockPendingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 활성 결재 정보를 담는 프로젝션 인터페이스.
+     */
+    interface ActiveStepRow {
+        /**
+         * 결재 ID를 반환한다.
+         *
+         * @return 결재 ID
+         */
+        Long getApprovalId();
+
+        /**
+         * 휴가 신청 ID를 반환한다.
+         *
+         * @return 휴가 신청 ID
+         */
+        Long getLeaveRequestId();
+
+        /**
+         * 결재 단계를 반환한다.
+         *
+         * @return 결재 단계
+         */
+        Integer getStepNo();
+
+        /**
+         * 결재자 ID를 반환한다.
+         *
+         * @return 결재자 ID
+         */
+        Long getApproverId();
+
+        /**
+         * 처리 기한을 반환한다.
+         *
+         * @return 처리 기한
+         */
+        LocalDateTime getDueAt();
+    }
+
+    /**
+     * SLA 대상 결재 정보를 담는 프로젝션 인터페이스.
+     */
+    interface SlaTargetRow {
+        /**
+         * 결재 ID를 반환한다.
+         *
+         * @return 결재 ID
+         */
+        Long getApprovalId();
+
+        /**
+         * 결재자 ID를 반환한다.
+         *
+         * @return 결재자 ID
+         */
+        Long getApproverId();
+
+        /**
+         * 휴가 신청 ID를 반환한다.
+         *
+         * @return 휴가 신청 ID
+         */
+        Long getLeaveRequestId();
+
+        /**
+         * 결재 단계를 반환한다.
+         *
+         * @return 결재 단계
+         */
+        Integer getStepNo();
+
+        /**
+         * 처리 기한을 반환한다.
+         *
+         * @return 처리 기한
+         */
+        LocalDateTime getDueAt();
+
+        /**
+         * SLA 조치 단계를 반환한다.
+         *
+         * @return SLA 조치 단계
+         */
+        ApprovalSlaStage getSlaStage();
+    }
+
+    /**
+     * 단계별 결재자 정보를 담는 프로젝션 인터페이스.
+     */
+    interface StepApproverRow {
+        /**
+         * 휴가 신청 ID를 반환한다.
+         *
+         * @return 휴가 신청 ID
+         */
+        Long getLeaveRequestId();
+
+        /**
+         * 결재 단계를 반환한다.
+         *
+         * @return 결재 단계
+         */
+        Integer getStepNo();
+
+        /**
+         * 결재자 ID를 반환한다.
+         *
+         * @return 결재자 ID
+         */
+        Long getApproverId();
+    }
+
+    /**
+     * 결재 처리 정보를 담는 프로젝션 인터페이스.
+     */
+    interface ApprovalDecisionRow {
+        /**
+         * 결재 ID를 반환한다.
+         *
+         * @return 결재 ID
+         */
+        Long getApprovalId();
+
+        /**
+         * 결재자 ID를 반환한다.
+         *
+         * @return 결재자 ID
+         */
+        Long getApproverId();
+
+        /**
+         * 결재 상태를 반환한다.
+         *
+         * @return 결재 상태
+         */
+        ApprovalStatus getStatus();
+
+        /**
+         * 결재 단계를 반환한다.
+         *
+         * @return 결재 단계
+         */
+        Integer getStepNo();
+
+        /**
+         * 휴가 신청 ID를 반환한다.
+         *
+         * @return 휴가 신청 ID
+         */
+        Long getLeaveRequestId();
+
+        /**
+         * 신청자 ID를 반환한다.
+         *
+         * @return 신청자 ID
+         */
+        Long getApplicantId();
+    }
 }
@@ -1,14 +1,19 @@
 package com.hoho.leave.domain.leave.request.repository;
 
 import com.hoho.leave.domain.leave.request.entity.LeaveRequest;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -74,4 +79,89 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long
             @Param("from") LocalDate from,
             @Param("to") LocalDate to
     );
+
+    /**
+     * 대기 중인 휴가 신청들을 한 번에 지정된 상태로 종료한다.
+     *
+     * @param ids 휴가 신청 ID 목록
+     * @param status 변경할 상태
+     * @param pending 대기 상태
+     * @param now 처리 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update LeaveRequest r
+           set r.status = :status,
+               r.updatedAt = :now,
+               r.version = r.version + 1
+         where r.id in :ids
+           and r.status = :pending
+        """)
+    int closeAll(@Param("ids") Collection<Long> ids,
+                 @Param("status") LeaveRequestStatus status,
+                 @Param("pending") LeaveRequestStatus pending,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * 대기 중인 휴가 신청에 쓰기 잠금을 걸고 신청과 신청자를 조회한다.
+     * 잠긴 신청은 다른 요청이 종료할 수 없으므로 잠근 행이 곧 이번에 종료할 행이다.
+     * 교착을 피하려고 ID 순서로 잠근다.
+     *
+     * @param ids 휴가 신청 ID 목록
+     * @return 잠근 휴가 신청/신청자 목록
+     */
+    @Query(value = """
+        SELECT r.id AS leaveRequestId,
+               r.user_id AS applicantId
+          FROM leave_request r
+         WHERE r.id IN (:ids)
+           AND r.status = 'PENDING'
+         ORDER BY r.id
+           FOR UPDATE
+        """, nativeQuery = true)
+    List<RequestApplicantRow> lockPending(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 모든 결재 단계가 승인된 대기 중 휴가 신청에 쓰기 잠금을 걸고 신청과 신청자를 조회한다.
+     * 잠긴 신청은 다른 요청이 종료할 수 없으므로 잠근 행이 곧 이번에 승인 종료할 행이다.
+     * 교착을 피하려고 ID 순서로 잠근다.
+     *
+     * @param ids 휴가 신청 ID 목록
+     * @return 잠근 휴가 신청/신청자 목록
+     */
+    @Query(value = """
+        SELECT r.id AS leaveRequestId,
+               r.user_id AS applicantId
+          FROM leave_request r
+         WHERE r.id IN (:ids)
+           AND r.status = 'PENDING'
+           AND NOT EXISTS (
+                 SELECT 1
+                   FROM leave_request_approval a
+                  WHERE a.leave_request_id = r.id
+                    AND a.status <> 'APPROVED')
+         ORDER BY r.id
+           FOR UPDATE
+        """, nativeQuery = true)
+    List<RequestApplicantRow> lockApprovable(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 휴가 신청 ID와 신청자 ID를 담는 프로젝션 인터페이스.
+     */
+    interface RequestApplicantRow {
+        /**
+         * 휴가 신청 ID를 반환한다.
+         *
+         * @return 휴가 신청 ID
+         */
+        Long getLeaveRequestId();
+
+        /**
+         * 신청자 ID를 반환한다.
+         *
+         * @return 신청자 ID
+         */
+        Long getApplicantId();
+    }
 }
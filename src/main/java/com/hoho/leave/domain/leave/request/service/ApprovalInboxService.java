@@ -0,0 +1,112 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.request.dto.response.ApproverPendingCountResponse;
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalInboxResponse;
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalResponse;
+import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
+import com.hoho.leave.domain.leave.request.entity.ApproverPendingCount;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestApproval;
+import com.hoho.leave.domain.leave.request.repository.ApproverPendingCountRepository;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결재함 서비스.
+ * 
+ * 결재자의 대기 결재 목록(결재함) 조회와 결재자별 대기 건수 카운터 관리를 담당한다.
+ * 결재함과 대기 건수에는 현재 위임받은 결재자의 대기 건이 함께 포함된다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApprovalInboxService {
+
+    private final LeaveRequestApprovalRepository approvalRepository;
+    private final ApproverPendingCountRepository pendingCountRepository;
+    private final DelegationResolver delegationResolver;
+
+    /**
+     * 결재자의 결재함을 키셋 페이징으로 조회한다.
+     * 
+     * 커서가 없으면 첫 페이지를, 있으면 커서 이후 페이지를 조회한다.
+     * 
+     *
+     * @param approverId 결재자 ID
+     * @param cursorCreatedAt 직전 페이지 마지막 건의 생성 일시
+     * @param cursorId 직전 페이지 마지막 건의 ID
+     * @param size 페이지 크기
+     * @return 결재함 응답
+     */
+    @Transactional(readOnly = true)
+    public LeaveApprovalInboxResponse getInbox(Long approverId, LocalDateTime cursorCreatedAt, Long cursorId, Integer size) {
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<Long> approverIds = delegationResolver.actingApproverIds(approverId);
+
+        List<LeaveRequestApproval> rows = (cursorCreatedAt == null || cursorId == null)
+                ? approvalRepository.findInboxFirstPage(approverIds, ApprovalStatus.PENDING, limit)
+                : approvalRepository.findInboxAfter(approverIds, ApprovalStatus.PENDING, cursorCreatedAt, cursorId, limit);
+
+        boolean hasNext = rows.size() > size;
+        List<LeaveRequestApproval> page = hasNext ? rows.subList(0, size) : rows;
+
+        List<LeaveApprovalResponse> list = page.stream().map(LeaveApprovalResponse::of).toList();
+        LeaveRequestApproval last = page.isEmpty() ? null : page.getLast();
+
+        return LeaveApprovalInboxResponse.of(list, hasNext,
+                last == null ? null : last.getCreatedAt(),
+                last == null ? null : last.getId());
+    }
+
+    /**
+     * 결재자의 대기 건수를 조회한다. 위임받은 결재자의 대기 건수를 합산한다.
+     *
+     * @param approverId 결재자 ID
+     * @return 결재자 대기 건수 응답
+     */
+    @Transactional(readOnly = true)
+    public ApproverPendingCountResponse getPendingCount(Long approverId) {
+        List<Long> approverIds = delegationResolver.actingApproverIds(approverId);
+
+        long count = pendingCountRepository.findAllById(approverIds).stream()
+                .mapToLong(ApproverPendingCount::getPendingCount)
+                .sum();
+
+        return ApproverPendingCountResponse.of(approverId, count);
+    }
+
+    /**
+     * 결재자의 대기 건수를 증감한다.
+     * 결재 상태를 바꾸는 트랜잭션 안에서 호출되어 함께 커밋된다.
+     *
+     * @param approverId 결재자 ID
+     * @param delta 증감량
+     */
+    public void adjustPendingCount(Long approverId, long delta) {
+        if (delta == 0) return;
+        pendingCountRepository.addPendingCount(approverId, delta);
+    }
+
+    /**
+     * 결재자별 대기 건수 카운터를 실제 결재 상태 기준으로 보정한다.
+     * 매일 03시 10분에 실행되며, 장애 등으로 어긋난 카운터를 바로잡는다.
+     * 집계와 갱신을 집합 단위 UPDATE 한 번으로 처리해 보정 중에 반영된 증감을 잃지 않는다.
+     */
+    @Transactional
+    @Scheduled(cron = "0 10 03 * * *", zone = "Asia/Seoul")
+    public void reconcilePendingCounts() {
+        int created = pendingCountRepository.insertMissingCounts();
+        int corrected = pendingCountRepository.reconcileCounts();
+
+        log.info("Approver pending counts reconciled. created={}, corrected={}", created, corrected);
+    }
+}
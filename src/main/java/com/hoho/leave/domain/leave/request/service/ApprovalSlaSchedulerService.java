@@ -0,0 +1,53 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.facade.LeaveApprovalFacade;
+import com.hoho.leave.domain.leave.request.entity.ApprovalSlaStage;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.SlaTargetRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 결재 처리 기한 스케줄러 서비스.
+ *
+ * 타이머 휠에서 조치 시각이 지난 결재를 꺼내 기한 경과 알림과 에스컬레이션을 처리한다.
+ *
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApprovalSlaSchedulerService {
+
+    /** 한 트랜잭션에서 조치할 최대 결재 수 */
+    private static final int BATCH_SIZE = 500;
+    /** 조치 실패 시 재시도까지의 대기 시간(ms) */
+    private static final long RETRY_DELAY_MILLIS = 60_000L;
+
+    private final ApprovalSlaTracker approvalSlaTracker;
+    private final LeaveApprovalFacade leaveApprovalFacade;
+
+    /**
+     * 조치 시각이 지난 결재를 주기적으로 처리한다.
+     * 알림을 보낸 결재는 에스컬레이션 시각으로 다시 등록한다.
+     */
+    @Scheduled(fixedDelay = 5_000L)
+    public void ApprovalSlaSchedule() {
+        List<Long> expired = approvalSlaTracker.pollExpired();
+        if (expired.isEmpty()) return;
+
+        for (int from = 0; from < expired.size(); from += BATCH_SIZE) {
+            List<Long> batch = expired.subList(from, Math.min(from + BATCH_SIZE, expired.size()));
+            try {
+                List<SlaTargetRow> reminded = leaveApprovalFacade.handleOverdueApprovals(batch);
+                reminded.forEach(row ->
+                        approvalSlaTracker.track(row.getApprovalId(), row.getDueAt(), ApprovalSlaStage.REMINDED));
+            } catch (Exception e) {
+                log.warn("Approval SLA handling failed for {} approvals: {}", batch.size(), e.getMessage());
+                approvalSlaTracker.retryLater(batch, RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+}
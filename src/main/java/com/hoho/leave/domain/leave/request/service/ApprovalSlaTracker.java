@@ -0,0 +1,128 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.timer.HierarchicalTimerWheel;
+import com.hoho.leave.domain.leave.request.entity.ApprovalSlaStage;
+import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.SlaTargetRow;
+import com.hoho.leave.domain.leave.request.service.support.ApprovalSlaChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 결재 처리 기한(SLA) 추적기.
+ * 
+ * 대기 중인 결재마다 다음 조치 시각을 계층형 타이머 휠에 보관한다.
+ * 기동 시 대기 중인 결재를 DB에서 적재하고, 이후에는 이 인스턴스의 결재 활성화/처리 커밋 이벤트로 갱신한다.
+ * 다른 인스턴스에서 활성화된 결재와 재기동 사이에 놓친 변경은 주기적으로 DB에서 다시 적재해 반영한다.
+ * 여러 인스턴스가 같은 결재의 타이머를 가질 수 있으며, 조치는 조치 단계를 조건부 UPDATE로 올린 한 곳에서만 이뤄진다.
+ * 
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalSlaTracker {
+
+    private static final long TICK_MILLIS = 1_000L;
+    private static final int WHEEL_SIZE = 60;
+
+    private final LeaveRequestApprovalRepository approvalRepository;
+
+    private final HierarchicalTimerWheel<Long> wheel =
+            new HierarchicalTimerWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+
+    /** 기한 경과 알림 후 에스컬레이션까지의 시간 */
+    @Value("${leave.approval.sla.escalate-after-hours:24}")
+    private long escalateAfterHours;
+
+    /**
+     * 기동 시 기한 조치가 남은 대기 중 결재를 타이머에 적재한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        loadPendingApprovals();
+    }
+
+    /**
+     * 기한 조치가 남은 대기 중 결재를 DB에서 다시 읽어 타이머를 맞춘다.
+     * 다른 인스턴스에서 활성화되었거나 이벤트를 놓친 결재를 반영한다. 이미 등록된 타이머는 조치 시각만 바뀐다.
+     */
+    @Scheduled(fixedDelayString = "${leave.approval.sla.reload-millis:600000}",
+            initialDelayString = "${leave.approval.sla.reload-millis:600000}")
+    public void loadPendingApprovals() {
+        List<SlaTargetRow> rows = approvalRepository.findSlaTimers(ApprovalStatus.PENDING, ApprovalSlaStage.ESCALATED);
+        rows.forEach(row -> track(row.getApprovalId(), row.getDueAt(), row.getSlaStage()));
+
+        log.info("Approval SLA timers loaded. count={}", rows.size());
+    }
+
+    /**
+     * 결재 활성화/처리가 커밋되면 타이머를 등록하거나 취소한다.
+     *
+     * @param event 결재 처리 기한 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSlaChanged(ApprovalSlaChangedEvent event) {
+        event.getClosedApprovalIds().forEach(wheel::cancel);
+        event.getDueAtByApprovalId().forEach((approvalId, dueAt) -> track(approvalId, dueAt, ApprovalSlaStage.NONE));
+    }
+
+    /**
+     * 현재 시각까지 조치 시각이 지난 결재 ID를 꺼낸다.
+     *
+     * @return 조치 대상 결재 ID 목록
+     */
+    public List<Long> pollExpired() {
+        return wheel.advance(System.currentTimeMillis());
+    }
+
+    /**
+     * 결재의 현재 조치 단계에 맞춰 다음 조치 시각을 등록한다.
+     * 알림 전이면 처리 기한에, 알림 후면 처리 기한 + 에스컬레이션 대기 시간에 만료된다.
+     *
+     * @param approvalId 결재 ID
+     * @param dueAt 처리 기한
+     * @param stage 현재 조치 단계
+     */
+    public void track(Long approvalId, LocalDateTime dueAt, ApprovalSlaStage stage) {
+        if (dueAt == null || stage == ApprovalSlaStage.ESCALATED) {
+            wheel.cancel(approvalId);
+            return;
+        }
+
+        LocalDateTime fireAt = stage == ApprovalSlaStage.NONE ? dueAt : dueAt.plusHours(escalateAfterHours);
+        wheel.schedule(approvalId, fireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * 조치에 실패한 결재를 잠시 뒤 다시 시도하도록 등록한다.
+     *
+     * @param approvalIds 결재 ID 목록
+     * @param delayMillis 재시도까지의 대기 시간(ms)
+     */
+    public void retryLater(Collection<Long> approvalIds, long delayMillis) {
+        long fireAt = System.currentTimeMillis() + delayMillis;
+        approvalIds.forEach(id -> wheel.schedule(id, fireAt));
+    }
+
+    /**
+     * 추적 중인 타이머 수를 반환한다.
+     *
+     * @return 타이머 수
+     */
+    public int size() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,263 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.exception.BusinessException;
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.leave.policy.repository.UserDefaultApproverRepository;
+import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequest;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestStatus;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.ActiveStepRow;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.ApprovalDecisionRow;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestRepository;
+import com.hoho.leave.domain.leave.request.service.support.ApprovalSlaChangedEvent;
+import com.hoho.leave.domain.leave.request.service.support.WorkflowTransition;
+import com.hoho.leave.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 결재선 진행 엔진.
+ * 
+ * 휴가 신청 시 결재선 전체를 한 번에 생성하고, 결재 처리마다 다음 단계를 조건부 UPDATE 한 번으로 활성화한다.
+ * 활성화된 행 수로 마지막 단계 여부를 판단하므로 형제 결재 단계를 다시 읽지 않고 최종 상태를 결정한다.
+ * 단계가 활성화될 때 처리 기한을 정하고, 커밋 후 SLA 타이머에 반영되도록 이벤트를 발행한다.
+ * 반려되면 남은 미활성 단계를 같은 트랜잭션에서 건너뜀 상태로 종료한다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class ApprovalWorkflowEngine {
+
+    private final LeaveRequestApprovalRepository approvalRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final ApprovalInboxService approvalInboxService;
+    private final DelegationResolver delegationResolver;
+    private final UserDefaultApproverRepository userDefaultApproverRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 단계가 활성화된 뒤 처리 기한까지의 시간 */
+    @Value("${leave.approval.sla.due-hours:24}")
+    private long dueHours;
+
+    /**
+     * 신청자에게 기본 결재선이 지정되어 있는지 확인한다.
+     * 휴가 신청을 저장하기 전에 호출해 결재선 없는 신청이 만들어지지 않게 한다.
+     *
+     * @param userId 신청자 ID
+     */
+    @Transactional(readOnly = true)
+    public void validateApprovalLine(Long userId) {
+        if (!userDefaultApproverRepository.existsByUserId(userId)) {
+            throw new BusinessException("기본 결재자가 지정되지 않아 휴가를 신청할 수 없습니다. : " + userId);
+        }
+    }
+
+    /**
+     * 신청자의 기본 결재선으로 휴가 신청의 결재 단계를 생성한다.
+     * 첫 단계만 대기 상태로 만들고 해당 결재자의 대기 건수를 올린다.
+     * 생성된 단계가 없으면(그 사이 기본 결재자가 삭제됨) 신청 저장까지 되돌린다.
+     *
+     * @param leaveRequest 저장된 휴가 신청
+     * @return 생성된 결재 단계 수
+     */
+    @Transactional
+    public int openApprovalLine(LeaveRequest leaveRequest) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Long> requestIds = List.of(leaveRequest.getId());
+
+        int steps = approvalRepository.openApprovalLine(leaveRequest.getId(), leaveRequest.getUser().getId(),
+                now, dueAt(now));
+        if (steps == 0) {
+            throw new BusinessException("기본 결재자가 지정되지 않아 휴가를 신청할 수 없습니다. : "
+                    + leaveRequest.getUser().getId());
+        }
+
+        List<ActiveStepRow> activated = applyActivated(requestIds, 1);
+        publishSla(activated, List.of());
+        return steps;
+    }
+
+    /**
+     * 단일 결재를 승인 또는 반려하고 결재선을 진행시킨다.
+     * 
+     * 대기 상태 조건을 건 UPDATE로 처리하므로 같은 단계를 동시에 처리하면 한 건만 반영된다.
+     * 승인 시 다음 단계를 활성화하고, 활성화된 단계가 없으면 마지막 단계이므로 휴가 신청을 승인 종료한다.
+     * 반려 시 남은 미활성 단계를 건너뜀으로 종료하고 휴가 신청을 반려 종료한다.
+     * 
+     *
+     * @param approvalId 결재 ID
+     * @param decision 결재 상태 (APPROVED / REJECTED)
+     * @param comment 결재 의견
+     * @param actor 실제 처리자 (지정된 결재자 또는 현재 수임자)
+     * @return 결재선 진행 결과
+     */
+    @Transactional
+    public WorkflowTransition decide(Long approvalId, ApprovalStatus decision, String comment, User actor) {
+        validateDecision(decision);
+
+        ApprovalDecisionRow row = approvalRepository.findDecisionRowsByIds(List.of(approvalId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("Not Found LeaveRequestApproval : " + approvalId));
+
+        if (!delegationResolver.canActFor(actor.getId(), row.getApproverId())) {
+            throw new BusinessException("결재 권한이 없습니다. : " + approvalId);
+        }
+        if (row.getStatus() == ApprovalStatus.WAITING) {
+            throw new BusinessException("이전 단계 결재가 완료되지 않았습니다. : " + approvalId);
+        }
+        if (row.getStatus() != ApprovalStatus.PENDING) {
+            throw new BusinessException("이미 처리된 결재입니다. : " + approvalId);
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int decided = approvalRepository.decideAll(List.of(approvalId), decision, comment, actor, now, ApprovalStatus.PENDING);
+        if (decided == 0) {
+            throw new ConcurrencyFailureException("LeaveRequestApproval changed concurrently : " + approvalId);
+        }
+        approvalInboxService.adjustPendingCount(row.getApproverId(), -1);
+
+        List<Long> requestIds = List.of(row.getLeaveRequestId());
+        List<Long> closedIds = List.of(approvalId);
+        if (decision == ApprovalStatus.REJECTED) {
+            approvalRepository.skipWaitingSteps(requestIds, ApprovalStatus.WAITING, ApprovalStatus.SKIPPED, now);
+            closeRequest(requestIds, LeaveRequestStatus.REJECTED, now);
+            publishSla(List.of(), closedIds);
+            return WorkflowTransition.closed(row, decision, LeaveRequestStatus.REJECTED);
+        }
+
+        int nextStep = row.getStepNo() + 1;
+        int activated = approvalRepository.activateSteps(requestIds, nextStep,
+                ApprovalStatus.WAITING, ApprovalStatus.PENDING, now, dueAt(now));
+        if (activated == 0) {
+            closeRequest(requestIds, LeaveRequestStatus.APPROVED, now);
+            publishSla(List.of(), closedIds);
+            return WorkflowTransition.closed(row, decision, LeaveRequestStatus.APPROVED);
+        }
+
+        List<ActiveStepRow> nextSteps = applyActivated(requestIds, nextStep);
+        publishSla(nextSteps, closedIds);
+        Long nextApproverId = nextSteps.isEmpty() ? null : nextSteps.getFirst().getApproverId();
+
+        return WorkflowTransition.advanced(row, nextApproverId);
+    }
+
+    /**
+     * 일괄 반영된 결재들의 결재선을 진행시킨다.
+     * 
+     * 승인 시 단계 번호별로 묶어 다음 단계를 한 번씩 활성화한다.
+     * 반려 시 남은 미활성 단계를 건너뜀으로 종료한다.
+     * 휴가 신청 종료는 호출한 쪽에서 처리한다.
+     * 
+     *
+     * @param appliedRows 반영된 결재 정보
+     * @param decision 결재 상태 (APPROVED / REJECTED)
+     * @return 새로 활성화된 다음 단계 결재 목록 (반려면 빈 목록)
+     */
+    @Transactional
+    public List<ActiveStepRow> advanceAll(List<ApprovalDecisionRow> appliedRows, ApprovalStatus decision) {
+        validateDecision(decision);
+        if (appliedRows.isEmpty()) return List.of();
+
+        List<Long> closedIds = appliedRows.stream().map(ApprovalDecisionRow::getApprovalId).toList();
+        if (decision == ApprovalStatus.REJECTED) {
+            List<Long> requestIds = appliedRows.stream().map(ApprovalDecisionRow::getLeaveRequestId).distinct().toList();
+            approvalRepository.skipWaitingSteps(requestIds, ApprovalStatus.WAITING, ApprovalStatus.SKIPPED,
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            publishSla(List.of(), closedIds);
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Map<Integer, List<Long>> requestIdsByStep = appliedRows.stream()
+                .collect(Collectors.groupingBy(ApprovalDecisionRow::getStepNo,
+                        Collectors.mapping(ApprovalDecisionRow::getLeaveRequestId, Collectors.toList())));
+
+        List<ActiveStepRow> activatedSteps = new ArrayList<>();
+        LocalDateTime dueAt = dueAt(now);
+        requestIdsByStep.forEach((stepNo, ids) -> {
+            int activated = approvalRepository.activateSteps(ids, stepNo + 1,
+                    ApprovalStatus.WAITING, ApprovalStatus.PENDING, now, dueAt);
+            if (activated > 0) activatedSteps.addAll(applyActivated(ids, stepNo + 1));
+        });
+        publishSla(activatedSteps, closedIds);
+        return activatedSteps;
+    }
+
+    /**
+     * 대기 중인 휴가 신청을 최종 상태로 종료한다.
+     * 이미 종료된(취소 등) 신청이면 결재 처리 전체를 되돌린다.
+     *
+     * @param requestIds 휴가 신청 ID 목록
+     * @param status 종료 상태
+     * @param now 처리 시각
+     */
+    private void closeRequest(Collection<Long> requestIds, LeaveRequestStatus status, LocalDateTime now) {
+        int closed = leaveRequestRepository.closeAll(requestIds, status, LeaveRequestStatus.PENDING, now);
+        if (closed == 0) {
+            throw new BusinessException("이미 종료된 휴가 신청입니다. : " + requestIds);
+        }
+    }
+
+    /**
+     * 새로 활성화된 단계를 조회해 결재자별 대기 건수를 카운터에 반영한다.
+     *
+     * @param requestIds 휴가 신청 ID 목록
+     * @param stepNo 활성화된 결재 단계
+     * @return 활성화된 결재 목록
+     */
+    private List<ActiveStepRow> applyActivated(Collection<Long> requestIds, int stepNo) {
+        List<ActiveStepRow> rows = approvalRepository.findActiveSteps(requestIds, stepNo, ApprovalStatus.PENDING);
+        rows.stream()
+                .collect(Collectors.groupingBy(ActiveStepRow::getApproverId, Collectors.counting()))
+                .forEach(approvalInboxService::adjustPendingCount);
+        return rows;
+    }
+
+    /**
+     * SLA 타이머 변경 이벤트를 발행한다. 리스너는 커밋 후에 실행된다.
+     *
+     * @param activated 새로 활성화된 결재 목록
+     * @param closedIds 처리된 결재 ID
+     */
+    private void publishSla(List<ActiveStepRow> activated, Collection<Long> closedIds) {
+        if (activated.isEmpty() && closedIds.isEmpty()) return;
+
+        Map<Long, LocalDateTime> dueAtById = new HashMap<>();
+        activated.stream()
+                .filter(row -> row.getDueAt() != null)
+                .forEach(row -> dueAtById.put(row.getApprovalId(), row.getDueAt()));
+
+        eventPublisher.publishEvent(ApprovalSlaChangedEvent.of(dueAtById, List.copyOf(closedIds)));
+    }
+
+    /**
+     * 처리 기한을 계산한다.
+     *
+     * @param now 활성화 시각
+     * @return 처리 기한
+     */
+    private LocalDateTime dueAt(LocalDateTime now) {
+        return now.plusHours(dueHours);
+    }
+
+    /**
+     * 결재 처리 상태가 승인 또는 반려인지 확인한다.
+     *
+     * @param decision 결재 상태
+     */
+    private static void validateDecision(ApprovalStatus decision) {
+        if (decision != ApprovalStatus.APPROVED && decision != ApprovalStatus.REJECTED) {
+            throw new BusinessException("결재는 승인 또는 반려만 가능합니다.");
+        }
+    }
+}
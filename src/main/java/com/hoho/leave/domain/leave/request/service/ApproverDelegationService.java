@@ -0,0 +1,110 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.exception.BusinessException;
+import com.hoho.leave.common.exception.DuplicateException;
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.leave.request.dto.request.ApproverDelegationCreateRequest;
+import com.hoho.leave.domain.leave.request.dto.response.ApproverDelegationResponse;
+import com.hoho.leave.domain.leave.request.entity.ApproverDelegation;
+import com.hoho.leave.domain.leave.request.repository.ApproverDelegationRepository;
+import com.hoho.leave.domain.leave.request.service.support.ApproverDelegationChangedEvent;
+import com.hoho.leave.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 결재자 위임 서비스.
+ * 
+ * 결재자 위임의 생성, 철회, 조회 등의 비즈니스 로직을 처리한다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class ApproverDelegationService {
+
+    /** 무기한 위임의 겹침 검사에 사용하는 종료일 */
+    private static final LocalDate OPEN_END = LocalDate.of(9999, 12, 31);
+
+    private final ApproverDelegationRepository delegationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 결재자 위임을 생성한다.
+     * 같은 위임자의 활성 위임과 기간이 겹치면 생성할 수 없다.
+     *
+     * @param delegator 위임자
+     * @param delegate 수임자
+     * @param request 위임 생성 요청
+     * @return 생성된 결재자 위임 엔티티
+     */
+    @Transactional
+    public ApproverDelegation createDelegation(User delegator, User delegate, ApproverDelegationCreateRequest request) {
+        if (delegator.getId().equals(delegate.getId())) {
+            throw new BusinessException("자기 자신에게 위임할 수 없습니다.");
+        }
+        if (request.getEndDate() != null && request.getEndDate().isBefore(request.getStartDate())) {
+            throw new BusinessException("위임 종료일이 시작일보다 빠릅니다.");
+        }
+
+        LocalDate to = request.getEndDate() == null ? OPEN_END : request.getEndDate();
+        if (delegationRepository.existsOverlapping(delegator.getId(), request.getStartDate(), to)) {
+            throw new DuplicateException("기간이 겹치는 위임이 이미 존재합니다. : " + delegator.getId());
+        }
+
+        ApproverDelegation delegation = delegationRepository.save(ApproverDelegation.create(
+                delegator, delegate, request.getStartDate(), request.getEndDate(), request.getComment()));
+
+        eventPublisher.publishEvent(ApproverDelegationChangedEvent.of(delegation.getId()));
+
+        return delegation;
+    }
+
+    /**
+     * 결재자 위임을 철회한다.
+     *
+     * @param delegationId 위임 ID
+     * @return 철회된 결재자 위임 엔티티
+     */
+    @Transactional
+    public ApproverDelegation revokeDelegation(Long delegationId) {
+        ApproverDelegation delegation = getDelegationEntity(delegationId);
+        if (!delegation.isActive()) {
+            throw new BusinessException("이미 철회된 위임입니다. : " + delegationId);
+        }
+
+        delegation.revoke();
+
+        eventPublisher.publishEvent(ApproverDelegationChangedEvent.of(delegationId));
+
+        return delegation;
+    }
+
+    /**
+     * 위임자의 위임 목록을 조회한다.
+     *
+     * @param delegatorId 위임자 ID
+     * @return 결재자 위임 응답 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ApproverDelegationResponse> getDelegations(Long delegatorId) {
+        return delegationRepository.findByDelegatorIdOrderByStartDateDesc(delegatorId).stream()
+                .map(ApproverDelegationResponse::of)
+                .toList();
+    }
+
+    /**
+     * 결재자 위임 엔티티를 조회한다.
+     *
+     * @param delegationId 위임 ID
+     * @return 결재자 위임 엔티티
+     */
+    private ApproverDelegation getDelegationEntity(Long delegationId) {
+        return delegationRepository.findById(delegationId)
+                .orElseThrow(() -> new NotFoundException("Not Found ApproverDelegation : " + delegationId));
+    }
+}
@@ -0,0 +1,92 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.request.entity.AttachmentBlob;
+import com.hoho.leave.domain.leave.request.entity.StorageTier;
+import com.hoho.leave.domain.leave.request.repository.AttachmentBlobRepository;
+import com.hoho.leave.domain.leave.request.service.support.TieredBlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 첨부파일 보관 스케줄러 서비스.
+ * 
+ * 끝난 지 오래된 휴가 신청의 첨부 내용을 보관(cold) 저장소로 옮기고 로컬 사본을 지운다.
+ * 보관 저장소에 넣은 뒤에 blob을 보관 계층으로 표시하므로, 도중에 실패해도 로컬 사본으로 계속 읽을 수 있다.
+ * 이미 보관된 blob은 읽기 때문에 되살아난 로컬 사본 중 캐시 기간이 지난 것만 다시 지운다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentArchiveService {
+
+    private final AttachmentBlobRepository blobRepository;
+    private final AttachmentBlobService blobService;
+    private final TieredBlobStore tieredBlobStore;
+
+    /** 휴가 종료 후 보관까지의 기간(개월) */
+    @Value("${leave.attachment.archive.after-months:12}")
+    private long afterMonths;
+
+    /** 한 번에 조회할 보관 대상 수 */
+    @Value("${leave.attachment.archive.batch-size:100}")
+    private int batchSize;
+
+    /** 보관된 내용의 로컬 사본 유지 기간(일, 마지막 복원 기준) */
+    @Value("${leave.attachment.archive.local-cache-days:7}")
+    private long localCacheDays;
+
+    /**
+     * 매일 새벽 보관 대상을 옮긴다.
+     */
+    @Scheduled(cron = "0 40 3 * * *", zone = "Asia/Seoul")
+    public void archiveSchedule() {
+        int archived = archive(LocalDate.now().minusMonths(afterMonths),
+                Instant.now().minus(Duration.ofDays(localCacheDays)));
+        if (archived > 0) log.info("Attachment archive finished. archived={}", archived);
+    }
+
+    /**
+     * 기준일 이전에 끝난 휴가 신청의 blob을 보관한다.
+     * 실패한 blob은 건너뛰고 다음 실행에서 다시 시도한다.
+     *
+     * @param cutoff 이 날짜 이전에 끝난 휴가 신청만 대상
+     * @param keepAfter 이 시각 이후에 수정된 로컬 사본은 남긴다
+     * @return 새로 보관한 blob 수
+     */
+    public int archive(LocalDate cutoff, Instant keepAfter) {
+        int archived = 0;
+        int evicted = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = blobRepository.findArchiveCandidateIds(cutoff, afterId, batchSize);
+            for (Long id : ids) {
+                try {
+                    AttachmentBlob blob = blobRepository.findById(id).orElse(null);
+                    if (blob == null) continue;
+
+                    if (blob.getTier() == StorageTier.LOCAL) {
+                        tieredBlobStore.archive(blob.getStorageKey(), blob.getSha256());
+                        if (blobService.markArchived(id)) archived++;
+                    }
+                    if (tieredBlobStore.evictLocal(blob.getStorageKey(), keepAfter)) evicted++;
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Attachment archive failed. blobId={}: {}", id, e.getMessage());
+                }
+            }
+            if (ids.size() < batchSize) break;
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (evicted > 0) log.info("Archived attachment local copies evicted. evicted={}", evicted);
+        return archived;
+    }
+}
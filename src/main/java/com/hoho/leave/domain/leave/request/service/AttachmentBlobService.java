@@ -0,0 +1,92 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.exception.FileErrorException;
+import com.hoho.leave.domain.leave.request.entity.AttachmentBlob;
+import com.hoho.leave.domain.leave.request.entity.StorageTier;
+import com.hoho.leave.domain.leave.request.repository.AttachmentBlobRepository;
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import com.hoho.leave.domain.leave.request.service.support.StagedBlob;
+import com.hoho.leave.domain.leave.request.service.support.ThumbnailCache;
+import com.hoho.leave.domain.leave.request.service.support.TieredBlobStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 첨부파일 blob 서비스.
+ * 
+ * 내용 주소 기반 blob의 참조 수를 관리한다.
+ * 참조 등록은 행만 기록하고 파일 배치는 호출한 쪽이 커밋 후에 한다. (커밋된 참조가 있는 blob은 스위퍼가 지우지 않는다)
+ * 삭제는 행을 지운 트랜잭션 안에서 파일을 지워 스위퍼와 재업로드가 겹쳐도 참조 중인 파일이 사라지지 않게 한다.
+ * 보관된 blob은 보관 저장소의 사본도 함께 지운다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class AttachmentBlobService {
+
+    private final AttachmentBlobRepository blobRepository;
+    private final ContentAddressedStore contentStore;
+    private final ThumbnailCache thumbnailCache;
+    private final TieredBlobStore tieredBlobStore;
+
+    /**
+     * 임시 저장된 내용을 blob으로 등록하고 참조 수를 1 늘린다.
+     * 파일은 옮기지 않는다. 커밋 후 {@link ContentAddressedStore#promote}로 배치해야 한다.
+     *
+     * @param staged 임시 저장된 내용
+     * @return 참조한 blob
+     */
+    @Transactional
+    public AttachmentBlob acquire(StagedBlob staged) {
+        blobRepository.acquire(staged.getSha256(), staged.getSizeBytes(), staged.getStorageKey(), LocalDateTime.now());
+        return blobRepository.findBySha256(staged.getSha256())
+                .orElseThrow(() -> new IllegalStateException("Blob not registered : " + staged.getSha256()));
+    }
+
+    /**
+     * blob 참조 수를 1 줄인다. 파일은 유예 시간 후 스위퍼가 지운다.
+     *
+     * @param blob 참조를 끊을 blob
+     */
+    @Transactional
+    public void release(AttachmentBlob blob) {
+        blobRepository.release(blob.getId(), LocalDateTime.now());
+    }
+
+    /**
+     * blob을 보관 계층으로 표시한다. 보관 저장소에 내용을 넣은 뒤에 호출한다.
+     *
+     * @param blobId blob ID
+     * @return 표시했으면 true, 이미 보관되었거나 없으면 false
+     */
+    @Transactional
+    public boolean markArchived(Long blobId) {
+        return blobRepository.markArchived(blobId, LocalDateTime.now()) > 0;
+    }
+
+    /**
+     * 참조가 없는 blob의 행과 파일을 삭제한다.
+     * 그 사이 다시 참조되었으면 아무것도 하지 않는다.
+     *
+     * @param blobId blob ID
+     * @return 삭제했으면 true
+     */
+    @Transactional
+    public boolean purge(Long blobId) {
+        AttachmentBlob blob = blobRepository.findById(blobId).orElse(null);
+        if (blob == null || blobRepository.deleteIfUnreferenced(blobId) == 0) return false;
+
+        try {
+            contentStore.delete(blob.getStorageKey());
+            thumbnailCache.remove(contentStore.resolve(blob.getStorageKey()));
+            if (blob.getTier() == StorageTier.ARCHIVE) tieredBlobStore.deleteArchived(blob.getStorageKey());
+        } catch (IOException e) {
+            throw new FileErrorException("File Delete Error : " + e.getMessage());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.request.repository.AttachmentBlobRepository;
+import com.hoho.leave.domain.leave.request.service.support.ChunkedUploadStore;
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 첨부파일 blob 정리 스케줄러 서비스.
+ * 
+ * 참조가 끊긴 뒤 유예 시간이 지난 blob을 찾아 행과 파일을 삭제한다.
+ * 유예 시간 동안은 같은 내용이 다시 업로드되면 파일을 그대로 재사용한다.
+ * 오래 남은 업로드 임시 파일과 멈춘 분할 업로드 세션도 함께 지운다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentBlobSweeperService {
+
+    /** 한 번에 조회할 정리 대상 수 */
+    private static final int BATCH_SIZE = 500;
+
+    private final AttachmentBlobRepository blobRepository;
+    private final AttachmentBlobService blobService;
+    private final ContentAddressedStore contentStore;
+    private final ChunkedUploadStore chunkedUploadStore;
+
+    /** 참조가 끊긴 뒤 삭제까지의 유예 시간(분) */
+    @Value("${leave.attachment.blob-grace-minutes:60}")
+    private long graceMinutes;
+
+    /** 업로드 임시 파일 보존 시간(분) */
+    @Value("${leave.attachment.staging-ttl-minutes:60}")
+    private long stagingTtlMinutes;
+
+    /** 분할 업로드 세션 보존 시간(시간, 마지막 청크 수신 기준) */
+    @Value("${leave.attachment.chunked-upload-ttl-hours:24}")
+    private long chunkedUploadTtlHours;
+
+    /**
+     * 주기적으로 미참조 blob을 정리한다.
+     */
+    @Scheduled(cron = "0 20 * * * *", zone = "Asia/Seoul")
+    public void sweepSchedule() {
+        int purged = sweep(LocalDateTime.now().minusMinutes(graceMinutes));
+        if (purged > 0) log.info("Attachment blob sweep finished. purged={}", purged);
+
+        try {
+            int staged = contentStore.purgeStaging(Instant.now().minus(Duration.ofMinutes(stagingTtlMinutes)));
+            if (staged > 0) log.info("Attachment staging cleanup finished. purged={}", staged);
+        } catch (IOException e) {
+            log.warn("Attachment staging cleanup failed: {}", e.getMessage());
+        }
+
+        try {
+            int sessions = chunkedUploadStore.purgeInactive(Instant.now().minus(Duration.ofHours(chunkedUploadTtlHours)));
+            if (sessions > 0) log.info("Chunked upload cleanup finished. purged={}", sessions);
+        } catch (IOException e) {
+            log.warn("Chunked upload cleanup failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기준 시각 이전에 참조가 끊긴 blob을 정리한다.
+     * 삭제에 실패한 blob은 건너뛰고 다음 실행에서 다시 시도한다.
+     *
+     * @param cutoff 이 시각 이전에 참조가 끊긴 blob만 대상
+     * @return 삭제한 blob 수
+     */
+    public int sweep(LocalDateTime cutoff) {
+        int purged = 0;
+        while (true) {
+            List<Long> ids = blobRepository.findOrphanedIds(cutoff, PageRequest.of(0, BATCH_SIZE));
+            int purgedInBatch = 0;
+            for (Long id : ids) {
+                try {
+                    if (blobService.purge(id)) purgedInBatch++;
+                } catch (Exception e) {
+                    log.warn("Attachment blob purge failed. blobId={}: {}", id, e.getMessage());
+                }
+            }
+            purged += purgedInBatch;
+            if (ids.size() < BATCH_SIZE || purgedInBatch == 0) return purged;
+        }
+    }
+}
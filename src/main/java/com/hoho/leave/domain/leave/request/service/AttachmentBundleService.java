@@ -0,0 +1,152 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.exception.BusinessException;
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.common.file.ZipBundleWriter;
+import com.hoho.leave.domain.leave.request.repository.AttachmentRepository;
+import com.hoho.leave.domain.leave.request.repository.AttachmentRepository.BundleRow;
+import com.hoho.leave.domain.leave.request.service.support.TieredBlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첨부파일 묶음(ZIP) 다운로드 서비스.
+ * 
+ * 휴가 신청 하나의 첨부파일 전체, 또는 기간이 겹치는 휴가 신청들의 첨부파일 전체를 ZIP으로 응답 스트림에 바로 쓴다.
+ * 기간 묶음은 첨부파일 행도 키셋 페이지 단위로 읽으므로 대상 수와 관계없이 메모리 사용량이 일정하다.
+ * 보관 계층으로 옮겨진 내용은 항목을 쓰기 직전에 로컬로 되살린다.
+ * 첨부파일 행은 조회마다 짧은 읽기 트랜잭션에서 읽고, 복원과 ZIP 쓰기는 트랜잭션과 DB 연결 없이 한다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentBundleService {
+
+    private final AttachmentRepository attachmentRepository;
+    private final TieredBlobStore tieredBlobStore;
+
+    /** 기간 묶음에서 한 번에 조회할 첨부파일 수 */
+    @Value("${leave.attachment.bundle.page-size:200}")
+    private int pageSize;
+
+    /** 기간 묶음의 최대 조회 기간(일) */
+    @Value("${leave.attachment.bundle.max-range-days:366}")
+    private long maxRangeDays;
+
+    /**
+     * 휴가 신청 하나의 첨부파일을 ZIP으로 묶는다.
+     * 같은 이름의 파일은 "이름 (2).pdf"처럼 구분한다.
+     *
+     * @param leaveRequestId 휴가 신청 ID
+     * @return ZIP 응답 본문
+     */
+    public StreamingResponseBody bundleLeaveRequest(Long leaveRequestId) {
+        List<BundleRow> rows = attachmentRepository.findBundleRowsByLeaveRequestId(leaveRequestId);
+        if (rows.isEmpty()) {
+            throw new NotFoundException("Not Found Attachment : leaveRequestId " + leaveRequestId);
+        }
+
+        return out -> {
+            Map<String, Integer> seen = new HashMap<>();
+            try (ZipBundleWriter zip = new ZipBundleWriter(out)) {
+                for (BundleRow row : rows) {
+                    zip.add(uniqueName(row.getOriginalName(), seen), localPathOf(row), row.getContentType());
+                }
+            }
+        };
+    }
+
+    /**
+     * 기간이 겹치는 휴가 신청들의 첨부파일을 ZIP으로 묶는다. (감사용)
+     * 항목은 {@code <휴가 신청 ID>_<신청자>/<첨부파일 ID>_<원본 파일명>}으로 넣어 이름이 겹치지 않게 한다.
+     *
+     * @param from 조회 시작일
+     * @param to 조회 종료일
+     * @return ZIP 응답 본문
+     */
+    public StreamingResponseBody bundleByLeavePeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessException("Attachment Bundle Failed : 시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new BusinessException("Attachment Bundle Failed : 조회 기간은 최대 " + maxRangeDays + "일입니다.");
+        }
+
+        return out -> {
+            try (ZipBundleWriter zip = new ZipBundleWriter(out)) {
+                long afterId = 0L;
+                List<BundleRow> page;
+                do {
+                    page = attachmentRepository.findBundleRowsByLeavePeriod(from, to, afterId, PageRequest.of(0, pageSize));
+                    for (BundleRow row : page) {
+                        String name = row.getLeaveRequestId() + "_" + sanitize(row.getRequesterName())
+                                + "/" + row.getId() + "_" + sanitize(row.getOriginalName());
+                        zip.add(name, localPathOf(row), row.getContentType());
+                        afterId = row.getId();
+                    }
+                } while (page.size() == pageSize);
+            }
+        };
+    }
+
+    /**
+     * 첨부파일 내용의 로컬 경로를 반환한다.
+     * 보관 저장소에서 되살리지 못하면 원래 경로를 그대로 넘겨 누락 목록에 남긴다.
+     *
+     * @param row 첨부파일 행
+     * @return 로컬 파일 경로
+     */
+    private Path localPathOf(BundleRow row) {
+        if (row.getStorageKey() == null) return Path.of(row.getFilePath());
+        try {
+            return tieredBlobStore.ensureLocal(row.getStorageKey(), row.getBlobTier());
+        } catch (IOException e) {
+            log.warn("Attachment restore failed while bundling. attachmentId={}: {}", row.getId(), e.getMessage());
+            return Path.of(row.getFilePath());
+        }
+    }
+
+    /**
+     * 같은 이름이 이미 있으면 확장자 앞에 번호를 붙인다.
+     *
+     * @param originalName 원본 파일명
+     * @param seen 이름별 사용 횟수
+     * @return ZIP 항목 이름
+     */
+    static String uniqueName(String originalName, Map<String, Integer> seen) {
+        String name = sanitize(originalName);
+        int count = seen.merge(name.toLowerCase(), 1, Integer::sum);
+        if (count == 1) return name;
+
+        int dot = name.lastIndexOf('.');
+        String candidate = dot > 0
+                ? name.substring(0, dot) + " (" + count + ")" + name.substring(dot)
+                : name + " (" + count + ")";
+        return seen.putIfAbsent(candidate.toLowerCase(), 1) == null ? candidate : uniqueName(candidate, seen);
+    }
+
+    /**
+     * 경로 구분자와 상위 경로 표기를 지워 ZIP 밖으로 풀리는 항목(zip slip)을 막는다.
+     *
+     * @param name 원본 이름
+     * @return 안전한 이름
+     */
+    static String sanitize(String name) {
+        String cleaned = name == null ? "" : name.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").trim();
+        while (cleaned.startsWith(".")) cleaned = cleaned.substring(1);
+        return cleaned.isEmpty() ? "file" : cleaned;
+    }
+}
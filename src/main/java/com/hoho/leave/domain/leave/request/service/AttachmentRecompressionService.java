@@ -0,0 +1,166 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import com.hoho.leave.domain.leave.request.service.support.ContentInspector;
+import com.hoho.leave.domain.leave.request.service.support.ImageRecompressor;
+import com.hoho.leave.domain.leave.request.service.support.StagedBlob;
+import com.hoho.leave.domain.leave.request.service.support.StagedUpload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 첨부 이미지 재압축 서비스.
+ *
+ * 업로드가 커밋된 뒤 큰 JPEG/PNG를 재압축 스레드 풀(attachmentRecompressTaskExecutor)에서 설정 해상도/품질로 다시 인코딩하고,
+ * 충분히 작아졌을 때만 같은 내용을 참조하던 첨부파일들을 새 blob으로 바꾼다.
+ * 원본은 보관 정책이 켜져 있을 때만 참조를 남기며(이후 보관 계층으로 옮겨진다), 아니면 스위퍼가 지운다.
+ * 작업 큐가 차면 요청을 버리고 원본을 그대로 둔다. 요청 스레드는 기다리지 않는다.
+ *
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentRecompressionService {
+
+    private final ImageRecompressor recompressor;
+    private final ContentAddressedStore contentStore;
+    private final AttachmentUploadProcessor attachmentUploadProcessor;
+    private final AttachmentThumbnailService thumbnailService;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor attachmentRecompressTaskExecutor;
+
+    /** 재압축 사용 여부 */
+    @Value("${leave.attachment.recompress.enabled:false}")
+    private boolean enabled;
+
+    /** 해상도가 작아도 재압축하는 최소 크기 (bytes) */
+    @Value("${leave.attachment.recompress.min-bytes:1048576}")
+    private long minBytes;
+
+    /** 결과를 쓰기 위한 최소 절감 비율 (0~1) */
+    @Value("${leave.attachment.recompress.min-saving:0.1}")
+    private double minSaving;
+
+    /** 재압축 전 원본 보관 여부 */
+    @Value("${leave.attachment.recompress.keep-original:false}")
+    private boolean keepOriginal;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private Counter bytesBefore;
+    private Counter bytesAfter;
+
+    /**
+     * 절감량 지표를 만든다.
+     */
+    @PostConstruct
+    void start() {
+        bytesBefore = Counter.builder("leave.attachment.recompress.bytes")
+                .description("재압축한 첨부 이미지 크기 합계")
+                .baseUnit("bytes")
+                .tag("stage", "before")
+                .register(meterRegistry);
+        bytesAfter = Counter.builder("leave.attachment.recompress.bytes")
+                .description("재압축한 첨부 이미지 크기 합계")
+                .baseUnit("bytes")
+                .tag("stage", "after")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 업로드의 재압축을 요청한다. 대상이 아니거나 이미 진행 중이거나 큐가 차 있으면 아무것도 하지 않는다.
+     *
+     * @param stored blob 파일 경로
+     * @param upload 등록된 업로드 파일
+     * @return 작업을 큐에 넣었으면 true
+     */
+    public boolean request(Path stored, StagedUpload upload) {
+        if (!enabled || !ImageRecompressor.supports(upload.getContentType())) return false;
+        if (upload.getBlob().getSizeBytes() < minBytes
+                && !recompressor.exceedsMaxEdge(upload.getImageWidth(), upload.getImageHeight())) {
+            return false;
+        }
+
+        String sha256 = upload.getBlob().getSha256();
+        if (!inFlight.add(sha256)) return false;
+
+        try {
+            attachmentRecompressTaskExecutor.execute(() -> recompress(stored, upload));
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(sha256);
+            count(upload.getContentType(), "rejected");
+            log.debug("Recompress queue full. sha256={}", sha256);
+            return false;
+        }
+    }
+
+    /**
+     * 다시 인코딩해 충분히 작아졌으면 새 blob으로 바꾸고 썸네일을 요청한다.
+     * 바꾸지 않았으면 원본의 썸네일을 요청한다.
+     *
+     * @param stored blob 파일 경로
+     * @param upload 등록된 업로드 파일
+     */
+    private void recompress(Path stored, StagedUpload upload) {
+        String sha256 = upload.getBlob().getSha256();
+        String contentType = upload.getContentType();
+        Path thumbnailSource = stored;
+        try {
+            long before = upload.getBlob().getSizeBytes();
+            byte[] encoded = recompressor.recompress(stored, contentType);
+            if (encoded.length > before * (1 - minSaving)) {
+                count(contentType, "skipped");
+                return;
+            }
+
+            ContentInspector inspector = new ContentInspector();
+            StagedBlob staged = contentStore.stage(new ByteArrayInputStream(encoded), inspector);
+            int replaced;
+            try {
+                replaced = attachmentUploadProcessor.replaceContent(sha256, staged,
+                        inspector.getWidth(), inspector.getHeight(), keepOriginal);
+            } catch (RuntimeException e) {
+                contentStore.discard(staged);
+                throw e;
+            }
+            if (replaced == 0) {
+                // 그 사이 모두 삭제됨
+                contentStore.discard(staged);
+                count(contentType, "skipped");
+                return;
+            }
+
+            thumbnailSource = contentStore.promote(staged);
+            bytesBefore.increment(before);
+            bytesAfter.increment(encoded.length);
+            count(contentType, "recompressed");
+            log.info("Attachment recompressed. sha256={}, before={}, after={}, attachments={}",
+                    sha256, before, encoded.length, replaced);
+        } catch (Exception e) {
+            count(contentType, "failed");
+            log.warn("Attachment recompress failed. sha256={}: {}", sha256, e.getMessage());
+        } finally {
+            inFlight.remove(sha256);
+            thumbnailService.request(thumbnailSource, contentType);
+        }
+    }
+
+    private void count(String contentType, String outcome) {
+        meterRegistry.counter("leave.attachment.recompress.images",
+                "type", contentType,
+                "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,323 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.file.SortedLineSpool;
+import com.hoho.leave.domain.leave.request.entity.StorageTier;
+import com.hoho.leave.domain.leave.request.repository.AttachmentBlobRepository;
+import com.hoho.leave.domain.leave.request.repository.AttachmentBlobRepository.BlobKeyRow;
+import com.hoho.leave.domain.leave.request.repository.AttachmentRepository;
+import com.hoho.leave.domain.leave.request.repository.AttachmentRepository.FilePathRow;
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import com.hoho.leave.domain.leave.request.service.support.ReconcileReport;
+import com.hoho.leave.domain.leave.request.service.support.ThumbnailCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첨부파일 정합성 점검 스케줄러 서비스.
+ * 
+ * 업로드 디렉토리와 첨부파일/blob 행을 맞춰 보고, 행 없는 파일은 격리 디렉토리로 옮기고 파일 없는 행은 보고한다.
+ * 양쪽 경로를 각각 디스크 외부 정렬로 정렬한 뒤 병합 조인하므로 파일/행 수와 관계없이 힙 사용량이 일정하다.
+ * 파일 목록을 먼저 만들고 행을 나중에 읽는다. 파일은 행이 커밋된 뒤에만 놓이므로 그 사이 생긴 파일도 행과 짝이 맞는다.
+ * 디렉토리 탐색은 초당 파일 수를 제한해 서비스 중인 디스크 IO를 밀어내지 않는다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentReconcilerService {
+
+    /** 격리 디렉토리 이름 (업로드 디렉토리 아래) */
+    static final String QUARANTINE_DIR = "quarantine";
+
+    /** 점검에서 제외하는 작업 디렉토리 (업로드 디렉토리 바로 아래) */
+    private static final Set<String> WORK_DIRS = Set.of("staging", "chunked", "archive", QUARANTINE_DIR);
+
+    /** 행 줄의 경로와 표시 구분자. 경로에 쓰일 수 있는 어떤 문자보다 앞에 정렬된다 */
+    private static final char SEPARATOR = '\t';
+    /** 파일이 로컬에 있어야 하는 행 */
+    private static final char REQUIRED = 'R';
+    /** 로컬 파일이 없어도 되는 행 (보관 계층 blob) */
+    private static final char OPTIONAL = 'O';
+
+    /** 이 시간 이상 앞서 있을 때만 잠든다 */
+    private static final long MIN_SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentBlobRepository blobRepository;
+    private final ContentAddressedStore contentStore;
+    private final ThumbnailCache thumbnailCache;
+
+    @Value("${upload.local.dir}")
+    private String uploadDir;
+
+    /** 보관 디렉토리 (업로드 디렉토리 안에 따로 지정된 경우 제외한다) */
+    @Value("${leave.attachment.archive.dir:}")
+    private String archiveDir;
+
+    /** 한 번에 조회할 행 수 */
+    @Value("${leave.attachment.reconcile.page-size:1000}")
+    private int pageSize;
+
+    /** 외부 정렬 run 하나에 담을 경로 수 (메모리에 한 번에 올리는 최대 개수) */
+    @Value("${leave.attachment.reconcile.run-size:100000}")
+    private int runSize;
+
+    /** 초당 탐색할 최대 파일 수 (0이면 제한 없음) */
+    @Value("${leave.attachment.reconcile.files-per-second:2000}")
+    private int filesPerSecond;
+
+    /** 이 시간 안에 수정된 파일은 점검하지 않는다(시간) */
+    @Value("${leave.attachment.reconcile.min-age-hours:24}")
+    private long minAgeHours;
+
+    /** 고아 파일을 격리할지 여부 (false면 보고만 한다) */
+    @Value("${leave.attachment.reconcile.quarantine:true}")
+    private boolean quarantine;
+
+    /**
+     * 매주 일요일 새벽 정합성을 점검한다.
+     */
+    @Scheduled(cron = "0 30 4 * * SUN", zone = "Asia/Seoul")
+    public void reconcileSchedule() {
+        try {
+            ReconcileReport report = reconcile(Instant.now().minus(Duration.ofHours(minAgeHours)));
+            log.info("Attachment reconcile finished. files={}, rows={}, orphans={}, quarantined={}, dangling={}",
+                    report.getFilesScanned(), report.getRowsScanned(), report.getOrphans(),
+                    report.getQuarantined(), report.getDangling());
+            if (report.getDangling() > 0) {
+                log.warn("Attachment rows without files: {}", report.getDanglingSamples());
+            }
+        } catch (IOException e) {
+            log.warn("Attachment reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드 디렉토리와 첨부파일/blob 행을 맞춰 본다.
+     *
+     * @param modifiedBefore 이 시각 이전에 수정된 파일만 점검한다 (진행 중인 업로드 보호)
+     * @return 점검 결과
+     * @throws IOException 탐색/정렬 실패
+     */
+    public ReconcileReport reconcile(Instant modifiedBefore) throws IOException {
+        Path root = Path.of(uploadDir).toAbsolutePath().normalize();
+        Path work = Path.of(System.getProperty("java.io.tmpdir"), "attachment-reconcile");
+        ReconcileReport report = new ReconcileReport();
+
+        try (SortedLineSpool files = SortedLineSpool.create(work, runSize);
+             SortedLineSpool rows = SortedLineSpool.create(work, runSize)) {
+            walk(root, modifiedBefore, files, report);
+            spoolRows(root, rows, report);
+            mergeJoin(root, files.sorted(), rows.sorted(), report);
+        }
+        return report;
+    }
+
+    /**
+     * 업로드 디렉토리를 탐색해 점검 대상 파일의 상대 경로를 모은다.
+     * 작업 디렉토리, 썸네일, 최근 수정된 파일은 제외한다.
+     *
+     * @param root 업로드 디렉토리
+     * @param modifiedBefore 이 시각 이전에 수정된 파일만 대상
+     * @param files 파일 경로 정렬기
+     * @param report 점검 결과
+     * @throws IOException 탐색 실패
+     */
+    private void walk(Path root, Instant modifiedBefore, SortedLineSpool files, ReconcileReport report) throws IOException {
+        Path archiveRoot = archiveDir == null || archiveDir.isBlank() ? null : Path.of(archiveDir).toAbsolutePath().normalize();
+        Throttle throttle = new Throttle(filesPerSecond);
+
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                boolean workDir = root.equals(dir.getParent()) && WORK_DIRS.contains(dir.getFileName().toString());
+                return workDir || dir.equals(archiveRoot) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                throttle.acquire();
+                if (!attrs.isRegularFile() || ThumbnailCache.isThumbnail(file)) return FileVisitResult.CONTINUE;
+                if (attrs.lastModifiedTime().toInstant().isAfter(modifiedBefore)) return FileVisitResult.CONTINUE;
+
+                String path = relative(root, file);
+                if (path.indexOf('\n') >= 0 || path.indexOf('\r') >= 0 || path.indexOf(SEPARATOR) >= 0) {
+                    log.warn("Attachment reconcile skipped unsupported file name. path={}", file);
+                    return FileVisitResult.CONTINUE;
+                }
+                files.add(path);
+                report.fileScanned();
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                log.warn("Attachment reconcile could not read. path={}: {}", file, e.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * blob 행과 blob 도입 이전 첨부파일 행의 파일 경로를 키셋 페이지 단위로 읽어 모은다.
+     * 보관 계층 blob은 로컬 사본이 없어도 되는 행으로 표시한다.
+     *
+     * @param root 업로드 디렉토리
+     * @param rows 행 경로 정렬기
+     * @param report 점검 결과
+     * @throws IOException 정렬기 쓰기 실패
+     */
+    private void spoolRows(Path root, SortedLineSpool rows, ReconcileReport report) throws IOException {
+        long afterId = 0L;
+        List<BlobKeyRow> blobs;
+        do {
+            blobs = blobRepository.findKeyRowsAfter(afterId, PageRequest.of(0, pageSize));
+            for (BlobKeyRow blob : blobs) {
+                char flag = blob.getTier() == StorageTier.ARCHIVE ? OPTIONAL : REQUIRED;
+                rows.add(relative(root, contentStore.resolve(blob.getStorageKey())) + SEPARATOR + flag);
+                report.rowScanned();
+                afterId = blob.getId();
+            }
+        } while (blobs.size() == pageSize);
+
+        afterId = 0L;
+        List<FilePathRow> legacy;
+        do {
+            legacy = attachmentRepository.findLegacyFilePathsAfter(afterId, PageRequest.of(0, pageSize));
+            for (FilePathRow row : legacy) {
+                Path path = Path.of(row.getFilePath()).toAbsolutePath().normalize();
+                if (path.startsWith(root)) {
+                    rows.add(relative(root, path) + SEPARATOR + REQUIRED);
+                } else {
+                    log.warn("Attachment outside upload directory. attachmentId={}, path={}", row.getId(), path);
+                }
+                report.rowScanned();
+                afterId = row.getId();
+            }
+        } while (legacy.size() == pageSize);
+    }
+
+    /**
+     * 정렬된 파일 경로와 행 경로를 병합 조인한다.
+     * 파일에만 있으면 고아 파일, 필수 행에만 있으면 끊긴 행이다.
+     * 끊긴 행은 탐색 이후에 파일이 놓였을 수 있으므로 보고하기 전에 한 번 더 확인한다.
+     *
+     * @param root 업로드 디렉토리
+     * @param files 정렬된 파일 경로
+     * @param rows 정렬된 행 줄 (경로 + 구분자 + 표시)
+     * @param report 점검 결과
+     */
+    private void mergeJoin(Path root, Iterator<String> files, Iterator<String> rows, ReconcileReport report) {
+        String quarantineDay = DateTimeFormatter.BASIC_ISO_DATE.format(LocalDate.now());
+        String file = next(files);
+        String row = next(rows);
+        String lastDangling = null;
+
+        while (file != null || row != null) {
+            int cmp = file == null ? 1 : row == null ? -1 : file.compareTo(pathOf(row));
+            if (cmp < 0) {
+                report.orphan(file, quarantine && moveToQuarantine(root, file, quarantineDay));
+                file = next(files);
+            } else if (cmp > 0) {
+                String path = pathOf(row);
+                if (row.charAt(row.length() - 1) == REQUIRED && !path.equals(lastDangling)
+                        && !Files.exists(root.resolve(path))) {
+                    report.dangling(path);
+                    lastDangling = path;
+                }
+                row = next(rows);
+            } else {
+                String matched = file;
+                file = next(files);
+                while (row != null && pathOf(row).equals(matched)) row = next(rows);
+            }
+        }
+    }
+
+    /**
+     * 고아 파일을 격리 디렉토리의 같은 상대 경로로 옮기고 썸네일을 지운다.
+     *
+     * @param root 업로드 디렉토리
+     * @param path 상대 경로
+     * @param day 격리 일자 디렉토리
+     * @return 옮겼으면 true
+     */
+    private boolean moveToQuarantine(Path root, String path, String day) {
+        Path source = root.resolve(path);
+        Path target = root.resolve(QUARANTINE_DIR).resolve(day).resolve(path);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            thumbnailCache.remove(source);
+            log.info("Orphan attachment file quarantined. path={}", path);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("Orphan attachment quarantine failed. path={}: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String relative(Path root, Path path) {
+        return root.relativize(path.toAbsolutePath().normalize()).toString().replace(File.separatorChar, '/');
+    }
+
+    private static String pathOf(String row) {
+        return row.substring(0, row.lastIndexOf(SEPARATOR));
+    }
+
+    private static String next(Iterator<String> it) {
+        return it.hasNext() ? it.next() : null;
+    }
+
+    /**
+     * 초당 처리 수 제한기. 목표 속도보다 앞서 있으면 그만큼 잠든다.
+     */
+    private static final class Throttle {
+        private final long intervalNanos;
+        private long next = System.nanoTime();
+
+        Throttle(int perSecond) {
+            this.intervalNanos = perSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / perSecond : 0;
+        }
+
+        void acquire() throws InterruptedIOException {
+            if (intervalNanos == 0) return;
+            long now = System.nanoTime();
+            long ahead = next - now;
+            if (ahead >= MIN_SLEEP_NANOS) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(ahead);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Attachment reconcile interrupted");
+                }
+            }
+            next = Math.max(next, now) + intervalNanos;
+        }
+    }
+}
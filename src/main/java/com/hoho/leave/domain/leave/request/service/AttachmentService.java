@@ -1,26 +1,39 @@
 package com.hoho.leave.domain.leave.request.service;
 
 import com.hoho.leave.common.exception.FileErrorException;
+import com.hoho.leave.common.file.FileDownload;
 import com.hoho.leave.common.exception.NotFoundException;
 import com.hoho.leave.domain.leave.request.dto.request.AttachmentUploadRequest;
 import com.hoho.leave.domain.leave.request.dto.response.AttachmentResponse;
+import com.hoho.leave.domain.leave.request.entity.AttachmentBlob;
 import com.hoho.leave.domain.leave.request.entity.LeaveRequest;
 import com.hoho.leave.domain.leave.request.entity.LeaveRequestAttachment;
 import com.hoho.leave.domain.leave.request.repository.AttachmentRepository;
-import com.hoho.leave.domain.leave.request.repository.LeaveRequestRepository;
-import com.hoho.leave.domain.user.entity.User;
-import com.hoho.leave.domain.user.repository.UserRepository;
+import com.hoho.leave.domain.leave.request.service.support.AttachmentFileReleasedEvent;
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import com.hoho.leave.domain.leave.request.service.support.ContentInspector;
+import com.hoho.leave.domain.leave.request.service.support.StagedBlob;
+import com.hoho.leave.domain.leave.request.service.support.StagedUpload;
+import com.hoho.leave.domain.leave.request.service.support.ThumbnailGenerator;
+import com.hoho.leave.domain.leave.request.service.support.TieredBlobStore;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
 
 /**
@@ -29,13 +42,19 @@ import java.util.*;
  * 휴가 신청서에 첨부되는 파일의 업로드, 조회, 삭제 등의 비즈니스 로직을 처리한다.
  * 
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AttachmentService {
 
     private final AttachmentRepository attachmentRepository;
-    private final LeaveRequestRepository leaveRequestRepository;
-    private final UserRepository userRepository;
+    private final AttachmentBlobService attachmentBlobService;
+    private final AttachmentUploadProcessor attachmentUploadProcessor;
+    private final ContentAddressedStore contentStore;
+    private final AttachmentThumbnailService thumbnailService;
+    private final AttachmentRecompressionService recompressionService;
+    private final TieredBlobStore tieredBlobStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${upload.local.dir}")
     private String uploadDir;
@@ -54,42 +73,107 @@ public class AttachmentService {
 
     /**
      * 파일을 업로드한다.
+     * 
+     * 1) 트랜잭션/DB 접근 없이 모든 파일을 임시 영역에 저장하고,
+     * 2) 짧은 트랜잭션으로 메타데이터만 등록한 뒤,
+     * 3) 커밋되면 임시 파일을 blob 위치로 원자적으로 옮긴다.
+     * 느린 파일 I/O 동안 DB 커넥션을 잡지 않는다. (open-in-view에서도 첫 쿼리 전이므로 커넥션을 빌리지 않는다)
+     * 저장이나 등록이 실패하면 임시 파일을 지운다.
+     * 
      *
      * @param files 업로드할 파일 목록
      * @param request 첨부파일 업로드 요청
      */
-    @Transactional
     public void uploadFile(List<MultipartFile> files, AttachmentUploadRequest request) {
-        LeaveRequest leaveRequest = getLeaveRequest(request.getLeaveRequestId());
-        User user = getUser(request.getUserId());
-
-        files.forEach(f -> {
-            // 빈 파일 체크
-            if(fileIsEmpty(f)) throw new FileErrorException("Empty Upload File");
-            // MIME 타입 체크
-            if(!isAllowedMime(f.getContentType())) throw new FileErrorException("Not Allowed MIME Type : " + f.getContentType());
-            // 용량체크
-            assertFileSizeAllowed(f.getSize(), f.getContentType());
-
-            String originalName = f.getOriginalFilename();
-            String storedName = generateStoredFileName(originalName);
-            String fullPath = getFullPath(storedName);
-            File dest = new File(fullPath);
-
-            try {
-                f.transferTo(dest);
-            } catch (IOException e) {
-                throw new FileErrorException(e.getMessage());
+        List<StagedUpload> staged = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile f : files) {
+                staged.add(stage(f));
             }
+        } catch (RuntimeException e) {
+            staged.forEach(upload -> contentStore.discard(upload.getBlob()));
+            throw e;
+        }
 
-            LeaveRequestAttachment attachment = LeaveRequestAttachment.create(
-                    originalName, storedName,
-                    fullPath, f.getContentType(),
-                    f.getSize(), user
-            );
+        registerStaged(request.getLeaveRequestId(), request.getUserId(), staged);
+    }
+
+    /**
+     * 임시 저장된 파일들을 첨부파일로 등록하고, 커밋되면 blob 위치로 옮긴다.
+     * 등록이 실패하면 임시 파일을 지운다.
+     *
+     * @param leaveRequestId 휴가 신청 ID
+     * @param userId 업로드한 사용자 ID
+     * @param staged 임시 저장된 업로드 파일 목록
+     */
+    public void registerStaged(Long leaveRequestId, Long userId, List<StagedUpload> staged) {
+        try {
+            attachmentUploadProcessor.register(leaveRequestId, userId, staged);
+        } catch (RuntimeException e) {
+            staged.forEach(upload -> contentStore.discard(upload.getBlob()));
+            throw e;
+        }
+
+        staged.forEach(this::promote);
+    }
+
+    /**
+     * 업로드를 받아도 되는 형식과 크기인지 확인한다. (클라이언트가 알려 준 값 기준의 사전 확인)
+     *
+     * @param contentType MIME 타입
+     * @param size 파일 크기 (bytes)
+     */
+    void assertUploadAllowed(String contentType, long size) {
+        // MIME 타입 체크
+        if(!isAllowedMime(contentType)) throw new FileErrorException("Not Allowed MIME Type : " + contentType);
+        // 용량체크
+        assertFileSizeAllowed(size, contentType);
+    }
+
+    /**
+     * 업로드 파일을 임시 영역에 저장하면서 검사한다.
+     * 형식은 클라이언트가 보낸 Content-Type이 아니라 내용의 매직 바이트로 정하고,
+     * 형식별 크기 제한은 복사하는 도중에 적용해 넘는 즉시 중단한다.
+     *
+     * @param f 업로드 파일
+     * @return 임시 저장된 업로드 파일
+     */
+    private StagedUpload stage(MultipartFile f) {
+        // 빈 파일 체크
+        if(fileIsEmpty(f)) throw new FileErrorException("Empty Upload File");
+        // 어떤 형식이든 받을 수 없는 크기는 읽기 전에 거절
+        if (f.getSize() > ContentInspector.MAX_SIZE) {
+            throw new FileErrorException(String.format("파일 크기가 허용 범위를 초과했습니다. (최대: %dMB)",
+                    ContentInspector.MAX_SIZE / MB));
+        }
 
-            leaveRequest.addAttachment(attachment);
-        });
+        String originalName = f.getOriginalFilename();
+        ContentInspector inspector = new ContentInspector();
+        try (InputStream in = f.getInputStream()) {
+            StagedBlob blob = contentStore.stage(in, inspector);
+            return StagedUpload.of(originalName, generateStoredFileName(originalName), blob, inspector);
+        } catch (IOException e) {
+            throw new FileErrorException(e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋된 업로드의 임시 파일을 blob 위치로 옮기고 재압축 또는 썸네일 생성을 요청한다.
+     * 재압축 대상이면 썸네일은 재압축 작업이 끝난 뒤 결과 파일로 만든다.
+     * 실패하면 임시 파일을 남겨 두고 기록만 한다. (정리 작업 또는 재업로드로 복구)
+     *
+     * @param upload 임시 저장된 업로드 파일
+     */
+    private void promote(StagedUpload upload) {
+        try {
+            Path stored = contentStore.promote(upload.getBlob());
+            if (!recompressionService.request(stored, upload)) {
+                thumbnailService.request(stored, upload.getContentType());
+            }
+        } catch (IOException e) {
+            log.error("Attachment promote failed after commit. sha256={}, staged={}: {}",
+                    upload.getBlob().getSha256(), upload.getBlob().getTempPath(), e.getMessage());
+        }
     }
 
     /**
@@ -101,7 +185,7 @@ public class AttachmentService {
     public void deleteAttachment(Long attachmentId) {
         LeaveRequestAttachment attachment = getAttachmentEntity(attachmentId);
 
-        deleteAttachmentByDir(Path.of(attachment.getFilePath()));
+        releaseFile(attachment);
 
         LeaveRequest parent = Objects.requireNonNull(attachment.getLeaveRequest());
         parent.removeAttachment(attachment);
@@ -117,7 +201,7 @@ public class AttachmentService {
         List<LeaveRequestAttachment> attachments = getByLeaveRequestId(leaveRequestId);
 
         attachments.forEach(atc -> {
-                    deleteAttachmentByDir(Path.of(atc.getFilePath()));
+                    releaseFile(atc);
                     LeaveRequest parent = Objects.requireNonNull(atc.getLeaveRequest());
                     parent.removeAttachment(atc);
                 }
@@ -125,16 +209,37 @@ public class AttachmentService {
     }
 
     /**
-     * 디렉토리에서 첨부파일을 삭제한다.
+     * 첨부파일의 내용 참조를 끊는다.
+     * 공유 blob은 참조 수만 줄이고 실제 삭제는 스위퍼에 맡긴다. blob 도입 이전 파일은 커밋 후에 지운다.
+     * 재압축 전 원본을 보관 중이면 원본 참조도 끊는다.
+     *
+     * @param attachment 첨부파일 엔티티
+     */
+    private void releaseFile(LeaveRequestAttachment attachment) {
+        if (attachment.getOriginalBlob() != null) {
+            attachmentBlobService.release(attachment.getOriginalBlob());
+        }
+        if (attachment.getBlob() != null) {
+            attachmentBlobService.release(attachment.getBlob());
+        } else {
+            eventPublisher.publishEvent(AttachmentFileReleasedEvent.of(Path.of(attachment.getFilePath())));
+        }
+    }
+
+    /**
+     * 첨부파일 행 삭제가 커밋되면 단독 소유 파일과 썸네일을 지운다.
+     * 실패하면 남은 파일은 정합성 점검 작업이 격리한다.
      *
-     * @param of 파일 경로
+     * @param event 첨부파일 해제 이벤트
      */
-    private void deleteAttachmentByDir(Path of) {
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFileReleased(AttachmentFileReleasedEvent event) {
         try {
-            Files.deleteIfExists(of);
+            Files.deleteIfExists(event.getPath());
         } catch (IOException e) {
-            throw new FileErrorException("File Delete Error : " + e.getMessage());
+            log.warn("Attachment file delete failed. path={}: {}", event.getPath(), e.getMessage());
         }
+        thumbnailService.remove(event.getPath());
     }
 
     /**
@@ -151,35 +256,110 @@ public class AttachmentService {
     }
 
     /**
-     * 특정 휴가 신청의 첨부파일 엔티티 목록을 조회한다.
+     * 화면에 바로 표시할 첨부파일을 조회한다.
+     * 메타데이터는 조회 한 번의 짧은 읽기 트랜잭션에서 읽고, 보관 계층 복원은 트랜잭션 밖에서 한다.
      *
-     * @param leaveRequestId 휴가 신청 ID
-     * @return 첨부파일 엔티티 목록
+     * @param storeName 저장 파일명
+     * @return 다운로드할 파일 정보 (inline)
      */
-    private List<LeaveRequestAttachment> getByLeaveRequestId(Long leaveRequestId) {
-        return attachmentRepository.findByLeaveRequestId(leaveRequestId);
+    public FileDownload getAttachmentFile(String storeName) {
+        return toFileDownload(getAttachmentByStoreName(storeName));
     }
 
     /**
-     * 사용자 엔티티를 조회한다.
+     * 원본 파일명으로 저장할 첨부파일을 조회한다.
      *
-     * @param userId 사용자 ID
-     * @return 사용자 엔티티
+     * @param storeName 저장 파일명
+     * @return 다운로드할 파일 정보 (attachment)
      */
-    private User getUser(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Not Found User : " + userId));
+    public FileDownload getAttachmentDownload(String storeName) {
+        LeaveRequestAttachment attachment = getAttachmentByStoreName(storeName);
+        return toFileDownload(attachment).asAttachment(attachment.getOriginalName());
     }
 
     /**
-     * 휴가 신청 엔티티를 조회한다.
+     * 첨부 이미지의 썸네일을 조회한다.
+     * 썸네일이 아직 없으면 생성을 요청하고, 이번에는 원본을 재검증 캐시 정책으로 내보낸다.
+     *
+     * @param storeName 저장 파일명
+     * @return 다운로드할 파일 정보 (썸네일 또는 원본)
+     */
+    public FileDownload getAttachmentThumbnail(String storeName) {
+        LeaveRequestAttachment attachment = getAttachmentByStoreName(storeName);
+        if (!ThumbnailGenerator.supports(attachment.getContentType())) {
+            throw new NotFoundException("Not Found Thumbnail : " + storeName);
+        }
+
+        Path original = Path.of(attachment.getFilePath());
+        return thumbnailService.find(original, attachment.getContentHash())
+                .orElseGet(() -> {
+                    FileDownload download = toFileDownload(attachment);
+                    thumbnailService.request(download.getPath(), attachment.getContentType());
+                    return download;
+                });
+    }
+
+    /**
+     * 첨부파일의 디스크 상태를 확인하고 다운로드 정보로 변환한다.
+     * 보관 계층으로 옮겨진 내용은 로컬 사본을 먼저 되살린다.
+     * 디스크의 파일 크기가 저장 시 기록한 크기와 다르면 손상된 것으로 보고 내보내지 않는다.
+     * ETag는 내용 해시가 있으면 강한 검증자, 없으면 크기와 수정 시각으로 만든 약한 검증자를 쓴다.
+     *
+     * @param attachment 첨부파일 엔티티
+     * @return 다운로드할 파일 정보
+     */
+    private FileDownload toFileDownload(LeaveRequestAttachment attachment) {
+        Path path = localPathOf(attachment);
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("Not Found File : " + attachment.getStoreName());
+        } catch (IOException e) {
+            throw new FileErrorException("File Read Error : " + e.getMessage());
+        }
+
+        if (attrs.size() != attachment.getSizeBytes()) {
+            throw new FileErrorException("File Size Mismatch : " + attachment.getStoreName()
+                    + " (expected " + attachment.getSizeBytes() + ", actual " + attrs.size() + ")");
+        }
+
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        String eTag = attachment.getContentHash() != null
+                ? "\"" + attachment.getContentHash() + "\""
+                : "W/\"" + Long.toHexString(attrs.size()) + "-" + Long.toHexString(lastModified) + "\"";
+
+        return FileDownload.of(path, attrs.size(), lastModified, eTag, MediaType.parseMediaType(attachment.getContentType()));
+    }
+
+    /**
+     * 첨부파일 내용의 로컬 경로를 반환한다. blob이 보관 계층에 있고 로컬 사본이 없으면 보관 저장소에서 되살린다.
+     * 복원은 오래 걸릴 수 있으므로 트랜잭션 밖에서만 호출한다.
+     *
+     * @param attachment 첨부파일 엔티티
+     * @return 로컬 파일 경로
+     */
+    private Path localPathOf(LeaveRequestAttachment attachment) {
+        AttachmentBlob blob = attachment.getBlob();
+        if (blob == null) return Path.of(attachment.getFilePath());
+
+        try {
+            return tieredBlobStore.ensureLocal(blob.getStorageKey(), blob.getTier());
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("Not Found File : " + attachment.getStoreName());
+        } catch (IOException e) {
+            throw new FileErrorException("File Restore Error : " + e.getMessage());
+        }
+    }
+
+    /**
+     * 특정 휴가 신청의 첨부파일 엔티티 목록을 조회한다.
      *
      * @param leaveRequestId 휴가 신청 ID
-     * @return 휴가 신청 엔티티
+     * @return 첨부파일 엔티티 목록
      */
-    private LeaveRequest getLeaveRequest(Long leaveRequestId) {
-        return leaveRequestRepository.findById(leaveRequestId)
-                .orElseThrow(() -> new NotFoundException("Not Found Leave Request : " + leaveRequestId));
+    private List<LeaveRequestAttachment> getByLeaveRequestId(Long leaveRequestId) {
+        return attachmentRepository.findByLeaveRequestId(leaveRequestId);
     }
 
     /**
@@ -194,13 +374,14 @@ public class AttachmentService {
     }
 
     /**
-     * 파일의 전체 경로를 반환한다.
+     * 저장 파일명으로 첨부파일 엔티티를 조회한다.
      *
-     * @param fileName 파일명
-     * @return 파일 전체 경로
+     * @param storeName 저장 파일명
+     * @return 첨부파일 엔티티
      */
-    public String getFullPath(String fileName) {
-        return uploadDir + File.separator + fileName;
+    private LeaveRequestAttachment getAttachmentByStoreName(String storeName) {
+        return attachmentRepository.findByStoreName(storeName)
+                .orElseThrow(() -> new NotFoundException("Not Found File : " + storeName));
     }
 
     /**
@@ -209,7 +390,7 @@ public class AttachmentService {
      * @param originalFileName 원본 파일명
      * @return UUID가 포함된 저장용 파일명
      */
-    private String generateStoredFileName(String originalFileName) {
+    String generateStoredFileName(String originalFileName) {
         return UUID.randomUUID().toString() + "_" + originalFileName;
     }
 
@@ -223,12 +404,7 @@ public class AttachmentService {
         return file == null || file.isEmpty();
     }
 
-    /** 허용 MIME 목록 */
-    private static final Set<String> ALLOWED_MIME = Set.of(
-            "application/pdf",
-            "image/png",
-            "image/jpeg"
-    );
+    private static final long MB = 1024L * 1024L;
 
     /**
      * 허용된 MIME 타입인지 확인한다.
@@ -237,17 +413,9 @@ public class AttachmentService {
      * @return 허용된 타입이면 true
      */
     private boolean isAllowedMime(String mime) {
-        return ALLOWED_MIME.contains(mime);
+        return ContentInspector.supports(mime);
     }
 
-    /** MIME별 최대 허용 바이트 수 */
-    private static final long MB = 1024L * 1024L;
-    private static final Map<String, Long> MAX_SIZE_BY_MIME = Map.of(
-            "image/jpeg",      10 * MB,
-            "image/png",       10 * MB,
-            "application/pdf", 20 * MB
-    );
-
     /**
      * 파일 크기가 허용 범위 내인지 확인한다.
      *
@@ -255,7 +423,7 @@ public class AttachmentService {
      * @param mime MIME 타입
      */
     private void assertFileSizeAllowed(long size, String mime) {
-        Long limit = MAX_SIZE_BY_MIME.get(mime);
+        long limit = ContentInspector.maxSizeOf(mime);
 
         if (size <= 0 || size > limit) {
             throw new FileErrorException(
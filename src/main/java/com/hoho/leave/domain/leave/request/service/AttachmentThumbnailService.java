@@ -0,0 +1,131 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.file.FileDownload;
+import com.hoho.leave.domain.leave.request.service.support.ThumbnailCache;
+import com.hoho.leave.domain.leave.request.service.support.ThumbnailGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 첨부 이미지 썸네일 서비스.
+ * 
+ * 업로드 직후, 그리고 썸네일이 없는 기존 파일은 처음 조회될 때 썸네일 스레드 풀(attachmentThumbnailTaskExecutor)에서 만든다.
+ * 작업 큐가 차면 요청을 버리고(다음 조회 때 다시 요청된다) 요청 스레드는 기다리지 않는다.
+ * 썸네일은 내용이 바뀌지 않으므로 오래 캐시하도록 응답한다.
+ * 
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentThumbnailService {
+
+    /** 썸네일 브라우저 캐시 기간 */
+    private static final CacheControl THUMBNAIL_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
+    /** 썸네일 ETag 접두사. 썸네일 생성 방식이 바뀌면 올려 이전 썸네일과 구분한다. */
+    private static final String ETAG_PREFIX = "t2-";
+
+    private final ThumbnailGenerator generator;
+    private final ThumbnailCache cache;
+    private final ThreadPoolTaskExecutor attachmentThumbnailTaskExecutor;
+
+    private final Set<Path> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 디스크의 썸네일 색인을 백그라운드로 시작한다.
+     */
+    @PostConstruct
+    void start() {
+        attachmentThumbnailTaskExecutor.execute(() -> {
+            try {
+                cache.load();
+            } catch (IOException e) {
+                log.warn("Thumbnail cache load failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 썸네일 생성을 요청한다. 이미 있거나 만드는 중이거나 큐가 차 있으면 아무것도 하지 않는다.
+     *
+     * @param original 원본 파일 경로
+     * @param contentType 원본 MIME 타입
+     * @return 작업을 큐에 넣었으면 true
+     */
+    public boolean request(Path original, String contentType) {
+        if (!ThumbnailGenerator.supports(contentType)) return false;
+
+        Path thumbnail = ThumbnailCache.pathOf(original);
+        if (Files.exists(thumbnail) || !inFlight.add(thumbnail)) return false;
+
+        try {
+            attachmentThumbnailTaskExecutor.execute(() -> generate(original, thumbnail));
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(thumbnail);
+            log.debug("Thumbnail queue full. original={}", original);
+            return false;
+        }
+    }
+
+    /**
+     * 만들어진 썸네일을 다운로드 정보로 반환한다.
+     *
+     * @param original 원본 파일 경로
+     * @param contentHash 원본 내용 해시 (없으면 null)
+     * @return 썸네일 다운로드 정보 (없으면 빈 값)
+     */
+    public Optional<FileDownload> find(Path original, String contentHash) {
+        Path thumbnail = ThumbnailCache.pathOf(original);
+        if (!cache.touch(thumbnail)) return Optional.empty();
+
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(thumbnail, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // 그 사이 예산 초과로 지워짐
+            return Optional.empty();
+        }
+
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        String eTag = contentHash != null
+                ? "\"" + ETAG_PREFIX + contentHash + "\""
+                : "W/\"" + ETAG_PREFIX + Long.toHexString(attrs.size()) + "-" + Long.toHexString(lastModified) + "\"";
+        return Optional.of(FileDownload.of(thumbnail, attrs.size(), lastModified, eTag, MediaType.IMAGE_JPEG)
+                .withCacheControl(THUMBNAIL_CACHE));
+    }
+
+    /**
+     * 원본이 지워질 때 썸네일도 지운다.
+     *
+     * @param original 원본 파일 경로
+     */
+    public void remove(Path original) {
+        cache.remove(original);
+    }
+
+    private void generate(Path original, Path thumbnail) {
+        try {
+            cache.add(thumbnail, generator.generate(original, thumbnail));
+        } catch (Exception e) {
+            log.warn("Thumbnail generation failed. original={}: {}", original, e.getMessage());
+        } finally {
+            inFlight.remove(thumbnail);
+        }
+    }
+}
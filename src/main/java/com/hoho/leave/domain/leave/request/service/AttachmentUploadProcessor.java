@@ -0,0 +1,93 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.leave.request.entity.AttachmentBlob;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequest;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestAttachment;
+import com.hoho.leave.domain.leave.request.repository.AttachmentBlobRepository;
+import com.hoho.leave.domain.leave.request.repository.AttachmentRepository;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestRepository;
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import com.hoho.leave.domain.leave.request.service.support.StagedBlob;
+import com.hoho.leave.domain.leave.request.service.support.StagedUpload;
+import com.hoho.leave.domain.user.entity.User;
+import com.hoho.leave.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 첨부파일 업로드 등록 처리기.
+ * 
+ * 임시 저장까지 끝난 파일의 blob 참조와 첨부파일 행만 짧은 트랜잭션으로 기록한다.
+ * 재압축된 내용으로 바꿀 때의 참조 교체도 같은 방식으로 처리한다.
+ * 파일 I/O는 하지 않는다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class AttachmentUploadProcessor {
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final UserRepository userRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentBlobRepository blobRepository;
+    private final AttachmentBlobService attachmentBlobService;
+    private final ContentAddressedStore contentStore;
+
+    /**
+     * 임시 저장된 파일들을 휴가 신청의 첨부파일로 등록한다.
+     *
+     * @param leaveRequestId 휴가 신청 ID
+     * @param userId 업로드한 사용자 ID
+     * @param uploads 임시 저장된 업로드 파일 목록
+     */
+    @Transactional
+    public void register(Long leaveRequestId, Long userId, List<StagedUpload> uploads) {
+        LeaveRequest leaveRequest = leaveRequestRepository.findById(leaveRequestId)
+                .orElseThrow(() -> new NotFoundException("Not Found Leave Request : " + leaveRequestId));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Not Found User : " + userId));
+
+        for (StagedUpload upload : uploads) {
+            AttachmentBlob blob = attachmentBlobService.acquire(upload.getBlob());
+            LeaveRequestAttachment attachment = LeaveRequestAttachment.create(
+                    upload.getOriginalName(), upload.getStoreName(),
+                    contentStore.resolve(blob.getStorageKey()).toString(), upload.getContentType(),
+                    blob, user
+            );
+            attachment.describeContent(upload.getImageWidth(), upload.getImageHeight(), upload.getPageCount());
+            leaveRequest.addAttachment(attachment);
+        }
+    }
+
+    /**
+     * 같은 원본을 참조하는 첨부파일들을 재압축된 내용으로 바꾼다.
+     * 새 blob 참조를 첨부파일 수만큼 늘리고, 원본은 보관하지 않으면 그만큼 참조를 끊는다.
+     * 파일은 옮기지 않는다. 커밋 후 {@link ContentAddressedStore#promote}로 배치해야 한다.
+     *
+     * @param originalSha256 원본 내용 SHA-256
+     * @param replacement 임시 저장된 재압축 내용
+     * @param imageWidth 재압축 후 이미지 너비(px)
+     * @param imageHeight 재압축 후 이미지 높이(px)
+     * @param keepOriginal 원본 보관 여부
+     * @return 바꾼 첨부파일 수 (원본을 참조하는 첨부파일이 없으면 0)
+     */
+    @Transactional
+    public int replaceContent(String originalSha256, StagedBlob replacement, Integer imageWidth, Integer imageHeight,
+                              boolean keepOriginal) {
+        AttachmentBlob original = blobRepository.findBySha256(originalSha256).orElse(null);
+        if (original == null) return 0;
+
+        List<LeaveRequestAttachment> attachments = attachmentRepository.findByBlobId(original.getId());
+        for (LeaveRequestAttachment attachment : attachments) {
+            AttachmentBlob blob = attachmentBlobService.acquire(replacement);
+            attachment.replaceContent(blob, contentStore.resolve(blob.getStorageKey()).toString(),
+                    imageWidth, imageHeight, keepOriginal ? original : null);
+            if (!keepOriginal) attachmentBlobService.release(original);
+        }
+        return attachments.size();
+    }
+}
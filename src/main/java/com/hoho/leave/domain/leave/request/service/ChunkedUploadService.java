@@ -0,0 +1,169 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.exception.FileErrorException;
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.leave.request.dto.request.ChunkedUploadInitRequest;
+import com.hoho.leave.domain.leave.request.dto.response.ChunkedUploadStatusResponse;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestRepository;
+import com.hoho.leave.domain.leave.request.service.support.ChunkBitmap;
+import com.hoho.leave.domain.leave.request.service.support.ChunkedUpload;
+import com.hoho.leave.domain.leave.request.service.support.ChunkedUploadStore;
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import com.hoho.leave.domain.leave.request.service.support.ContentInspector;
+import com.hoho.leave.domain.leave.request.service.support.StagedBlob;
+import com.hoho.leave.domain.leave.request.service.support.StagedUpload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 분할(이어 올리기) 업로드 서비스.
+ * 
+ * 시작 → 오프셋 지정 청크 전송(PUT) → 완료 순서로 큰 첨부파일을 받는다.
+ * 연결이 끊기면 상태 조회로 받지 못한 청크만 다시 보내면 된다.
+ * 청크 전송과 상태 조회는 DB에 접근하지 않고, 완료 시 전체 체크섬을 확인한 뒤에만 첨부파일을 등록한다.
+ * 
+ */
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private final AttachmentService attachmentService;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final ChunkedUploadStore chunkedUploadStore;
+    private final ContentAddressedStore contentStore;
+
+    /** 청크 크기(KB) */
+    @Value("${leave.attachment.chunk-size-kb:1024}")
+    private int chunkSizeKb;
+
+    /**
+     * 분할 업로드를 시작한다.
+     *
+     * @param request 분할 업로드 시작 요청
+     * @return 분할 업로드 상태
+     */
+    public ChunkedUploadStatusResponse init(ChunkedUploadInitRequest request) {
+        attachmentService.assertUploadAllowed(request.getContentType(), request.getTotalSize());
+        if (!leaveRequestRepository.existsById(request.getLeaveRequestId())) {
+            throw new NotFoundException("Not Found Leave Request : " + request.getLeaveRequestId());
+        }
+
+        ChunkedUpload upload = ChunkedUpload.of(UUID.randomUUID().toString(), request.getLeaveRequestId(),
+                request.getUserId(), request.getFileName(), request.getContentType(),
+                request.getTotalSize(), chunkSizeKb * 1024, request.getSha256());
+        try {
+            chunkedUploadStore.create(upload);
+            return ChunkedUploadStatusResponse.of(upload, chunkedUploadStore.bitmap(upload));
+        } catch (IOException e) {
+            throw new FileErrorException("File Store Error : " + e.getMessage());
+        }
+    }
+
+    /**
+     * 청크 하나를 받는다. 오프셋은 청크 경계여야 하고, 마지막 청크를 뺀 청크는 정확히 청크 크기여야 한다.
+     *
+     * @param uploadId 업로드 ID
+     * @param offset 청크 시작 위치 (bytes)
+     * @param in 청크 본문
+     * @return 분할 업로드 상태
+     */
+    public ChunkedUploadStatusResponse putChunk(String uploadId, long offset, InputStream in) {
+        ChunkedUpload upload = getUpload(uploadId);
+        int index = upload.chunkIndexOf(offset);
+        try {
+            return ChunkedUploadStatusResponse.of(upload, chunkedUploadStore.writeChunk(upload, index, in));
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("Not Found Upload : " + uploadId);
+        } catch (IOException e) {
+            throw new FileErrorException("File Store Error : " + e.getMessage());
+        }
+    }
+
+    /**
+     * 분할 업로드 상태를 조회한다.
+     *
+     * @param uploadId 업로드 ID
+     * @return 분할 업로드 상태
+     */
+    public ChunkedUploadStatusResponse getStatus(String uploadId) {
+        ChunkedUpload upload = getUpload(uploadId);
+        try {
+            return ChunkedUploadStatusResponse.of(upload, chunkedUploadStore.bitmap(upload));
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("Not Found Upload : " + uploadId);
+        } catch (IOException e) {
+            throw new FileErrorException("File Read Error : " + e.getMessage());
+        }
+    }
+
+    /**
+     * 분할 업로드를 완료한다.
+     * 모든 청크를 받았는지, 전체 SHA-256이 시작 시 알려 준 값과 같은지 확인한 뒤 첨부파일로 등록한다.
+     * 해시를 계산하는 같은 패스에서 내용을 검사해 실제 형식과 이미지 크기/페이지 수를 정한다.
+     * 체크섬이 다르면 어느 청크가 잘못됐는지 알 수 없으므로 세션을 버린다.
+     *
+     * @param uploadId 업로드 ID
+     */
+    public void complete(String uploadId) {
+        ChunkedUpload upload = getUpload(uploadId);
+
+        StagedBlob staged;
+        ContentInspector inspector = new ContentInspector();
+        try {
+            ChunkBitmap bitmap = chunkedUploadStore.bitmap(upload);
+            if (!bitmap.isComplete()) {
+                throw new FileErrorException("Upload Incomplete : " + bitmap.missing().size() + " chunks missing");
+            }
+            try {
+                staged = contentStore.stage(chunkedUploadStore.dataFile(upload), inspector);
+            } catch (FileErrorException e) {
+                // 검사에 실패한 내용은 이미 지워졌으므로 세션도 버린다
+                chunkedUploadStore.delete(uploadId);
+                throw e;
+            }
+            chunkedUploadStore.delete(uploadId);
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("Not Found Upload : " + uploadId);
+        } catch (IOException e) {
+            throw new FileErrorException("File Store Error : " + e.getMessage());
+        }
+
+        if (!staged.getSha256().equals(upload.getSha256()) || staged.getSizeBytes() != upload.getTotalSize()) {
+            contentStore.discard(staged);
+            throw new FileErrorException("Checksum Mismatch : expected " + upload.getSha256() + ", actual " + staged.getSha256());
+        }
+
+        StagedUpload stagedUpload = StagedUpload.of(upload.getOriginalName(),
+                attachmentService.generateStoredFileName(upload.getOriginalName()), staged, inspector);
+        attachmentService.registerStaged(upload.getLeaveRequestId(), upload.getUserId(), List.of(stagedUpload));
+    }
+
+    /**
+     * 분할 업로드를 취소한다.
+     *
+     * @param uploadId 업로드 ID
+     */
+    public void abort(String uploadId) {
+        try {
+            chunkedUploadStore.delete(uploadId);
+        } catch (IOException e) {
+            throw new FileErrorException("File Delete Error : " + e.getMessage());
+        }
+    }
+
+    private ChunkedUpload getUpload(String uploadId) {
+        try {
+            return chunkedUploadStore.find(uploadId)
+                    .orElseThrow(() -> new NotFoundException("Not Found Upload : " + uploadId));
+        } catch (IOException e) {
+            throw new FileErrorException("File Read Error : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.request.repository.ApproverDelegationRepository;
+import com.hoho.leave.domain.leave.request.repository.ApproverDelegationRepository.DelegationRow;
+import com.hoho.leave.domain.leave.request.service.support.ApproverDelegationChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 유효 결재자 해석기.
+ * 
+ * 오늘 기준으로 유효한 위임을 위임자→수임자, 수임자→위임자 맵으로 미리 계산해 메모리에 보관한다.
+ * 위임 기간은 일 단위이므로 스냅샷은 다음 날 0시까지 유효하며, 그 사이 DB 변경은
+ * 마지막 반영 시각 이후의 변경분만 읽어 증분 반영한다. (커밋 순서 역전을 고려해 갱신 간격만큼 겹쳐 읽는다)
+ * 위임은 한 단계만 해석한다. (수임자의 위임은 위임받은 결재에 전파되지 않는다)
+ * 
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DelegationResolver {
+
+    /** 다른 노드의 변경을 반영하기 위한 최대 갱신 간격 */
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private final ApproverDelegationRepository delegationRepository;
+
+    /** 위임 ID별 위임 정보 (refresh 에서만 갱신) */
+    private final Map<Long, DelegationRow> rows = new HashMap<>();
+
+    /** 마지막으로 반영한 위임의 수정 일시 */
+    private LocalDateTime watermark;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private volatile boolean stale = true;
+
+    /**
+     * 위임자의 현재 수임자를 조회한다.
+     *
+     * @param delegatorId 위임자 ID
+     * @return 수임자 ID (위임이 없으면 null)
+     */
+    public Long delegateOf(Long delegatorId) {
+        return current().delegateByDelegator.get(delegatorId);
+    }
+
+    /**
+     * 사용자가 대신 결재할 수 있는 위임자 목록을 조회한다.
+     *
+     * @param delegateId 수임자 ID
+     * @return 위임자 ID 목록
+     */
+    public Set<Long> delegatorsOf(Long delegateId) {
+        return current().delegatorsByDelegate.getOrDefault(delegateId, Set.of());
+    }
+
+    /**
+     * 사용자가 본인 또는 위임받은 결재자로서 처리할 수 있는 결재자 ID 목록을 조회한다.
+     * 결재함 조회 조건으로 사용한다.
+     *
+     * @param actorId 사용자 ID
+     * @return 결재자 ID 목록 (본인 포함)
+     */
+    public List<Long> actingApproverIds(Long actorId) {
+        Set<Long> delegators = delegatorsOf(actorId);
+        if (delegators.isEmpty()) return List.of(actorId);
+
+        List<Long> ids = new ArrayList<>(delegators.size() + 1);
+        ids.add(actorId);
+        ids.addAll(delegators);
+        return ids;
+    }
+
+    /**
+     * 사용자가 지정된 결재자의 결재를 처리할 수 있는지 확인한다.
+     * 위임 중에도 원 결재자는 직접 처리할 수 있다.
+     *
+     * @param actorId 처리하려는 사용자 ID
+     * @param approverId 지정된 결재자 ID
+     * @return 처리 가능 여부
+     */
+    public boolean canActFor(Long actorId, Long approverId) {
+        return actorId.equals(approverId) || actorId.equals(delegateOf(approverId));
+    }
+
+    /**
+     * 다음 조회 시 변경분을 다시 읽도록 표시한다.
+     */
+    public void markStale() {
+        stale = true;
+    }
+
+    /**
+     * 위임 변경이 커밋되면 스냅샷을 갱신 대상으로 표시한다.
+     *
+     * @param event 위임 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDelegationChanged(ApproverDelegationChangedEvent event) {
+        markStale();
+    }
+
+    /**
+     * 유효한 스냅샷을 반환한다. 만료되었거나 갱신 대상이면 다시 계산한다.
+     *
+     * @return 위임 스냅샷
+     */
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        LocalDateTime now = LocalDateTime.now();
+        if (!stale && now.isBefore(s.validUntil) && now.isBefore(s.refreshAt)) {
+            return s;
+        }
+        return refresh(now);
+    }
+
+    /**
+     * 변경분을 읽어 위임 정보에 반영하고 스냅샷을 다시 계산한다.
+     * 최초 호출 시에만 오늘 이후 유효한 위임 전체를 읽는다.
+     *
+     * @param now 현재 시각
+     * @return 새 스냅샷
+     */
+    private synchronized Snapshot refresh(LocalDateTime now) {
+        Snapshot s = snapshot;
+        if (!stale && now.isBefore(s.validUntil) && now.isBefore(s.refreshAt)) {
+            return s;
+        }
+        stale = false;
+
+        LocalDate today = now.toLocalDate();
+        List<DelegationRow> changed = watermark == null
+                ? delegationRepository.findEffectiveFrom(today)
+                : delegationRepository.findChangedSince(watermark.minus(REFRESH_INTERVAL));
+
+        for (DelegationRow row : changed) {
+            if (Boolean.TRUE.equals(row.getActive())) rows.put(row.getDelegationId(), row);
+            else rows.remove(row.getDelegationId());
+
+            if (row.getUpdatedAt() != null && (watermark == null || row.getUpdatedAt().isAfter(watermark))) {
+                watermark = row.getUpdatedAt();
+            }
+        }
+        if (watermark == null) watermark = now;
+        rows.values().removeIf(row -> row.getEndDate() != null && row.getEndDate().isBefore(today));
+
+        Snapshot built = Snapshot.build(rows.values(), today, now);
+        snapshot = built;
+
+        if (!changed.isEmpty()) {
+            log.info("Delegation snapshot refreshed. changed={}, effective={}", changed.size(), built.delegateByDelegator.size());
+        }
+        return built;
+    }
+
+    /**
+     * 특정 일자 기준으로 계산된 위임 맵.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), LocalDateTime.MIN, LocalDateTime.MIN);
+
+        final Map<Long, Long> delegateByDelegator;
+        final Map<Long, Set<Long>> delegatorsByDelegate;
+        final LocalDateTime validUntil;
+        final LocalDateTime refreshAt;
+
+        private Snapshot(Map<Long, Long> delegateByDelegator, Map<Long, Set<Long>> delegatorsByDelegate,
+                         LocalDateTime validUntil, LocalDateTime refreshAt) {
+            this.delegateByDelegator = delegateByDelegator;
+            this.delegatorsByDelegate = delegatorsByDelegate;
+            this.validUntil = validUntil;
+            this.refreshAt = refreshAt;
+        }
+
+        /**
+         * 기준일에 유효한 위임으로 맵을 만든다.
+         * 같은 위임자의 위임이 겹치면 시작일이 늦은 위임을 따른다.
+         */
+        static Snapshot build(Collection<DelegationRow> rows, LocalDate today, LocalDateTime now) {
+            Map<Long, DelegationRow> effective = new HashMap<>();
+            for (DelegationRow row : rows) {
+                if (row.getStartDate().isAfter(today)) continue;
+                if (row.getEndDate() != null && row.getEndDate().isBefore(today)) continue;
+
+                effective.merge(row.getDelegatorId(), row,
+                        (a, b) -> b.getStartDate().isAfter(a.getStartDate()) ? b : a);
+            }
+
+            Map<Long, Long> forward = new HashMap<>();
+            Map<Long, Set<Long>> reverse = new HashMap<>();
+            effective.forEach((delegatorId, row) -> {
+                forward.put(delegatorId, row.getDelegateId());
+                reverse.computeIfAbsent(row.getDelegateId(), k -> new HashSet<>()).add(delegatorId);
+            });
+            reverse.replaceAll((k, v) -> Set.copyOf(v));
+
+            return new Snapshot(Map.copyOf(forward), Map.copyOf(reverse),
+                    today.plusDays(1).atStartOfDay(), now.plus(REFRESH_INTERVAL));
+        }
+    }
+}
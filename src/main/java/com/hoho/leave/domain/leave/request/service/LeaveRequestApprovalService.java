@@ -1,14 +1,25 @@
 package com.hoho.leave.domain.leave.request.service;
 
+import com.hoho.leave.common.exception.BusinessException;
 import com.hoho.leave.common.exception.NotFoundException;
-import com.hoho.leave.domain.leave.request.dto.request.LeaveApprovalUpdateRequest;
+import com.hoho.leave.domain.leave.request.dto.request.LeaveApprovalBulkRequest;
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalBulkItemResponse;
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalBulkItemResponse.Outcome;
 import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalListResponse;
 import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalResponse;
+import com.hoho.leave.domain.leave.request.entity.ApprovalSlaStage;
+import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
 import com.hoho.leave.domain.leave.request.entity.LeaveRequest;
 import com.hoho.leave.domain.leave.request.entity.LeaveRequestApproval;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestStatus;
 import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.ApprovalDecisionRow;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.SlaTargetRow;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.StepApproverRow;
+import com.hoho.leave.domain.leave.request.service.support.BulkDecisionResult;
 import com.hoho.leave.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,7 +27,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 휴가 결재 서비스.
@@ -29,6 +44,12 @@ import java.util.List;
 public class LeaveRequestApprovalService {
 
     private final LeaveRequestApprovalRepository approvalRepository;
+    private final ApprovalInboxService approvalInboxService;
+    private final DelegationResolver delegationResolver;
+
+    /** 기한 경과 알림 후 에스컬레이션까지의 시간 */
+    @Value("${leave.approval.sla.escalate-after-hours:24}")
+    private long escalateAfterHours;
 
     /**
      * 휴가 결재를 생성한다.
@@ -42,20 +63,117 @@ public class LeaveRequestApprovalService {
     public LeaveRequestApproval createLeaveApproval(
             LeaveRequest leaveRequest, User Approver, Integer stepNo) {
 
-        return approvalRepository.save(LeaveRequestApproval.create(leaveRequest, Approver, stepNo));
+        LeaveRequestApproval approval = approvalRepository.save(LeaveRequestApproval.create(leaveRequest, Approver, stepNo));
+        if (approval.getStatus() == ApprovalStatus.PENDING) {
+            approvalInboxService.adjustPendingCount(Approver.getId(), 1);
+        }
+
+        return approval;
     }
 
     /**
-     * 휴가 결재 정보를 수정한다.
+     * 여러 휴가 결재를 한 번에 승인 또는 반려한다.
+     * 
+     * 권한 확인은 한 번의 조회와 위임 스냅샷으로, 상태 변경은 한 번의 일괄 UPDATE로 처리한다.
+     * 대기 중인 결재를 먼저 잠그고 잠근 건만 반영하므로, 동시에 처리된 건은 CONFLICT로 보고된다.
+     * 
      *
-     * @param approvalId 결재 ID
-     * @param updateRequest 결재 수정 요청
+     * @param request 결재 일괄 처리 요청
+     * @param actor 실제 처리자
+     * @return 일괄 처리 결과
      */
     @Transactional
-    public void updateLeaveApproval(Long approvalId, LeaveApprovalUpdateRequest updateRequest) {
-        LeaveRequestApproval leaveRequestApproval = getLeaveRequestApprovalEntity(approvalId);
+    public BulkDecisionResult bulkUpdateLeaveApproval(LeaveApprovalBulkRequest request, User actor) {
+        if (request.getStatus() == ApprovalStatus.PENDING) {
+            throw new BusinessException("일괄 처리는 승인 또는 반려만 가능합니다.");
+        }
+
+        Set<Long> requestedIds = new LinkedHashSet<>(request.getApprovalIds());
+        Map<Long, ApprovalDecisionRow> rowMap = approvalRepository.findDecisionRowsByIds(requestedIds).stream()
+                .collect(Collectors.toMap(ApprovalDecisionRow::getApprovalId, Function.identity()));
+
+        Map<Long, Outcome> outcomes = new LinkedHashMap<>();
+        List<Long> eligibleIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            ApprovalDecisionRow row = rowMap.get(id);
+            if (row == null) outcomes.put(id, Outcome.NOT_FOUND);
+            else if (!delegationResolver.canActFor(request.getApproverId(), row.getApproverId())) outcomes.put(id, Outcome.FORBIDDEN);
+            else if (row.getStatus() == ApprovalStatus.WAITING) outcomes.put(id, Outcome.NOT_ACTIVE);
+            else if (row.getStatus() != ApprovalStatus.PENDING) outcomes.put(id, Outcome.ALREADY_DECIDED);
+            else {
+                outcomes.put(id, Outcome.APPLIED);
+                eligibleIds.add(id);
+            }
+        }
+
+        if (!eligibleIds.isEmpty()) {
+            Set<Long> locked = new HashSet<>(approvalRepository.lockPendingIds(eligibleIds));
+            eligibleIds.removeIf(id -> {
+                if (locked.contains(id)) return false;
+                outcomes.put(id, Outcome.CONFLICT);
+                return true;
+            });
+        }
+
+        if (!eligibleIds.isEmpty()) {
+            LocalDateTime actedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            approvalRepository.decideAll(eligibleIds, request.getStatus(), request.getComment(),
+                    actor, actedAt, ApprovalStatus.PENDING);
+        }
+
+        List<ApprovalDecisionRow> appliedRows = eligibleIds.stream().map(rowMap::get).toList();
+        appliedRows.stream()
+                .collect(Collectors.groupingBy(ApprovalDecisionRow::getApproverId, Collectors.counting()))
+                .forEach((approverId, cnt) -> approvalInboxService.adjustPendingCount(approverId, -cnt));
+
+        List<LeaveApprovalBulkItemResponse> items = outcomes.entrySet().stream()
+                .map(e -> LeaveApprovalBulkItemResponse.of(e.getKey(), e.getValue()))
+                .toList();
+
+        return BulkDecisionResult.of(items, appliedRows);
+    }
+
+    /**
+     * 기한이 지난 결재 중 아직 대기 중이고 현재 조치 단계의 조치 시각이 지난 결재를 조회한다.
+     * 다른 인스턴스가 이미 조치한 결재의 오래된 타이머가 만료되어도 다음 조치를 앞당기지 않는다.
+     *
+     * @param approvalIds 결재 ID 목록
+     * @param now 현재 시각
+     * @return SLA 대상 결재 목록
+     */
+    @Transactional(readOnly = true)
+    public List<SlaTargetRow> getOverdueTargets(Collection<Long> approvalIds, LocalDateTime now) {
+        return approvalRepository.findSlaTargets(approvalIds, ApprovalStatus.PENDING, LeaveRequestStatus.PENDING,
+                ApprovalSlaStage.NONE, ApprovalSlaStage.REMINDED, now, now.minusHours(escalateAfterHours));
+    }
 
-        leaveRequestApproval.update(updateRequest.getStatus(), updateRequest.getComment());
+    /**
+     * 휴가 신청들의 단계별 결재자를 조회한다.
+     *
+     * @param leaveRequestIds 휴가 신청 ID 목록
+     * @return 단계별 결재자 목록
+     */
+    @Transactional(readOnly = true)
+    public List<StepApproverRow> getStepApprovers(Collection<Long> leaveRequestIds) {
+        if (leaveRequestIds.isEmpty()) return List.of();
+        return approvalRepository.findStepApprovers(leaveRequestIds);
+    }
+
+    /**
+     * SLA 대상 결재의 조치 단계를 한 건씩 조건부 UPDATE로 올려 조치를 선점한다.
+     * 여러 인스턴스가 같은 결재의 타이머를 가지고 있어도 단계를 올린 한 곳만 조치한다.
+     *
+     * @param targets SLA 대상 결재 목록
+     * @return 선점한 결재 목록 (조회 당시 조치 단계 기준)
+     */
+    @Transactional
+    public List<SlaTargetRow> claimSlaTargets(List<SlaTargetRow> targets) {
+        return targets.stream()
+                .filter(row -> row.getSlaStage() != ApprovalSlaStage.ESCALATED)
+                .filter(row -> approvalRepository.advanceSlaStage(List.of(row.getApprovalId()), row.getSlaStage(),
+                        row.getSlaStage() == ApprovalSlaStage.NONE ? ApprovalSlaStage.REMINDED : ApprovalSlaStage.ESCALATED,
+                        ApprovalStatus.PENDING) == 1)
+                .toList();
     }
 
     /**
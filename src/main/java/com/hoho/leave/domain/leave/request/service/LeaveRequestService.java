@@ -1,5 +1,6 @@
 package com.hoho.leave.domain.leave.request.service;
 
+import com.hoho.leave.common.aop.RetryOnConflict;
 import com.hoho.leave.common.exception.NotFoundException;
 import com.hoho.leave.domain.leave.policy.entity.LeaveType;
 import com.hoho.leave.domain.leave.policy.repository.LeaveTypeRepository;
@@ -8,9 +9,11 @@ import com.hoho.leave.domain.leave.request.dto.request.LeaveRequestUpdateRequest
 import com.hoho.leave.domain.leave.request.dto.response.LeaveRequestDetailResponse;
 import com.hoho.leave.domain.leave.request.dto.response.LeaveRequestListResponse;
 import com.hoho.leave.domain.leave.request.entity.LeaveRequest;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestStatus;
 import com.hoho.leave.domain.leave.request.repository.AttachmentRepository;
 import com.hoho.leave.domain.leave.request.repository.AttachmentRepository.ReqIdCount;
 import com.hoho.leave.domain.leave.request.repository.LeaveRequestRepository;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestRepository.RequestApplicantRow;
 import com.hoho.leave.domain.user.entity.User;
 import com.hoho.leave.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +24,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -39,9 +45,12 @@ public class LeaveRequestService {
     private final AttachmentRepository attachmentRepository;
     private final UserRepository userRepository;
     private final LeaveTypeRepository leaveTypeRepository;
+    private final ApprovalWorkflowEngine approvalWorkflowEngine;
 
     /**
      * 휴가 신청을 생성한다.
+     * 신청자의 기본 결재선으로 결재 단계를 함께 생성한다.
+     * 기본 결재자가 지정되지 않은 사용자는 신청을 저장하지 않고 거절한다.
      *
      * @param request 휴가 신청 생성 요청
      */
@@ -49,12 +58,15 @@ public class LeaveRequestService {
     public void createLeaveRequest(LeaveRequestCreateRequest request) {
         User user = getUser(request);
         LeaveType leaveType = getLeaveType(request);
+        approvalWorkflowEngine.validateApprovalLine(user.getId());
 
         LeaveRequest leaveRequest = LeaveRequest.create(request);
         leaveRequest.addUser(user);
         leaveRequest.addLeaveType(leaveType);
 
         leaveRequestRepository.save(leaveRequest);
+
+        approvalWorkflowEngine.openApprovalLine(leaveRequest);
     }
 
     /**
@@ -64,12 +76,39 @@ public class LeaveRequestService {
      * @param request 휴가 신청 수정 요청
      */
     @Transactional
+    @RetryOnConflict(operation = "leave-request.update")
     public void updateLeaveRequest(Long leaveRequestId, LeaveRequestUpdateRequest request) {
         LeaveRequest leaveRequest = getRequestEntity(leaveRequestId);
 
         leaveRequest.updateStatus(request.getStatus());
     }
 
+    /**
+     * 결재가 반영된 휴가 신청들을 한 번에 종료한다.
+     * 
+     * 반려는 즉시 종료하고, 승인은 모든 결재 단계가 승인된 신청만 종료한다.
+     * 종료할 신청을 먼저 잠가 조회하고 그 신청만 갱신하므로, 잠근 행이 곧 종료된 행이다.
+     * 
+     *
+     * @param leaveRequestIds 휴가 신청 ID 목록
+     * @param status 종료 상태 (APPROVED / REJECTED)
+     * @return 실제로 종료된 휴가 신청과 신청자 목록
+     */
+    @Transactional
+    public List<RequestApplicantRow> closeLeaveRequests(Collection<Long> leaveRequestIds, LeaveRequestStatus status) {
+        if (leaveRequestIds.isEmpty()) return List.of();
+
+        List<RequestApplicantRow> targets = status == LeaveRequestStatus.APPROVED
+                ? leaveRequestRepository.lockApprovable(leaveRequestIds)
+                : leaveRequestRepository.lockPending(leaveRequestIds);
+        if (targets.isEmpty()) return List.of();
+
+        List<Long> targetIds = targets.stream().map(RequestApplicantRow::getLeaveRequestId).toList();
+        leaveRequestRepository.closeAll(targetIds, status, LeaveRequestStatus.PENDING,
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        return targets;
+    }
+
     /**
      * 휴가 신청을 삭제한다.
      *
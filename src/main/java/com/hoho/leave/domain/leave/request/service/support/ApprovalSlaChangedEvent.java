@@ -0,0 +1,50 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결재 처리 기한 변경 이벤트.
+ * 
+ * 결재 단계가 활성화되거나 처리된 뒤 커밋되면 SLA 타이머를 등록/취소하도록 알린다.
+ * 
+ */
+@Getter
+public class ApprovalSlaChangedEvent {
+
+    /** 새로 활성화된 결재 ID별 처리 기한 */
+    private final Map<Long, LocalDateTime> dueAtByApprovalId;
+
+    /** 처리되어 타이머를 취소할 결재 ID */
+    private final Collection<Long> closedApprovalIds;
+
+    private ApprovalSlaChangedEvent(Map<Long, LocalDateTime> dueAtByApprovalId, Collection<Long> closedApprovalIds) {
+        this.dueAtByApprovalId = dueAtByApprovalId;
+        this.closedApprovalIds = closedApprovalIds;
+    }
+
+    /**
+     * 활성화/처리된 결재로 이벤트를 생성한다.
+     *
+     * @param dueAtByApprovalId 새로 활성화된 결재 ID별 처리 기한
+     * @param closedApprovalIds 처리된 결재 ID
+     * @return 결재 처리 기한 변경 이벤트
+     */
+    public static ApprovalSlaChangedEvent of(Map<Long, LocalDateTime> dueAtByApprovalId, Collection<Long> closedApprovalIds) {
+        return new ApprovalSlaChangedEvent(dueAtByApprovalId, closedApprovalIds);
+    }
+
+    /**
+     * 처리된 결재만으로 이벤트를 생성한다.
+     *
+     * @param closedApprovalIds 처리된 결재 ID
+     * @return 결재 처리 기한 변경 이벤트
+     */
+    public static ApprovalSlaChangedEvent closed(Collection<Long> closedApprovalIds) {
+        return new ApprovalSlaChangedEvent(Map.of(), List.copyOf(closedApprovalIds));
+    }
+}
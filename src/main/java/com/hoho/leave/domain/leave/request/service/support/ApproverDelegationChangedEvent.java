@@ -0,0 +1,29 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import lombok.Getter;
+
+/**
+ * 결재자 위임 변경 이벤트.
+ * 
+ * 위임 생성/철회가 커밋된 뒤 위임 해석기가 변경분을 다시 읽도록 알린다.
+ * 
+ */
+@Getter
+public class ApproverDelegationChangedEvent {
+
+    private final Long delegationId;
+
+    private ApproverDelegationChangedEvent(Long delegationId) {
+        this.delegationId = delegationId;
+    }
+
+    /**
+     * 위임 ID로 이벤트를 생성한다.
+     *
+     * @param delegationId 위임 ID
+     * @return 위임 변경 이벤트
+     */
+    public static ApproverDelegationChangedEvent of(Long delegationId) {
+        return new ApproverDelegationChangedEvent(delegationId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 보관(cold) 계층 blob 저장소.
+ * 
+ * 설정({@code leave.attachment.archive.type})에 따라 팩 파일 또는 S3 호환 구현 중 하나만 등록된다.
+ * 
+ */
+public interface ArchiveBlobStorage extends BlobStorage {
+
+    /**
+     * SHA-256을 이미 아는 로컬 파일의 내용을 저장한다.
+     * 해시가 필요한 구현은 파일을 다시 읽어 계산하지 않고 이 값을 쓴다.
+     *
+     * @param key 저장소 키
+     * @param source 원본 파일
+     * @param sha256 내용 SHA-256 (hex)
+     * @throws IOException 저장 실패
+     */
+    default void put(String key, Path source, String sha256) throws IOException {
+        put(key, source);
+    }
+}
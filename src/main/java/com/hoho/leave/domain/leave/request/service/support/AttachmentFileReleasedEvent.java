@@ -0,0 +1,32 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * 첨부파일 단독 소유 파일 해제 이벤트.
+ * 
+ * blob 도입 이전 첨부파일의 행 삭제가 커밋된 뒤에 파일을 지우도록 알린다.
+ * 롤백되면 파일이 그대로 남아 행과 어긋나지 않는다.
+ * 
+ */
+@Getter
+public class AttachmentFileReleasedEvent {
+
+    private final Path path;
+
+    private AttachmentFileReleasedEvent(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 해제할 파일 경로로 이벤트를 생성한다.
+     *
+     * @param path 파일 경로
+     * @return 첨부파일 해제 이벤트
+     */
+    public static AttachmentFileReleasedEvent of(Path path) {
+        return new AttachmentFileReleasedEvent(path);
+    }
+}
@@ -0,0 +1,51 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 첨부파일 내용(blob) 저장소 SPI.
+ * 
+ * 내용 주소 기반 저장소 키(예: ab/cd/abcd...)로 내용을 넣고, 읽고, 지운다.
+ * 로컬 디스크(hot)와 보관 저장소(cold, 팩 파일/S3 호환)가 이 인터페이스를 구현한다.
+ * 
+ */
+public interface BlobStorage {
+
+    /**
+     * 내용이 있는지 확인한다.
+     *
+     * @param key 저장소 키
+     * @return 있으면 true
+     * @throws IOException 저장소 접근 실패
+     */
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 내용을 읽는 스트림을 연다. 호출한 쪽이 닫는다.
+     *
+     * @param key 저장소 키
+     * @return 입력 스트림
+     * @throws java.nio.file.NoSuchFileException 내용이 없는 경우
+     * @throws IOException 저장소 접근 실패
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 로컬 파일의 내용을 저장한다. 같은 키가 이미 있으면 덮어쓴다. (내용 주소 기반이므로 내용도 같다)
+     *
+     * @param key 저장소 키
+     * @param source 원본 파일
+     * @throws IOException 저장 실패
+     */
+    void put(String key, Path source) throws IOException;
+
+    /**
+     * 내용을 지운다. 없으면 아무것도 하지 않는다.
+     *
+     * @param key 저장소 키
+     * @throws IOException 저장소 접근 실패
+     */
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,46 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalBulkItemResponse;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.ApprovalDecisionRow;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 결재 일괄 처리 결과.
+ * 
+ * 결재 건별 처리 결과와 실제 반영된 결재 정보를 담는다.
+ * 
+ */
+@Getter
+public class BulkDecisionResult {
+
+    private final List<LeaveApprovalBulkItemResponse> items;
+
+    private final List<ApprovalDecisionRow> appliedRows;
+
+    private BulkDecisionResult(List<LeaveApprovalBulkItemResponse> items, List<ApprovalDecisionRow> appliedRows) {
+        this.items = items;
+        this.appliedRows = appliedRows;
+    }
+
+    /**
+     * 건별 처리 결과와 반영된 결재 정보로 결과 객체를 생성한다.
+     *
+     * @param items 건별 처리 결과
+     * @param appliedRows 반영된 결재 정보
+     * @return 일괄 처리 결과
+     */
+    public static BulkDecisionResult of(List<LeaveApprovalBulkItemResponse> items, List<ApprovalDecisionRow> appliedRows) {
+        return new BulkDecisionResult(items, appliedRows);
+    }
+
+    /**
+     * 반영된 결재의 휴가 신청 ID 목록을 반환한다.
+     *
+     * @return 휴가 신청 ID 목록 (중복 제거)
+     */
+    public List<Long> getAppliedLeaveRequestIds() {
+        return appliedRows.stream().map(ApprovalDecisionRow::getLeaveRequestId).distinct().toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분할 업로드의 청크 수신 비트맵.
+ * 
+ * 청크 i의 수신 여부를 {@code i / 8}번째 바이트의 {@code i % 8}번째 비트로 표시한다. (java.util.BitSet과 같은 배치)
+ * 20MB 파일을 1MB 청크로 받으면 3바이트면 충분하므로 파일로 그대로 저장한다.
+ * 
+ */
+public class ChunkBitmap {
+
+    private final byte[] bits;
+    private final int chunkCount;
+
+    private ChunkBitmap(byte[] bits, int chunkCount) {
+        this.bits = bits;
+        this.chunkCount = chunkCount;
+    }
+
+    /**
+     * 저장된 비트맵을 읽어 생성한다.
+     *
+     * @param bits 비트맵 바이트
+     * @param chunkCount 전체 청크 수
+     * @return 청크 수신 비트맵
+     */
+    public static ChunkBitmap of(byte[] bits, int chunkCount) {
+        if (bits.length < sizeOf(chunkCount)) {
+            throw new IllegalArgumentException("Bitmap too short : " + bits.length + " < " + sizeOf(chunkCount));
+        }
+        return new ChunkBitmap(bits, chunkCount);
+    }
+
+    /**
+     * 청크 수에 필요한 비트맵 바이트 수를 반환한다.
+     *
+     * @param chunkCount 전체 청크 수
+     * @return 바이트 수
+     */
+    public static int sizeOf(int chunkCount) {
+        return (chunkCount + 7) / 8;
+    }
+
+    /**
+     * 청크가 속한 비트맵 바이트 위치를 반환한다.
+     *
+     * @param index 청크 번호
+     * @return 바이트 위치
+     */
+    public static int byteIndex(int index) {
+        return index >>> 3;
+    }
+
+    /**
+     * 청크의 비트 마스크를 반환한다.
+     *
+     * @param index 청크 번호
+     * @return 비트 마스크
+     */
+    public static byte mask(int index) {
+        return (byte) (1 << (index & 7));
+    }
+
+    /**
+     * 청크를 받았는지 확인한다.
+     *
+     * @param index 청크 번호
+     * @return 받았으면 true
+     */
+    public boolean isReceived(int index) {
+        return (bits[byteIndex(index)] & mask(index)) != 0;
+    }
+
+    /**
+     * 받은 청크 수를 반환한다.
+     *
+     * @return 받은 청크 수
+     */
+    public int receivedCount() {
+        int count = 0;
+        int fullBytes = chunkCount >>> 3;
+        for (int i = 0; i < fullBytes; i++) {
+            count += Integer.bitCount(bits[i] & 0xFF);
+        }
+        for (int i = fullBytes << 3; i < chunkCount; i++) {
+            if (isReceived(i)) count++;
+        }
+        return count;
+    }
+
+    /**
+     * 모든 청크를 받았는지 확인한다.
+     *
+     * @return 모두 받았으면 true
+     */
+    public boolean isComplete() {
+        return receivedCount() == chunkCount;
+    }
+
+    /**
+     * 아직 받지 못한 청크 번호 목록을 반환한다.
+     *
+     * @return 누락 청크 번호 목록 (오름차순)
+     */
+    public List<Integer> missing() {
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < chunkCount; i++) {
+            if (!isReceived(i)) missing.add(i);
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,151 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.common.exception.FileErrorException;
+import lombok.Getter;
+
+import java.util.Properties;
+
+/**
+ * 분할 업로드 세션 정보.
+ * 
+ * 파일 크기와 청크 크기로 청크 경계를 정하고, 완료 시 비교할 클라이언트 체크섬을 담는다.
+ * 세션 디렉토리에 properties 파일로 저장하며 DB에는 기록하지 않는다.
+ * 
+ */
+@Getter
+public class ChunkedUpload {
+
+    private final String uploadId;
+    private final Long leaveRequestId;
+    private final Long userId;
+    private final String originalName;
+    private final String contentType;
+    private final long totalSize;
+    private final int chunkSize;
+    private final String sha256;
+
+    private ChunkedUpload(String uploadId, Long leaveRequestId, Long userId, String originalName,
+                          String contentType, long totalSize, int chunkSize, String sha256) {
+        this.uploadId = uploadId;
+        this.leaveRequestId = leaveRequestId;
+        this.userId = userId;
+        this.originalName = originalName;
+        this.contentType = contentType;
+        this.totalSize = totalSize;
+        this.chunkSize = chunkSize;
+        this.sha256 = sha256;
+    }
+
+    /**
+     * 분할 업로드 세션 정보를 생성한다.
+     *
+     * @param uploadId 업로드 ID
+     * @param leaveRequestId 휴가 신청 ID
+     * @param userId 업로드한 사용자 ID
+     * @param originalName 원본 파일명
+     * @param contentType 컨텐츠 타입
+     * @param totalSize 전체 크기 (bytes)
+     * @param chunkSize 청크 크기 (bytes, 마지막 청크만 더 작을 수 있다)
+     * @param sha256 클라이언트가 계산한 전체 파일 SHA-256 (hex)
+     * @return 분할 업로드 세션 정보
+     */
+    public static ChunkedUpload of(String uploadId, Long leaveRequestId, Long userId, String originalName,
+                                   String contentType, long totalSize, int chunkSize, String sha256) {
+        return new ChunkedUpload(uploadId, leaveRequestId, userId, originalName,
+                contentType, totalSize, chunkSize, sha256.toLowerCase());
+    }
+
+    /**
+     * 전체 청크 수를 반환한다.
+     *
+     * @return 청크 수
+     */
+    public int chunkCount() {
+        return Math.toIntExact((totalSize + chunkSize - 1) / chunkSize);
+    }
+
+    /**
+     * 오프셋이 가리키는 청크 번호를 반환한다. 오프셋은 청크 경계여야 한다.
+     *
+     * @param offset 시작 위치 (bytes)
+     * @return 청크 번호
+     */
+    public int chunkIndexOf(long offset) {
+        if (offset < 0 || offset >= totalSize || offset % chunkSize != 0) {
+            throw new FileErrorException("Invalid Chunk Offset : " + offset + " (chunk size " + chunkSize + ")");
+        }
+        return Math.toIntExact(offset / chunkSize);
+    }
+
+    /**
+     * 청크의 시작 위치를 반환한다.
+     *
+     * @param index 청크 번호
+     * @return 시작 위치 (bytes)
+     */
+    public long chunkOffset(int index) {
+        return (long) index * chunkSize;
+    }
+
+    /**
+     * 청크의 길이를 반환한다.
+     *
+     * @param index 청크 번호
+     * @return 길이 (bytes)
+     */
+    public long chunkLength(int index) {
+        return Math.min(chunkSize, totalSize - chunkOffset(index));
+    }
+
+    /**
+     * 받은 청크의 바이트 합계를 반환한다.
+     *
+     * @param bitmap 청크 수신 비트맵
+     * @return 받은 바이트 수
+     */
+    public long receivedBytes(ChunkBitmap bitmap) {
+        int lastIndex = chunkCount() - 1;
+        long received = (long) bitmap.receivedCount() * chunkSize;
+        if (bitmap.isReceived(lastIndex)) {
+            received -= chunkSize - chunkLength(lastIndex);
+        }
+        return received;
+    }
+
+    /**
+     * 저장용 properties로 변환한다.
+     *
+     * @return properties
+     */
+    public Properties toProperties() {
+        Properties props = new Properties();
+        props.setProperty("uploadId", uploadId);
+        props.setProperty("leaveRequestId", String.valueOf(leaveRequestId));
+        props.setProperty("userId", String.valueOf(userId));
+        props.setProperty("originalName", originalName);
+        props.setProperty("contentType", contentType);
+        props.setProperty("totalSize", String.valueOf(totalSize));
+        props.setProperty("chunkSize", String.valueOf(chunkSize));
+        props.setProperty("sha256", sha256);
+        return props;
+    }
+
+    /**
+     * 저장된 properties로부터 세션 정보를 복원한다.
+     *
+     * @param props properties
+     * @return 분할 업로드 세션 정보
+     */
+    public static ChunkedUpload fromProperties(Properties props) {
+        return new ChunkedUpload(
+                props.getProperty("uploadId"),
+                Long.valueOf(props.getProperty("leaveRequestId")),
+                Long.valueOf(props.getProperty("userId")),
+                props.getProperty("originalName"),
+                props.getProperty("contentType"),
+                Long.parseLong(props.getProperty("totalSize")),
+                Integer.parseInt(props.getProperty("chunkSize")),
+                props.getProperty("sha256")
+        );
+    }
+}
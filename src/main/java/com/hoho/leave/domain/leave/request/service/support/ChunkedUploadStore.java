@@ -0,0 +1,269 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.common.exception.FileErrorException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * 분할 업로드 디스크 저장소.
+ * 
+ * 세션마다 {@code <upload.local.dir>/chunked/<uploadId>/}에 전체 크기로 미리 잡아 둔 데이터 파일,
+ * 청크 수신 비트맵, 세션 정보를 둔다.
+ * 청크는 위치 지정 {@link FileChannel#write(ByteBuffer, long)}로 제자리에 쓰므로 순서와 무관하게 받을 수 있고,
+ * 같은 청크를 다시 받아도 같은 위치를 덮어쓸 뿐이다.
+ * 데이터는 매 청크마다 fsync하지 않는다. 비트맵과 실제 내용이 어긋나면 완료 시 체크섬 검증에서 걸러진다.
+ * 
+ */
+@Component
+public class ChunkedUploadStore {
+
+    /** 복사 버퍼 크기 */
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** 비트맵 갱신 잠금 수 */
+    private static final int LOCK_STRIPES = 64;
+
+    private static final String DATA_FILE = "data.part";
+    private static final String BITMAP_FILE = "ranges.bitmap";
+    private static final String META_FILE = "upload.properties";
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Value("${upload.local.dir}")
+    private String uploadDir;
+
+    private Path root;
+
+    public ChunkedUploadStore() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 분할 업로드 디렉토리를 생성한다.
+     */
+    @PostConstruct
+    void init() {
+        root = Path.of(uploadDir, "chunked");
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new FileErrorException("분할 업로드 폴더를 생성할 수 없습니다. " + uploadDir);
+        }
+    }
+
+    /**
+     * 세션 디렉토리를 만들고 데이터 파일을 전체 크기로 미리 잡는다.
+     * 세션 정보는 마지막에 써서, 준비가 끝난 세션만 조회되게 한다.
+     *
+     * @param upload 분할 업로드 세션 정보
+     * @throws IOException 쓰기 실패
+     */
+    public void create(ChunkedUpload upload) throws IOException {
+        Path dir = root.resolve(upload.getUploadId());
+        Files.createDirectory(dir);
+
+        try (RandomAccessFile data = new RandomAccessFile(dir.resolve(DATA_FILE).toFile(), "rw")) {
+            data.setLength(upload.getTotalSize());
+        }
+        Files.write(dir.resolve(BITMAP_FILE), new byte[ChunkBitmap.sizeOf(upload.chunkCount())]);
+        try (OutputStream out = Files.newOutputStream(dir.resolve(META_FILE))) {
+            upload.toProperties().store(out, null);
+        }
+    }
+
+    /**
+     * 세션 정보를 조회한다.
+     *
+     * @param uploadId 업로드 ID
+     * @return 세션 정보 (없거나 형식이 잘못된 ID면 빈 값)
+     * @throws IOException 읽기 실패
+     */
+    public Optional<ChunkedUpload> find(String uploadId) throws IOException {
+        if (!isValidId(uploadId)) return Optional.empty();
+
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(root.resolve(uploadId).resolve(META_FILE))) {
+            props.load(in);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        return Optional.of(ChunkedUpload.fromProperties(props));
+    }
+
+    /**
+     * 청크를 데이터 파일의 해당 위치에 쓰고 비트맵에 표시한다.
+     * 청크 길이가 정확히 맞지 않거나 쓰는 도중 실패하면 예외를 던진다.
+     * 이미 받은 청크를 다시 받다가 실패한 경우에도 내용이 덮어써졌을 수 있으므로 수신 표시를 지운다.
+     *
+     * @param upload 분할 업로드 세션 정보
+     * @param index 청크 번호
+     * @param in 청크 본문 (닫지 않는다)
+     * @return 갱신된 청크 수신 비트맵
+     * @throws IOException 읽기/쓰기 실패
+     */
+    public ChunkBitmap writeChunk(ChunkedUpload upload, int index, InputStream in) throws IOException {
+        Path dir = root.resolve(upload.getUploadId());
+        long position = upload.chunkOffset(index);
+        long expected = upload.chunkLength(index);
+        long written = 0;
+
+        try (FileChannel out = FileChannel.open(dir.resolve(DATA_FILE), StandardOpenOption.WRITE)) {
+            mark(upload, index, false);
+            ReadableByteChannel src = Channels.newChannel(in);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (true) {
+                // 청크 길이보다 1바이트 더 읽어 초과 전송을 잡아낸다
+                buffer.clear().limit((int) Math.min(BUFFER_SIZE, expected - written + 1));
+                if (src.read(buffer) == -1) break;
+                buffer.flip();
+                if (written + buffer.remaining() > expected) {
+                    throw new FileErrorException("Chunk Length Mismatch : chunk " + index + " exceeds " + expected + " bytes");
+                }
+                while (buffer.hasRemaining()) {
+                    written += out.write(buffer, position + written);
+                }
+            }
+        }
+        if (written != expected) {
+            throw new FileErrorException("Chunk Length Mismatch : chunk " + index + " expected " + expected + ", actual " + written);
+        }
+
+        return mark(upload, index, true);
+    }
+
+    /**
+     * 청크 수신 비트맵을 읽는다.
+     *
+     * @param upload 분할 업로드 세션 정보
+     * @return 청크 수신 비트맵
+     * @throws IOException 읽기 실패
+     */
+    public ChunkBitmap bitmap(ChunkedUpload upload) throws IOException {
+        Path bitmap = root.resolve(upload.getUploadId()).resolve(BITMAP_FILE);
+        synchronized (lockOf(upload.getUploadId())) {
+            return ChunkBitmap.of(Files.readAllBytes(bitmap), upload.chunkCount());
+        }
+    }
+
+    /**
+     * 데이터 파일 경로를 반환한다.
+     *
+     * @param upload 분할 업로드 세션 정보
+     * @return 데이터 파일 경로
+     */
+    public Path dataFile(ChunkedUpload upload) {
+        return root.resolve(upload.getUploadId()).resolve(DATA_FILE);
+    }
+
+    /**
+     * 세션 디렉토리를 지운다.
+     *
+     * @param uploadId 업로드 ID
+     * @throws IOException 삭제 실패
+     */
+    public void delete(String uploadId) throws IOException {
+        if (!isValidId(uploadId)) return;
+
+        Path dir = root.resolve(uploadId);
+        // 세션 정보를 먼저 지워 조회되지 않게 한다
+        Files.deleteIfExists(dir.resolve(META_FILE));
+        Files.deleteIfExists(dir.resolve(BITMAP_FILE));
+        Files.deleteIfExists(dir.resolve(DATA_FILE));
+        Files.deleteIfExists(dir);
+    }
+
+    /**
+     * 기준 시각 이후로 청크를 받지 않은 세션을 지운다.
+     *
+     * @param cutoff 이 시각 이전에 마지막으로 갱신된 세션만 대상
+     * @return 삭제한 세션 수
+     * @throws IOException 디렉토리 조회 실패
+     */
+    public int purgeInactive(Instant cutoff) throws IOException {
+        int purged = 0;
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                try {
+                    if (lastActivity(dir).isBefore(cutoff)) {
+                        delete(dir.getFileName().toString());
+                        purged++;
+                    }
+                } catch (NoSuchFileException ignored) {
+                    // 그 사이 완료/취소됨
+                }
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * 비트맵의 청크 수신 표시를 바꾸고 갱신된 비트맵을 반환한다.
+     * 같은 바이트를 공유하는 청크가 동시에 들어올 수 있으므로 세션 단위로 잠근다.
+     *
+     * @param upload 분할 업로드 세션 정보
+     * @param index 청크 번호
+     * @param received 수신 여부
+     * @return 갱신된 청크 수신 비트맵
+     * @throws IOException 읽기/쓰기 실패
+     */
+    private ChunkBitmap mark(ChunkedUpload upload, int index, boolean received) throws IOException {
+        Path bitmap = root.resolve(upload.getUploadId()).resolve(BITMAP_FILE);
+        synchronized (lockOf(upload.getUploadId())) {
+            try (FileChannel channel = FileChannel.open(bitmap, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer bits = ByteBuffer.allocate((int) channel.size());
+                while (bits.hasRemaining()) {
+                    if (channel.read(bits, bits.position()) == -1) break;
+                }
+                int at = ChunkBitmap.byteIndex(index);
+                byte current = bits.get(at);
+                byte updated = (byte) (received ? current | ChunkBitmap.mask(index) : current & ~ChunkBitmap.mask(index));
+                if (updated == current) return ChunkBitmap.of(bits.array(), upload.chunkCount());
+
+                bits.put(at, updated);
+                channel.write(ByteBuffer.wrap(bits.array(), at, 1), at);
+                return ChunkBitmap.of(bits.array(), upload.chunkCount());
+            }
+        }
+    }
+
+    private Object lockOf(String uploadId) {
+        return locks[Math.floorMod(uploadId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static Instant lastActivity(Path dir) throws IOException {
+        Path bitmap = dir.resolve(BITMAP_FILE);
+        Path target = Files.exists(bitmap) ? bitmap : dir;
+        return Files.getLastModifiedTime(target).toInstant();
+    }
+
+    /**
+     * 경로 조작을 막기 위해 UUID 형식의 ID만 허용한다.
+     */
+    private static boolean isValidId(String uploadId) {
+        try {
+            return uploadId != null && UUID.fromString(uploadId).toString().equals(uploadId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.common.exception.FileErrorException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 내용 주소 기반 첨부파일 저장소.
+ * 
+ * 파일을 SHA-256 해시로 이름 붙여 {@code <upload.local.dir>/blobs/ab/cd/<hash>}에 한 번만 저장한다.
+ * 업로드 스트림은 NIO 채널로 임시 파일에 복사하면서 같은 버퍼로 해시 계산과 내용 검사를 하므로 한 번만 읽는다.
+ * 참조 수 관리는 호출하는 쪽(blob 행)이 맡고, 이 클래스는 파일 배치만 담당한다.
+ * 계층형 저장소의 로컬(hot) 계층이기도 하다.
+ * 
+ */
+@Component
+public class ContentAddressedStore implements BlobStorage {
+
+    /** 복사 버퍼 크기 */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Value("${upload.local.dir}")
+    private String uploadDir;
+
+    private Path blobRoot;
+    private Path stagingRoot;
+
+    /**
+     * blob/임시 디렉토리를 생성한다.
+     */
+    @PostConstruct
+    void init() {
+        blobRoot = Path.of(uploadDir, "blobs");
+        stagingRoot = Path.of(uploadDir, "staging");
+        try {
+            Files.createDirectories(blobRoot);
+            Files.createDirectories(stagingRoot);
+        } catch (IOException e) {
+            throw new FileErrorException("첨부파일 저장소 폴더를 생성할 수 없습니다. " + uploadDir);
+        }
+    }
+
+    /**
+     * 스트림을 임시 파일로 복사하면서 SHA-256과 크기를 계산한다.
+     * 실패하면 임시 파일을 지운다.
+     *
+     * @param in 입력 스트림 (닫지 않는다)
+     * @return 임시 저장된 내용
+     * @throws IOException 읽기/쓰기 실패
+     */
+    public StagedBlob stage(InputStream in) throws IOException {
+        return stage(in, null);
+    }
+
+    /**
+     * 스트림을 임시 파일로 복사하면서 SHA-256과 크기를 계산하고, 같은 버퍼로 내용을 검사한다.
+     * 검사기가 형식이나 크기를 거부하면 그 자리에서 복사를 멈추고 임시 파일을 지운다.
+     *
+     * @param in 입력 스트림 (닫지 않는다)
+     * @param inspector 내용 검사기 (null이면 검사하지 않는다)
+     * @return 임시 저장된 내용
+     * @throws IOException 읽기/쓰기 실패
+     */
+    public StagedBlob stage(InputStream in, ContentInspector inspector) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(stagingRoot, "upload-", ".part");
+        long size = 0;
+
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ReadableByteChannel src = Channels.newChannel(in);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (src.read(buffer) != -1) {
+                buffer.flip();
+                if (inspector != null) inspector.update(buffer);
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    size += out.write(buffer);
+                }
+                buffer.clear();
+            }
+            if (inspector != null) inspector.finish();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        return StagedBlob.of(temp, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /**
+     * 이미 디스크에 있는 파일을 임시 영역으로 옮긴 뒤 SHA-256과 크기를 계산한다.
+     * 원본 파일은 같은 파일시스템(업로드 디렉토리 아래)에 있어야 한다.
+     *
+     * @param source 원본 파일 (이동된다)
+     * @return 임시 저장된 내용
+     * @throws IOException 이동/읽기 실패
+     */
+    public StagedBlob stage(Path source) throws IOException {
+        return stage(source, null);
+    }
+
+    /**
+     * 이미 디스크에 있는 파일을 임시 영역으로 옮긴 뒤 SHA-256과 크기를 계산하고, 같은 패스로 내용을 검사한다.
+     * 검사에 실패하면 옮긴 파일을 지운다.
+     *
+     * @param source 원본 파일 (이동된다)
+     * @param inspector 내용 검사기 (null이면 검사하지 않는다)
+     * @return 임시 저장된 내용
+     * @throws IOException 이동/읽기 실패
+     */
+    public StagedBlob stage(Path source, ContentInspector inspector) throws IOException {
+        Path temp = stagingRoot.resolve("upload-" + UUID.randomUUID() + ".part");
+        Files.move(source, temp, StandardCopyOption.ATOMIC_MOVE);
+
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (FileChannel in = FileChannel.open(temp, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                size += buffer.remaining();
+                if (inspector != null) inspector.update(buffer);
+                digest.update(buffer);
+                buffer.clear();
+            }
+            if (inspector != null) inspector.finish();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return StagedBlob.of(temp, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /**
+     * 임시 파일을 blob 위치로 옮긴다. 같은 내용이 이미 있으면 임시 파일만 지운다.
+     *
+     * @param staged 임시 저장된 내용
+     * @return blob 파일 경로
+     * @throws IOException 이동 실패
+     */
+    public Path promote(StagedBlob staged) throws IOException {
+        Path target = resolve(staged.getStorageKey());
+        if (Files.exists(target)) {
+            Files.deleteIfExists(staged.getTempPath());
+            return target;
+        }
+
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(staged.getTempPath(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(staged.getTempPath());
+        }
+        return target;
+    }
+
+    /**
+     * 임시 파일을 버린다.
+     *
+     * @param staged 임시 저장된 내용
+     */
+    public void discard(StagedBlob staged) {
+        try {
+            Files.deleteIfExists(staged.getTempPath());
+        } catch (IOException ignored) {
+            // 남은 임시 파일은 정리 작업이 지운다
+        }
+    }
+
+    /**
+     * 기준 시각 이전에 만들어진 임시 파일을 지운다.
+     * 업로드 도중 프로세스가 죽었거나 커밋 후 이동에 실패해 남은 파일이 대상이다.
+     *
+     * @param cutoff 이 시각 이전에 마지막으로 수정된 임시 파일만 대상
+     * @return 삭제한 파일 수
+     * @throws IOException 디렉토리 조회 실패
+     */
+    public int purgeStaging(Instant cutoff) throws IOException {
+        int purged = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingRoot, "*.part")) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                        purged++;
+                    }
+                } catch (NoSuchFileException ignored) {
+                    // 그 사이 이동/삭제됨
+                }
+            }
+        }
+        return purged;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    /**
+     * 로컬 파일을 임시 영역에 복사한 뒤 blob 위치로 옮긴다.
+     *
+     * @param key 저장소 키
+     * @param source 원본 파일
+     * @throws IOException 복사/이동 실패
+     */
+    @Override
+    public void put(String key, Path source) throws IOException {
+        Path temp = stagingRoot.resolve("upload-" + UUID.randomUUID() + ".part");
+        try {
+            Files.copy(source, temp);
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * blob 파일을 삭제한다.
+     *
+     * @param storageKey 저장소 키
+     * @throws IOException 삭제 실패
+     */
+    @Override
+    public void delete(String storageKey) throws IOException {
+        Files.deleteIfExists(resolve(storageKey));
+    }
+
+    /**
+     * 저장소 키의 파일 경로를 반환한다.
+     *
+     * @param storageKey 저장소 키
+     * @return 파일 경로
+     */
+    public Path resolve(String storageKey) {
+        return blobRoot.resolve(storageKey);
+    }
+
+    /**
+     * 해시로 저장소 키를 만든다. 앞 두 바이트로 2단계 디렉토리를 나눠 한 디렉토리의 파일 수를 제한한다.
+     *
+     * @param sha256 내용 SHA-256 (hex)
+     * @return 저장소 키 (예: ab/cd/abcd...)
+     */
+    public static String keyOf(String sha256) {
+        return sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.common.exception.FileErrorException;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 업로드 내용 스트리밍 검사기.
+ * 
+ * 저장하면서 흘려보내는 바이트를 그대로 받아, 앞부분의 매직 바이트로 실제 형식을 판별하고
+ * 형식별 최대 크기를 넘는 순간 예외로 복사를 끊는다. 클라이언트가 보낸 Content-Type은 믿지 않는다.
+ * 같은 패스에서 이미지 크기(PNG IHDR, JPEG SOF)와 PDF 페이지 수(/Type /Page 개수)도 읽는다.
+ * 압축된 객체 스트림 안에 페이지가 있는 PDF는 페이지 수를 알 수 없다(null).
+ * 
+ */
+public class ContentInspector {
+
+    public static final String PNG = "image/png";
+    public static final String JPEG = "image/jpeg";
+    public static final String PDF = "application/pdf";
+
+    private static final long MB = 1024L * 1024L;
+
+    /** 형식별 최대 허용 바이트 수 */
+    private static final Map<String, Long> MAX_SIZE_BY_TYPE = Map.of(
+            JPEG, 10 * MB,
+            PNG,  10 * MB,
+            PDF,  20 * MB
+    );
+
+    /** 형식 판별 전에 적용하는 최대 크기 */
+    public static final long MAX_SIZE = Collections.max(MAX_SIZE_BY_TYPE.values());
+
+    /** 형식 판별에 쓰는 앞부분 크기 (PDF 헤더는 이 안 어디에 있어도 된다) */
+    private static final int HEAD_BYTES = 1024;
+    /** PDF 끝 표시(%%EOF)를 찾는 뒷부분 크기 */
+    private static final int TAIL_BYTES = 1024;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] PDF_HEADER = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PDF_EOF = "%%EOF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PDF_TYPE = "/Type".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PDF_PAGE = "/Page".getBytes(StandardCharsets.US_ASCII);
+
+    @Getter
+    private String contentType;
+    @Getter
+    private long size;
+    @Getter
+    private Integer width;
+    @Getter
+    private Integer height;
+    @Getter
+    private Integer pageCount;
+
+    private final byte[] head = new byte[HEAD_BYTES];
+    private int headLength;
+    private byte[] chunk = new byte[0];
+
+    private final JpegScanner jpeg = new JpegScanner();
+    private final PdfScanner pdf = new PdfScanner();
+
+    /**
+     * 허용 형식인지 확인한다.
+     *
+     * @param contentType MIME 타입
+     * @return 허용 형식이면 true
+     */
+    public static boolean supports(String contentType) {
+        return MAX_SIZE_BY_TYPE.containsKey(contentType);
+    }
+
+    /**
+     * 형식별 최대 허용 크기를 반환한다.
+     *
+     * @param contentType MIME 타입
+     * @return 최대 바이트 수 (허용 형식이 아니면 null)
+     */
+    public static Long maxSizeOf(String contentType) {
+        return MAX_SIZE_BY_TYPE.get(contentType);
+    }
+
+    /**
+     * 복사 중인 바이트를 검사한다. 버퍼의 위치는 바꾸지 않는다.
+     *
+     * @param buffer 이번에 복사한 바이트 (position ~ limit)
+     * @throws FileErrorException 허용하지 않는 형식이거나 최대 크기를 넘은 경우
+     */
+    public void update(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        if (length == 0) return;
+        if (chunk.length < length) chunk = new byte[length];
+        buffer.duplicate().get(chunk, 0, length);
+
+        size += length;
+        assertSize(contentType == null ? MAX_SIZE : MAX_SIZE_BY_TYPE.get(contentType));
+
+        int copied = Math.min(length, HEAD_BYTES - headLength);
+        System.arraycopy(chunk, 0, head, headLength, copied);
+        headLength += copied;
+
+        if (contentType != null) {
+            scan(chunk, 0, length);
+        } else if (detect(headLength == HEAD_BYTES)) {
+            // 판별 전까지 모아 둔 앞부분부터 검사한다
+            scan(head, 0, headLength);
+            scan(chunk, copied, length - copied);
+        }
+    }
+
+    /**
+     * 끝까지 받은 내용을 확인하고 메타데이터를 확정한다.
+     *
+     * @throws FileErrorException 빈 파일, 알 수 없는 형식, 손상된 파일
+     */
+    public void finish() {
+        if (size == 0) throw new FileErrorException("Empty Upload File");
+        if (contentType == null) {
+            detect(true);
+            scan(head, 0, headLength);
+        }
+
+        switch (contentType) {
+            case PNG -> readPngHeader();
+            case JPEG -> {
+                if (jpeg.width == null) throw corrupted();
+                width = jpeg.width;
+                height = jpeg.height;
+            }
+            case PDF -> {
+                if (!pdf.endsWithEof()) throw corrupted();
+                pageCount = pdf.pages > 0 ? pdf.pages : null;
+            }
+            default -> throw corrupted();
+        }
+    }
+
+    /**
+     * 앞부분으로 형식을 판별한다.
+     *
+     * @param last 더 받을 앞부분이 없으면 true (판별 실패 시 예외)
+     * @return 판별했으면 true
+     */
+    private boolean detect(boolean last) {
+        if (startsWith(head, headLength, PNG_SIGNATURE)) {
+            contentType = PNG;
+        } else if (headLength >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            contentType = JPEG;
+        } else if (indexOf(head, headLength, PDF_HEADER) >= 0) {
+            contentType = PDF;
+        } else if (last) {
+            throw new FileErrorException("Not Allowed Content : 지원하지 않는 파일 형식입니다.");
+        } else {
+            return false;
+        }
+        assertSize(MAX_SIZE_BY_TYPE.get(contentType));
+        return true;
+    }
+
+    private void scan(byte[] bytes, int offset, int length) {
+        if (JPEG.equals(contentType)) jpeg.scan(bytes, offset, length);
+        else if (PDF.equals(contentType)) pdf.scan(bytes, offset, length);
+    }
+
+    private void readPngHeader() {
+        // 시그니처(8) + 길이(4) + "IHDR"(4) + 너비(4) + 높이(4)
+        if (headLength < 24 || head[12] != 'I' || head[13] != 'H' || head[14] != 'D' || head[15] != 'R') throw corrupted();
+        width = readInt(head, 16);
+        height = readInt(head, 20);
+        if (width <= 0 || height <= 0) throw corrupted();
+    }
+
+    private void assertSize(long limit) {
+        if (size > limit) {
+            throw new FileErrorException(String.format("파일 크기가 허용 범위를 초과했습니다. (형식: %s, 최대: %dMB)",
+                    contentType == null ? "unknown" : contentType, limit / MB));
+        }
+    }
+
+    private FileErrorException corrupted() {
+        return new FileErrorException("Corrupted Upload File : " + contentType);
+    }
+
+    private static int readInt(byte[] b, int i) {
+        return ((b[i] & 0xFF) << 24) | ((b[i + 1] & 0xFF) << 16) | ((b[i + 2] & 0xFF) << 8) | (b[i + 3] & 0xFF);
+    }
+
+    private static boolean startsWith(byte[] bytes, int length, byte[] prefix) {
+        if (length < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) return false;
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] bytes, int length, byte[] target) {
+        outer:
+        for (int i = 0; i <= length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * JPEG 세그먼트 상태 기계. SOF 세그먼트에서 크기를 읽으면 멈춘다.
+     * 세그먼트 본문은 길이만큼 한 번에 건너뛰므로 앞부분 몇 KB만 바이트 단위로 본다.
+     */
+    private static final class JpegScanner {
+        private static final int MARKER_PREFIX = 0, MARKER = 1, LENGTH_HIGH = 2, LENGTH_LOW = 3, SKIP = 4, FRAME = 5, DONE = 6;
+
+        private int state = SKIP;
+        private long skip = 2;          // SOI(FFD8)
+        private int marker;
+        private int segmentLength;
+        private final byte[] frame = new byte[5];
+        private int frameLength;
+        Integer width;
+        Integer height;
+
+        void scan(byte[] b, int offset, int length) {
+            int i = offset;
+            int end = offset + length;
+            while (i < end && state != DONE) {
+                switch (state) {
+                    case SKIP -> {
+                        int n = (int) Math.min(skip, end - i);
+                        i += n;
+                        skip -= n;
+                        if (skip == 0) state = MARKER_PREFIX;
+                    }
+                    case MARKER_PREFIX -> state = (b[i++] & 0xFF) == 0xFF ? MARKER : DONE;
+                    case MARKER -> {
+                        marker = b[i++] & 0xFF;
+                        if (marker == 0xFF) break;                                  // 채움 바이트
+                        if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) state = MARKER_PREFIX;
+                        else if (marker == 0xDA || marker == 0xD9) state = DONE;    // SOS/EOI 전에 SOF가 없음
+                        else state = LENGTH_HIGH;
+                    }
+                    case LENGTH_HIGH -> {
+                        segmentLength = (b[i++] & 0xFF) << 8;
+                        state = LENGTH_LOW;
+                    }
+                    case LENGTH_LOW -> {
+                        segmentLength |= b[i++] & 0xFF;
+                        if (segmentLength < 2) {
+                            state = DONE;
+                        } else if (isFrameMarker(marker) && segmentLength >= 2 + frame.length) {
+                            state = FRAME;
+                        } else {
+                            skip = segmentLength - 2;
+                            state = skip == 0 ? MARKER_PREFIX : SKIP;
+                        }
+                    }
+                    case FRAME -> {
+                        frame[frameLength++] = b[i++];
+                        if (frameLength == frame.length) {
+                            // 정밀도(1) + 높이(2) + 너비(2)
+                            height = ((frame[1] & 0xFF) << 8) | (frame[2] & 0xFF);
+                            width = ((frame[3] & 0xFF) << 8) | (frame[4] & 0xFF);
+                            if (width == 0 || height == 0) width = height = null;
+                            state = DONE;
+                        }
+                    }
+                    default -> state = DONE;
+                }
+            }
+        }
+
+        private static boolean isFrameMarker(int marker) {
+            return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+        }
+    }
+
+    /**
+     * PDF 토큰 상태 기계. "/Type /Page"(뒤에 s가 오지 않는 것) 개수를 세고 마지막 몇 KB를 보관한다.
+     */
+    private static final class PdfScanner {
+        private static final int TYPE = 0, SPACE = 1, PAGE = 2, AFTER = 3;
+
+        private int state = TYPE;
+        private int matched;
+        int pages;
+        private final byte[] tail = new byte[TAIL_BYTES];
+        private long total;
+
+        void scan(byte[] b, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                byte c = b[i];
+                tail[(int) (total++ % TAIL_BYTES)] = c;
+                step(c);
+            }
+        }
+
+        private void step(byte c) {
+            switch (state) {
+                case TYPE -> matched = match(PDF_TYPE, c, SPACE);
+                case SPACE -> {
+                    if (isWhitespace(c)) return;
+                    state = PAGE;
+                    matched = 0;
+                    step(c);
+                }
+                case PAGE -> matched = match(PDF_PAGE, c, AFTER);
+                case AFTER -> {
+                    if (c != 's') pages++;
+                    state = TYPE;
+                    matched = 0;
+                    if (c != 's') step(c);
+                }
+                default -> state = TYPE;
+            }
+        }
+
+        /**
+         * 토큰의 다음 글자와 맞춰 본다. 다 맞으면 다음 상태로, 어긋나면 처음부터 다시 찾는다.
+         */
+        private int match(byte[] token, byte c, int next) {
+            if (c == token[matched]) {
+                if (matched + 1 == token.length) {
+                    state = next;
+                    return 0;
+                }
+                return matched + 1;
+            }
+            state = TYPE;
+            return c == PDF_TYPE[0] ? 1 : 0;
+        }
+
+        boolean endsWithEof() {
+            int length = (int) Math.min(total, TAIL_BYTES);
+            byte[] last = new byte[length];
+            for (int i = 0; i < length; i++) {
+                last[i] = tail[(int) ((total - length + i) % TAIL_BYTES)];
+            }
+            return indexOf(last, length, PDF_EOF) >= 0;
+        }
+
+        private static boolean isWhitespace(byte c) {
+            return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f' || c == 0;
+        }
+    }
+}
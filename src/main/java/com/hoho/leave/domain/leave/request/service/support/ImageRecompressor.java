@@ -0,0 +1,95 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * 첨부 이미지 재압축기.
+ *
+ * 긴 변을 설정 해상도 이하로 줄이고 같은 형식으로 다시 인코딩한다. (JPEG는 설정 품질, PNG는 무손실)
+ * 축소와 EXIF 방향 적용은 썸네일 생성기와 같은 {@link ImageResampling}을 쓴다.
+ * 줄일 필요가 없는 이미지도 다시 인코딩하며, 결과를 쓸지는 크기를 비교해 호출한 쪽이 정한다.
+ *
+ */
+@Component
+public class ImageRecompressor {
+
+    /** 재압축할 수 있는 MIME 타입 */
+    private static final Set<String> SUPPORTED = Set.of(ContentInspector.JPEG, ContentInspector.PNG);
+
+    /** 재압축 후 긴 변 최대 크기(px) */
+    @Value("${leave.attachment.recompress.max-edge:2400}")
+    private int maxEdge;
+
+    /** 재압축 JPEG 품질 (0~1) */
+    @Value("${leave.attachment.recompress.quality:0.82}")
+    private float quality;
+
+    /**
+     * 재압축할 수 있는 형식인지 확인한다.
+     *
+     * @param contentType MIME 타입
+     * @return 지원하면 true
+     */
+    public static boolean supports(String contentType) {
+        return contentType != null && SUPPORTED.contains(contentType);
+    }
+
+    /**
+     * 설정 해상도를 넘는 이미지인지 확인한다.
+     *
+     * @param width 이미지 너비(px), 모르면 null
+     * @param height 이미지 높이(px), 모르면 null
+     * @return 줄여야 하면 true
+     */
+    public boolean exceedsMaxEdge(Integer width, Integer height) {
+        return width != null && height != null && Math.max(width, height) > maxEdge;
+    }
+
+    /**
+     * 이미지를 줄여 다시 인코딩한다.
+     *
+     * @param source 원본 이미지
+     * @param contentType 원본 MIME 타입 (결과도 같은 형식)
+     * @return 인코딩된 내용
+     * @throws IOException 읽을 수 없는 이미지이거나 인코딩 실패
+     */
+    public byte[] recompress(Path source, String contentType) throws IOException {
+        boolean jpeg = ContentInspector.JPEG.equals(contentType);
+        ImageResampling.Decoded decoded = ImageResampling.read(source, maxEdge);
+        // JPEG는 RGB로, PNG는 투명도를 유지하도록 변환한다
+        int type = jpeg || !decoded.image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage image = ImageResampling.scale(decoded.image, maxEdge, type, null);
+        image = ImageResampling.orient(image, decoded.orientation);
+        return write(image, jpeg);
+    }
+
+    private byte[] write(BufferedImage image, boolean jpeg) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(jpeg ? "jpeg" : "png").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream imageOut = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (jpeg) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+            }
+
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
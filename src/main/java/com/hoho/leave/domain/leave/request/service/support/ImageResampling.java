@@ -0,0 +1,207 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * 썸네일 생성기와 재압축기가 함께 쓰는 이미지 축소 도구.
+ *
+ * 큰 원본은 디코딩 단계에서 목표 크기의 두 배 정도까지만 서브샘플링해 전체 해상도 픽셀을 메모리에 올리지 않고,
+ * 남은 축소는 절반씩 단계적으로 줄여 계단 현상을 줄인다.
+ * 다시 쓴 JPEG에는 EXIF가 남지 않으므로 JPEG 원본의 EXIF 방향(Orientation)을 함께 읽어 픽셀에 적용할 수 있게 한다.
+ *
+ */
+final class ImageResampling {
+
+    /** JPEG APP1 마커 번호 */
+    private static final String APP1 = "225";
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ImageResampling() {}
+
+    /**
+     * 목표 크기의 두 배 정도까지만 서브샘플링해 디코딩하고, JPEG는 EXIF 방향을 함께 읽는다.
+     *
+     * @param source 원본 이미지
+     * @param maxEdge 목표 긴 변 크기(px)
+     * @return 디코딩된 이미지와 방향
+     * @throws IOException 읽을 수 없는 이미지
+     */
+    static Decoded read(Path source, int maxEdge) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image : " + source.getFileName());
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                boolean jpeg = "jpeg".equalsIgnoreCase(reader.getFormatName());
+                reader.setInput(in, true, !jpeg);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int factor = Math.max(1, longEdge / (maxEdge * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                int orientation = jpeg ? orientationOf(reader.getImageMetadata(0)) : 1;
+                return new Decoded(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 최대 크기 이하가 되도록 절반씩 단계적으로 줄인다.
+     *
+     * @param image 원본 이미지
+     * @param maxEdge 긴 변 최대 크기(px)
+     * @param type 결과 이미지 타입 ({@link BufferedImage#TYPE_INT_RGB} 등)
+     * @param background 투명 영역을 채울 배경색 (null이면 채우지 않는다)
+     * @return 줄인 이미지
+     */
+    static BufferedImage scale(BufferedImage image, int maxEdge, int type, Color background) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2, type, null, background);
+        }
+        return draw(current, targetWidth, targetHeight, type, null, background);
+    }
+
+    /**
+     * EXIF 방향(1~8)대로 돌리거나 뒤집는다.
+     *
+     * @param image 이미지
+     * @param orientation EXIF 방향
+     * @return 바로 선 이미지
+     */
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation < 2 || orientation > 8) return image;
+
+        int w = image.getWidth();
+        int h = image.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform t = new AffineTransform();
+        switch (orientation) {
+            case 2 -> t.setTransform(-1, 0, 0, 1, w, 0);        // 좌우 반전
+            case 3 -> t.setTransform(-1, 0, 0, -1, w, h);       // 180도
+            case 4 -> t.setTransform(1, 0, 0, -1, 0, h);        // 상하 반전
+            case 5 -> t.setTransform(0, 1, 1, 0, 0, 0);         // 대각 반전
+            case 6 -> t.setTransform(0, 1, -1, 0, h, 0);        // 시계 방향 90도
+            case 7 -> t.setTransform(0, -1, -1, 0, h, w);       // 반대 대각 반전
+            default -> t.setTransform(0, -1, 1, 0, 0, w);       // 반시계 방향 90도
+        }
+        return draw(image, swap ? h : w, swap ? w : h, image.getType(), t, null);
+    }
+
+    /**
+     * JPEG 메타데이터의 APP1(EXIF) 세그먼트에서 방향 값을 읽는다.
+     *
+     * @param metadata JPEG 이미지 메타데이터
+     * @return EXIF 방향 (없거나 읽을 수 없으면 1)
+     */
+    private static int orientationOf(IIOMetadata metadata) {
+        if (metadata == null) return 1;
+        Node root = metadata.getAsTree("javax_imageio_jpeg_image_1.0");
+        for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (!"markerSequence".equals(node.getNodeName())) continue;
+            for (Node marker = node.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if (marker instanceof IIOMetadataNode unknown && "unknown".equals(unknown.getNodeName())
+                        && APP1.equals(unknown.getAttribute("MarkerTag"))
+                        && unknown.getUserObject() instanceof byte[] data) {
+                    int orientation = exifOrientation(data);
+                    if (orientation > 0) return orientation;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * EXIF 본문(TIFF 헤더 + IFD0)에서 방향 태그를 찾는다.
+     *
+     * @param data APP1 세그먼트 본문 ("Exif\0\0"로 시작)
+     * @return EXIF 방향 (없으면 0)
+     */
+    static int exifOrientation(byte[] data) {
+        if (data.length < EXIF_HEADER.length + 8) return 0;
+        for (int i = 0; i < EXIF_HEADER.length; i++) {
+            if (data[i] != EXIF_HEADER[i]) return 0;
+        }
+
+        int tiff = EXIF_HEADER.length;
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data[tiff] == 'I' && data[tiff + 1] == 'I') buffer.order(ByteOrder.LITTLE_ENDIAN);
+        else if (data[tiff] != 'M' || data[tiff + 1] != 'M') return 0;
+
+        try {
+            int ifd = tiff + buffer.getInt(tiff + 4);
+            int entries = buffer.getShort(ifd) & 0xFFFF;
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if ((buffer.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                    return buffer.getShort(entry + 8) & 0xFFFF;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 잘린 EXIF
+        }
+        return 0;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type,
+                                      AffineTransform transform, Color background) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (background != null) {
+                g.setColor(background);
+                g.fillRect(0, 0, width, height);
+            }
+            if (transform != null) g.drawImage(source, transform, null);
+            else g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 디코딩된 이미지와 EXIF 방향.
+     */
+    static final class Decoded {
+        final BufferedImage image;
+        final int orientation;
+
+        Decoded(BufferedImage image, int orientation) {
+            this.image = image;
+            this.orientation = orientation;
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.common.exception.FileErrorException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 팩 파일 기반 보관(cold) 저장소.
+ * 
+ * 내용을 zlib(최고 압축)으로 줄여 {@code pack-NNNNNN.pack} 파일 끝에 이어 붙이고,
+ * 위치는 추가 전용 색인 파일({@value #INDEX_FILE})에 한 줄씩 남긴다. 시작 시 색인을 다시 읽어 메모리에 올린다.
+ * 압축해도 줄지 않는 내용(JPEG 등)은 원본 그대로 넣는다. 앞부분({@value #SAMPLE_SIZE}바이트)을 먼저 압축해 보고
+ * 충분히 줄지 않으면 전체 압축을 건너뛴다.
+ * 압축은 잠금 없이 임시 파일에 하고, 팩 끝에 붙이는 복사와 색인 쓰기만 한 번에 하나씩 한다.
+ * 삭제는 색인에 삭제 표시만 남기며, 팩 안의 공간은 회수하지 않는다.
+ * 팩 쓰기 후 색인을 쓰므로, 도중에 멈추면 팩 끝에 색인되지 않은 바이트만 남고 다음 쓰기가 그 뒤에 이어진다.
+ * 
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "leave.attachment.archive.type", havingValue = "pack", matchIfMissing = true)
+public class PackFileBlobStorage implements ArchiveBlobStorage {
+
+    /** 복사 버퍼 크기 */
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MB = 1024L * 1024L;
+    /** 압축 여부를 가늠할 앞부분 크기 */
+    static final int SAMPLE_SIZE = 64 * 1024;
+    /** 앞부분이 이 비율(%) 미만으로 줄어야 전체를 압축한다 */
+    private static final int SAMPLE_RATIO_PERCENT = 90;
+    private static final String TEMP_PREFIX = "put-";
+
+    static final String INDEX_FILE = "packs.idx";
+    private static final String PUT = "P";
+    private static final String DELETE = "D";
+    private static final String DEFLATED = "Z";
+    private static final String STORED = "S";
+
+    @Value("${upload.local.dir}")
+    private String uploadDir;
+
+    /** 보관 디렉토리 (비우면 업로드 디렉토리 아래 archive) */
+    @Value("${leave.attachment.archive.dir:}")
+    private String archiveDir;
+
+    /** 팩 파일 하나의 최대 크기(MB), 넘으면 다음 팩으로 넘어간다 */
+    @Value("${leave.attachment.archive.pack-size-mb:256}")
+    private long packSizeMb;
+
+    private Path root;
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    /** 팩 추가와 색인 쓰기 잠금 */
+    private final Object appendLock = new Object();
+    private int currentPack = 1;
+
+    /**
+     * 보관 디렉토리를 만들고 색인을 읽는다.
+     */
+    @PostConstruct
+    void init() {
+        root = archiveDir == null || archiveDir.isBlank() ? Path.of(uploadDir, "archive") : Path.of(archiveDir);
+        try {
+            Files.createDirectories(root);
+            deleteTemps();
+            loadIndex();
+        } catch (IOException e) {
+            throw new FileErrorException("보관 저장소를 열 수 없습니다. " + root);
+        }
+        log.info("Pack archive opened. root={}, entries={}, currentPack={}", root, index.size(), currentPack);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return index.containsKey(key);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        Location location = index.get(key);
+        if (location == null) throw new NoSuchFileException(key);
+
+        FileChannel channel = FileChannel.open(packPath(location.pack), StandardOpenOption.READ);
+        InputStream raw = new RangeInputStream(channel, location.offset, location.storedLength);
+        return location.deflated ? new InflaterInputStream(raw, new Inflater(), BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inf.end();
+                }
+            }
+        } : raw;
+    }
+
+    /**
+     * 내용을 압축해(압축 이득이 있을 때만) 현재 팩 끝에 붙이고 색인에 남긴다.
+     * 압축은 임시 파일에 동시에 할 수 있고, 팩에 붙이는 복사와 색인 쓰기만 한 번에 하나씩 한다.
+     *
+     * @param key 저장소 키
+     * @param source 원본 파일
+     * @throws IOException 쓰기 실패
+     */
+    @Override
+    public void put(String key, Path source) throws IOException {
+        long length = Files.size(source);
+        Path deflated = compressible(source) ? deflateToTemp(source) : null;
+        try {
+            // 전체를 압축해 봐도 줄지 않았으면 원본 그대로
+            boolean useDeflated = deflated != null && Files.size(deflated) < length;
+            append(key, useDeflated ? deflated : source, length, useDeflated);
+        } finally {
+            if (deflated != null) Files.deleteIfExists(deflated);
+        }
+    }
+
+    /**
+     * 색인에 삭제 표시를 남긴다. 팩 안의 공간은 회수하지 않는다.
+     *
+     * @param key 저장소 키
+     * @throws IOException 색인 쓰기 실패
+     */
+    @Override
+    public void delete(String key) throws IOException {
+        synchronized (appendLock) {
+            if (index.containsKey(key)) {
+                appendIndex(DELETE + " " + key);
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 준비된 내용을 현재 팩 끝에 복사하고 색인에 남긴다. 팩이 최대 크기를 넘었으면 다음 팩으로 넘어간다.
+     *
+     * @param key 저장소 키
+     * @param content 팩에 넣을 내용 (압축본 또는 원본)
+     * @param length 원본 크기
+     * @param deflated 압축본이면 true
+     * @throws IOException 쓰기 실패
+     */
+    private void append(String key, Path content, long length, boolean deflated) throws IOException {
+        synchronized (appendLock) {
+            Path pack = packPath(currentPack);
+            if (Files.exists(pack) && Files.size(pack) >= packSizeMb * MB) {
+                pack = packPath(++currentPack);
+            }
+
+            try (FileChannel out = FileChannel.open(pack, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                long offset = out.size();
+                long stored = copy(content, out, offset);
+                out.force(false);
+
+                Location location = new Location(currentPack, offset, stored, length, deflated);
+                appendIndex(String.join(" ", PUT, key, String.valueOf(location.pack), String.valueOf(offset),
+                        String.valueOf(stored), String.valueOf(length), deflated ? DEFLATED : STORED));
+                index.put(key, location);
+            }
+        }
+    }
+
+    /**
+     * 앞부분을 빠르게 압축해 보고 전체 압축을 시도할 만한지 판단한다.
+     *
+     * @param source 원본 파일
+     * @return 앞부분이 충분히 줄면 true
+     * @throws IOException 읽기 실패
+     */
+    static boolean compressible(Path source) throws IOException {
+        byte[] sample;
+        try (InputStream in = Files.newInputStream(source)) {
+            sample = in.readNBytes(SAMPLE_SIZE);
+        }
+        if (sample.length == 0) return false;
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        byte[] output = new byte[BUFFER_SIZE];
+        long compressed = 0;
+        try {
+            deflater.setInput(sample);
+            deflater.finish();
+            while (!deflater.finished()) {
+                compressed += deflater.deflate(output);
+            }
+        } finally {
+            deflater.end();
+        }
+        return compressed * 100 < (long) sample.length * SAMPLE_RATIO_PERCENT;
+    }
+
+    /**
+     * 색인 파일을 처음부터 다시 적용한다. 마지막 줄이 끊겨 있으면(쓰기 도중 중단) 무시하고 줄바꿈을 보충한다.
+     *
+     * @throws IOException 읽기 실패
+     */
+    private void loadIndex() throws IOException {
+        try (DirectoryStream<Path> packs = Files.newDirectoryStream(root, "pack-*.pack")) {
+            for (Path pack : packs) {
+                String name = pack.getFileName().toString();
+                currentPack = Math.max(currentPack, Integer.parseInt(name.substring(5, name.length() - 5)));
+            }
+        }
+
+        Path file = root.resolve(INDEX_FILE);
+        if (!Files.exists(file)) return;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] f = line.split(" ");
+                if (f.length == 2 && DELETE.equals(f[0])) {
+                    index.remove(f[1]);
+                } else if (f.length == 7 && PUT.equals(f[0])) {
+                    index.put(f[1], new Location(Integer.parseInt(f[2]), Long.parseLong(f[3]),
+                            Long.parseLong(f[4]), Long.parseLong(f[5]), DEFLATED.equals(f[6])));
+                }
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            if (channel.size() > 0 && channel.read(last, channel.size() - 1) == 1 && last.get(0) != '\n') {
+                channel.write(ByteBuffer.wrap(new byte[]{'\n'}), channel.size());
+            }
+        }
+    }
+
+    /**
+     * 쓰기 도중 멈춰 남은 압축 임시 파일을 지운다.
+     *
+     * @throws IOException 삭제 실패
+     */
+    private void deleteTemps() throws IOException {
+        try (DirectoryStream<Path> temps = Files.newDirectoryStream(root, TEMP_PREFIX + "*.tmp")) {
+            for (Path temp : temps) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private void appendIndex(String line) throws IOException {
+        try (FileChannel channel = FileChannel.open(root.resolve(INDEX_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(false);
+        }
+    }
+
+    private Path packPath(int pack) {
+        return root.resolve(String.format("pack-%06d.pack", pack));
+    }
+
+    private Path deflateToTemp(Path source) throws IOException {
+        Path temp = Files.createTempFile(root, TEMP_PREFIX, ".tmp");
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        byte[] input = new byte[BUFFER_SIZE];
+        byte[] output = new byte[BUFFER_SIZE];
+        long position = 0;
+        try (InputStream in = Files.newInputStream(source);
+             FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            int n;
+            while ((n = in.read(input)) != -1) {
+                deflater.setInput(input, 0, n);
+                while (!deflater.needsInput()) {
+                    position += write(out, output, deflater.deflate(output), position);
+                }
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                position += write(out, output, deflater.deflate(output), position);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            deflater.end();
+        }
+        return temp;
+    }
+
+    private static long copy(Path content, FileChannel out, long offset) throws IOException {
+        try (FileChannel in = FileChannel.open(content, StandardOpenOption.READ)) {
+            long length = in.size();
+            long copied = 0;
+            while (copied < length) {
+                long n = out.transferFrom(in, offset + copied, length - copied);
+                if (n <= 0) throw new IOException("File truncated while archiving : " + content);
+                copied += n;
+            }
+            return copied;
+        }
+    }
+
+    private static int write(FileChannel out, byte[] buffer, int length, long position) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, length);
+        while (bytes.hasRemaining()) {
+            out.write(bytes, position + bytes.position());
+        }
+        return length;
+    }
+
+    /**
+     * 팩 안의 내용 위치.
+     */
+    private static final class Location {
+        final int pack;
+        final long offset;
+        final long storedLength;
+        final long length;
+        final boolean deflated;
+
+        Location(int pack, long offset, long storedLength, long length, boolean deflated) {
+            this.pack = pack;
+            this.offset = offset;
+            this.storedLength = storedLength;
+            this.length = length;
+            this.deflated = deflated;
+        }
+    }
+
+    /**
+     * 파일 채널의 일부 구간만 읽는 스트림. 닫으면 채널도 닫는다.
+     */
+    private static final class RangeInputStream extends InputStream {
+        private final FileChannel channel;
+        private long position;
+        private final long end;
+
+        RangeInputStream(FileChannel channel, long offset, long length) {
+            this.channel = channel;
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= end) return -1;
+            int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+            if (n == -1) throw new IOException("Pack truncated at " + position);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 첨부파일 정합성 점검 결과.
+ * 
+ * 훑어본 파일/행 수와 고아 파일(행 없는 파일), 끊긴 행(파일 없는 행) 수를 모은다.
+ * 경로 예시는 앞에서부터 일정 개수만 남겨 결과 크기가 대상 수에 비례하지 않게 한다.
+ * 
+ */
+@Getter
+public class ReconcileReport {
+
+    /** 경로 예시 최대 개수 */
+    static final int SAMPLE_LIMIT = 100;
+
+    private long filesScanned;
+    private long rowsScanned;
+    private long orphans;
+    private long quarantined;
+    private long dangling;
+    private final List<String> orphanSamples = new ArrayList<>();
+    private final List<String> danglingSamples = new ArrayList<>();
+
+    public void fileScanned() {
+        filesScanned++;
+    }
+
+    public void rowScanned() {
+        rowsScanned++;
+    }
+
+    /**
+     * 고아 파일을 기록한다.
+     *
+     * @param path 업로드 디렉토리 기준 상대 경로
+     * @param moved 격리했으면 true
+     */
+    public void orphan(String path, boolean moved) {
+        orphans++;
+        if (moved) quarantined++;
+        if (orphanSamples.size() < SAMPLE_LIMIT) orphanSamples.add(path);
+    }
+
+    /**
+     * 끊긴 행을 기록한다.
+     *
+     * @param path 업로드 디렉토리 기준 상대 경로
+     */
+    public void dangling(String path) {
+        dangling++;
+        if (danglingSamples.size() < SAMPLE_LIMIT) danglingSamples.add(path);
+    }
+}
@@ -0,0 +1,189 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * S3 호환 객체 저장소 기반 보관(cold) 저장소.
+ * 
+ * JDK {@link HttpClient}로 경로 형식({@code <endpoint>/<bucket>/<prefix><key>}) 요청을 보내고 SigV4로 서명한다.
+ * 업로드 본문은 파일에서 바로 스트리밍한다. 서명용 SHA-256은 호출한 쪽이 아는 내용 해시를 쓰고,
+ * 모를 때만 보내기 전에 한 번 읽어 계산한다.
+ * 
+ */
+@Component
+@ConditionalOnProperty(name = "leave.attachment.archive.type", havingValue = "s3")
+public class S3BlobStorage implements ArchiveBlobStorage {
+
+    /** 빈 본문 SHA-256 */
+    static final String EMPTY_SHA256 = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+
+    /** 엔드포인트 (예: https://s3.ap-northeast-2.amazonaws.com, http://minio:9000) */
+    @Value("${leave.attachment.archive.s3.endpoint}")
+    private String endpoint;
+
+    @Value("${leave.attachment.archive.s3.region:us-east-1}")
+    private String region;
+
+    @Value("${leave.attachment.archive.s3.bucket}")
+    private String bucket;
+
+    @Value("${leave.attachment.archive.s3.access-key}")
+    private String accessKey;
+
+    @Value("${leave.attachment.archive.s3.secret-key}")
+    private String secretKey;
+
+    /** 객체 키 접두사 */
+    @Value("${leave.attachment.archive.s3.prefix:attachments/}")
+    private String prefix;
+
+    private HttpClient client;
+    private SigV4Signer signer;
+
+    /**
+     * HTTP 클라이언트와 서명기를 준비한다.
+     */
+    @PostConstruct
+    void init() {
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        signer = new SigV4Signer(accessKey, secretKey, region, "s3");
+        if (endpoint.endsWith("/")) endpoint = endpoint.substring(0, endpoint.length() - 1);
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        int status = send(request("HEAD", key, EMPTY_SHA256, HttpRequest.BodyPublishers.noBody()),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status == 404) return false;
+        if (status != 200) throw new IOException("S3 HEAD failed : " + status + " " + key);
+        return true;
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        HttpResponse<InputStream> response = send(request("GET", key, EMPTY_SHA256, HttpRequest.BodyPublishers.noBody()),
+                HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() == 200) return response.body();
+
+        response.body().close();
+        if (response.statusCode() == 404) throw new NoSuchFileException(key);
+        throw new IOException("S3 GET failed : " + response.statusCode() + " " + key);
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        put(key, source, sha256Hex(source));
+    }
+
+    @Override
+    public void put(String key, Path source, String sha256) throws IOException {
+        HttpRequest request = request("PUT", key, sha256, HttpRequest.BodyPublishers.ofFile(source));
+        int status = send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) throw new IOException("S3 PUT failed : " + status + " " + key);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        int status = send(request("DELETE", key, EMPTY_SHA256, HttpRequest.BodyPublishers.noBody()),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 204 && status != 200 && status != 404) {
+            throw new IOException("S3 DELETE failed : " + status + " " + key);
+        }
+    }
+
+    /**
+     * 서명된 요청을 만든다. host, x-amz-content-sha256, x-amz-date 헤더에 서명한다.
+     *
+     * @param method HTTP 메서드
+     * @param key 저장소 키
+     * @param payloadHash 본문 SHA-256 (hex)
+     * @param body 본문
+     * @return 요청
+     */
+    HttpRequest request(String method, String key, String payloadHash, HttpRequest.BodyPublisher body) {
+        URI uri = URI.create(endpoint + "/" + bucket + "/" + prefix + key);
+        String amzDate = SigV4Signer.amzDate(Instant.now());
+
+        SortedMap<String, String> headers = new TreeMap<>();
+        headers.put("host", hostOf(uri));
+        headers.put("x-amz-content-sha256", payloadHash);
+        headers.put("x-amz-date", amzDate);
+        String authorization = signer.authorization(method, uri.getRawPath(), "", headers, payloadHash);
+
+        return HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .method(method, body)
+                .header("x-amz-content-sha256", payloadHash)
+                .header("x-amz-date", amzDate)
+                .header("Authorization", authorization)
+                .build();
+    }
+
+    /**
+     * HttpClient가 보내는 Host 헤더와 같은 값을 만든다. 기본 포트가 아니면 포트를 붙인다.
+     *
+     * @param uri 요청 URI
+     * @return Host 헤더 값
+     */
+    static String hostOf(URI uri) {
+        int port = uri.getPort();
+        boolean defaultPort = port == -1
+                || ("https".equals(uri.getScheme()) && port == 443)
+                || ("http".equals(uri.getScheme()) && port == 80);
+        return defaultPort ? uri.getHost() : uri.getHost() + ":" + port;
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws IOException {
+        try {
+            return client.send(request, handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 request interrupted : " + request.uri(), e);
+        }
+    }
+
+    private static String sha256Hex(Path source) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
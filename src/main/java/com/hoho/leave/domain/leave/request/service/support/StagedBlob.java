@@ -0,0 +1,47 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * 임시 저장된 첨부파일 내용.
+ * 
+ * 업로드 스트림을 임시 파일로 복사하면서 계산한 해시와 크기를 담는다.
+ * blob 저장소로 옮기거나(promote) 버린다(discard).
+ * 
+ */
+@Getter
+public class StagedBlob {
+
+    private final Path tempPath;
+    private final String sha256;
+    private final long sizeBytes;
+
+    private StagedBlob(Path tempPath, String sha256, long sizeBytes) {
+        this.tempPath = tempPath;
+        this.sha256 = sha256;
+        this.sizeBytes = sizeBytes;
+    }
+
+    /**
+     * 임시 저장 결과를 생성한다.
+     *
+     * @param tempPath 임시 파일 경로
+     * @param sha256 내용 SHA-256 (hex)
+     * @param sizeBytes 크기 (bytes)
+     * @return 임시 저장된 첨부파일 내용
+     */
+    public static StagedBlob of(Path tempPath, String sha256, long sizeBytes) {
+        return new StagedBlob(tempPath, sha256, sizeBytes);
+    }
+
+    /**
+     * 내용 해시로 정해지는 저장소 키를 반환한다. (앞 2바이트로 두 단계 샤딩)
+     *
+     * @return 저장소 키 (예: ab/cd/abcd...)
+     */
+    public String getStorageKey() {
+        return ContentAddressedStore.keyOf(sha256);
+    }
+}
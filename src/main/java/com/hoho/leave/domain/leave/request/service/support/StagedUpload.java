@@ -0,0 +1,47 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import lombok.Getter;
+
+/**
+ * 임시 저장까지 끝난 업로드 파일.
+ * 
+ * 메타데이터 등록 트랜잭션에 넘길 파일명/타입과 임시 저장된 내용을 담는다.
+ * 타입과 이미지 크기/페이지 수는 저장하면서 검사한 실제 내용 기준이다.
+ * 
+ */
+@Getter
+public class StagedUpload {
+
+    private final String originalName;
+    private final String storeName;
+    private final String contentType;
+    private final StagedBlob blob;
+    private final Integer imageWidth;
+    private final Integer imageHeight;
+    private final Integer pageCount;
+
+    private StagedUpload(String originalName, String storeName, String contentType, StagedBlob blob,
+                         Integer imageWidth, Integer imageHeight, Integer pageCount) {
+        this.originalName = originalName;
+        this.storeName = storeName;
+        this.contentType = contentType;
+        this.blob = blob;
+        this.imageWidth = imageWidth;
+        this.imageHeight = imageHeight;
+        this.pageCount = pageCount;
+    }
+
+    /**
+     * 검사를 마친 임시 저장 파일로 업로드 파일을 생성한다.
+     *
+     * @param originalName 원본 파일명
+     * @param storeName 저장 파일명
+     * @param blob 임시 저장된 내용
+     * @param inspection 내용 검사 결과
+     * @return 임시 저장된 업로드 파일
+     */
+    public static StagedUpload of(String originalName, String storeName, StagedBlob blob, ContentInspector inspection) {
+        return new StagedUpload(originalName, storeName, inspection.getContentType(), blob,
+                inspection.getWidth(), inspection.getHeight(), inspection.getPageCount());
+    }
+}
@@ -0,0 +1,186 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 썸네일 디스크 캐시.
+ * 
+ * 썸네일은 원본 옆에 {@code <원본 파일명>.thumb2.jpg}로 둔다. (공유 blob이면 썸네일도 공유된다)
+ * EXIF 방향을 적용하기 전에 만든 {@code .thumb.jpg}는 재시작 색인 때 지우고 다시 만들게 한다.
+ * 전체 크기가 예산을 넘으면 가장 오래 조회되지 않은 썸네일부터 지운다.
+ * 조회 순서는 메모리에만 두고, 재시작 시에는 파일 수정 시각 순서로 다시 채운다.
+ * 
+ */
+@Slf4j
+@Component
+public class ThumbnailCache {
+
+    /** 썸네일 파일 접미사 */
+    public static final String SUFFIX = ".thumb2.jpg";
+
+    /** EXIF 방향 적용 전 썸네일 파일 접미사 */
+    static final String LEGACY_SUFFIX = ".thumb.jpg";
+
+    /** 썸네일 전체 예산(MB) */
+    @Value("${leave.attachment.thumbnail.cache-budget-mb:512}")
+    private long budgetMb;
+
+    @Value("${upload.local.dir}")
+    private String uploadDir;
+
+    /** 썸네일 경로 → 크기, 접근 순서 (가장 오래된 것이 앞) */
+    private final LinkedHashMap<Path, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * 원본의 썸네일 경로를 반환한다.
+     *
+     * @param original 원본 파일 경로
+     * @return 썸네일 경로
+     */
+    public static Path pathOf(Path original) {
+        return original.resolveSibling(original.getFileName() + SUFFIX);
+    }
+
+    /**
+     * 썸네일 파일인지 확인한다. 지우기 전의 이전 형식 썸네일도 포함한다.
+     *
+     * @param path 파일 경로
+     * @return 썸네일이면 true
+     */
+    public static boolean isThumbnail(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(SUFFIX) || name.endsWith(LEGACY_SUFFIX);
+    }
+
+    /**
+     * 썸네일이 있으면 최근 사용으로 표시한다.
+     *
+     * @param thumbnail 썸네일 경로
+     * @return 썸네일이 있으면 true
+     */
+    public boolean touch(Path thumbnail) {
+        synchronized (this) {
+            if (entries.get(thumbnail) != null) return true;
+        }
+        // 색인 전(재시작 직후)에 이미 있던 파일
+        try {
+            add(thumbnail, Files.size(thumbnail));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 새로 만든 썸네일을 등록하고, 예산을 넘으면 오래된 썸네일을 지운다.
+     *
+     * @param thumbnail 썸네일 경로
+     * @param sizeBytes 썸네일 크기 (bytes)
+     */
+    public void add(Path thumbnail, long sizeBytes) {
+        List<Path> evicted;
+        synchronized (this) {
+            Long previous = entries.put(thumbnail, sizeBytes);
+            totalBytes += sizeBytes - (previous == null ? 0 : previous);
+            evicted = evictOverBudget();
+        }
+        evicted.forEach(ThumbnailCache::deleteQuietly);
+    }
+
+    /**
+     * 원본이 지워질 때 썸네일도 지운다.
+     *
+     * @param original 원본 파일 경로
+     */
+    public void remove(Path original) {
+        Path thumbnail = pathOf(original);
+        synchronized (this) {
+            Long size = entries.remove(thumbnail);
+            if (size != null) totalBytes -= size;
+        }
+        deleteQuietly(thumbnail);
+    }
+
+    /**
+     * 디스크의 썸네일을 수정 시각 순서로 색인한다. 시작 시 백그라운드에서 한 번 호출한다.
+     * 이전 형식 썸네일은 색인하지 않고 지운다.
+     *
+     * @throws IOException 디렉토리 조회 실패
+     */
+    public void load() throws IOException {
+        List<Map.Entry<Path, BasicFileAttributes>> found = new ArrayList<>();
+        int legacy = 0;
+        try (Stream<Path> walk = Files.walk(Path.of(uploadDir))) {
+            Iterator<Path> it = walk.filter(ThumbnailCache::isThumbnail).iterator();
+            while (it.hasNext()) {
+                Path path = it.next();
+                if (path.getFileName().toString().endsWith(LEGACY_SUFFIX)) {
+                    deleteQuietly(path);
+                    legacy++;
+                    continue;
+                }
+                try {
+                    found.add(Map.entry(path, Files.readAttributes(path, BasicFileAttributes.class)));
+                } catch (IOException ignored) {
+                    // 그 사이 지워짐
+                }
+            }
+        }
+        found.sort(Comparator.comparing(e -> e.getValue().lastModifiedTime()));
+
+        List<Path> evicted;
+        synchronized (this) {
+            // 색인하는 동안 조회/생성된 썸네일은 가장 최근 순서로 둔다
+            LinkedHashMap<Path, Long> recent = new LinkedHashMap<>(entries);
+            entries.clear();
+            found.forEach(e -> entries.put(e.getKey(), e.getValue().size()));
+            entries.putAll(recent);     // 접근 순서 맵이라 이미 있던 키도 뒤로 옮겨진다
+            totalBytes = entries.values().stream().mapToLong(Long::longValue).sum();
+            evicted = evictOverBudget();
+        }
+        evicted.forEach(ThumbnailCache::deleteQuietly);
+        log.info("Thumbnail cache loaded. count={}, bytes={}, evicted={}, legacy={}",
+                found.size(), totalBytes, evicted.size(), legacy);
+    }
+
+    /**
+     * 예산을 넘는 만큼 가장 오래 조회되지 않은 썸네일을 색인에서 뺀다. 가장 최근 하나는 남긴다.
+     *
+     * @return 지울 썸네일 목록 (잠금 밖에서 지운다)
+     */
+    private List<Path> evictOverBudget() {
+        List<Path> evicted = new ArrayList<>();
+        long budget = budgetMb * 1024 * 1024;
+        Iterator<Map.Entry<Path, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > budget && entries.size() > 1 && eldest.hasNext()) {
+            Map.Entry<Path, Long> entry = eldest.next();
+            totalBytes -= entry.getValue();
+            evicted.add(entry.getKey());
+            eldest.remove();
+        }
+        return evicted;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Thumbnail delete failed. path={}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+
+/**
+ * 이미지 썸네일 생성기.
+ * 
+ * 원본의 긴 변을 설정 크기 이하로 줄이고 EXIF 방향을 적용한 JPEG를 만든다. (축소는 {@link ImageResampling})
+ * 투명 배경(PNG)은 흰색으로 채운다.
+ * 
+ */
+@Component
+public class ThumbnailGenerator {
+
+    /** 썸네일을 만들 수 있는 MIME 타입 */
+    private static final Set<String> SUPPORTED = Set.of("image/jpeg", "image/png");
+
+    /** 썸네일 긴 변 최대 크기(px) */
+    @Value("${leave.attachment.thumbnail.max-edge:320}")
+    private int maxEdge;
+
+    /** 썸네일 JPEG 품질 (0~1) */
+    @Value("${leave.attachment.thumbnail.quality:0.8}")
+    private float quality;
+
+    /**
+     * 썸네일을 만들 수 있는 형식인지 확인한다.
+     *
+     * @param contentType MIME 타입
+     * @return 지원하면 true
+     */
+    public static boolean supports(String contentType) {
+        return contentType != null && SUPPORTED.contains(contentType);
+    }
+
+    /**
+     * 원본 이미지로 썸네일을 만든다. 임시 파일에 쓴 뒤 원자적으로 옮기므로 읽는 쪽은 완성된 파일만 본다.
+     *
+     * @param source 원본 이미지
+     * @param target 썸네일 경로
+     * @return 썸네일 크기 (bytes)
+     * @throws IOException 읽을 수 없는 이미지이거나 쓰기 실패
+     */
+    public long generate(Path source, Path target) throws IOException {
+        ImageResampling.Decoded decoded = ImageResampling.read(source, maxEdge);
+        BufferedImage thumbnail = ImageResampling.scale(decoded.image, maxEdge, BufferedImage.TYPE_INT_RGB, Color.WHITE);
+        thumbnail = ImageResampling.orient(thumbnail, decoded.orientation);
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            write(thumbnail, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return Files.size(target);
+    }
+
+    private void write(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (OutputStream out = Files.newOutputStream(target);
+             MemoryCacheImageOutputStream imageOut = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.domain.leave.request.entity.StorageTier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * 계층형 첨부파일 저장소.
+ * 
+ * 로컬 디스크({@link ContentAddressedStore})를 hot 계층, {@link ArchiveBlobStorage}를 cold 계층으로 쓴다.
+ * 보관된 내용을 읽을 때 로컬 사본이 없으면 보관 저장소에서 받아 해시를 확인한 뒤 로컬에 되살린다.
+ * 되살린 사본은 수정 시각이 갱신되므로 보관 작업이 로컬 캐시 기간 동안 지우지 않는다.
+ * 
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TieredBlobStore {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ContentAddressedStore localStore;
+    private final ArchiveBlobStorage archiveStorage;
+
+    private final Object[] locks = newLocks();
+
+    /**
+     * 로컬 파일 경로를 반환한다. 보관된 내용이고 로컬 사본이 없으면 먼저 되살린다.
+     * 같은 키를 동시에 되살리지 않도록 키별로 잠근다.
+     *
+     * @param key 저장소 키
+     * @param tier 저장 계층
+     * @return 로컬 파일 경로
+     * @throws NoSuchFileException 어느 계층에도 내용이 없는 경우
+     * @throws IOException 보관 저장소 접근 실패 또는 내용 손상
+     */
+    public Path ensureLocal(String key, StorageTier tier) throws IOException {
+        Path local = localStore.resolve(key);
+        if (tier != StorageTier.ARCHIVE || Files.exists(local)) return local;
+
+        synchronized (lockOf(key)) {
+            if (Files.exists(local)) return local;
+
+            StagedBlob staged;
+            try (InputStream in = archiveStorage.open(key)) {
+                staged = localStore.stage(in);
+            }
+            if (!key.endsWith(staged.getSha256())) {
+                localStore.discard(staged);
+                throw new IOException("Archived blob corrupted : " + key);
+            }
+            localStore.promote(staged);
+            log.info("Attachment blob restored from archive. key={}, size={}", key, staged.getSizeBytes());
+            return local;
+        }
+    }
+
+    /**
+     * 로컬 내용을 보관 저장소에 넣는다. 로컬 사본은 그대로 둔다.
+     *
+     * @param key 저장소 키
+     * @param sha256 내용 SHA-256 (hex)
+     * @throws IOException 읽기/저장 실패
+     */
+    public void archive(String key, String sha256) throws IOException {
+        archiveStorage.put(key, localStore.resolve(key), sha256);
+    }
+
+    /**
+     * 보관 저장소의 내용을 지운다.
+     *
+     * @param key 저장소 키
+     * @throws IOException 저장소 접근 실패
+     */
+    public void deleteArchived(String key) throws IOException {
+        archiveStorage.delete(key);
+    }
+
+    /**
+     * 보관된 내용의 로컬 사본을 지운다. 기준 시각 이후에 만들어졌거나 되살린 사본은 남긴다.
+     *
+     * @param key 저장소 키
+     * @param keepAfter 이 시각 이후에 수정된 사본은 남긴다
+     * @return 지웠으면 true
+     * @throws IOException 삭제 실패
+     */
+    public boolean evictLocal(String key, Instant keepAfter) throws IOException {
+        Path local = localStore.resolve(key);
+        synchronized (lockOf(key)) {
+            try {
+                if (Files.getLastModifiedTime(local).toInstant().isAfter(keepAfter)) return false;
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+            return Files.deleteIfExists(local);
+        }
+    }
+
+    private Object lockOf(String key) {
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static Object[] newLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new Object();
+        return locks;
+    }
+}
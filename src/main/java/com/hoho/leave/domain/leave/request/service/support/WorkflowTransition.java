@@ -0,0 +1,76 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestStatus;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.ApprovalDecisionRow;
+import lombok.Getter;
+
+/**
+ * 결재 처리에 따른 결재선 진행 결과.
+ * 
+ * 처리된 결재 단계와 그 결과로 결정된 휴가 신청 상태, 새로 활성화된 다음 결재자를 담는다.
+ * 
+ */
+@Getter
+public class WorkflowTransition {
+
+    private final Long approvalId;
+
+    private final Long leaveRequestId;
+
+    private final Long applicantId;
+
+    private final Integer stepNo;
+
+    private final ApprovalStatus decision;
+
+    /** 처리 후 휴가 신청 상태 (다음 단계가 남아 있으면 PENDING) */
+    private final LeaveRequestStatus requestStatus;
+
+    /** 새로 활성화된 다음 단계 결재자 ID (없으면 null) */
+    private final Long nextApproverId;
+
+    private WorkflowTransition(ApprovalDecisionRow row, ApprovalStatus decision,
+                               LeaveRequestStatus requestStatus, Long nextApproverId) {
+        this.approvalId = row.getApprovalId();
+        this.leaveRequestId = row.getLeaveRequestId();
+        this.applicantId = row.getApplicantId();
+        this.stepNo = row.getStepNo();
+        this.decision = decision;
+        this.requestStatus = requestStatus;
+        this.nextApproverId = nextApproverId;
+    }
+
+    /**
+     * 다음 단계로 넘어간 결과를 생성한다.
+     *
+     * @param row 처리된 결재 정보
+     * @param nextApproverId 다음 단계 결재자 ID
+     * @return 결재선 진행 결과
+     */
+    public static WorkflowTransition advanced(ApprovalDecisionRow row, Long nextApproverId) {
+        return new WorkflowTransition(row, ApprovalStatus.APPROVED, LeaveRequestStatus.PENDING, nextApproverId);
+    }
+
+    /**
+     * 휴가 신청이 종료된 결과를 생성한다.
+     *
+     * @param row 처리된 결재 정보
+     * @param decision 결재 상태
+     * @param requestStatus 종료된 휴가 신청 상태
+     * @return 결재선 진행 결과
+     */
+    public static WorkflowTransition closed(ApprovalDecisionRow row, ApprovalStatus decision,
+                                            LeaveRequestStatus requestStatus) {
+        return new WorkflowTransition(row, decision, requestStatus, null);
+    }
+
+    /**
+     * 휴가 신청이 최종 상태로 종료되었는지 확인한다.
+     *
+     * @return 종료 여부
+     */
+    public boolean isRequestClosed() {
+        return requestStatus != LeaveRequestStatus.PENDING;
+    }
+}
@@ -10,6 +10,12 @@ public enum NotificationType {
     /** 휴가 승인 요청 알림 */
     LEAVE_APPROVAL_REQUESTED,
 
+    /** 결재 기한 경과 알림 */
+    LEAVE_APPROVAL_REMINDER,
+
+    /** 결재 지연 에스컬레이션 알림 */
+    LEAVE_APPROVAL_ESCALATED,
+
     /** 휴가 상태 변경 알림 */
     LEAVE_STATUS_CHANGED,
 
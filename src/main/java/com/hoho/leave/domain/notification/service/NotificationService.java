@@ -51,6 +51,16 @@ public class NotificationService {
         recipients.forEach(u -> createNotification(u, type, content));
     }
 
+    /**
+     * 여러 알림을 한 번에 저장한다.
+     *
+     * @param notifications 저장할 알림 목록
+     */
+    public void createNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) return;
+        notificationRepository.saveAll(notifications);
+    }
+
     /**
      * 특정 알림을 읽음 처리한다.
      *
@@ -0,0 +1,232 @@
+package com.hoho.leave.domain.shared;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 휴가 일수 값 타입.
+ * 
+ * 0.01일 단위의 long 값으로 보관하는 불변 고정소수점 타입이다.
+ * DB의 DECIMAL(_, 2) 컬럼과 1:1로 대응하며, 덧셈/뺄셈/정수배는 반올림 없이 정확하다.
+ * 자주 쓰이는 값(0.25일 배수, ±100일 이내)은 미리 만들어 둔 인스턴스를 재사용한다.
+ * JSON으로는 소수 둘째 자리까지의 숫자(예: 1.50)로 직렬화된다.
+ * 
+ */
+public final class DayQuantity implements Comparable<DayQuantity> {
+
+    /** 1일의 내부 단위 수 */
+    private static final long PER_DAY = 100;
+    /** 반차(0.5일)의 내부 단위 수 */
+    private static final long PER_HALF_DAY = 50;
+    /** 2시간(8시간 근무 기준 0.25일)의 내부 단위 수 */
+    private static final long PER_TWO_HOURS = 25;
+
+    /** 재사용 인스턴스 범위 (±100일, 0.25일 배수) */
+    private static final long CACHE_LIMIT = 100 * PER_DAY;
+    private static final DayQuantity[] CACHE = new DayQuantity[(int) (2 * CACHE_LIMIT / PER_TWO_HOURS) + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new DayQuantity(i * PER_TWO_HOURS - CACHE_LIMIT);
+        }
+    }
+
+    public static final DayQuantity ZERO = ofHundredths(0);
+    public static final DayQuantity TWO_HOURS = ofHundredths(PER_TWO_HOURS);
+    public static final DayQuantity HALF_DAY = ofHundredths(PER_HALF_DAY);
+    public static final DayQuantity ONE_DAY = ofHundredths(PER_DAY);
+
+    private final long hundredths;
+
+    private DayQuantity(long hundredths) {
+        this.hundredths = hundredths;
+    }
+
+    /**
+     * 0.01일 단위 값으로 생성한다.
+     *
+     * @param hundredths 0.01일 단위 값
+     * @return 휴가 일수
+     */
+    public static DayQuantity ofHundredths(long hundredths) {
+        if (hundredths % PER_TWO_HOURS == 0 && hundredths >= -CACHE_LIMIT && hundredths <= CACHE_LIMIT) {
+            return CACHE[(int) ((hundredths + CACHE_LIMIT) / PER_TWO_HOURS)];
+        }
+        return new DayQuantity(hundredths);
+    }
+
+    /**
+     * 일 단위 정수로 생성한다.
+     *
+     * @param days 일수
+     * @return 휴가 일수
+     */
+    public static DayQuantity ofDays(long days) {
+        return ofHundredths(Math.multiplyExact(days, PER_DAY));
+    }
+
+    /**
+     * 반차 횟수로 생성한다.
+     *
+     * @param halfDays 반차 횟수
+     * @return 휴가 일수
+     */
+    public static DayQuantity ofHalfDays(long halfDays) {
+        return ofHundredths(Math.multiplyExact(halfDays, PER_HALF_DAY));
+    }
+
+    /**
+     * 2시간 단위 횟수로 생성한다.
+     *
+     * @param units 2시간 단위 횟수
+     * @return 휴가 일수
+     */
+    public static DayQuantity ofTwoHourUnits(long units) {
+        return ofHundredths(Math.multiplyExact(units, PER_TWO_HOURS));
+    }
+
+    /**
+     * BigDecimal 값으로 생성한다. 소수 셋째 자리 이하가 있으면 예외가 발생한다.
+     *
+     * @param days 일수 (null 허용)
+     * @return 휴가 일수 (입력이 null이면 null)
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static DayQuantity of(BigDecimal days) {
+        if (days == null) return null;
+        try {
+            return ofHundredths(days.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("휴가 일수는 소수 둘째 자리까지만 허용됩니다: " + days, e);
+        }
+    }
+
+    /**
+     * 더한 값을 반환한다.
+     *
+     * @param other 더할 일수
+     * @return 합계
+     */
+    public DayQuantity plus(DayQuantity other) {
+        return ofHundredths(Math.addExact(hundredths, other.hundredths));
+    }
+
+    /**
+     * 뺀 값을 반환한다.
+     *
+     * @param other 뺄 일수
+     * @return 차이
+     */
+    public DayQuantity minus(DayQuantity other) {
+        return ofHundredths(Math.subtractExact(hundredths, other.hundredths));
+    }
+
+    /**
+     * 정수배한 값을 반환한다.
+     *
+     * @param multiplier 배수
+     * @return 곱
+     */
+    public DayQuantity times(long multiplier) {
+        return ofHundredths(Math.multiplyExact(hundredths, multiplier));
+    }
+
+    /**
+     * 부호를 바꾼 값을 반환한다.
+     *
+     * @return 부호가 바뀐 일수
+     */
+    public DayQuantity negate() {
+        return ofHundredths(Math.negateExact(hundredths));
+    }
+
+    /**
+     * 단위의 정수배인지 확인한다. (예: 반차 단위, 2시간 단위 신청 검증)
+     *
+     * @param unit 단위 일수
+     * @return 정수배면 true
+     */
+    public boolean isMultipleOf(DayQuantity unit) {
+        return unit.hundredths != 0 && hundredths % unit.hundredths == 0;
+    }
+
+    /**
+     * 부호를 반환한다.
+     *
+     * @return 음수면 -1, 0이면 0, 양수면 1
+     */
+    public int signum() {
+        return Long.signum(hundredths);
+    }
+
+    /**
+     * 음수인지 확인한다.
+     *
+     * @return 음수면 true
+     */
+    public boolean isNegative() {
+        return hundredths < 0;
+    }
+
+    /**
+     * 다른 일수보다 작은지 확인한다.
+     *
+     * @param other 비교할 일수
+     * @return 작으면 true
+     */
+    public boolean isLessThan(DayQuantity other) {
+        return hundredths < other.hundredths;
+    }
+
+    /**
+     * 0.01일 단위 값을 반환한다.
+     *
+     * @return 0.01일 단위 값
+     */
+    public long toHundredths() {
+        return hundredths;
+    }
+
+    /**
+     * 소수 둘째 자리 BigDecimal로 변환한다.
+     *
+     * @return 일수
+     */
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(hundredths, 2);
+    }
+
+    /**
+     * 불필요한 0을 뺀 문자열로 변환한다. (예: 15, 0.5, 1.25)
+     *
+     * @return 일수 문자열
+     */
+    public String toPlainString() {
+        if (hundredths % PER_DAY == 0) return Long.toString(hundredths / PER_DAY);
+        return toBigDecimal().stripTrailingZeros().toPlainString();
+    }
+
+    @Override
+    public int compareTo(DayQuantity other) {
+        return Long.compare(hundredths, other.hundredths);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof DayQuantity other && hundredths == other.hundredths);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hundredths);
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString();
+    }
+}
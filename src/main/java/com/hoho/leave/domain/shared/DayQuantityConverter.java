@@ -0,0 +1,26 @@
+package com.hoho.leave.domain.shared;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * 휴가 일수 JPA 변환기.
+ * 
+ * {@link DayQuantity} 필드를 DECIMAL(_, 2) 컬럼과 상호 변환한다.
+ * 
+ */
+@Converter(autoApply = true)
+public class DayQuantityConverter implements AttributeConverter<DayQuantity, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(DayQuantity attribute) {
+        return attribute == null ? null : attribute.toBigDecimal();
+    }
+
+    @Override
+    public DayQuantity convertToEntityAttribute(BigDecimal dbData) {
+        return DayQuantity.of(dbData);
+    }
+}
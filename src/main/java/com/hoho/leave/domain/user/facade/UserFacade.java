@@ -51,7 +51,7 @@ public class UserFacade {
         leaveLedgerService.createUserLeaveLedger(LedgerRecord.of(
                 leaves,
                 LocalDateTime.now(),
-                "+" + request.getBalanceDays(),
+                leaves.getBalanceDays(),
                 ReasonCode.MIGRATION_OPENING_BALANCE,
                 "유저생성에 의한 초기 휴가설정"
         ));
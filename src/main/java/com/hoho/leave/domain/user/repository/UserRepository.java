@@ -1,6 +1,7 @@
 package com.hoho.leave.domain.user.repository;
 
 import com.hoho.leave.domain.user.entity.User;
+import com.hoho.leave.domain.user.entity.UserRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -97,4 +98,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("select u from User u where u.id = :userId")
     Optional<User> findByIdWithOrg(Long userId);
 
+    /**
+     * 권한별 활성 사용자 목록을 조회한다.
+     *
+     * @param role 사용자 권한
+     * @return 사용자 목록
+     */
+    List<User> findByRoleAndActiveTrue(UserRole role);
+
 }
@@ -13,6 +13,7 @@ import com.hoho.leave.domain.user.dto.request.UserUpdateRequest;
 import com.hoho.leave.domain.user.dto.response.UserDetailResponse;
 import com.hoho.leave.domain.user.dto.response.UserListResponse;
 import com.hoho.leave.domain.user.entity.User;
+import com.hoho.leave.domain.user.entity.UserRole;
 import com.hoho.leave.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -134,6 +135,16 @@ public class UserService {
         return userRepository.findAllById(userIds);
     }
 
+    /**
+     * 권한별 활성 사용자 엔티티 목록을 조회한다.
+     *
+     * @param role 사용자 권한
+     * @return 사용자 엔티티 목록
+     */
+    public List<User> getActiveUserEntitiesByRole(UserRole role) {
+        return userRepository.findByRoleAndActiveTrue(role);
+    }
+
     /**
      * 페이지 정보를 생성한다.
      *
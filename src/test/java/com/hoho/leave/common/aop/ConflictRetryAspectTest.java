@@ -0,0 +1,130 @@
+package com.hoho.leave.common.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConflictRetryAspect 테스트")
+class ConflictRetryAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictRetryAspect aspect;
+    private RetryOnConflict retry;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new ConflictRetryAspect(meterRegistry);
+        retry = Policy.class.getDeclaredMethod("approve").getAnnotation(RetryOnConflict.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        Thread.interrupted();
+    }
+
+    @Test
+    @DisplayName("낙관적 잠금 충돌 후 재시도가 성공하면 결과를 돌려주고 재시도 메트릭을 남긴다")
+    void retriesThenSucceeds() throws Throwable {
+        given(joinPoint.proceed())
+                .willThrow(new OptimisticLockingFailureException("stale"))
+                .willReturn("ok");
+
+        assertThat(aspect.retryOnConflict(joinPoint, retry)).isEqualTo("ok");
+
+        verify(joinPoint, times(2)).proceed();
+        assertThat(count("optimistic", "retried")).isEqualTo(1.0);
+        assertThat(count("optimistic", "exhausted")).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 마지막 충돌 예외를 그대로 던지고 소진 메트릭을 남긴다")
+    void rethrowsWhenExhausted() throws Throwable {
+        CannotAcquireLockException deadlock = new CannotAcquireLockException("deadlock",
+                new SQLException("Deadlock found", "40001", 1213));
+        given(joinPoint.proceed()).willThrow(deadlock);
+
+        assertThatThrownBy(() -> aspect.retryOnConflict(joinPoint, retry)).isSameAs(deadlock);
+
+        verify(joinPoint, times(3)).proceed();
+        assertThat(count("deadlock", "retried")).isEqualTo(2.0);
+        assertThat(count("deadlock", "exhausted")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("잠금 대기 시간 초과는 lock_wait로 분류한다")
+    void classifiesLockWaitTimeout() throws Throwable {
+        given(joinPoint.proceed())
+                .willThrow(new CannotAcquireLockException("timeout", new SQLException("Lock wait timeout", "HY000", 1205)))
+                .willReturn("ok");
+
+        aspect.retryOnConflict(joinPoint, retry);
+
+        assertThat(count("lock_wait", "retried")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 트랜잭션에 참여 중이면 재시도하지 않고 예외를 그대로 넘긴다")
+    void passesThroughInsideTransaction() throws Throwable {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        OptimisticLockingFailureException conflict = new OptimisticLockingFailureException("stale");
+        given(joinPoint.proceed()).willThrow(conflict);
+
+        assertThatThrownBy(() -> aspect.retryOnConflict(joinPoint, retry)).isSameAs(conflict);
+
+        verify(joinPoint, times(1)).proceed();
+        assertThat(meterRegistry.find("leave.concurrency.conflicts").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("백오프 중 인터럽트되면 인터럽트 상태를 남기고 원래 충돌 예외를 던진다")
+    void stopsWhenInterrupted() throws Throwable {
+        OptimisticLockingFailureException conflict = new OptimisticLockingFailureException("stale");
+        given(joinPoint.proceed()).willThrow(conflict);
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> aspect.retryOnConflict(joinPoint, retry)).isSameAs(conflict);
+
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        verify(joinPoint, times(1)).proceed();
+    }
+
+    private double count(String cause, String outcome) {
+        Counter counter = meterRegistry.find("leave.concurrency.conflicts")
+                .tags("operation", "approve", "cause", cause, "outcome", outcome)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    /**
+     * 테스트용 재시도 정책 선언.
+     */
+    private static final class Policy {
+        @RetryOnConflict(operation = "approve", maxAttempts = 3, backoffMillis = 1, maxBackoffMillis = 5)
+        void approve() {
+        }
+    }
+}
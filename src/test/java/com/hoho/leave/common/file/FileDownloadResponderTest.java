@@ -0,0 +1,153 @@
+package com.hoho.leave.common.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileDownloadResponder 테스트")
+class FileDownloadResponderTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+    private static final long LAST_MODIFIED = 1_760_000_000_000L;
+    private static final String ETAG = "\"3f2a\"";
+
+    private final FileDownloadResponder responder = new FileDownloadResponder();
+
+    @TempDir
+    Path dir;
+
+    private FileDownload file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path path = Files.writeString(dir.resolve("a.pdf"), CONTENT);
+        file = FileDownload.of(path, CONTENT.length(), LAST_MODIFIED, ETAG, MediaType.APPLICATION_PDF);
+    }
+
+    @Test
+    @DisplayName("Range가 없으면 전체 파일을 검증자 헤더와 함께 보낸다")
+    void fullContent() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = responder.respond(file, get());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(CONTENT.length());
+        assertThat(response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(body(response)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 일치하면 본문 없이 304를 보낸다")
+    void notModifiedByETag() {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + ETAG);
+
+        ResponseEntity<StreamingResponseBody> response = responder.respond(file, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since가 수정 시각 이후면 304를 보낸다")
+    void notModifiedBySince() {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED);
+
+        assertThat(responder.respond(file, request).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("단일 구간 요청은 206과 Content-Range로 해당 구간만 보낸다")
+    void singleRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+
+        ResponseEntity<StreamingResponseBody> response = responder.respond(file, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-19/20");
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(10);
+        assertThat(body(response)).isEqualTo("abcdefghij");
+    }
+
+    @Test
+    @DisplayName("복수 구간 요청은 겹친 구간을 합쳐 multipart/byteranges로 보내고 길이를 정확히 알린다")
+    void multipleRanges() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,1-3,-2");
+
+        ResponseEntity<StreamingResponseBody> response = responder.respond(file, request);
+        String body = body(response);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("multipart/byteranges");
+        assertThat(body).contains("Content-Range: bytes 0-3/20\r\n\r\n0123\r\n");
+        assertThat(body).contains("Content-Range: bytes 18-19/20\r\n\r\nij\r\n");
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(body.getBytes(StandardCharsets.US_ASCII).length);
+    }
+
+    @Test
+    @DisplayName("만족할 수 있는 구간이 없으면 416과 전체 길이를 보낸다")
+    void unsatisfiableRange() {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=50-60");
+
+        ResponseEntity<StreamingResponseBody> response = responder.respond(file, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @Test
+    @DisplayName("If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 보낸다")
+    void staleIfRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-4");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"old\"");
+
+        ResponseEntity<StreamingResponseBody> response = responder.respond(file, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(body(response)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("컨테이너가 sendfile을 지원하면 본문 대신 전송 구간을 요청 속성으로 넘긴다")
+    void sendfile() {
+        MockHttpServletRequest request = get();
+        request.setAttribute(FileDownloadResponder.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        ResponseEntity<StreamingResponseBody> response = responder.respond(file, request);
+
+        assertThat(response.getBody()).isNull();
+        assertThat(request.getAttribute(FileDownloadResponder.SENDFILE_START)).isEqualTo(5L);
+        assertThat(request.getAttribute(FileDownloadResponder.SENDFILE_END)).isEqualTo(10L);
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/v1/attachment/download/a.pdf");
+    }
+
+    private static String body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+}
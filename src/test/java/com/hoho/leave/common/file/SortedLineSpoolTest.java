@@ -0,0 +1,66 @@
+package com.hoho.leave.common.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SortedLineSpool 테스트")
+class SortedLineSpoolTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("run 크기를 넘는 줄은 여러 run으로 나눠 쓰고 병합해 정렬 순서로 돌려준다")
+    void mergesRuns() throws IOException {
+        List<String> lines = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) lines.add("blobs/" + Integer.toHexString(random.nextInt()));
+
+        List<String> sorted = new ArrayList<>();
+        try (SortedLineSpool spool = SortedLineSpool.create(dir, 64)) {
+            for (String line : lines) spool.add(line);
+            Iterator<String> it = spool.sorted();
+            while (it.hasNext()) sorted.add(it.next());
+
+            assertThat(spool.size()).isEqualTo(1000);
+            assertThat(runFiles()).hasSize(16);
+        }
+
+        assertThat(sorted).isEqualTo(lines.stream().sorted().toList());
+        assertThat(runFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("run 크기보다 적으면 디스크에 쓰지 않고 메모리에서 정렬한다")
+    void sortsInMemory() throws IOException {
+        try (SortedLineSpool spool = SortedLineSpool.create(dir, 64)) {
+            spool.add("b");
+            spool.add("a\tR");
+            spool.add("a/b");
+
+            List<String> sorted = new ArrayList<>();
+            spool.sorted().forEachRemaining(sorted::add);
+
+            assertThat(sorted).containsExactly("a\tR", "a/b", "b");
+            assertThat(runFiles()).isEmpty();
+        }
+    }
+
+    private List<Path> runFiles() throws IOException {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            return walk.filter(Files::isRegularFile).toList();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.hoho.leave.common.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ZipBundleWriter 테스트")
+class ZipBundleWriterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("이미 압축된 형식은 STORED, 나머지는 DEFLATED로 넣고 내용은 그대로 풀린다")
+    void storesCompressedFormats() throws IOException {
+        byte[] pdf = new byte[300_000];
+        for (int i = 0; i < pdf.length; i++) pdf[i] = (byte) (i * 13);
+        Path pdfPath = Files.write(dir.resolve("a.pdf"), pdf);
+        Path textPath = Files.writeString(dir.resolve("b.txt"), "휴가 ".repeat(1000));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipBundleWriter zip = new ZipBundleWriter(out)) {
+            zip.add("진단서.pdf", pdfPath, "application/pdf");
+            zip.add("메모.txt", textPath, "text/plain");
+        }
+
+        Map<String, ZipEntry> entries = new LinkedHashMap<>();
+        Map<String, byte[]> contents = new LinkedHashMap<>();
+        read(out.toByteArray(), entries, contents);
+
+        assertThat(entries.keySet()).containsExactly("진단서.pdf", "메모.txt");
+        assertThat(entries.get("진단서.pdf").getMethod()).isEqualTo(ZipEntry.STORED);
+        assertThat(entries.get("메모.txt").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+        assertThat(contents.get("진단서.pdf")).isEqualTo(pdf);
+        assertThat(contents.get("메모.txt")).isEqualTo(Files.readAllBytes(textPath));
+    }
+
+    @Test
+    @DisplayName("없는 파일은 건너뛰고 누락 목록 항목으로 남기며, 응답 스트림은 닫지 않는다")
+    void recordsMissingFiles() throws IOException {
+        Path present = Files.writeString(dir.resolve("c.png"), "png");
+        ClosingAwareStream out = new ClosingAwareStream();
+
+        try (ZipBundleWriter zip = new ZipBundleWriter(out)) {
+            zip.add("gone.pdf", dir.resolve("gone.pdf"), "application/pdf");
+            zip.add("c.png", present, "image/png");
+        }
+
+        Map<String, ZipEntry> entries = new LinkedHashMap<>();
+        Map<String, byte[]> contents = new LinkedHashMap<>();
+        read(out.toByteArray(), entries, contents);
+
+        assertThat(entries.keySet()).containsExactly("c.png", ZipBundleWriter.MISSING_ENTRY);
+        assertThat(new String(contents.get(ZipBundleWriter.MISSING_ENTRY), StandardCharsets.UTF_8)).isEqualTo("gone.pdf");
+        assertThat(out.closed).isFalse();
+    }
+
+    private static void read(byte[] zip, Map<String, ZipEntry> entries, Map<String, byte[]> contents) throws IOException {
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.put(entry.getName(), entry);
+                contents.put(entry.getName(), in.readAllBytes());
+            }
+        }
+    }
+
+    private static final class ClosingAwareStream extends ByteArrayOutputStream {
+        boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
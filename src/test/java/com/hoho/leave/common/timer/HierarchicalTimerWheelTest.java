@@ -0,0 +1,82 @@
+package com.hoho.leave.common.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimerWheel 테스트")
+class HierarchicalTimerWheelTest {
+
+    private static final long TICK = 1_000L;
+    private static final int SIZE = 60;
+
+    @Test
+    @DisplayName("만료 시각이 지나야 키가 반환된다")
+    void expiresAtDeadline() {
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(TICK, SIZE, 0L);
+        wheel.schedule(1L, 5_000L);
+
+        assertThat(wheel.advance(4_000L)).isEmpty();
+        assertThat(wheel.advance(5_000L)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 휠에 있던 타이머도 하위 휠로 내려와 제때 만료된다")
+    void cascadesFromUpperLevels() {
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(TICK, SIZE, 0L);
+        long twoHours = 2 * 60 * 60 * 1_000L;
+        long threeDays = 3 * 24 * 60 * 60 * 1_000L;
+        wheel.schedule(1L, twoHours + 500L);
+        wheel.schedule(2L, threeDays);
+
+        assertThat(wheel.advance(twoHours - TICK)).isEmpty();
+        assertThat(wheel.advance(twoHours + TICK)).containsExactly(1L);
+        assertThat(wheel.advance(threeDays - TICK)).isEmpty();
+        assertThat(wheel.advance(threeDays)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("취소하거나 다시 등록하면 이전 만료 시각은 무시된다")
+    void cancelAndReschedule() {
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(TICK, SIZE, 0L);
+        wheel.schedule(1L, 10_000L);
+        wheel.schedule(2L, 10_000L);
+
+        assertThat(wheel.cancel(1L)).isTrue();
+        wheel.schedule(2L, 20_000L);
+
+        assertThat(wheel.advance(15_000L)).isEmpty();
+        assertThat(wheel.advance(20_000L)).containsExactly(2L);
+        assertThat(wheel.cancel(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각은 다음 진행 시 바로 반환된다")
+    void pastDeadlineExpiresImmediately() {
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(TICK, SIZE, 100_000L);
+        wheel.schedule(1L, 50_000L);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(100_000L)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("한 번에 오래 진행해도 모든 타이머가 한 번씩만 만료된다")
+    void longJumpExpiresEachOnce() {
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(TICK, SIZE, 0L);
+        for (long i = 0; i < 1_000; i++) {
+            wheel.schedule(i, i * 7_919L);
+        }
+
+        List<Long> expired = new ArrayList<>(wheel.advance(4_000_000L));
+        expired.addAll(wheel.advance(8_000_000L));
+
+        assertThat(expired).hasSize(1_000).doesNotHaveDuplicates();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,102 @@
+package com.hoho.leave.domain.leave.account.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네이티브 쿼리를 실제로 실행해 보는 리포지토리 테스트. (H2 MySQL 호환 모드)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:user-leave-ledger;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("UserLeaveLedgerRepository 테스트")
+class UserLeaveLedgerRepositoryTest {
+
+    private static final LocalDateTime YEAR_END = LocalDateTime.of(2027, 1, 1, 0, 0);
+
+    @Autowired
+    private UserLeaveLedgerRepository ledgerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, username, password, email, employee_no, hire_date, role, is_active, created_at)
+                VALUES (1, 'user1', 'pw', 'user1@test.com', 'E1', DATE '2020-01-01', 'ROLE_USER', TRUE, NOW())
+                """);
+    }
+
+    @Test
+    @DisplayName("소멸량은 연말 기준 잔여 일수이며 새해 부여분은 소멸하지 않는다")
+    void expiresOnlyBalanceAsOfYearEnd() {
+        // 작년 잔여 3일 + 새해(1/1) 정기부여 15일 - 새해(1/2) 사용 1일
+        leaves(10L, "17.00");
+        ledger(10L, YEAR_END.minusMonths(6), "3.00", "GRANT_REGULAR");
+        ledger(10L, YEAR_END.plusMinutes(30), "15.00", "GRANT_REGULAR");
+        ledger(10L, YEAR_END.plusDays(1), "-1.00", "REQUEST_APPLY_DEDUCT");
+
+        int recorded = ledgerRepository.insertExpiries(2026, 1, 100, YEAR_END, "2026년 미사용 휴가 소멸", YEAR_END.plusDays(2));
+
+        assertThat(recorded).isEqualTo(1);
+        assertThat(expiredAmount(10L)).isEqualByComparingTo("-3.00");
+        assertThat(expiredDisplay(10L)).isEqualTo("-3");
+    }
+
+    @Test
+    @DisplayName("연말 기준 잔여 일수가 없으면 소멸 원장을 남기지 않고, 다시 실행해도 두 번 기록하지 않는다")
+    void skipsEmptyAndRecordedAccounts() {
+        leaves(10L, "15.00");
+        ledger(10L, YEAR_END.plusMinutes(30), "15.00", "GRANT_REGULAR");
+        leaves(11L, "5.00");
+
+        LocalDateTime now = YEAR_END.plusDays(1);
+        assertThat(ledgerRepository.insertExpiries(2026, 1, 100, YEAR_END, "소멸", now)).isEqualTo(1);
+        assertThat(ledgerRepository.insertExpiries(2026, 1, 100, YEAR_END, "소멸", now)).isZero();
+        assertThat(expiredAmount(11L)).isEqualByComparingTo("-5.00");
+    }
+
+    private void leaves(Long id, String balance) {
+        jdbcTemplate.update("""
+                INSERT INTO user_leaves (id, user_id, leave_stage, balance_days, balance_version, created_at)
+                VALUES (?, 1, 'NONE', ?, 0, ?)
+                """, id, new BigDecimal(balance), YEAR_END.minusYears(1));
+    }
+
+    private void ledger(Long userLeavesId, LocalDateTime effectiveAt, String amountDays, String reason) {
+        jdbcTemplate.update("""
+                INSERT INTO user_leave_ledger (user_leaves_id, effective_at, amount, amount_days, reason, created_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, userLeavesId, effectiveAt, amountDays, new BigDecimal(amountDays), reason, effectiveAt);
+    }
+
+    private String expiredDisplay(Long userLeavesId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT amount FROM user_leave_ledger WHERE user_leaves_id = ? AND reason = 'EXPIRE'",
+                String.class, userLeavesId);
+    }
+
+    private BigDecimal expiredAmount(Long userLeavesId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT amount_days FROM user_leave_ledger WHERE user_leaves_id = ? AND reason = 'EXPIRE'",
+                BigDecimal.class, userLeavesId);
+    }
+}
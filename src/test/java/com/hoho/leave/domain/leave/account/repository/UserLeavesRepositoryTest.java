@@ -0,0 +1,97 @@
+package com.hoho.leave.domain.leave.account.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네이티브 쿼리를 실제로 실행해 보는 리포지토리 테스트. (H2 MySQL 호환 모드)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:user-leaves;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("UserLeavesRepository 테스트")
+class UserLeavesRepositoryTest {
+
+    @Autowired
+    private UserLeavesRepository userLeavesRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 본부(1) ─ 개발팀(2) ─ 플랫폼파트(3), 영업팀(4)
+        team(1L, "본부", null);
+        team(2L, "개발팀", 1L);
+        team(3L, "플랫폼파트", 2L);
+        team(4L, "영업팀", null);
+        grade(1L, "사원");
+        grade(2L, "대리");
+
+        user(10L, 2L, 1L, true);
+        user(11L, 3L, 2L, true);
+        user(12L, 3L, 1L, false);   // 퇴사자
+        user(13L, 4L, 1L, true);
+
+        leaves(100L, 10L);
+        leaves(101L, 11L);
+        leaves(102L, 12L);
+        leaves(103L, 13L);
+    }
+
+    @Test
+    @DisplayName("팀 조건은 하위 팀까지 포함하고 퇴사자는 제외한다")
+    void targetsIncludeSubTeamsAndSkipInactiveUsers() {
+        List<Long> ids = userLeavesRepository.findAdjustmentTargetIds(1L, null);
+
+        assertThat(ids).containsExactly(100L, 101L);
+    }
+
+    @Test
+    @DisplayName("팀과 직급 조건을 함께 적용하고 조건이 없으면 재직자 전체를 고른다")
+    void targetsByTeamAndGrade() {
+        assertThat(userLeavesRepository.findAdjustmentTargetIds(2L, 1L)).containsExactly(100L);
+        assertThat(userLeavesRepository.findAdjustmentTargetIds(null, 1L)).containsExactly(100L, 103L);
+        assertThat(userLeavesRepository.findAdjustmentTargetIds(null, null)).containsExactly(100L, 101L, 103L);
+    }
+
+    private void team(Long id, String name, Long parentId) {
+        jdbcTemplate.update("INSERT INTO team (id, team_name, parent_id, created_at) VALUES (?, ?, ?, NOW())",
+                id, name, parentId);
+    }
+
+    private void grade(Long id, String name) {
+        jdbcTemplate.update("INSERT INTO grade (id, grade_name, created_at) VALUES (?, ?, NOW())", id, name);
+    }
+
+    private void user(Long id, Long teamId, Long gradeId, boolean active) {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, username, password, email, employee_no, hire_date, role,
+                                   team_id, grade_id, is_active, created_at)
+                VALUES (?, ?, 'pw', ?, ?, DATE '2020-01-01', 'ROLE_USER', ?, ?, ?, NOW())
+                """, id, "user" + id, "user" + id + "@test.com", "E" + id, teamId, gradeId, active);
+    }
+
+    private void leaves(Long id, Long userId) {
+        jdbcTemplate.update("""
+                INSERT INTO user_leaves (id, user_id, leave_stage, balance_days, balance_version, created_at)
+                VALUES (?, ?, 'NONE', 15.00, 0, NOW())
+                """, id, userId);
+    }
+}
@@ -0,0 +1,179 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.entity.AccrualJobCheckpoint;
+import com.hoho.leave.domain.leave.account.entity.LeaveStage;
+import com.hoho.leave.domain.leave.account.repository.AccrualJobCheckpointRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.AccrualTargetRow;
+import com.hoho.leave.domain.leave.account.service.support.AccrualPolicyEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccrualChunkProcessor 테스트")
+class AccrualChunkProcessorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    @InjectMocks
+    private AccrualChunkProcessor processor;
+
+    @Mock
+    private UserLeavesRepository userLeavesRepository;
+
+    @Mock
+    private UserLeaveLedgerRepository ledgerRepository;
+
+    @Mock
+    private AccrualJobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private BalanceChangeRecorder balanceChangeRecorder;
+
+    @Mock
+    private BalanceSnapshotInvalidator balanceSnapshotInvalidator;
+
+    @Spy
+    private AccrualPolicyEngine engine;
+
+    private AccrualJobCheckpoint checkpoint;
+
+    @BeforeEach
+    void setUp() {
+        checkpoint = AccrualJobCheckpoint.create(TODAY, 0, 0L, 500L);
+        ReflectionTestUtils.setField(checkpoint, "id", 1L);
+        given(checkpointRepository.findById(1L)).willReturn(Optional.of(checkpoint));
+
+        lenient().when(userLeavesRepository.lockAccrualDue(anyCollection(), any()))
+                .thenAnswer(inv -> List.copyOf((Collection<?>) inv.getArgument(0)));
+        lenient().when(userLeavesRepository.applyAccruals(anyCollection(), any(), any(), any(), any(), any()))
+                .thenAnswer(inv -> ((Collection<?>) inv.getArgument(0)).size());
+    }
+
+    @Test
+    @DisplayName("같은 부여 내역의 계정은 한 번의 갱신과 한 번의 원장 기록으로 처리된다")
+    void groupsSameGrant() {
+        given(userLeavesRepository.findAccrualTargets(eq(0L), eq(500L), eq(TODAY), anyCollection(), any()))
+                .willReturn(List.of(
+                        row(10L, LeaveStage.MONTHLY, TODAY, LocalDate.of(2026, 3, 19)),
+                        row(11L, LeaveStage.MONTHLY, TODAY, LocalDate.of(2026, 5, 19))));
+
+        boolean hasNext = processor.processChunk(1L, 100);
+
+        assertThat(hasNext).isFalse();
+        verify(userLeavesRepository).applyAccruals(eq(List.of(10L, 11L)), eq(TODAY), eq(new BigDecimal("1.00")),
+                eq("MONTHLY"), eq(LocalDate.of(2026, 11, 19)), any());
+        verify(ledgerRepository).insertAll(eq(List.of(10L, 11L)), eq(TODAY.atStartOfDay()), eq(new BigDecimal("1.00")), eq("+1"),
+                eq("GRANT_MONTHLY"), any(), any());
+        assertThat(checkpoint.getLastUserLeavesId()).isEqualTo(500L);
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(2L);
+        assertThat(checkpoint.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("밀린 부여일은 부여일 순서대로 따라잡고 1주년에는 연차로 전환된다")
+    void catchesUpMissedAccruals() {
+        LocalDate hireDate = LocalDate.of(2025, 8, 19);
+        given(userLeavesRepository.findAccrualTargets(anyLong(), anyLong(), any(), anyCollection(), any()))
+                .willReturn(List.of(row(10L, LeaveStage.MONTHLY, LocalDate.of(2026, 7, 19), hireDate)));
+
+        processor.processChunk(1L, 100);
+
+        InOrder inOrder = inOrder(userLeavesRepository);
+        inOrder.verify(userLeavesRepository).applyAccruals(eq(List.of(10L)), eq(LocalDate.of(2026, 7, 19)),
+                eq(new BigDecimal("1.00")), eq("MONTHLY"), eq(LocalDate.of(2026, 8, 19)), any());
+        inOrder.verify(userLeavesRepository).applyAccruals(eq(List.of(10L)), eq(LocalDate.of(2026, 8, 19)),
+                eq(new BigDecimal("15.00")), eq("ANNUAL"), eq(LocalDate.of(2027, 8, 19)), any());
+        verify(ledgerRepository).insertAll(any(), any(), eq(new BigDecimal("15.00")), eq("+15"), eq("GRANT_REGULAR"), any(), any());
+        verify(balanceSnapshotInvalidator).invalidate(List.of(10L), LocalDate.of(2026, 7, 19).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차면 마지막으로 읽은 ID까지만 체크포인트를 전진시킨다")
+    void fullChunkAdvancesToLastId() {
+        given(userLeavesRepository.findAccrualTargets(anyLong(), anyLong(), any(), anyCollection(), any()))
+                .willReturn(List.of(
+                        row(10L, LeaveStage.ANNUAL, TODAY, LocalDate.of(2020, 10, 19)),
+                        row(42L, LeaveStage.ANNUAL, TODAY, LocalDate.of(2020, 10, 19))));
+
+        boolean hasNext = processor.processChunk(1L, 2);
+
+        assertThat(hasNext).isTrue();
+        assertThat(checkpoint.getLastUserLeavesId()).isEqualTo(42L);
+        assertThat(checkpoint.isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 부여된 계정은 그 계정만 건너뛰고 나머지 계정은 부여한 뒤 체크포인트를 전진시킨다")
+    void alreadyAppliedAccountIsSkipped() {
+        given(userLeavesRepository.findAccrualTargets(anyLong(), anyLong(), any(), anyCollection(), any()))
+                .willReturn(List.of(
+                        row(10L, LeaveStage.MONTHLY, TODAY, LocalDate.of(2026, 3, 19)),
+                        row(11L, LeaveStage.MONTHLY, TODAY, LocalDate.of(2026, 3, 19))));
+        given(userLeavesRepository.lockAccrualDue(List.of(10L, 11L), TODAY)).willReturn(List.of(10L));
+
+        processor.processChunk(1L, 100);
+
+        verify(userLeavesRepository).applyAccruals(eq(List.of(10L)), eq(TODAY), any(), any(), any(), any());
+        verify(ledgerRepository).insertAll(eq(List.of(10L)), any(), any(), any(), any(), any(), any());
+        verify(balanceChangeRecorder).recordChanged(eq(Set.of(10L)), any());
+        assertThat(checkpoint.getLastUserLeavesId()).isEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("잠근 계정의 갱신 건수가 다르면 청크를 실패시키고 체크포인트를 전진시키지 않는다")
+    void mismatchUnderLockFailsChunk() {
+        given(userLeavesRepository.findAccrualTargets(anyLong(), anyLong(), any(), anyCollection(), any()))
+                .willReturn(List.of(
+                        row(10L, LeaveStage.MONTHLY, TODAY, LocalDate.of(2026, 3, 19)),
+                        row(11L, LeaveStage.MONTHLY, TODAY, LocalDate.of(2026, 3, 19))));
+        given(userLeavesRepository.applyAccruals(anyCollection(), any(), any(), any(), any(), any())).willReturn(1);
+
+        assertThatThrownBy(() -> processor.processChunk(1L, 100))
+                .isInstanceOf(ConcurrencyFailureException.class);
+
+        verify(ledgerRepository, never()).insertAll(any(), any(), any(), any(), any(), any(), any());
+        assertThat(checkpoint.getLastUserLeavesId()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("완료된 파티션은 조회 없이 종료한다")
+    void completedPartitionIsSkipped() {
+        checkpoint.complete();
+
+        assertThat(processor.processChunk(1L, 100)).isFalse();
+        verify(userLeavesRepository, never()).findAccrualTargets(any(), any(), any(), any(), any());
+    }
+
+    private static AccrualTargetRow row(Long id, LeaveStage stage, LocalDate nextAccrualAt, LocalDate hireDate) {
+        return new AccrualTargetRow() {
+            public Long getUserLeavesId() { return id; }
+            public LeaveStage getLeaveStage() { return stage; }
+            public LocalDate getNextAccrualAt() { return nextAccrualAt; }
+            public LocalDate getHireDate() { return hireDate; }
+        };
+    }
+}
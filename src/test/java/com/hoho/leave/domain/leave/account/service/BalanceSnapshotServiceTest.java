@@ -0,0 +1,219 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.leave.account.dto.response.BalanceAsOfListResponse;
+import com.hoho.leave.domain.leave.account.dto.response.BalanceAsOfResponse;
+import com.hoho.leave.domain.leave.account.entity.UserLeaveSnapshot;
+import com.hoho.leave.domain.leave.account.entity.UserLeaves;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveSnapshotRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveSnapshotRepository.BalanceAsOfRow;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.IdRange;
+import com.hoho.leave.domain.shared.DayQuantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceSnapshotService 테스트")
+class BalanceSnapshotServiceTest {
+
+    @InjectMocks
+    private BalanceSnapshotService balanceSnapshotService;
+
+    @Mock
+    private UserLeavesRepository userLeavesRepository;
+
+    @Mock
+    private UserLeaveLedgerRepository ledgerRepository;
+
+    @Mock
+    private UserLeaveSnapshotRepository snapshotRepository;
+
+    @Mock
+    private BalanceSnapshotChunkProcessor chunkProcessor;
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 5, 20);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(balanceSnapshotService, "chunkSize", 5000);
+    }
+
+    @Nested
+    @DisplayName("createSnapshots")
+    class CreateSnapshots {
+
+        @Test
+        @DisplayName("ID 범위를 고정 폭 구간으로 나눠 모든 구간의 스냅샷을 만든다")
+        void snapshotsEveryRange() {
+            LocalDate date = LocalDate.of(2026, 4, 30);
+            given(userLeavesRepository.findIdRange()).willReturn(range(1L, 7000L));
+            given(chunkProcessor.snapshotRange(any(), anyLong(), anyLong(), anyBoolean())).willReturn(100);
+
+            long created = balanceSnapshotService.createSnapshots(date, false);
+
+            assertThat(created).isEqualTo(200);
+            verify(chunkProcessor).snapshotRange(date, 1L, 5001L, false);
+            verify(chunkProcessor).snapshotRange(date, 5001L, 10001L, false);
+            verifyNoMoreInteractions(chunkProcessor);
+        }
+
+        @Test
+        @DisplayName("다시 생성하면 기준일 이후의 지난 월말 스냅샷도 순서대로 다시 만든다")
+        void replaceRebuildsLaterMonthEnds() {
+            YearMonth month = YearMonth.now().minusMonths(3);
+            LocalDate date = month.atDay(15);
+            given(userLeavesRepository.findIdRange()).willReturn(range(1L, 100L));
+            given(chunkProcessor.snapshotRange(any(), anyLong(), anyLong(), anyBoolean())).willReturn(10);
+
+            long created = balanceSnapshotService.createSnapshots(date, true);
+
+            assertThat(created).isEqualTo(40);
+            InOrder inOrder = inOrder(chunkProcessor);
+            inOrder.verify(chunkProcessor).snapshotRange(date, 1L, 5001L, true);
+            inOrder.verify(chunkProcessor).snapshotRange(month.atEndOfMonth(), 1L, 5001L, false);
+            inOrder.verify(chunkProcessor).snapshotRange(month.plusMonths(1).atEndOfMonth(), 1L, 5001L, false);
+            inOrder.verify(chunkProcessor).snapshotRange(month.plusMonths(2).atEndOfMonth(), 1L, 5001L, false);
+            verifyNoMoreInteractions(chunkProcessor);
+        }
+
+        @Test
+        @DisplayName("휴가 계정이 없으면 아무것도 만들지 않는다")
+        void emptyAccounts() {
+            given(userLeavesRepository.findIdRange()).willReturn(range(null, null));
+
+            assertThat(balanceSnapshotService.createSnapshots(AS_OF, false)).isZero();
+            verifyNoInteractions(chunkProcessor);
+        }
+    }
+
+    @Nested
+    @DisplayName("getBalanceAsOf")
+    class GetBalanceAsOf {
+
+        @Test
+        @DisplayName("가장 가까운 스냅샷에 그 다음 날부터 기준일까지의 원장만 더한다")
+        void snapshotPlusTail() {
+            givenUserLeaves(1L, 10L);
+            UserLeaveSnapshot snapshot = snapshot(LocalDate.of(2026, 4, 30), "12.50");
+            given(snapshotRepository.findFirstByUserLeavesIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(10L, AS_OF))
+                    .willReturn(Optional.of(snapshot));
+            given(ledgerRepository.sumAmountDays(10L,
+                    LocalDateTime.of(2026, 5, 1, 0, 0), LocalDateTime.of(2026, 5, 21, 0, 0)))
+                    .willReturn(new BigDecimal("-1.50"));
+
+            BalanceAsOfResponse response = balanceSnapshotService.getBalanceAsOf(1L, AS_OF);
+
+            assertThat(response.getBalanceDays()).isEqualByComparingTo("11.00");
+            assertThat(response.getSnapshotDate()).isEqualTo(LocalDate.of(2026, 4, 30));
+            assertThat(response.getUserLeavesId()).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없으면 기준일까지의 원장 전체를 합산한다")
+        void noSnapshot() {
+            givenUserLeaves(1L, 10L);
+            given(snapshotRepository.findFirstByUserLeavesIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(10L, AS_OF))
+                    .willReturn(Optional.empty());
+            given(ledgerRepository.sumAmountDays(eq(10L), any(), eq(LocalDateTime.of(2026, 5, 21, 0, 0))))
+                    .willReturn(new BigDecimal("15.00"));
+
+            BalanceAsOfResponse response = balanceSnapshotService.getBalanceAsOf(1L, AS_OF);
+
+            assertThat(response.getBalanceDays()).isEqualByComparingTo("15.00");
+            assertThat(response.getSnapshotDate()).isNull();
+        }
+
+        @Test
+        @DisplayName("휴가 계정이 없으면 NotFoundException이 발생한다")
+        void notFound() {
+            given(userLeavesRepository.findByUserId(1L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> balanceSnapshotService.getBalanceAsOf(1L, AS_OF))
+                    .isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getBalancesAsOf")
+    class GetBalancesAsOf {
+
+        @Test
+        @DisplayName("한 건 더 조회해 다음 페이지 여부와 커서를 계산한다")
+        void hasNextPage() {
+            given(snapshotRepository.findBalancesAsOf(AS_OF, LocalDateTime.of(2026, 5, 21, 0, 0), 0L, 3))
+                    .willReturn(rows(1, 2, 3));
+
+            BalanceAsOfListResponse response = balanceSnapshotService.getBalancesAsOf(AS_OF, null, 2);
+
+            assertThat(response.getItems()).hasSize(2);
+            assertThat(response.getHasNext()).isTrue();
+            assertThat(response.getNextCursor()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("마지막 페이지면 커서가 없다")
+        void lastPage() {
+            given(snapshotRepository.findBalancesAsOf(AS_OF, LocalDateTime.of(2026, 5, 21, 0, 0), 2L, 3))
+                    .willReturn(rows(3));
+
+            BalanceAsOfListResponse response = balanceSnapshotService.getBalancesAsOf(AS_OF, 2L, 2);
+
+            assertThat(response.getItems()).hasSize(1);
+            assertThat(response.getHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+    }
+
+    private void givenUserLeaves(Long userId, Long userLeavesId) {
+        UserLeaves userLeaves = mock(UserLeaves.class);
+        given(userLeaves.getId()).willReturn(userLeavesId);
+        given(userLeavesRepository.findByUserId(userId)).willReturn(Optional.of(userLeaves));
+    }
+
+    private static UserLeaveSnapshot snapshot(LocalDate date, String balanceDays) {
+        UserLeaveSnapshot snapshot = mock(UserLeaveSnapshot.class);
+        given(snapshot.getSnapshotDate()).willReturn(date);
+        given(snapshot.getBalanceDays()).willReturn(DayQuantity.of(new BigDecimal(balanceDays)));
+        return snapshot;
+    }
+
+    private static List<BalanceAsOfRow> rows(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> (BalanceAsOfRow) new BalanceAsOfRow() {
+            public Long getUserLeavesId() { return id; }
+            public Long getUserId() { return id + 100; }
+            public LocalDate getSnapshotDate() { return LocalDate.of(2026, 4, 30); }
+            public BigDecimal getBalanceDays() { return BigDecimal.TEN; }
+        }).toList();
+    }
+
+    private static IdRange range(Long minId, Long maxId) {
+        return new IdRange() {
+            public Long getMinId() { return minId; }
+            public Long getMaxId() { return maxId; }
+        };
+    }
+}
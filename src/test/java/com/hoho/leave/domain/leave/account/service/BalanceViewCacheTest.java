@@ -0,0 +1,174 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.entity.LeaveStage;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesChangeRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesChangeRepository.ChangeRow;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.BalanceViewRow;
+import com.hoho.leave.domain.leave.account.service.support.BalanceChangedEvent;
+import com.hoho.leave.domain.leave.account.service.support.BalanceView;
+import com.hoho.leave.domain.shared.DayQuantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceViewCache 테스트")
+class BalanceViewCacheTest {
+
+    @InjectMocks
+    private BalanceViewCache balanceViewCache;
+
+    @Mock
+    private UserLeavesRepository userLeavesRepository;
+
+    @Mock
+    private UserLeavesChangeRepository changeRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(balanceViewCache, "maxSize", 2);
+        ReflectionTestUtils.setField(balanceViewCache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(balanceViewCache, "pollSize", 10);
+        ReflectionTestUtils.setField(balanceViewCache, "gapTimeoutSeconds", 120L);
+        ReflectionTestUtils.setField(balanceViewCache, "maxGaps", 10);
+    }
+
+    @Test
+    @DisplayName("처음 조회는 DB에서 읽고 이후 조회는 캐시에서 반환한다")
+    void readThrough() {
+        given(userLeavesRepository.findBalanceViewByUserId(1L)).willReturn(Optional.of(row(10L, 1L, "15.00", 3)));
+
+        balanceViewCache.get(1L);
+        Optional<BalanceView> view = balanceViewCache.get(1L);
+
+        assertThat(view).get().extracting(BalanceView::getBalanceDays).isEqualTo(DayQuantity.ofDays(15));
+        verify(userLeavesRepository, times(1)).findBalanceViewByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("크기 제한을 넘으면 가장 오래 쓰지 않은 항목을 내보낸다")
+    void evictsLeastRecentlyUsed() {
+        given(userLeavesRepository.findBalanceViewByUserId(anyLong()))
+                .willAnswer(inv -> Optional.of(row(inv.<Long>getArgument(0) + 10, inv.getArgument(0), "1.00", 0)));
+
+        balanceViewCache.get(1L);
+        balanceViewCache.get(2L);
+        balanceViewCache.get(1L);
+        balanceViewCache.get(3L);
+        balanceViewCache.get(2L);
+
+        verify(userLeavesRepository, times(2)).findBalanceViewByUserId(2L);
+        verify(userLeavesRepository, times(1)).findBalanceViewByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("커밋 후 변경 이벤트가 오면 캐시에 있는 계정만 다시 읽어 덮어쓴다")
+    void writeThroughOnCommit() {
+        given(userLeavesRepository.findBalanceViewByUserId(1L)).willReturn(Optional.of(row(10L, 1L, "15.00", 3)));
+        balanceViewCache.get(1L);
+        given(userLeavesRepository.findBalanceViews(List.of(10L))).willReturn(List.of(row(10L, 1L, "16.00", 4)));
+
+        balanceViewCache.onBalanceChanged(BalanceChangedEvent.ofIds(List.of(10L, 20L)));
+
+        assertThat(balanceViewCache.get(1L)).get().extracting(BalanceView::getBalanceVersion).isEqualTo(4L);
+        verify(userLeavesRepository, times(1)).findBalanceViewByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("다시 읽은 값의 버전이 캐시보다 낮으면 덮어쓰지 않는다")
+    void staleWriteIgnored() {
+        given(userLeavesRepository.findBalanceViewByUserId(1L)).willReturn(Optional.of(row(10L, 1L, "15.00", 5)));
+        balanceViewCache.get(1L);
+        given(userLeavesRepository.findBalanceViews(List.of(10L))).willReturn(List.of(row(10L, 1L, "14.00", 4)));
+
+        balanceViewCache.onBalanceChanged(BalanceChangedEvent.ofRange(1L, 100L));
+
+        assertThat(balanceViewCache.get(1L)).get().extracting(BalanceView::getBalanceVersion).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 기록에 더 새 버전이 있으면 무효화한다")
+    void pollInvalidatesNewerVersion() {
+        given(userLeavesRepository.findBalanceViewByUserId(1L)).willReturn(Optional.of(row(10L, 1L, "15.00", 3)));
+        balanceViewCache.get(1L);
+        balanceViewCache.pollChanges();
+        given(changeRepository.findChangesAfter(0L, 10)).willReturn(List.of(change(1L, 10L, 1L, 3), change(2L, 10L, 1L, 4)));
+
+        balanceViewCache.pollChanges();
+        balanceViewCache.get(1L);
+
+        verify(userLeavesRepository, times(2)).findBalanceViewByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("앞 번호 변경 기록이 늦게 커밋되어도 건너뛴 ID를 다시 확인해 무효화한다")
+    void pollRechecksSkippedIds() {
+        given(userLeavesRepository.findBalanceViewByUserId(1L)).willReturn(Optional.of(row(10L, 1L, "15.00", 3)));
+        balanceViewCache.get(1L);
+        given(changeRepository.findMaxId()).willReturn(5L);
+        balanceViewCache.pollChanges();
+
+        // 6번은 아직 커밋되지 않았고 7번이 먼저 보인다
+        given(changeRepository.findChangesAfter(5L, 10)).willReturn(List.of(change(7L, 20L, 2L, 1)));
+        balanceViewCache.pollChanges();
+        balanceViewCache.get(1L);
+        verify(userLeavesRepository, times(1)).findBalanceViewByUserId(1L);
+
+        given(changeRepository.findChangesAfter(7L, 10)).willReturn(List.of());
+        given(changeRepository.findChangesByIds(List.of(6L))).willReturn(List.of(change(6L, 10L, 1L, 4)));
+        balanceViewCache.pollChanges();
+        balanceViewCache.get(1L);
+
+        verify(userLeavesRepository, times(2)).findBalanceViewByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 항목은 DB에서 다시 읽는다")
+    void expiredEntryReloaded() {
+        ReflectionTestUtils.setField(balanceViewCache, "ttlSeconds", 0L);
+        given(userLeavesRepository.findBalanceViewByUserId(1L)).willReturn(Optional.of(row(10L, 1L, "15.00", 3)));
+
+        balanceViewCache.get(1L);
+        balanceViewCache.get(1L);
+
+        verify(userLeavesRepository, times(2)).findBalanceViewByUserId(1L);
+    }
+
+    private static BalanceViewRow row(Long userLeavesId, Long userId, String balanceDays, long version) {
+        return new BalanceViewRow() {
+            public Long getUserLeavesId() { return userLeavesId; }
+            public Long getUserId() { return userId; }
+            public String getUsername() { return "user" + userId; }
+            public String getEmployeeNo() { return "E" + userId; }
+            public LeaveStage getLeaveStage() { return LeaveStage.ANNUAL; }
+            public LocalDate getNextAccrualAt() { return LocalDate.of(2027, 1, 1); }
+            public DayQuantity getBalanceDays() { return DayQuantity.of(new BigDecimal(balanceDays)); }
+            public Long getBalanceVersion() { return version; }
+        };
+    }
+
+    private static ChangeRow change(Long id, Long userLeavesId, Long userId, long version) {
+        return new ChangeRow() {
+            public Long getId() { return id; }
+            public Long getUserLeavesId() { return userLeavesId; }
+            public Long getUserId() { return userId; }
+            public Long getBalanceVersion() { return version; }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.shared.DayQuantity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkAdjustmentChunkProcessor 테스트")
+class BulkAdjustmentChunkProcessorTest {
+
+    @InjectMocks
+    private BulkAdjustmentChunkProcessor chunkProcessor;
+
+    @Mock
+    private UserLeavesRepository userLeavesRepository;
+
+    @Mock
+    private UserLeaveLedgerRepository ledgerRepository;
+
+    @Mock
+    private BalanceChangeRecorder balanceChangeRecorder;
+
+    @Mock
+    private BalanceSnapshotInvalidator balanceSnapshotInvalidator;
+
+    @Test
+    @DisplayName("부여는 잔여 일수 확인 없이 청크 전체에 반영하고 원장을 한 번에 기록한다")
+    void grantsWholeChunk() {
+        DayQuantity amount = DayQuantity.ONE_DAY;
+        given(userLeavesRepository.adjustBalances(eq(List.of(1L, 2L, 3L)), eq(new BigDecimal("1.00")), any())).willReturn(3);
+
+        List<Long> skipped = chunkProcessor.adjustChunk(List.of(1L, 2L, 3L), amount, ReasonCode.GRANT_BONUS, "포상");
+
+        assertThat(skipped).isEmpty();
+        verify(userLeavesRepository, never()).findIdsWithBalanceBelow(any(), any());
+        verify(ledgerRepository).insertAll(eq(List.of(1L, 2L, 3L)), any(), eq(new BigDecimal("1.00")), eq("+1"),
+                eq("GRANT_BONUS"), eq("포상"), any());
+    }
+
+    @Test
+    @DisplayName("차감은 잔여 일수가 부족한 계정을 건너뛴다")
+    void deductionSkipsInsufficient() {
+        DayQuantity amount = DayQuantity.ofDays(-2);
+        given(userLeavesRepository.findIdsWithBalanceBelow(List.of(1L, 2L, 3L), DayQuantity.ofDays(2)))
+                .willReturn(List.of(2L));
+        given(userLeavesRepository.adjustBalances(eq(List.of(1L, 3L)), eq(new BigDecimal("-2.00")), any())).willReturn(2);
+
+        List<Long> skipped = chunkProcessor.adjustChunk(List.of(1L, 2L, 3L), amount, ReasonCode.ADJUST_ADMIN, null);
+
+        assertThat(skipped).containsExactly(2L);
+        verify(ledgerRepository).insertAll(eq(List.of(1L, 3L)), any(), eq(new BigDecimal("-2.00")), eq("-2"),
+                eq("ADJUST_ADMIN"), isNull(), any());
+        verify(balanceChangeRecorder).recordChanged(eq(List.of(1L, 3L)), any());
+    }
+
+    @Test
+    @DisplayName("선별 후 잔여 일수가 바뀌어 갱신 수가 다르면 원장을 기록하지 않고 예외가 발생한다")
+    void balanceChangedDuringChunk() {
+        DayQuantity amount = DayQuantity.ofDays(-1);
+        given(userLeavesRepository.findIdsWithBalanceBelow(any(), any())).willReturn(List.of());
+        given(userLeavesRepository.adjustBalances(any(), any(), any())).willReturn(1);
+
+        assertThatThrownBy(() -> chunkProcessor.adjustChunk(List.of(1L, 2L), amount, ReasonCode.ADJUST_ADMIN, null))
+                .isInstanceOf(ConcurrencyFailureException.class);
+        verifyNoInteractions(ledgerRepository, balanceChangeRecorder);
+    }
+}
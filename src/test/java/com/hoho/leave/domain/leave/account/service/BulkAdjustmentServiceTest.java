@@ -0,0 +1,171 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.common.exception.BusinessException;
+import com.hoho.leave.domain.audit.entity.Action;
+import com.hoho.leave.domain.audit.service.AuditLogService;
+import com.hoho.leave.domain.leave.account.dto.request.BulkAdjustmentRequest;
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.service.support.BulkAdjustmentReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkAdjustmentService 테스트")
+class BulkAdjustmentServiceTest {
+
+    @InjectMocks
+    private BulkAdjustmentService bulkAdjustmentService;
+
+    @Mock
+    private UserLeavesRepository userLeavesRepository;
+
+    @Mock
+    private BulkAdjustmentChunkProcessor chunkProcessor;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private ThreadPoolTaskExecutor bulkAdjustmentTaskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bulkAdjustmentService, "chunkSize", 2);
+        ReflectionTestUtils.setField(bulkAdjustmentService, "skippedLimit", 10);
+    }
+
+    @Nested
+    @DisplayName("start")
+    class Start {
+
+        @Test
+        @DisplayName("대상 조건이 없으면 BusinessException이 발생한다")
+        void noTarget() {
+            BulkAdjustmentRequest request = request(new BigDecimal("1"), ReasonCode.GRANT_BONUS);
+
+            assertThatThrownBy(() -> bulkAdjustmentService.start(request))
+                    .isInstanceOf(BusinessException.class);
+            verifyNoInteractions(userLeavesRepository);
+        }
+
+        @Test
+        @DisplayName("사용자 목록과 팀 조건을 함께 지정하면 BusinessException이 발생한다")
+        void usersAndTeam() {
+            BulkAdjustmentRequest request = request(new BigDecimal("1"), ReasonCode.GRANT_BONUS);
+            request.setUserIds(List.of(1L));
+            request.setTeamId(3L);
+
+            assertThatThrownBy(() -> bulkAdjustmentService.start(request))
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("허용되지 않는 사유 코드면 BusinessException이 발생한다")
+        void reasonNotAllowed() {
+            BulkAdjustmentRequest request = request(new BigDecimal("1"), ReasonCode.GRANT_REGULAR);
+            request.setTeamId(3L);
+
+            assertThatThrownBy(() -> bulkAdjustmentService.start(request))
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("대상을 조회한 뒤 작업을 일괄 조정 스레드 풀에 넘기고, 끝나기 전에는 다시 시작할 수 없다")
+        void submitsToExecutor() {
+            BulkAdjustmentRequest request = request(new BigDecimal("1"), ReasonCode.GRANT_BONUS);
+            request.setTeamId(3L);
+            given(userLeavesRepository.findAdjustmentTargetIds(3L, null)).willReturn(List.of(1L, 2L));
+
+            String jobId = bulkAdjustmentService.start(request).getJobId();
+
+            verify(bulkAdjustmentTaskExecutor).execute(any(Runnable.class));
+            assertThat(bulkAdjustmentService.getReport(jobId).getTotalAccounts()).isEqualTo(2L);
+            assertThatThrownBy(() -> bulkAdjustmentService.start(request))
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("스레드 풀이 작업을 받지 않으면 예외를 넘기고 다음 요청은 다시 시작할 수 있다")
+        void rejectedByExecutor() {
+            BulkAdjustmentRequest request = request(new BigDecimal("1"), ReasonCode.GRANT_BONUS);
+            request.setTeamId(3L);
+            given(userLeavesRepository.findAdjustmentTargetIds(3L, null)).willReturn(List.of(1L));
+            willThrow(new TaskRejectedException("shutdown"))
+                    .willDoNothing()
+                    .given(bulkAdjustmentTaskExecutor).execute(any(Runnable.class));
+
+            assertThatThrownBy(() -> bulkAdjustmentService.start(request))
+                    .isInstanceOf(TaskRejectedException.class);
+            bulkAdjustmentService.start(request);
+
+            verify(bulkAdjustmentTaskExecutor, times(2)).execute(any(Runnable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("run")
+    class Run {
+
+        @Test
+        @DisplayName("대상을 청크로 나눠 처리하고 감사 로그를 작업 단위로 한 건만 남긴다")
+        void chunksAndSingleAuditLog() {
+            BulkAdjustmentRequest request = request(new BigDecimal("-1"), ReasonCode.ADJUST_ADMIN);
+            BulkAdjustmentReport report = new BulkAdjustmentReport("job", request.getAmountDays(), 5, 10);
+            given(chunkProcessor.adjustChunk(anyList(), any(), any(), any())).willReturn(List.of());
+            given(chunkProcessor.adjustChunk(eq(List.of(3L, 4L)), any(), any(), any())).willReturn(List.of(4L));
+
+            bulkAdjustmentService.run(report, List.of(1L, 2L, 3L, 4L, 5L), request);
+
+            assertThat(report.getStatus()).isEqualTo(BulkAdjustmentReport.Status.COMPLETED);
+            assertThat(report.getProcessedAccounts().get()).isEqualTo(5);
+            assertThat(report.getAdjustedAccounts().get()).isEqualTo(4);
+            assertThat(report.getSkippedUserLeavesIds()).containsExactly(4L);
+            verify(chunkProcessor, times(3)).adjustChunk(anyList(), any(), any(), any());
+            verify(auditLogService, times(1)).createLog(eq(Action.LEAVE_ADJUSTMENT_POSTED), eq(9L), any(), isNull(), anyString());
+        }
+
+        @Test
+        @DisplayName("청크 처리에 실패하면 실패 상태로 남기고 감사 로그를 남긴다")
+        void failure() {
+            BulkAdjustmentRequest request = request(new BigDecimal("1"), ReasonCode.GRANT_BONUS);
+            BulkAdjustmentReport report = new BulkAdjustmentReport("job", request.getAmountDays(), 3, 10);
+            given(chunkProcessor.adjustChunk(anyList(), any(), any(), any()))
+                    .willReturn(List.of())
+                    .willThrow(new IllegalStateException("boom"));
+
+            bulkAdjustmentService.run(report, List.of(1L, 2L, 3L), request);
+
+            assertThat(report.getStatus()).isEqualTo(BulkAdjustmentReport.Status.FAILED);
+            assertThat(report.getProcessedAccounts().get()).isEqualTo(2);
+            verify(auditLogService).createLog(any(), any(), any(), any(), anyString());
+        }
+    }
+
+    private static BulkAdjustmentRequest request(BigDecimal amountDays, ReasonCode reasonCode) {
+        BulkAdjustmentRequest request = new BulkAdjustmentRequest();
+        request.setActorId(9L);
+        request.setAmountDays(amountDays);
+        request.setReasonCode(reasonCode);
+        return request;
+    }
+}
@@ -0,0 +1,83 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.IdRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaveExpiryService 테스트")
+class LeaveExpiryServiceTest {
+
+    @InjectMocks
+    private LeaveExpiryService leaveExpiryService;
+
+    @Mock
+    private UserLeavesRepository userLeavesRepository;
+
+    @Mock
+    private LeaveExpiryChunkProcessor chunkProcessor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(leaveExpiryService, "chunkSize", 5000);
+    }
+
+    @Test
+    @DisplayName("ID 범위를 고정 폭 구간으로 나눠 모든 구간을 처리한다")
+    void expiresEveryRange() {
+        given(userLeavesRepository.findIdRange()).willReturn(range(1L, 12001L));
+        given(chunkProcessor.expireRange(anyInt(), anyLong(), anyLong())).willReturn(10);
+
+        long expired = leaveExpiryService.expire(2026);
+
+        assertThat(expired).isEqualTo(30);
+        verify(chunkProcessor).expireRange(2026, 1L, 5001L);
+        verify(chunkProcessor).expireRange(2026, 5001L, 10001L);
+        verify(chunkProcessor).expireRange(2026, 10001L, 15001L);
+        verifyNoMoreInteractions(chunkProcessor);
+    }
+
+    @Test
+    @DisplayName("한 구간이 실패해도 나머지 구간은 계속 처리한다")
+    void continuesAfterFailedChunk() {
+        given(userLeavesRepository.findIdRange()).willReturn(range(1L, 12001L));
+        given(chunkProcessor.expireRange(anyInt(), anyLong(), anyLong())).willReturn(10);
+        given(chunkProcessor.expireRange(2026, 5001L, 10001L))
+                .willThrow(new ConcurrencyFailureException("Leave expiry mismatch"));
+
+        long expired = leaveExpiryService.expire(2026);
+
+        assertThat(expired).isEqualTo(20);
+        verify(chunkProcessor).expireRange(2026, 10001L, 15001L);
+    }
+
+    @Test
+    @DisplayName("휴가 계정이 없으면 아무것도 처리하지 않는다")
+    void emptyAccounts() {
+        given(userLeavesRepository.findIdRange()).willReturn(range(null, null));
+
+        assertThat(leaveExpiryService.expire(2026)).isZero();
+        verifyNoInteractions(chunkProcessor);
+    }
+
+    private static IdRange range(Long minId, Long maxId) {
+        return new IdRange() {
+            public Long getMinId() { return minId; }
+            public Long getMaxId() { return maxId; }
+        };
+    }
+}
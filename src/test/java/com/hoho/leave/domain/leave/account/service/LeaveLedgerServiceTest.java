@@ -0,0 +1,104 @@
+package com.hoho.leave.domain.leave.account.service;
+
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.leave.account.dto.response.LeaveLedgerHistoryResponse;
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository;
+import com.hoho.leave.domain.leave.account.repository.UserLeaveLedgerRepository.LedgerHistoryRow;
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaveLedgerService 테스트")
+class LeaveLedgerServiceTest {
+
+    @InjectMocks
+    private LeaveLedgerService leaveLedgerService;
+
+    @Mock
+    private UserLeaveLedgerRepository ledgerRepository;
+
+    @Mock
+    private UserLeavesRepository userLeavesRepository;
+
+    @Mock
+    private BalanceSnapshotInvalidator balanceSnapshotInvalidator;
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 5, 1, 0, 0);
+
+    @Nested
+    @DisplayName("getLedgerHistory")
+    class GetLedgerHistory {
+
+        @Test
+        @DisplayName("커서가 없으면 첫 페이지를 조회하고 한 건 더 읽어 다음 페이지 여부를 판단한다")
+        void firstPage() {
+            given(userLeavesRepository.findIdByUserId(1L)).willReturn(Optional.of(10L));
+            given(ledgerRepository.findHistoryFirstPage(10L, 3)).willReturn(rows(30, 29, 28));
+
+            LeaveLedgerHistoryResponse response = leaveLedgerService.getLedgerHistory(1L, null, null, 2);
+
+            assertThat(response.getLeaveLedgers()).hasSize(2);
+            assertThat(response.getLeaveLedgers().get(0).getReasonCode()).isEqualTo(ReasonCode.GRANT_MONTHLY);
+            assertThat(response.getHasNext()).isTrue();
+            assertThat(response.getNextCursorId()).isEqualTo(29L);
+            assertThat(response.getNextCursorEffectiveAt()).isEqualTo(BASE.plusDays(29));
+            verify(ledgerRepository, never()).findHistoryBefore(anyLong(), any(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 커서 이전 페이지를 조회하고 마지막 페이지면 커서가 없다")
+        void cursorPage() {
+            LocalDateTime cursorAt = BASE.plusDays(29);
+            given(userLeavesRepository.findIdByUserId(1L)).willReturn(Optional.of(10L));
+            given(ledgerRepository.findHistoryBefore(10L, cursorAt, 29L, 3)).willReturn(rows(28));
+
+            LeaveLedgerHistoryResponse response = leaveLedgerService.getLedgerHistory(1L, cursorAt, 29L, 2);
+
+            assertThat(response.getLeaveLedgers()).hasSize(1);
+            assertThat(response.getHasNext()).isFalse();
+            assertThat(response.getNextCursorId()).isEqualTo(28L);
+        }
+
+        @Test
+        @DisplayName("휴가 계정이 없으면 NotFoundException이 발생한다")
+        void notFound() {
+            given(userLeavesRepository.findIdByUserId(1L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> leaveLedgerService.getLedgerHistory(1L, null, null, 20))
+                    .isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    private static List<LedgerHistoryRow> rows(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> (LedgerHistoryRow) new LedgerHistoryRow() {
+            public Long getId() { return id; }
+            public LocalDateTime getEffectiveAt() { return BASE.plusDays(id); }
+            public String getAmount() { return "+1"; }
+            public BigDecimal getAmountDays() { return BigDecimal.ONE; }
+            public String getReason() { return ReasonCode.GRANT_MONTHLY.name(); }
+            public String getNote() { return null; }
+        }).toList();
+    }
+}
@@ -0,0 +1,51 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import com.hoho.leave.domain.leave.account.entity.LeaveStage;
+import com.hoho.leave.domain.leave.account.entity.ReasonCode;
+import com.hoho.leave.domain.shared.DayQuantity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccrualPolicyEngine 테스트")
+class AccrualPolicyEngineTest {
+
+    private final AccrualPolicyEngine engine = new AccrualPolicyEngine();
+
+    @Test
+    @DisplayName("입사 1년 미만의 부여일에는 월차 1일을 부여하고 다음 달 부여일을 잡는다")
+    void monthlyGrant() {
+        AccrualGrant grant = engine.nextGrant(LocalDate.of(2026, 1, 31), LeaveStage.MONTHLY, LocalDate.of(2026, 2, 28));
+
+        assertThat(grant.getAmount()).isEqualTo(DayQuantity.ONE_DAY);
+        assertThat(grant.getReasonCode()).isEqualTo(ReasonCode.GRANT_MONTHLY);
+        assertThat(grant.getLeaveStage()).isEqualTo(LeaveStage.MONTHLY);
+        assertThat(grant.getNextAccrualAt()).isEqualTo(LocalDate.of(2026, 3, 31));
+    }
+
+    @Test
+    @DisplayName("월차 단계에서 입사 1주년 부여일이 되면 연차 15일로 전환된다")
+    void firstAnniversarySwitchesToAnnual() {
+        AccrualGrant grant = engine.nextGrant(LocalDate.of(2025, 3, 10), LeaveStage.MONTHLY, LocalDate.of(2026, 3, 10));
+
+        assertThat(grant.getAmount()).isEqualTo(DayQuantity.ofDays(15));
+        assertThat(grant.getReasonCode()).isEqualTo(ReasonCode.GRANT_REGULAR);
+        assertThat(grant.getLeaveStage()).isEqualTo(LeaveStage.ANNUAL);
+        assertThat(grant.getNextAccrualAt()).isEqualTo(LocalDate.of(2027, 3, 10));
+    }
+
+    @Test
+    @DisplayName("연차는 2년마다 1일씩 가산되고 25일을 넘지 않는다")
+    void annualDaysByTenure() {
+        LocalDate hireDate = LocalDate.of(2000, 5, 1);
+
+        assertThat(AccrualPolicyEngine.annualDays(hireDate, LocalDate.of(2001, 5, 1))).isEqualTo(15);
+        assertThat(AccrualPolicyEngine.annualDays(hireDate, LocalDate.of(2002, 5, 1))).isEqualTo(15);
+        assertThat(AccrualPolicyEngine.annualDays(hireDate, LocalDate.of(2003, 5, 1))).isEqualTo(16);
+        assertThat(AccrualPolicyEngine.annualDays(hireDate, LocalDate.of(2021, 5, 1))).isEqualTo(25);
+        assertThat(AccrualPolicyEngine.annualDays(hireDate, LocalDate.of(2030, 5, 1))).isEqualTo(25);
+    }
+}
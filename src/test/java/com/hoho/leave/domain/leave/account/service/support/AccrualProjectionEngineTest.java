@@ -0,0 +1,90 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccrualProjectionEngine 테스트")
+class AccrualProjectionEngineTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 10, 19);
+
+    private final AccrualProjectionEngine engine = new AccrualProjectionEngine();
+
+    @Test
+    @DisplayName("조회 테이블 예측은 부여일을 날짜 단위로 따라간 결과와 같다")
+    void matchesDateByDateReference() {
+        Random random = new Random(7);
+        int users = 10_000;
+        int years = 5;
+        LocalDate[] hireDates = new LocalDate[users];
+        int[] hireMonths = new int[users];
+        int[] hireDays = new int[users];
+        int[] balances = new int[users];
+        for (int i = 0; i < users; i++) {
+            hireDates[i] = LocalDate.of(1995, 1, 1).plusDays(random.nextInt(365 * 33));
+            hireMonths[i] = AccrualProjectionEngine.monthIndex(hireDates[i]);
+            hireDays[i] = hireDates[i].getDayOfMonth();
+            balances[i] = random.nextInt(3_000);
+        }
+
+        AccrualProjection projection = engine.project(hireMonths, hireDays, balances, FROM, years, AccrualRules.standard());
+
+        long[] aggregate = new long[years * 12];
+        for (int i = 0; i < users; i++) {
+            for (int k = 0; k < years * 12; k++) {
+                int expected = referenceBalance(hireDates[i], balances[i], YearMonth.from(FROM).plusMonths(k).atEndOfMonth());
+                aggregate[k] += expected;
+                if (k % 12 == 11) {
+                    assertThat(projection.userBalanceAt(i, k / 12)).as("hireDate=%s, month=%d", hireDates[i], k).isEqualTo(expected);
+                }
+            }
+        }
+        assertThat(projection.getAggregate()).containsExactly(aggregate);
+    }
+
+    @Test
+    @DisplayName("부여 규칙을 바꾸면 바뀐 규칙으로 예측한다")
+    void whatIfRules() {
+        LocalDate hireDate = LocalDate.of(2026, 10, 1);
+        AccrualRules rules = new AccrualRules(new BigDecimal("0.5"), 11, 20, 1, 30);
+
+        AccrualProjection projection = engine.project(
+                new int[]{AccrualProjectionEngine.monthIndex(hireDate)}, new int[]{1}, new int[]{0}, FROM, 2, rules);
+
+        // 1년차 말(2027-09-30): 월차 0.5일 × 11
+        assertThat(projection.userBalanceAt(0, 0)).isEqualTo(550);
+        // 2년차 말(2028-09-30): + 1주년 연차 20일
+        assertThat(projection.userBalanceAt(0, 1)).isEqualTo(550 + 2_000);
+    }
+
+    @Test
+    @DisplayName("대상 사용자가 없으면 0으로 채운 곡선을 반환한다")
+    void emptyInput() {
+        AccrualProjection projection = engine.project(new int[0], new int[0], new int[0], FROM, 3, AccrualRules.standard());
+
+        assertThat(projection.getAggregate()).hasSize(36).containsOnly(0L);
+        assertThat(projection.getUserCurves()).isEmpty();
+    }
+
+    private static int referenceBalance(LocalDate hireDate, int balance, LocalDate until) {
+        int value = balance;
+        for (int m = 1; m <= 11; m++) {
+            LocalDate accrualDate = hireDate.plusMonths(m);
+            if (accrualDate.isAfter(FROM) && !accrualDate.isAfter(until)) value += 100;
+        }
+        for (int y = 1; y <= 50; y++) {
+            LocalDate accrualDate = hireDate.plusYears(y);
+            if (accrualDate.isAfter(FROM) && !accrualDate.isAfter(until)) {
+                value += AccrualPolicyEngine.annualDays(hireDate, accrualDate) * 100;
+            }
+        }
+        return value;
+    }
+}
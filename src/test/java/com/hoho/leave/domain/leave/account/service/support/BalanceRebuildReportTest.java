@@ -0,0 +1,79 @@
+package com.hoho.leave.domain.leave.account.service.support;
+
+import com.hoho.leave.domain.leave.account.repository.UserLeavesRepository.BalanceDiffRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BalanceRebuildReport 테스트")
+class BalanceRebuildReportTest {
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 집계가 맞고 불일치 목록은 상한까지만 보관한다")
+    void concurrentRecordKeepsBoundedDiffs() throws InterruptedException {
+        BalanceRebuildReport report = new BalanceRebuildReport(false, 100, 50);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int r = 0; r < 100; r++) {
+            long base = r * 10L;
+            executor.submit(() -> report.record(20, LongStream.range(base, base + 3).mapToObj(BalanceRebuildReportTest::diff).toList(), 0));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(report.getProcessedRanges().get()).isEqualTo(100);
+        assertThat(report.getScannedAccounts().get()).isEqualTo(2_000);
+        assertThat(report.getMismatchedAccounts().get()).isEqualTo(300);
+        assertThat(report.getDiffs()).hasSize(50);
+        assertThat(report.progress()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("완료/실패 시 상태와 종료 시각이 기록된다")
+    void statusTransitions() {
+        BalanceRebuildReport completed = new BalanceRebuildReport(true, 0, 10);
+        completed.complete();
+        BalanceRebuildReport failed = new BalanceRebuildReport(true, 3, 10);
+        failed.record(5, List.of(), 0);
+        failed.fail("boom");
+
+        assertThat(completed.getStatus()).isEqualTo(BalanceRebuildReport.Status.COMPLETED);
+        assertThat(completed.progress()).isEqualTo(1.0);
+        assertThat(failed.getStatus()).isEqualTo(BalanceRebuildReport.Status.FAILED);
+        assertThat(failed.getError()).isEqualTo("boom");
+        assertThat(failed.getFinishedAt()).isNotNull();
+        assertThat(failed.progress()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    @DisplayName("실패한 구간이 있으면 진행률에 포함하고 일부 실패로 완료한다")
+    void failedRangeCompletesWithErrors() {
+        BalanceRebuildReport report = new BalanceRebuildReport(true, 2, 10);
+        report.record(5, List.of(), 0);
+        report.recordFailure(2000, 4000, "boom");
+        report.complete();
+
+        assertThat(report.getStatus()).isEqualTo(BalanceRebuildReport.Status.COMPLETED_WITH_ERRORS);
+        assertThat(report.getFailedRanges().get()).isEqualTo(1);
+        assertThat(report.getError()).isEqualTo("range=[2000, 4000): boom");
+        assertThat(report.progress()).isEqualTo(1.0);
+    }
+
+    private static BalanceDiffRow diff(long id) {
+        return new BalanceDiffRow() {
+            public Long getUserLeavesId() { return id; }
+            public Long getUserId() { return id; }
+            public BigDecimal getBalanceDays() { return BigDecimal.TEN; }
+            public BigDecimal getLedgerDays() { return BigDecimal.ONE; }
+            public Long getEntryCount() { return 1L; }
+        };
+    }
+}
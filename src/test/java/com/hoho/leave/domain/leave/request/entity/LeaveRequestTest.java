@@ -0,0 +1,53 @@
+package com.hoho.leave.domain.leave.request.entity;
+
+import com.hoho.leave.common.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LeaveRequest 엔티티 테스트")
+class LeaveRequestTest {
+
+    private LeaveRequest leaveRequest;
+
+    @BeforeEach
+    void setUp() {
+        leaveRequest = new LeaveRequest();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = LeaveRequestStatus.class, names = {"APPROVED", "REJECTED", "CANCELED"})
+    @DisplayName("성공: 대기 중인 신청은 종료 상태로 변경할 수 있다")
+    void updateStatus_FromPending(LeaveRequestStatus status) {
+        leaveRequest.updateStatus(status);
+
+        assertThat(leaveRequest.getStatus()).isEqualTo(status);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = LeaveRequestStatus.class, names = {"APPROVED", "REJECTED", "CANCELED"})
+    @DisplayName("실패: 종료된 신청은 어떤 상태로도 변경할 수 없다")
+    void updateStatus_FromTerminal(LeaveRequestStatus terminal) {
+        ReflectionTestUtils.setField(leaveRequest, "status", terminal);
+
+        for (LeaveRequestStatus status : LeaveRequestStatus.values()) {
+            assertThatThrownBy(() -> leaveRequest.updateStatus(status))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("이미 종료된 휴가 신청");
+        }
+        assertThat(leaveRequest.getStatus()).isEqualTo(terminal);
+    }
+
+    @Test
+    @DisplayName("실패: 대기 상태로는 변경할 수 없다")
+    void updateStatus_ToPending() {
+        assertThatThrownBy(() -> leaveRequest.updateStatus(LeaveRequestStatus.PENDING))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.hoho.leave.domain.leave.request.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네이티브 쿼리를 실제로 실행해 보는 리포지토리 테스트. (H2 MySQL 호환 모드)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:attachment-blob;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("AttachmentBlobRepository 테스트")
+class AttachmentBlobRepositoryTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private AttachmentBlobRepository blobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, username, password, email, employee_no, hire_date, role, is_active, created_at)
+                VALUES (1, 'user1', 'pw', 'user1@test.com', 'E1', DATE '2020-01-01', 'ROLE_USER', TRUE, NOW())
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO leave_type (id, leave_name, unit_days, leave_decrement, requires_attachment, leave_code, created_at)
+                VALUES (1, '연차', 1.00, TRUE, FALSE, 'ANNUAL_LEAVE', NOW())
+                """);
+    }
+
+    @Test
+    @DisplayName("종료되고 기준일 이전에 끝난 휴가 신청의 blob만 보관 대상이다")
+    void findsBlobsOfClosedOldRequests() {
+        leaveRequest(10L, "APPROVED", CUTOFF.minusMonths(1));
+        leaveRequest(11L, "PENDING", CUTOFF.minusMonths(1));
+        leaveRequest(12L, "APPROVED", CUTOFF.plusDays(1));
+        blob(100L);
+        blob(101L);
+        blob(102L);
+        attachment(1000L, 10L, 100L, null);
+        attachment(1001L, 11L, 101L, null);
+        attachment(1002L, 12L, 102L, null);
+
+        assertThat(blobRepository.findArchiveCandidateIds(CUTOFF, 0L, 10)).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("재압축 전 원본 blob은 참조하는 휴가 신청이 대기 중이면 보관 대상이 아니다")
+    void keepsOriginalBlobOfPendingRequest() {
+        // 종료된 신청의 원본 blob(200)을, 대기 중인 신청이 재압축 전 원본으로 함께 참조한다
+        leaveRequest(10L, "APPROVED", CUTOFF.minusMonths(1));
+        leaveRequest(11L, "PENDING", CUTOFF.minusMonths(1));
+        blob(200L);
+        blob(201L);
+        attachment(2000L, 10L, 200L, null);
+        attachment(2001L, 11L, 201L, 200L);
+
+        assertThat(blobRepository.findArchiveCandidateIds(CUTOFF, 0L, 10)).isEmpty();
+
+        jdbcTemplate.update("UPDATE leave_request SET status = 'APPROVED' WHERE id = 11");
+
+        assertThat(blobRepository.findArchiveCandidateIds(CUTOFF, 0L, 10)).containsExactly(200L, 201L);
+    }
+
+    private void leaveRequest(Long id, String status, LocalDate day) {
+        jdbcTemplate.update("""
+                INSERT INTO leave_request (id, user_id, leave_type_id, status, quantity_days, start_day, end_day, version, created_at)
+                VALUES (?, 1, 1, ?, 1.00, ?, ?, 0, NOW())
+                """, id, status, day, day);
+    }
+
+    private void blob(Long id) {
+        jdbcTemplate.update("""
+                INSERT INTO attachment_blob (id, sha256, size_bytes, storage_key, ref_count, tier, created_at)
+                VALUES (?, ?, 10, ?, 1, 'LOCAL', NOW())
+                """, id, "sha" + id, "key/" + id);
+    }
+
+    private void attachment(Long id, Long leaveRequestId, Long blobId, Long originalBlobId) {
+        jdbcTemplate.update("""
+                INSERT INTO leave_request_attachment (id, leave_request_id, original_name, store_name, file_path,
+                                                      content_type, size_bytes, blob_id, original_blob_id,
+                                                      uploaded_by_id, created_at)
+                VALUES (?, ?, 'a.png', ?, ?, 'image/png', 10, ?, ?, 1, NOW())
+                """, id, leaveRequestId, "store" + id, "/tmp/store" + id, blobId, originalBlobId);
+    }
+}
@@ -0,0 +1,193 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalInboxResponse;
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalResponse;
+import com.hoho.leave.domain.leave.request.repository.ApproverPendingCountRepository;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 결재함 키셋 페이징과 대기 건수 카운터 쿼리를 실제로 실행해 보는 테스트. (H2 MySQL 호환 모드)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:approval-inbox;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("ApprovalInboxService 테스트")
+class ApprovalInboxServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 2, 9, 0);
+    private static final LocalDateTime T1 = T0.plusMinutes(5);
+    private static final LocalDateTime T2 = T0.plusMinutes(10);
+
+    @Autowired
+    private LeaveRequestApprovalRepository approvalRepository;
+
+    @Autowired
+    private ApproverPendingCountRepository pendingCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ApprovalInboxService inboxService;
+
+    @BeforeEach
+    void setUp() {
+        DelegationResolver delegationResolver = mock(DelegationResolver.class);
+        given(delegationResolver.actingApproverIds(anyLong())).willAnswer(inv -> List.of(inv.<Long>getArgument(0)));
+        inboxService = new ApprovalInboxService(approvalRepository, pendingCountRepository, delegationResolver);
+
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("""
+                    INSERT INTO users (id, username, password, email, employee_no, hire_date, role, is_active, created_at)
+                    VALUES (?, ?, 'pw', ?, ?, DATE '2020-01-01', 'ROLE_USER', TRUE, NOW())
+                    """, id, "user" + id, "user" + id + "@test.com", "E" + id);
+        }
+        jdbcTemplate.update("""
+                INSERT INTO leave_type (id, leave_name, unit_days, leave_decrement, requires_attachment, leave_code, created_at)
+                VALUES (1, '연차', 1.00, TRUE, FALSE, 'ANNUAL_LEAVE', NOW())
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO leave_request (id, user_id, leave_type_id, status, quantity_days, start_day, end_day, version, created_at)
+                VALUES (100, 3, 1, 'PENDING', 1.00, DATE '2026-03-10', DATE '2026-03-10', 0, NOW())
+                """);
+
+        // 결재자 1: 11(T0), 12~14(T1 동률), 15(T2) 대기 / 결재자 2: 16 대기 / 17은 이미 승인
+        approval(11L, 1L, "PENDING", T0);
+        approval(12L, 1L, "PENDING", T1);
+        approval(13L, 1L, "PENDING", T1);
+        approval(14L, 1L, "PENDING", T1);
+        approval(15L, 1L, "PENDING", T2);
+        approval(16L, 2L, "PENDING", T0);
+        approval(17L, 1L, "APPROVED", T0);
+    }
+
+    @Nested
+    @DisplayName("결재함 키셋 페이징")
+    class Inbox {
+
+        @Test
+        @DisplayName("생성 일시가 같은 건은 ID 순으로 이어 읽어 빠지거나 겹치는 건이 없다")
+        void pagesThroughTies() {
+            LeaveApprovalInboxResponse first = inboxService.getInbox(1L, null, null, 2);
+            LeaveApprovalInboxResponse second = inboxService.getInbox(1L,
+                    first.getNextCursorCreatedAt(), first.getNextCursorId(), 2);
+            LeaveApprovalInboxResponse third = inboxService.getInbox(1L,
+                    second.getNextCursorCreatedAt(), second.getNextCursorId(), 2);
+
+            assertThat(ids(first)).containsExactly(11L, 12L);
+            assertThat(first.getHasNext()).isTrue();
+            assertThat(first.getNextCursorCreatedAt()).isEqualTo(T1);
+            assertThat(first.getNextCursorId()).isEqualTo(12L);
+            assertThat(ids(second)).containsExactly(13L, 14L);
+            assertThat(second.getHasNext()).isTrue();
+            assertThat(ids(third)).containsExactly(15L);
+            assertThat(third.getHasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("남은 건수가 페이지 크기와 같으면 다음 페이지가 없다고 알린다")
+        void exactlyOnePage() {
+            LeaveApprovalInboxResponse page = inboxService.getInbox(1L, null, null, 5);
+
+            assertThat(ids(page)).containsExactly(11L, 12L, 13L, 14L, 15L);
+            assertThat(page.getHasNext()).isFalse();
+            assertThat(page.getNextCursorId()).isEqualTo(15L);
+        }
+
+        @Test
+        @DisplayName("마지막 건 뒤를 커서로 주면 빈 페이지와 빈 커서를 돌려준다")
+        void afterLastRow() {
+            LeaveApprovalInboxResponse page = inboxService.getInbox(1L, T2, 15L, 2);
+
+            assertThat(page.getLeaveApprovals()).isEmpty();
+            assertThat(page.getHasNext()).isFalse();
+            assertThat(page.getNextCursorCreatedAt()).isNull();
+            assertThat(page.getNextCursorId()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("대기 건수 카운터")
+    class PendingCount {
+
+        @Test
+        @DisplayName("증감은 행이 없으면 만들고, 0 아래로 내려가지 않는다")
+        void floorsAtZero() {
+            inboxService.adjustPendingCount(1L, -3L);
+            assertThat(count(1L)).isZero();
+
+            inboxService.adjustPendingCount(1L, 2L);
+            assertThat(count(1L)).isEqualTo(2L);
+
+            inboxService.adjustPendingCount(1L, -5L);
+            assertThat(count(1L)).isZero();
+        }
+
+        @Test
+        @DisplayName("보정은 어긋난 카운터를 실제 대기 건수로 맞추고 없는 카운터는 만든다")
+        void reconcilesDriftedCounters() {
+            counter(1L, 7L);      // 실제 5건
+            counter(3L, 2L);      // 실제 0건
+            // 결재자 2는 카운터 행이 없음 (실제 1건)
+
+            inboxService.reconcilePendingCounts();
+
+            assertThat(count(1L)).isEqualTo(5L);
+            assertThat(count(2L)).isEqualTo(1L);
+            assertThat(count(3L)).isZero();
+            assertThat(inboxService.getPendingCount(1L).getPendingCount()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("맞는 카운터는 보정 대상으로 세지 않는다")
+        void leavesCorrectCounters() {
+            counter(1L, 5L);
+            counter(2L, 1L);
+
+            assertThat(pendingCountRepository.reconcileCounts()).isZero();
+        }
+    }
+
+    private void approval(Long id, Long approverId, String status, LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO leave_request_approval (id, leave_request_id, approver_id, step_no, status, sla_stage, version, created_at)
+                VALUES (?, 100, ?, ?, ?, 'NONE', 0, ?)
+                """, id, approverId, id.intValue(), status, createdAt);
+    }
+
+    private void counter(Long approverId, Long pendingCount) {
+        jdbcTemplate.update("INSERT INTO approver_pending_count (approver_id, pending_count, updated_at) VALUES (?, ?, NOW())",
+                approverId, pendingCount);
+    }
+
+    private Long count(Long approverId) {
+        return jdbcTemplate.queryForObject("SELECT pending_count FROM approver_pending_count WHERE approver_id = ?",
+                Long.class, approverId);
+    }
+
+    private static List<Long> ids(LeaveApprovalInboxResponse response) {
+        return response.getLeaveApprovals().stream().map(LeaveApprovalResponse::getApprovalId).toList();
+    }
+}
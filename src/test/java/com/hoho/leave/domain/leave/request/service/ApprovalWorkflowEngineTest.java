@@ -0,0 +1,354 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.exception.BusinessException;
+import com.hoho.leave.domain.leave.policy.repository.UserDefaultApproverRepository;
+import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequest;
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestStatus;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.ApprovalDecisionRow;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.ActiveStepRow;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestRepository;
+import com.hoho.leave.domain.leave.request.service.support.WorkflowTransition;
+import com.hoho.leave.domain.user.entity.User;
+import com.hoho.leave.domain.user.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApprovalWorkflowEngine 테스트")
+class ApprovalWorkflowEngineTest {
+
+    private static final long REQUEST_ID = 100L;
+    private static final long APPLICANT_ID = 9L;
+    private static final long STEP1_APPROVAL_ID = 11L;
+    private static final long STEP2_APPROVAL_ID = 12L;
+
+    @InjectMocks
+    private ApprovalWorkflowEngine engine;
+
+    @Mock
+    private LeaveRequestApprovalRepository approvalRepository;
+
+    @Mock
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Mock
+    private ApprovalInboxService approvalInboxService;
+
+    @Mock
+    private DelegationResolver delegationResolver;
+
+    @Mock
+    private UserDefaultApproverRepository userDefaultApproverRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private User approver1;
+    private User approver2;
+    private User delegate1;
+
+    /** 결재 ID별 상태 (조건부 UPDATE를 원자적으로 흉내 낸다) */
+    private final Map<Long, ApprovalStatus> approvals = new ConcurrentHashMap<>();
+    private final AtomicReference<LeaveRequestStatus> requestStatus = new AtomicReference<>();
+    private final AtomicInteger closedCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        approver1 = user(1L, "approver1@example.com");
+        approver2 = user(2L, "approver2@example.com");
+        delegate1 = user(3L, "delegate1@example.com");
+        resetLine();
+
+        // approver1 -> delegate1 위임
+        lenient().when(delegationResolver.canActFor(anyLong(), anyLong())).thenAnswer(inv -> {
+            Long actorId = inv.getArgument(0);
+            Long approverId = inv.getArgument(1);
+            return actorId.equals(approverId)
+                    || (approverId.equals(approver1.getId()) && actorId.equals(delegate1.getId()));
+        });
+
+        lenient().when(approvalRepository.findDecisionRowsByIds(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return ids.stream().filter(approvals::containsKey).map(this::row).toList();
+        });
+
+        lenient().when(approvalRepository.decideAll(anyCollection(), any(), any(), any(), any(), any())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            ApprovalStatus status = inv.getArgument(1);
+            ApprovalStatus pending = inv.getArgument(5);
+            return (int) ids.stream().filter(id -> approvals.replace(id, pending, status)).count();
+        });
+
+        lenient().when(approvalRepository.activateSteps(anyCollection(), anyInt(), any(), any(), any(), any())).thenAnswer(inv -> {
+            Integer stepNo = inv.getArgument(1);
+            if (stepNo != 2) return 0;
+            return approvals.replace(STEP2_APPROVAL_ID, inv.getArgument(2), inv.getArgument(3)) ? 1 : 0;
+        });
+
+        lenient().when(approvalRepository.findActiveSteps(anyCollection(), anyInt(), any())).thenAnswer(inv -> {
+            Integer stepNo = inv.getArgument(1);
+            if (stepNo != 2 || approvals.get(STEP2_APPROVAL_ID) != ApprovalStatus.PENDING) return List.of();
+            return List.of(activeStep(STEP2_APPROVAL_ID, 2, approver2.getId(), LocalDateTime.now().plusHours(24)));
+        });
+
+        lenient().when(approvalRepository.skipWaitingSteps(anyCollection(), any(), any(), any())).thenAnswer(inv -> {
+            ApprovalStatus waiting = inv.getArgument(1);
+            ApprovalStatus skipped = inv.getArgument(2);
+            return approvals.replace(STEP2_APPROVAL_ID, waiting, skipped) ? 1 : 0;
+        });
+
+        lenient().when(leaveRequestRepository.closeAll(anyCollection(), any(), any(), any())).thenAnswer(inv -> {
+            LeaveRequestStatus status = inv.getArgument(1);
+            LeaveRequestStatus pending = inv.getArgument(2);
+            if (!requestStatus.compareAndSet(pending, status)) return 0;
+            closedCount.incrementAndGet();
+            return 1;
+        });
+    }
+
+    @Nested
+    @DisplayName("결재선 생성")
+    class OpenApprovalLine {
+
+        @Test
+        @DisplayName("기본 결재자가 없으면 신청 저장 전에 거절한다")
+        void rejectsWithoutDefaultApprover() {
+            given(userDefaultApproverRepository.existsByUserId(APPLICANT_ID)).willReturn(false);
+
+            assertThatThrownBy(() -> engine.validateApprovalLine(APPLICANT_ID))
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("생성된 결재 단계가 없으면 예외로 신청 저장까지 되돌린다")
+        void failsWhenNoStepCreated() {
+            LeaveRequest leaveRequest = mock(LeaveRequest.class);
+            given(leaveRequest.getId()).willReturn(REQUEST_ID);
+            given(leaveRequest.getUser()).willReturn(user(APPLICANT_ID, "applicant@example.com"));
+            given(approvalRepository.openApprovalLine(eq(REQUEST_ID), eq(APPLICANT_ID), any(), any())).willReturn(0);
+
+            assertThatThrownBy(() -> engine.openApprovalLine(leaveRequest))
+                    .isInstanceOf(BusinessException.class);
+            verify(approvalInboxService, never()).adjustPendingCount(anyLong(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("단건 결재 처리")
+    class Decide {
+
+        @Test
+        @DisplayName("1단계 승인 시 2단계가 활성화되고 신청은 대기 상태로 남는다")
+        void approveFirstStep() {
+            WorkflowTransition transition = engine.decide(STEP1_APPROVAL_ID, ApprovalStatus.APPROVED, null, approver1);
+
+            assertThat(transition.isRequestClosed()).isFalse();
+            assertThat(transition.getNextApproverId()).isEqualTo(approver2.getId());
+            assertThat(approvals.get(STEP2_APPROVAL_ID)).isEqualTo(ApprovalStatus.PENDING);
+            assertThat(requestStatus.get()).isEqualTo(LeaveRequestStatus.PENDING);
+            verify(approvalInboxService).adjustPendingCount(approver1.getId(), -1);
+            verify(approvalInboxService).adjustPendingCount(approver2.getId(), 1);
+        }
+
+        @Test
+        @DisplayName("마지막 단계 승인 시 다음 단계가 없으므로 신청이 승인 종료된다")
+        void approveLastStep() {
+            engine.decide(STEP1_APPROVAL_ID, ApprovalStatus.APPROVED, null, approver1);
+            WorkflowTransition transition = engine.decide(STEP2_APPROVAL_ID, ApprovalStatus.APPROVED, null, approver2);
+
+            assertThat(transition.getRequestStatus()).isEqualTo(LeaveRequestStatus.APPROVED);
+            assertThat(requestStatus.get()).isEqualTo(LeaveRequestStatus.APPROVED);
+        }
+
+        @Test
+        @DisplayName("반려 시 다음 단계를 활성화하지 않고 건너뜀으로 종료하며 신청이 반려 종료된다")
+        void rejectFirstStep() {
+            WorkflowTransition transition = engine.decide(STEP1_APPROVAL_ID, ApprovalStatus.REJECTED, "일정 조정 필요", approver1);
+
+            assertThat(transition.getRequestStatus()).isEqualTo(LeaveRequestStatus.REJECTED);
+            assertThat(approvals.get(STEP2_APPROVAL_ID)).isEqualTo(ApprovalStatus.SKIPPED);
+            verify(approvalRepository, never()).activateSteps(anyCollection(), anyInt(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("활성화되지 않은 단계는 처리할 수 없다")
+        void waitingStepCannotDecide() {
+            assertThatThrownBy(() -> engine.decide(STEP2_APPROVAL_ID, ApprovalStatus.APPROVED, null, approver2))
+                    .isInstanceOf(BusinessException.class);
+            assertThat(approvals.get(STEP2_APPROVAL_ID)).isEqualTo(ApprovalStatus.WAITING);
+        }
+
+        @Test
+        @DisplayName("위임받은 수임자는 원 결재자 대신 처리할 수 있다")
+        void delegateCanDecide() {
+            WorkflowTransition transition = engine.decide(STEP1_APPROVAL_ID, ApprovalStatus.APPROVED, null, delegate1);
+
+            assertThat(transition.getNextApproverId()).isEqualTo(approver2.getId());
+            verify(approvalRepository).decideAll(anyCollection(), eq(ApprovalStatus.APPROVED), isNull(),
+                    eq(delegate1), any(), eq(ApprovalStatus.PENDING));
+            verify(approvalInboxService).adjustPendingCount(approver1.getId(), -1);
+        }
+
+        @Test
+        @DisplayName("지정된 결재자가 아니면 처리할 수 없다")
+        void otherUserCannotDecide() {
+            assertThatThrownBy(() -> engine.decide(STEP1_APPROVAL_ID, ApprovalStatus.APPROVED, null, approver2))
+                    .isInstanceOf(BusinessException.class);
+            assertThat(approvals.get(STEP1_APPROVAL_ID)).isEqualTo(ApprovalStatus.PENDING);
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 결재 처리")
+    class Concurrency {
+
+        @Test
+        @DisplayName("1단계와 2단계 결재자가 거의 동시에 승인해도 순서대로 진행되고 신청은 한 번만 승인된다")
+        void bothStepsActAtNearlyTheSameTime() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                for (int round = 0; round < 200; round++) {
+                    resetLine();
+                    CountDownLatch start = new CountDownLatch(1);
+
+                    Future<WorkflowTransition> first = executor.submit(() -> {
+                        start.await();
+                        return engine.decide(STEP1_APPROVAL_ID, ApprovalStatus.APPROVED, null, approver1);
+                    });
+                    Future<WorkflowTransition> second = executor.submit(() -> {
+                        start.await();
+                        return decideUntilActive(STEP2_APPROVAL_ID, approver2);
+                    });
+
+                    start.countDown();
+                    WorkflowTransition step1 = first.get(5, TimeUnit.SECONDS);
+                    WorkflowTransition step2 = second.get(5, TimeUnit.SECONDS);
+
+                    assertThat(step1.getRequestStatus()).isEqualTo(LeaveRequestStatus.PENDING);
+                    assertThat(step2.getRequestStatus()).isEqualTo(LeaveRequestStatus.APPROVED);
+                    assertThat(approvals.values()).containsOnly(ApprovalStatus.APPROVED);
+                    assertThat(requestStatus.get()).isEqualTo(LeaveRequestStatus.APPROVED);
+                    assertThat(closedCount.get()).isEqualTo(1);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("같은 단계를 동시에 처리하면 한 건만 반영된다")
+        void sameStepActsTwice() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                for (int round = 0; round < 200; round++) {
+                    resetLine();
+                    CountDownLatch start = new CountDownLatch(1);
+                    AtomicInteger applied = new AtomicInteger();
+
+                    Callable<Void> task = () -> {
+                        start.await();
+                        try {
+                            engine.decide(STEP1_APPROVAL_ID, ApprovalStatus.APPROVED, null, approver1);
+                            applied.incrementAndGet();
+                        } catch (BusinessException | ConcurrencyFailureException ignored) {
+                            // 먼저 반영된 결재에 밀린 요청
+                        }
+                        return null;
+                    };
+                    Future<Void> a = executor.submit(task);
+                    Future<Void> b = executor.submit(task);
+
+                    start.countDown();
+                    a.get(5, TimeUnit.SECONDS);
+                    b.get(5, TimeUnit.SECONDS);
+
+                    assertThat(applied.get()).isEqualTo(1);
+                    assertThat(approvals.get(STEP2_APPROVAL_ID)).isEqualTo(ApprovalStatus.PENDING);
+                    assertThat(requestStatus.get()).isEqualTo(LeaveRequestStatus.PENDING);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 단계가 활성화될 때까지 결재를 재시도한다. (사용자가 다시 누르는 상황)
+     */
+    private WorkflowTransition decideUntilActive(Long approvalId, User actor) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        while (true) {
+            try {
+                return engine.decide(approvalId, ApprovalStatus.APPROVED, null, actor);
+            } catch (BusinessException | ConcurrencyFailureException e) {
+                if (System.nanoTime() > deadline) throw e;
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void resetLine() {
+        approvals.put(STEP1_APPROVAL_ID, ApprovalStatus.PENDING);
+        approvals.put(STEP2_APPROVAL_ID, ApprovalStatus.WAITING);
+        requestStatus.set(LeaveRequestStatus.PENDING);
+        closedCount.set(0);
+    }
+
+    private ApprovalDecisionRow row(Long approvalId) {
+        boolean first = approvalId == STEP1_APPROVAL_ID;
+        ApprovalStatus status = approvals.get(approvalId);
+        return new ApprovalDecisionRow() {
+            public Long getApprovalId() { return approvalId; }
+            public Long getApproverId() { return first ? approver1.getId() : approver2.getId(); }
+            public ApprovalStatus getStatus() { return status; }
+            public Integer getStepNo() { return first ? 1 : 2; }
+            public Long getLeaveRequestId() { return REQUEST_ID; }
+            public Long getApplicantId() { return APPLICANT_ID; }
+        };
+    }
+
+    private static ActiveStepRow activeStep(Long approvalId, Integer stepNo, Long approverId, LocalDateTime dueAt) {
+        return new ActiveStepRow() {
+            public Long getApprovalId() { return approvalId; }
+            public Long getLeaveRequestId() { return REQUEST_ID; }
+            public Integer getStepNo() { return stepNo; }
+            public Long getApproverId() { return approverId; }
+            public LocalDateTime getDueAt() { return dueAt; }
+        };
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User(email, UserRole.ROLE_USER);
+        ReflectionTestUtils.setField(user, "id", id);
+        ReflectionTestUtils.setField(user, "username", email);
+        return user;
+    }
+}
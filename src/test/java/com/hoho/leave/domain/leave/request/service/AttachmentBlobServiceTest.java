@@ -0,0 +1,115 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.request.entity.AttachmentBlob;
+import com.hoho.leave.domain.leave.request.entity.StorageTier;
+import com.hoho.leave.domain.leave.request.repository.AttachmentBlobRepository;
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import com.hoho.leave.domain.leave.request.service.support.StagedBlob;
+import com.hoho.leave.domain.leave.request.service.support.ThumbnailCache;
+import com.hoho.leave.domain.leave.request.service.support.TieredBlobStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentBlobService 테스트")
+class AttachmentBlobServiceTest {
+
+    private static final String SHA = "ab12" + "0".repeat(60);
+
+    @InjectMocks
+    private AttachmentBlobService blobService;
+
+    @Mock
+    private AttachmentBlobRepository blobRepository;
+
+    @Mock
+    private ContentAddressedStore contentStore;
+
+    @Mock
+    private ThumbnailCache thumbnailCache;
+
+    @Mock
+    private TieredBlobStore tieredBlobStore;
+
+    @Test
+    @DisplayName("참조 등록은 blob 행만 기록하고 파일은 옮기지 않는다")
+    void acquireDoesNotPromote() throws IOException {
+        StagedBlob staged = StagedBlob.of(Path.of("staging/upload-1.part"), SHA, 10L);
+        AttachmentBlob blob = blob(1L);
+        given(blobRepository.findBySha256(SHA)).willReturn(Optional.of(blob));
+
+        assertThat(blobService.acquire(staged)).isSameAs(blob);
+
+        verify(blobRepository).acquire(eq(SHA), eq(10L), eq("ab/12/" + SHA), any());
+        verify(contentStore, never()).promote(any());
+    }
+
+    @Test
+    @DisplayName("그 사이 다시 참조된 blob은 파일을 지우지 않는다")
+    void purgeSkipsReferencedBlob() throws IOException {
+        given(blobRepository.findById(1L)).willReturn(Optional.of(blob(1L)));
+        given(blobRepository.deleteIfUnreferenced(1L)).willReturn(0);
+
+        assertThat(blobService.purge(1L)).isFalse();
+        verify(contentStore, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("참조가 없는 blob은 행을 지운 트랜잭션 안에서 파일과 썸네일도 지운다")
+    void purgeDeletesFile() throws IOException {
+        Path stored = Path.of("blobs/ab/12/" + SHA);
+        given(blobRepository.findById(1L)).willReturn(Optional.of(blob(1L)));
+        given(blobRepository.deleteIfUnreferenced(1L)).willReturn(1);
+        given(contentStore.resolve("ab/12/" + SHA)).willReturn(stored);
+
+        assertThat(blobService.purge(1L)).isTrue();
+        verify(contentStore).delete("ab/12/" + SHA);
+        verify(thumbnailCache).remove(stored);
+        verify(tieredBlobStore, never()).deleteArchived(any());
+    }
+
+    @Test
+    @DisplayName("보관된 blob을 지우면 보관 저장소의 사본도 지운다")
+    void purgeDeletesArchivedCopy() throws IOException {
+        AttachmentBlob blob = blob(1L);
+        given(blob.getTier()).willReturn(StorageTier.ARCHIVE);
+        given(blobRepository.findById(1L)).willReturn(Optional.of(blob));
+        given(blobRepository.deleteIfUnreferenced(1L)).willReturn(1);
+
+        assertThat(blobService.purge(1L)).isTrue();
+        verify(contentStore).delete("ab/12/" + SHA);
+        verify(tieredBlobStore).deleteArchived("ab/12/" + SHA);
+    }
+
+    @Test
+    @DisplayName("참조 해제는 참조 수만 줄인다")
+    void releaseOnlyDecrements() throws IOException {
+        blobService.release(blob(1L));
+
+        verify(blobRepository).release(eq(1L), any());
+        verify(contentStore, never()).delete(any());
+        verify(blobRepository, never()).deleteIfUnreferenced(anyLong());
+    }
+
+    private static AttachmentBlob blob(Long id) {
+        AttachmentBlob blob = mock(AttachmentBlob.class);
+        lenient().when(blob.getId()).thenReturn(id);
+        lenient().when(blob.getStorageKey()).thenReturn(ContentAddressedStore.keyOf(SHA));
+        return blob;
+    }
+}
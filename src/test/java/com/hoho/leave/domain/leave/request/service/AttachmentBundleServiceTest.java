@@ -0,0 +1,118 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.exception.BusinessException;
+import com.hoho.leave.domain.leave.request.repository.AttachmentRepository;
+import com.hoho.leave.domain.leave.request.repository.AttachmentRepository.BundleRow;
+import com.hoho.leave.domain.leave.request.service.support.TieredBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentBundleService 테스트")
+class AttachmentBundleServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    @InjectMocks
+    private AttachmentBundleService bundleService;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private TieredBlobStore tieredBlobStore;
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bundleService, "pageSize", 2);
+        ReflectionTestUtils.setField(bundleService, "maxRangeDays", 366L);
+    }
+
+    @Test
+    @DisplayName("기간 묶음은 키셋 페이지를 이어 읽으며 휴가 신청별 폴더에 넣는다")
+    void bundlesByPeriodPageByPage() throws Exception {
+        BundleRow r1 = row(10L, 1L, "김철수", "진단서.pdf");
+        BundleRow r2 = row(11L, 1L, "김철수", "진단서.pdf");
+        BundleRow r3 = row(15L, 2L, "이영희", "../../etc/passwd");
+        given(attachmentRepository.findBundleRowsByLeavePeriod(FROM, TO, 0L, PageRequest.of(0, 2))).willReturn(List.of(r1, r2));
+        given(attachmentRepository.findBundleRowsByLeavePeriod(FROM, TO, 11L, PageRequest.of(0, 2))).willReturn(List.of(r3));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bundleService.bundleByLeavePeriod(FROM, TO).writeTo(out);
+
+        assertThat(entryNames(out.toByteArray())).containsExactly(
+                "1_김철수/10_진단서.pdf", "1_김철수/11_진단서.pdf", "2_이영희/15__.._etc_passwd");
+        verify(attachmentRepository, times(2)).findBundleRowsByLeavePeriod(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("최대 기간을 넘거나 시작일이 종료일보다 늦으면 예외가 발생한다")
+    void rejectsInvalidRange() {
+        assertThatThrownBy(() -> bundleService.bundleByLeavePeriod(TO, FROM))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> bundleService.bundleByLeavePeriod(FROM, FROM.plusDays(400)))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(attachmentRepository);
+    }
+
+    @Test
+    @DisplayName("같은 이름은 확장자 앞에 번호를 붙여 구분한다")
+    void uniqueNames() {
+        Map<String, Integer> seen = new HashMap<>();
+
+        assertThat(AttachmentBundleService.uniqueName("진단서.pdf", seen)).isEqualTo("진단서.pdf");
+        assertThat(AttachmentBundleService.uniqueName("진단서.PDF", seen)).isEqualTo("진단서 (2).PDF");
+        assertThat(AttachmentBundleService.uniqueName("진단서.pdf", seen)).isEqualTo("진단서 (3).pdf");
+    }
+
+    private BundleRow row(Long id, Long leaveRequestId, String requester, String originalName) throws Exception {
+        Path file = Files.writeString(dir.resolve("f" + id), "content-" + id);
+        BundleRow row = mock(BundleRow.class);
+        given(row.getId()).willReturn(id);
+        given(row.getLeaveRequestId()).willReturn(leaveRequestId);
+        given(row.getRequesterName()).willReturn(requester);
+        given(row.getOriginalName()).willReturn(originalName);
+        given(row.getFilePath()).willReturn(file.toString());
+        given(row.getContentType()).willReturn("application/pdf");
+        return row;
+    }
+
+    private static List<String> entryNames(byte[] zip) throws Exception {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) names.add(entry.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,150 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.request.entity.StorageTier;
+import com.hoho.leave.domain.leave.request.repository.AttachmentBlobRepository;
+import com.hoho.leave.domain.leave.request.repository.AttachmentBlobRepository.BlobKeyRow;
+import com.hoho.leave.domain.leave.request.repository.AttachmentRepository;
+import com.hoho.leave.domain.leave.request.repository.AttachmentRepository.FilePathRow;
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import com.hoho.leave.domain.leave.request.service.support.ReconcileReport;
+import com.hoho.leave.domain.leave.request.service.support.ThumbnailCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentReconcilerService 테스트")
+class AttachmentReconcilerServiceTest {
+
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(2));
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentBlobRepository blobRepository;
+
+    @Mock
+    private ThumbnailCache thumbnailCache;
+
+    @TempDir
+    Path uploadDir;
+
+    private ContentAddressedStore contentStore;
+    private AttachmentReconcilerService reconcilerService;
+
+    @BeforeEach
+    void setUp() {
+        contentStore = new ContentAddressedStore();
+        ReflectionTestUtils.setField(contentStore, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.invokeMethod(contentStore, "init");
+
+        reconcilerService = new AttachmentReconcilerService(attachmentRepository, blobRepository, contentStore, thumbnailCache);
+        ReflectionTestUtils.setField(reconcilerService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(reconcilerService, "archiveDir", "");
+        ReflectionTestUtils.setField(reconcilerService, "pageSize", 2);
+        ReflectionTestUtils.setField(reconcilerService, "runSize", 2);
+        ReflectionTestUtils.setField(reconcilerService, "filesPerSecond", 0);
+        ReflectionTestUtils.setField(reconcilerService, "quarantine", true);
+    }
+
+    @Test
+    @DisplayName("행 없는 파일은 격리하고, 로컬 계층 행의 파일이 없으면 보고하며, 작업 디렉토리와 썸네일과 최근 파일은 건너뛴다")
+    void reconcilesTreeAgainstRows() throws IOException {
+        String matched = ContentAddressedStore.keyOf("aa".repeat(32));
+        String missing = ContentAddressedStore.keyOf("bb".repeat(32));
+        String archived = ContentAddressedStore.keyOf("cc".repeat(32));
+        String orphanBlob = ContentAddressedStore.keyOf("dd".repeat(32));
+        file(contentStore.resolve(matched), OLD);
+        file(contentStore.resolve(orphanBlob), OLD);
+        Path legacy = file(uploadDir.resolve("legacy_진단서.pdf"), OLD);
+        file(uploadDir.resolve("orphan.pdf"), OLD);
+        file(uploadDir.resolve("legacy_진단서.pdf.thumb.jpg"), OLD);
+        file(uploadDir.resolve("staging/upload-1.part"), OLD);
+        file(uploadDir.resolve("recent.pdf"), Instant.now());
+
+        BlobKeyRow b1 = blobRow(1L, matched, StorageTier.LOCAL);
+        BlobKeyRow b2 = blobRow(2L, missing, StorageTier.LOCAL);
+        BlobKeyRow b3 = blobRow(3L, archived, StorageTier.ARCHIVE);
+        given(blobRepository.findKeyRowsAfter(0L, PageRequest.of(0, 2))).willReturn(List.of(b1, b2));
+        given(blobRepository.findKeyRowsAfter(2L, PageRequest.of(0, 2))).willReturn(List.of(b3));
+        FilePathRow l1 = legacyRow(10L, legacy);
+        given(attachmentRepository.findLegacyFilePathsAfter(0L, PageRequest.of(0, 2))).willReturn(List.of(l1));
+
+        ReconcileReport report = reconcilerService.reconcile(Instant.now().minus(Duration.ofHours(1)));
+
+        assertThat(report.getFilesScanned()).isEqualTo(4);
+        assertThat(report.getRowsScanned()).isEqualTo(4);
+        assertThat(report.getOrphanSamples()).containsExactlyInAnyOrder("blobs/" + orphanBlob, "orphan.pdf");
+        assertThat(report.getQuarantined()).isEqualTo(2);
+        assertThat(report.getDanglingSamples()).containsExactly("blobs/" + missing);
+
+        Path quarantine = uploadDir.resolve(AttachmentReconcilerService.QUARANTINE_DIR);
+        try (var days = Files.list(quarantine)) {
+            Path day = days.findFirst().orElseThrow();
+            assertThat(day.resolve("orphan.pdf")).exists();
+            assertThat(day.resolve("blobs/" + orphanBlob)).exists();
+        }
+        assertThat(uploadDir.resolve("orphan.pdf")).doesNotExist();
+        assertThat(contentStore.resolve(matched)).exists();
+        assertThat(legacy).exists();
+        assertThat(uploadDir.resolve("recent.pdf")).exists();
+        verify(thumbnailCache).remove(uploadDir.toAbsolutePath().normalize().resolve("orphan.pdf"));
+    }
+
+    @Test
+    @DisplayName("격리를 끄면 고아 파일을 보고만 한다")
+    void reportOnly() throws IOException {
+        ReflectionTestUtils.setField(reconcilerService, "quarantine", false);
+        file(uploadDir.resolve("orphan.pdf"), OLD);
+        given(blobRepository.findKeyRowsAfter(0L, PageRequest.of(0, 2))).willReturn(List.of());
+        given(attachmentRepository.findLegacyFilePathsAfter(0L, PageRequest.of(0, 2))).willReturn(List.of());
+
+        ReconcileReport report = reconcilerService.reconcile(Instant.now());
+
+        assertThat(report.getOrphans()).isEqualTo(1);
+        assertThat(report.getQuarantined()).isZero();
+        assertThat(uploadDir.resolve("orphan.pdf")).exists();
+        verifyNoInteractions(thumbnailCache);
+    }
+
+    private static Path file(Path path, Instant modified) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, path.getFileName().toString());
+        Files.setLastModifiedTime(path, FileTime.from(modified));
+        return path;
+    }
+
+    private static BlobKeyRow blobRow(Long id, String storageKey, StorageTier tier) {
+        BlobKeyRow row = mock(BlobKeyRow.class);
+        given(row.getId()).willReturn(id);
+        given(row.getStorageKey()).willReturn(storageKey);
+        given(row.getTier()).willReturn(tier);
+        return row;
+    }
+
+    private static FilePathRow legacyRow(Long id, Path path) {
+        FilePathRow row = mock(FilePathRow.class);
+        given(row.getId()).willReturn(id);
+        given(row.getFilePath()).willReturn(path.toString());
+        return row;
+    }
+}
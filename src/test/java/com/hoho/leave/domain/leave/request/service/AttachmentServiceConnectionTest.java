@@ -0,0 +1,199 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.file.FileDownload;
+import com.hoho.leave.domain.leave.request.service.AttachmentServiceTest.GatedInputStream;
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import com.hoho.leave.domain.leave.request.service.support.TieredBlobStore;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.hoho.leave.domain.leave.request.service.AttachmentServiceTest.files;
+import static com.hoho.leave.domain.leave.request.service.AttachmentServiceTest.pdf;
+import static com.hoho.leave.domain.leave.request.service.AttachmentServiceTest.request;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 실제 커넥션 풀(H2 + Hikari)과 트랜잭션 프록시를 둔 채, 느린 업로드/다운로드가 진행되는 동안
+ * 커넥션을 하나도 빌리지 않는지 확인하는 테스트.
+ * 테스트 메서드 자체가 트랜잭션(커넥션)을 잡지 않도록 테스트 트랜잭션은 끈다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AttachmentService.class, ContentAddressedStore.class})
+@TestPropertySource(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:attachment-connection;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("AttachmentService 커넥션 점유 테스트")
+class AttachmentServiceConnectionTest {
+
+    private static final long SIZE = 8L * 1024 * 1024;
+    /** 풀 크기(4)보다 많은 동시 요청 */
+    private static final int CONCURRENT = 8;
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadDir(DynamicPropertyRegistry registry) {
+        registry.add("upload.local.dir", uploadDir::toString);
+    }
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private AttachmentBlobService attachmentBlobService;
+
+    @MockitoBean
+    private AttachmentUploadProcessor attachmentUploadProcessor;
+
+    @MockitoBean
+    private AttachmentThumbnailService thumbnailService;
+
+    @MockitoBean
+    private AttachmentRecompressionService recompressionService;
+
+    @MockitoBean
+    private TieredBlobStore tieredBlobStore;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM leave_request_attachment");
+        jdbcTemplate.update("DELETE FROM leave_request");
+        jdbcTemplate.update("DELETE FROM leave_type");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("""
+                INSERT INTO users (id, username, password, email, employee_no, hire_date, role, is_active, created_at)
+                VALUES (1, 'user1', 'pw', 'user1@test.com', 'E1', DATE '2020-01-01', 'ROLE_USER', TRUE, NOW())
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO leave_type (id, leave_name, unit_days, leave_decrement, requires_attachment, leave_code, created_at)
+                VALUES (1, '연차', 1.00, TRUE, FALSE, 'ANNUAL_LEAVE', NOW())
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO leave_request (id, user_id, leave_type_id, status, quantity_days, start_day, end_day, version, created_at)
+                VALUES (1, 1, 1, 'PENDING', 1.00, DATE '2026-03-10', DATE '2026-03-10', 0, NOW())
+                """);
+    }
+
+    @Test
+    @DisplayName("동시에 큰 파일을 올려도 스트림을 받는 동안에는 커넥션을 빌리지 않고, 등록 후 임시 파일을 옮긴다")
+    void uploadsHoldNoConnectionWhileStreaming() throws Exception {
+        CountDownLatch halfway = new CountDownLatch(CONCURRENT);
+        CountDownLatch resume = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT; i++) {
+                MultipartFile file = pdf(new GatedInputStream(SIZE, halfway, resume));
+                futures.add(executor.submit(() -> attachmentService.uploadFile(List.of(file), request())));
+            }
+
+            assertThat(halfway.await(30, TimeUnit.SECONDS)).isTrue();
+            // 모든 업로드가 스트림 중간에 멈춘 상태
+            assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+            assertThat(dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection()).isZero();
+
+            resume.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            resume.countDown();
+            executor.shutdownNow();
+        }
+
+        verify(attachmentUploadProcessor, times(CONCURRENT)).register(eq(1L), eq(2L), anyList());
+        assertThat(files(uploadDir.resolve("staging"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메타데이터를 읽은 뒤에는 커넥션을 돌려주므로 내려받는 동안 풀이 비어 있다")
+    void downloadsHoldNoConnectionWhileStreaming() throws Exception {
+        Path content = Files.write(uploadDir.resolve("legacy_진단서.pdf"), new byte[(int) SIZE]);
+        for (long id = 1; id <= CONCURRENT; id++) {
+            jdbcTemplate.update("""
+                    INSERT INTO leave_request_attachment (id, leave_request_id, original_name, store_name, file_path,
+                                                          content_type, size_bytes, uploaded_by_id, created_at)
+                    VALUES (?, 1, '진단서.pdf', ?, ?, 'application/pdf', ?, 1, NOW())
+                    """, id, "store" + id, content.toString(), SIZE);
+        }
+
+        CountDownLatch halfway = new CountDownLatch(CONCURRENT);
+        CountDownLatch resume = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT);
+
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 1; i <= CONCURRENT; i++) {
+                String storeName = "store" + i;
+                futures.add(executor.submit(() -> {
+                    FileDownload download = attachmentService.getAttachmentDownload(storeName);
+                    try (InputStream in = Files.newInputStream(download.getPath())) {
+                        long read = in.readNBytes((int) (SIZE / 2)).length;
+                        halfway.countDown();
+                        resume.await();
+                        return read + in.transferTo(OutputStream.nullOutputStream());
+                    }
+                }));
+            }
+
+            assertThat(halfway.await(30, TimeUnit.SECONDS)).isTrue();
+            // 모든 다운로드가 내용을 보내는 도중에 멈춘 상태
+            assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+            assertThat(dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection()).isZero();
+
+            resume.countDown();
+            for (Future<Long> future : futures) {
+                assertThat(future.get(60, TimeUnit.SECONDS)).isEqualTo(SIZE);
+            }
+        } finally {
+            resume.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.exception.FileErrorException;
+import com.hoho.leave.common.exception.NotFoundException;
+import com.hoho.leave.domain.leave.request.dto.request.AttachmentUploadRequest;
+import com.hoho.leave.domain.leave.request.repository.AttachmentRepository;
+import com.hoho.leave.domain.leave.request.service.support.ContentAddressedStore;
+import com.hoho.leave.domain.leave.request.service.support.TieredBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentService 테스트")
+class AttachmentServiceTest {
+
+    private static final long SIZE = 20L * 1024 * 1024;
+    private static final byte[] PDF_HEAD = "%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PDF_TAIL = "\n%%EOF\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentBlobService attachmentBlobService;
+
+    @Mock
+    private AttachmentUploadProcessor attachmentUploadProcessor;
+
+    @Mock
+    private AttachmentThumbnailService thumbnailService;
+
+    @Mock
+    private AttachmentRecompressionService recompressionService;
+
+    @Mock
+    private TieredBlobStore tieredBlobStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path uploadDir;
+
+    private AttachmentService attachmentService;
+
+    @BeforeEach
+    void setUp() {
+        ContentAddressedStore contentStore = new ContentAddressedStore();
+        ReflectionTestUtils.setField(contentStore, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.invokeMethod(contentStore, "init");
+
+        attachmentService = new AttachmentService(attachmentRepository, attachmentBlobService,
+                attachmentUploadProcessor, contentStore, thumbnailService, recompressionService, tieredBlobStore,
+                eventPublisher);
+    }
+
+    @Test
+    @DisplayName("등록에 실패하면 임시 파일을 지우고 예외를 그대로 던진다")
+    void discardsStagedFilesOnRegisterFailure() throws Exception {
+        willThrow(new NotFoundException("Not Found Leave Request : 1"))
+                .given(attachmentUploadProcessor).register(eq(1L), eq(2L), anyList());
+
+        MultipartFile file = pdf(new GatedInputStream(1024, new CountDownLatch(1), new CountDownLatch(0)));
+
+        assertThatThrownBy(() -> attachmentService.uploadFile(List.of(file), request()))
+                .isInstanceOf(NotFoundException.class);
+        assertThat(files(uploadDir.resolve("staging"))).isEmpty();
+        assertThat(files(uploadDir.resolve("blobs"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 PDF라고 보내도 내용이 허용 형식이 아니면 거절하고 임시 파일을 남기지 않는다")
+    void rejectsContentNotMatchingAllowedTypes() throws Exception {
+        byte[] zip = {'P', 'K', 3, 4};
+        MultipartFile file = pdf(new GatedInputStream(4096, new CountDownLatch(1), new CountDownLatch(0), zip, new byte[0]));
+
+        assertThatThrownBy(() -> attachmentService.uploadFile(List.of(file), request()))
+                .isInstanceOf(FileErrorException.class)
+                .hasMessageContaining("Not Allowed Content");
+        assertThat(files(uploadDir.resolve("staging"))).isEmpty();
+        verifyNoInteractions(attachmentUploadProcessor);
+    }
+
+    @Test
+    @DisplayName("PNG 최대 크기를 넘으면 끝까지 읽지 않고 복사를 멈춘다")
+    void abortsOversizedImageWhileStreaming() throws Exception {
+        GatedInputStream in = new GatedInputStream(SIZE, new CountDownLatch(1), new CountDownLatch(0),
+                PNG_SIGNATURE, new byte[0]);
+        MultipartFile file = pdf(in);
+
+        assertThatThrownBy(() -> attachmentService.uploadFile(List.of(file), request()))
+                .isInstanceOf(FileErrorException.class)
+                .hasMessageContaining("image/png");
+        assertThat(in.position).isLessThan(SIZE);
+        assertThat(files(uploadDir.resolve("staging"))).isEmpty();
+    }
+
+    static MultipartFile pdf(InputStream in) throws IOException {
+        MultipartFile file = mock(MultipartFile.class);
+        given(file.isEmpty()).willReturn(false);
+        given(file.getSize()).willReturn(SIZE);
+        given(file.getOriginalFilename()).willReturn("진단서.pdf");
+        given(file.getInputStream()).willReturn(in);
+        return file;
+    }
+
+    static AttachmentUploadRequest request() {
+        AttachmentUploadRequest request = new AttachmentUploadRequest();
+        request.setLeaveRequestId(1L);
+        request.setUserId(2L);
+        return request;
+    }
+
+    static List<Path> files(Path dir) throws IOException {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            return walk.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    /**
+     * 지정한 길이만큼 내보내고, 절반을 넘기면 신호를 보낸 뒤 재개될 때까지 멈추는 스트림.
+     * 내용은 앞뒤 바이트 사이를 0으로 채운다. 기본값은 최소한의 PDF 헤더와 끝 표시다.
+     */
+    static final class GatedInputStream extends InputStream {
+        private final long length;
+        private final CountDownLatch halfway;
+        private final CountDownLatch resume;
+        private final byte[] head;
+        private final byte[] tail;
+        private long position;
+        private boolean gated;
+
+        GatedInputStream(long length, CountDownLatch halfway, CountDownLatch resume) {
+            this(length, halfway, resume, PDF_HEAD, PDF_TAIL);
+        }
+
+        GatedInputStream(long length, CountDownLatch halfway, CountDownLatch resume, byte[] head, byte[] tail) {
+            this.length = length;
+            this.halfway = halfway;
+            this.resume = resume;
+            this.head = head;
+            this.tail = tail;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0];
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= length) return -1;
+            if (!gated && position >= length / 2) {
+                gated = true;
+                halfway.countDown();
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            int n = (int) Math.min(len, length - position);
+            for (int i = 0; i < n; i++) {
+                b[off + i] = byteAt(position + i);
+            }
+            position += n;
+            return n;
+        }
+
+        private byte byteAt(long p) {
+            if (p < head.length) return head[(int) p];
+            long fromEnd = length - p;
+            if (fromEnd <= tail.length) return tail[(int) (tail.length - fromEnd)];
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.request.repository.ApproverDelegationRepository;
+import com.hoho.leave.domain.leave.request.repository.ApproverDelegationRepository.DelegationRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DelegationResolver 테스트")
+class DelegationResolverTest {
+
+    @InjectMocks
+    private DelegationResolver resolver;
+
+    @Mock
+    private ApproverDelegationRepository delegationRepository;
+
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    @DisplayName("오늘 유효한 위임만 위임자/수임자 맵에 포함된다")
+    void buildsEffectiveMaps() {
+        given(delegationRepository.findEffectiveFrom(any())).willReturn(List.of(
+                row(1L, 10L, 20L, today.minusDays(1), today.plusDays(3), true),
+                row(2L, 11L, 20L, today, null, true),
+                row(3L, 12L, 21L, today.plusDays(1), null, true)));
+
+        assertThat(resolver.delegateOf(10L)).isEqualTo(20L);
+        assertThat(resolver.delegateOf(12L)).isNull();
+        assertThat(resolver.delegatorsOf(20L)).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(resolver.actingApproverIds(20L)).containsExactlyInAnyOrder(20L, 10L, 11L);
+        assertThat(resolver.canActFor(20L, 10L)).isTrue();
+        assertThat(resolver.canActFor(21L, 10L)).isFalse();
+        assertThat(resolver.canActFor(10L, 10L)).isTrue();
+
+        verify(delegationRepository, times(1)).findEffectiveFrom(any());
+    }
+
+    @Test
+    @DisplayName("같은 위임자의 위임이 겹치면 시작일이 늦은 위임을 따른다")
+    void latestStartWins() {
+        given(delegationRepository.findEffectiveFrom(any())).willReturn(List.of(
+                row(1L, 10L, 20L, today.minusDays(5), null, true),
+                row(2L, 10L, 30L, today.minusDays(1), today, true)));
+
+        assertThat(resolver.delegateOf(10L)).isEqualTo(30L);
+        assertThat(resolver.delegatorsOf(20L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 표시 후에는 변경분만 읽어 철회된 위임을 제외한다")
+    void appliesChangesIncrementally() {
+        given(delegationRepository.findEffectiveFrom(any())).willReturn(List.of(
+                row(1L, 10L, 20L, today.minusDays(1), null, true)));
+        given(delegationRepository.findChangedSince(any())).willReturn(List.of(
+                row(1L, 10L, 20L, today.minusDays(1), null, false),
+                row(2L, 11L, 21L, today, null, true)));
+
+        assertThat(resolver.delegateOf(10L)).isEqualTo(20L);
+
+        resolver.markStale();
+
+        assertThat(resolver.delegateOf(10L)).isNull();
+        assertThat(resolver.delegateOf(11L)).isEqualTo(21L);
+        verify(delegationRepository, times(1)).findEffectiveFrom(any());
+        verify(delegationRepository, times(1)).findChangedSince(any());
+    }
+
+    private static DelegationRow row(Long id, Long delegatorId, Long delegateId,
+                                     LocalDate start, LocalDate end, boolean active) {
+        LocalDateTime updatedAt = LocalDateTime.now().minusMinutes(1);
+        return new DelegationRow() {
+            public Long getDelegationId() { return id; }
+            public Long getDelegatorId() { return delegatorId; }
+            public Long getDelegateId() { return delegateId; }
+            public LocalDate getStartDate() { return start; }
+            public LocalDate getEndDate() { return end; }
+            public Boolean getActive() { return active; }
+            public LocalDateTime getUpdatedAt() { return updatedAt; }
+        };
+    }
+}
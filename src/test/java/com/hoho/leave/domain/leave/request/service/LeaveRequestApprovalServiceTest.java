@@ -0,0 +1,167 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.common.exception.BusinessException;
+import com.hoho.leave.domain.leave.request.dto.request.LeaveApprovalBulkRequest;
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalBulkItemResponse;
+import com.hoho.leave.domain.leave.request.dto.response.LeaveApprovalBulkItemResponse.Outcome;
+import com.hoho.leave.domain.leave.request.entity.ApprovalStatus;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestApprovalRepository.ApprovalDecisionRow;
+import com.hoho.leave.domain.leave.request.service.support.BulkDecisionResult;
+import com.hoho.leave.domain.user.entity.User;
+import com.hoho.leave.domain.user.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaveRequestApprovalService 테스트")
+class LeaveRequestApprovalServiceTest {
+
+    private static final long APPROVER_ID = 1L;
+    private static final long OTHER_APPROVER_ID = 2L;
+
+    @InjectMocks
+    private LeaveRequestApprovalService approvalService;
+
+    @Mock
+    private LeaveRequestApprovalRepository approvalRepository;
+
+    @Mock
+    private ApprovalInboxService approvalInboxService;
+
+    @Mock
+    private DelegationResolver delegationResolver;
+
+    private User actor;
+
+    @BeforeEach
+    void setUp() {
+        actor = new User("approver@example.com", UserRole.ROLE_USER);
+        ReflectionTestUtils.setField(actor, "id", APPROVER_ID);
+
+        lenient().when(delegationResolver.canActFor(anyLong(), anyLong()))
+                .thenAnswer(inv -> inv.getArgument(0).equals(inv.getArgument(1)));
+    }
+
+    @Nested
+    @DisplayName("결재 일괄 처리")
+    class Bulk {
+
+        @Test
+        @DisplayName("대기 중인 결재만 잠근 뒤 잠긴 건만 반영하고, 결재자 대기 건수를 반영 수만큼 줄인다")
+        void locksPendingAndAppliesLocked() {
+            rows(row(11L, APPROVER_ID, ApprovalStatus.PENDING, 100L),
+                    row(12L, APPROVER_ID, ApprovalStatus.PENDING, 101L),
+                    row(13L, APPROVER_ID, ApprovalStatus.PENDING, 102L));
+            given(approvalRepository.lockPendingIds(List.of(11L, 12L, 13L))).willReturn(List.of(11L, 12L, 13L));
+
+            BulkDecisionResult result = approvalService.bulkUpdateLeaveApproval(
+                    request(ApprovalStatus.APPROVED, 11L, 12L, 13L), actor);
+
+            verify(approvalRepository).decideAll(eq(List.of(11L, 12L, 13L)), eq(ApprovalStatus.APPROVED), eq("ok"),
+                    eq(actor), any(), eq(ApprovalStatus.PENDING));
+            verify(approvalInboxService).adjustPendingCount(APPROVER_ID, -3L);
+            assertThat(outcomes(result)).containsOnly(
+                    Map.entry(11L, Outcome.APPLIED), Map.entry(12L, Outcome.APPLIED), Map.entry(13L, Outcome.APPLIED));
+            assertThat(result.getAppliedLeaveRequestIds()).containsExactly(100L, 101L, 102L);
+        }
+
+        @Test
+        @DisplayName("잠그는 사이 다른 요청이 처리해 더 이상 대기 중이 아닌 결재는 충돌로 보고하고 반영하지 않는다")
+        void skipsRowsNoLongerPending() {
+            rows(row(11L, APPROVER_ID, ApprovalStatus.PENDING, 100L),
+                    row(12L, APPROVER_ID, ApprovalStatus.PENDING, 101L));
+            given(approvalRepository.lockPendingIds(List.of(11L, 12L))).willReturn(List.of(12L));
+
+            BulkDecisionResult result = approvalService.bulkUpdateLeaveApproval(
+                    request(ApprovalStatus.REJECTED, 11L, 12L), actor);
+
+            verify(approvalRepository).decideAll(eq(List.of(12L)), eq(ApprovalStatus.REJECTED), eq("ok"),
+                    eq(actor), any(), eq(ApprovalStatus.PENDING));
+            verify(approvalInboxService).adjustPendingCount(APPROVER_ID, -1L);
+            assertThat(outcomes(result)).containsOnly(
+                    Map.entry(11L, Outcome.CONFLICT), Map.entry(12L, Outcome.APPLIED));
+            assertThat(result.getAppliedRows()).extracting(ApprovalDecisionRow::getApprovalId).containsExactly(12L);
+        }
+
+        @Test
+        @DisplayName("조회 시점에 반영할 수 없는 결재는 잠그지 않고 사유별로 보고한다")
+        void reportsIneligibleRowsWithoutLocking() {
+            rows(row(12L, OTHER_APPROVER_ID, ApprovalStatus.PENDING, 101L),
+                    row(13L, APPROVER_ID, ApprovalStatus.WAITING, 102L),
+                    row(14L, APPROVER_ID, ApprovalStatus.APPROVED, 103L));
+
+            BulkDecisionResult result = approvalService.bulkUpdateLeaveApproval(
+                    request(ApprovalStatus.APPROVED, 11L, 12L, 13L, 14L, 11L), actor);
+
+            verify(approvalRepository, never()).lockPendingIds(any());
+            verify(approvalRepository, never()).decideAll(any(), any(), any(), any(), any(), any());
+            verifyNoInteractions(approvalInboxService);
+            assertThat(result.getItems()).hasSize(4);
+            assertThat(outcomes(result)).containsOnly(
+                    Map.entry(11L, Outcome.NOT_FOUND), Map.entry(12L, Outcome.FORBIDDEN),
+                    Map.entry(13L, Outcome.NOT_ACTIVE), Map.entry(14L, Outcome.ALREADY_DECIDED));
+            assertThat(result.getAppliedRows()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("대기 상태로는 일괄 처리할 수 없다")
+        void rejectsPendingDecision() {
+            assertThatThrownBy(() -> approvalService.bulkUpdateLeaveApproval(request(ApprovalStatus.PENDING, 11L), actor))
+                    .isInstanceOf(BusinessException.class);
+
+            verifyNoInteractions(approvalRepository);
+        }
+    }
+
+    private void rows(ApprovalDecisionRow... rows) {
+        given(approvalRepository.findDecisionRowsByIds(any())).willReturn(List.of(rows));
+    }
+
+    private static LeaveApprovalBulkRequest request(ApprovalStatus status, Long... approvalIds) {
+        LeaveApprovalBulkRequest request = new LeaveApprovalBulkRequest();
+        request.setApproverId(APPROVER_ID);
+        request.setApprovalIds(List.of(approvalIds));
+        request.setStatus(status);
+        request.setComment("ok");
+        return request;
+    }
+
+    private static Map<Long, Outcome> outcomes(BulkDecisionResult result) {
+        return result.getItems().stream().collect(Collectors.toMap(LeaveApprovalBulkItemResponse::getApprovalId,
+                LeaveApprovalBulkItemResponse::getOutcome));
+    }
+
+    private static ApprovalDecisionRow row(Long approvalId, Long approverId, ApprovalStatus status, Long leaveRequestId) {
+        return new ApprovalDecisionRow() {
+            public Long getApprovalId() { return approvalId; }
+            public Long getApproverId() { return approverId; }
+            public ApprovalStatus getStatus() { return status; }
+            public Integer getStepNo() { return 1; }
+            public Long getLeaveRequestId() { return leaveRequestId; }
+            public Long getApplicantId() { return 9L; }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.hoho.leave.domain.leave.request.service;
+
+import com.hoho.leave.domain.leave.request.entity.LeaveRequestStatus;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestRepository;
+import com.hoho.leave.domain.leave.request.repository.LeaveRequestRepository.RequestApplicantRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaveRequestService 테스트")
+class LeaveRequestServiceTest {
+
+    @InjectMocks
+    private LeaveRequestService leaveRequestService;
+
+    @Mock
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Nested
+    @DisplayName("휴가 신청 일괄 종료")
+    class CloseLeaveRequests {
+
+        @Test
+        @DisplayName("승인 종료는 모든 단계가 승인된 신청만 잠가 종료하고, 잠근 신청을 그대로 돌려준다")
+        void approvesOnlyLockedCompletedRequests() {
+            List<RequestApplicantRow> locked = List.of(applicant(100L, 9L), applicant(102L, 8L));
+            given(leaveRequestRepository.lockApprovable(List.of(100L, 101L, 102L))).willReturn(locked);
+
+            List<RequestApplicantRow> closed =
+                    leaveRequestService.closeLeaveRequests(List.of(100L, 101L, 102L), LeaveRequestStatus.APPROVED);
+
+            verify(leaveRequestRepository).closeAll(eq(List.of(100L, 102L)), eq(LeaveRequestStatus.APPROVED),
+                    eq(LeaveRequestStatus.PENDING), any());
+            verify(leaveRequestRepository, never()).lockPending(any());
+            assertThat(closed).isSameAs(locked);
+        }
+
+        @Test
+        @DisplayName("반려 종료는 아직 대기 중인 신청만 잠가 종료한다")
+        void rejectsOnlyLockedPendingRequests() {
+            given(leaveRequestRepository.lockPending(List.of(100L, 101L))).willReturn(List.of(applicant(101L, 9L)));
+
+            List<RequestApplicantRow> closed =
+                    leaveRequestService.closeLeaveRequests(List.of(100L, 101L), LeaveRequestStatus.REJECTED);
+
+            verify(leaveRequestRepository).closeAll(eq(List.of(101L)), eq(LeaveRequestStatus.REJECTED),
+                    eq(LeaveRequestStatus.PENDING), any());
+            assertThat(closed).extracting(RequestApplicantRow::getLeaveRequestId).containsExactly(101L);
+        }
+
+        @Test
+        @DisplayName("잠글 신청이 없으면 갱신하지 않고 빈 목록을 돌려준다")
+        void skipsUpdateWhenNothingLocked() {
+            given(leaveRequestRepository.lockPending(List.of(100L))).willReturn(List.of());
+
+            assertThat(leaveRequestService.closeLeaveRequests(List.of(100L), LeaveRequestStatus.REJECTED)).isEmpty();
+
+            verify(leaveRequestRepository, never()).closeAll(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("대상이 없으면 조회하지 않는다")
+        void emptyInput() {
+            assertThat(leaveRequestService.closeLeaveRequests(List.of(), LeaveRequestStatus.APPROVED)).isEmpty();
+
+            verifyNoInteractions(leaveRequestRepository);
+        }
+    }
+
+    private static RequestApplicantRow applicant(Long leaveRequestId, Long applicantId) {
+        return new RequestApplicantRow() {
+            public Long getLeaveRequestId() { return leaveRequestId; }
+            public Long getApplicantId() { return applicantId; }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.common.exception.FileErrorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChunkedUploadStore 테스트")
+class ChunkedUploadStoreTest {
+
+    private static final int CHUNK = 1024;
+
+    @TempDir
+    Path dir;
+
+    private ChunkedUploadStore store;
+    private ContentAddressedStore contentStore;
+
+    @BeforeEach
+    void setUp() {
+        store = new ChunkedUploadStore();
+        ReflectionTestUtils.setField(store, "uploadDir", dir.toString());
+        store.init();
+
+        contentStore = new ContentAddressedStore();
+        ReflectionTestUtils.setField(contentStore, "uploadDir", dir.toString());
+        contentStore.init();
+    }
+
+    @Test
+    @DisplayName("청크를 순서와 무관하게 받아도 제자리에 써지고, 끊긴 뒤에는 누락 청크만 남는다")
+    void outOfOrderAndResume() throws IOException {
+        byte[] content = content(CHUNK * 9 + 100);
+        ChunkedUpload upload = create(content.length);
+        assertThat(Files.size(store.dataFile(upload))).isEqualTo(content.length);
+
+        for (int index : new int[]{9, 3, 0, 3}) {
+            store.writeChunk(upload, index, chunk(content, upload, index));
+        }
+
+        // 재시작 후 조회
+        ChunkedUpload resumed = store.find(upload.getUploadId()).orElseThrow();
+        ChunkBitmap bitmap = store.bitmap(resumed);
+        assertThat(bitmap.missing()).containsExactly(1, 2, 4, 5, 6, 7, 8);
+        assertThat(resumed.receivedBytes(bitmap)).isEqualTo(CHUNK * 2 + 100);
+
+        for (int index : bitmap.missing()) {
+            bitmap = store.writeChunk(resumed, index, chunk(content, resumed, index));
+        }
+        assertThat(bitmap.isComplete()).isTrue();
+
+        StagedBlob staged = contentStore.stage(store.dataFile(resumed));
+        assertThat(Files.readAllBytes(staged.getTempPath())).isEqualTo(content);
+        assertThat(staged.getSizeBytes()).isEqualTo(content.length);
+    }
+
+    @Test
+    @DisplayName("청크 길이가 맞지 않으면 예외가 발생하고, 이미 받은 청크였어도 수신 표시를 지운다")
+    void rejectsWrongLength() throws IOException {
+        ChunkedUpload upload = create(CHUNK * 2);
+        store.writeChunk(upload, 0, new ByteArrayInputStream(new byte[CHUNK]));
+
+        assertThatThrownBy(() -> store.writeChunk(upload, 0, new ByteArrayInputStream(new byte[CHUNK + 1])))
+                .isInstanceOf(FileErrorException.class);
+        assertThatThrownBy(() -> store.writeChunk(upload, 1, new ByteArrayInputStream(new byte[CHUNK - 1])))
+                .isInstanceOf(FileErrorException.class);
+        assertThatThrownBy(() -> upload.chunkIndexOf(CHUNK / 2))
+                .isInstanceOf(FileErrorException.class);
+
+        assertThat(store.bitmap(upload).missing()).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("UUID 형식이 아닌 업로드 ID는 조회되지 않는다")
+    void rejectsPathLikeIds() throws IOException {
+        assertThat(store.find("../staging")).isEmpty();
+        assertThat(store.find(UUID.randomUUID().toString())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후 청크를 받지 않은 세션만 지운다")
+    void purgeInactive() throws IOException {
+        ChunkedUpload stale = create(CHUNK);
+        ChunkedUpload active = create(CHUNK);
+        Path staleBitmap = store.dataFile(stale).resolveSibling("ranges.bitmap");
+        Files.setLastModifiedTime(staleBitmap, FileTime.from(Instant.now().minusSeconds(3600)));
+
+        assertThat(store.purgeInactive(Instant.now().minusSeconds(60))).isEqualTo(1);
+        assertThat(store.find(stale.getUploadId())).isEmpty();
+        assertThat(store.find(active.getUploadId())).isPresent();
+    }
+
+    private ChunkedUpload create(long totalSize) throws IOException {
+        ChunkedUpload upload = ChunkedUpload.of(UUID.randomUUID().toString(), 1L, 2L, "진단서.pdf",
+                "application/pdf", totalSize, CHUNK, "0".repeat(64));
+        store.create(upload);
+        return upload;
+    }
+
+    private static ByteArrayInputStream chunk(byte[] content, ChunkedUpload upload, int index) {
+        int from = (int) upload.chunkOffset(index);
+        return new ByteArrayInputStream(Arrays.copyOfRange(content, from, from + (int) upload.chunkLength(index)));
+    }
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) content[i] = (byte) (i * 7 + 3);
+        return content;
+    }
+}
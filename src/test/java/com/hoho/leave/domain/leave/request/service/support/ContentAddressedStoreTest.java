@@ -0,0 +1,78 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ContentAddressedStore 테스트")
+class ContentAddressedStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private ContentAddressedStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ContentAddressedStore();
+        ReflectionTestUtils.setField(store, "uploadDir", dir.toString());
+        store.init();
+    }
+
+    @Test
+    @DisplayName("복사하면서 계산한 해시와 크기가 원본과 같다")
+    void stageHashesWhileCopying() throws Exception {
+        byte[] content = new byte[200_000];
+        for (int i = 0; i < content.length; i++) content[i] = (byte) (i * 31);
+
+        StagedBlob staged = store.stage(new ByteArrayInputStream(content));
+
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertThat(staged.getSha256()).isEqualTo(expected);
+        assertThat(staged.getSizeBytes()).isEqualTo(content.length);
+        assertThat(Files.readAllBytes(staged.getTempPath())).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("같은 내용은 해시로 나뉜 하나의 경로에 한 번만 저장된다")
+    void promoteDeduplicates() throws IOException {
+        StagedBlob first = store.stage(stream("진단서"));
+        StagedBlob second = store.stage(stream("진단서"));
+
+        Path stored = store.promote(first);
+        Path again = store.promote(second);
+
+        assertThat(again).isEqualTo(stored);
+        assertThat(stored).isEqualTo(dir.resolve("blobs").resolve(ContentAddressedStore.keyOf(first.getSha256())));
+        assertThat(dir.relativize(stored).getNameCount()).isEqualTo(4);
+        assertThat(Files.exists(second.getTempPath())).isFalse();
+        assertThat(Files.readString(stored)).isEqualTo("진단서");
+    }
+
+    @Test
+    @DisplayName("blob을 삭제하면 파일이 사라진다")
+    void deleteRemovesBlob() throws IOException {
+        StagedBlob staged = store.stage(stream("a"));
+        Path stored = store.promote(staged);
+
+        store.delete(staged.getStorageKey());
+
+        assertThat(Files.exists(stored)).isFalse();
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,118 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.common.exception.FileErrorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ContentInspector 테스트")
+class ContentInspectorTest {
+
+    private static final String PDF = """
+            %PDF-1.4
+            1 0 obj << /Type /Catalog /Pages 2 0 R >> endobj
+            2 0 obj << /Type /Pages /Kids [3 0 R 4 0 R 5 0 R] /Count 3 >> endobj
+            3 0 obj << /Type /Page /Parent 2 0 R >> endobj
+            4 0 obj << /Type/Page /Parent 2 0 R >> endobj
+            5 0 obj << /Type /Page/Parent 2 0 R >> endobj
+            trailer << /Root 1 0 R >>
+            %%EOF
+            """;
+
+    @Test
+    @DisplayName("PNG와 JPEG는 매직 바이트로 판별하고 이미지 크기를 읽는다")
+    void readsImageDimensions() throws IOException {
+        ContentInspector png = inspect(image("png", 320, 200), 8192);
+        ContentInspector jpeg = inspect(image("jpg", 64, 48), 8192);
+
+        assertThat(png.getContentType()).isEqualTo(ContentInspector.PNG);
+        assertThat(png.getWidth()).isEqualTo(320);
+        assertThat(png.getHeight()).isEqualTo(200);
+        assertThat(jpeg.getContentType()).isEqualTo(ContentInspector.JPEG);
+        assertThat(jpeg.getWidth()).isEqualTo(64);
+        assertThat(jpeg.getHeight()).isEqualTo(48);
+    }
+
+    @Test
+    @DisplayName("한 바이트씩 나눠 받아도 결과가 같다")
+    void sameResultForTinyChunks() throws IOException {
+        ContentInspector png = inspect(image("png", 17, 9), 1);
+        ContentInspector jpeg = inspect(image("jpg", 33, 21), 1);
+        ContentInspector pdf = inspect(PDF.getBytes(StandardCharsets.US_ASCII), 1);
+
+        assertThat(png.getWidth()).isEqualTo(17);
+        assertThat(jpeg.getHeight()).isEqualTo(21);
+        assertThat(pdf.getPageCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("PDF는 /Pages를 빼고 /Type /Page 개수로 페이지 수를 센다")
+    void countsPdfPages() {
+        ContentInspector pdf = inspect(PDF.getBytes(StandardCharsets.US_ASCII), 16);
+
+        assertThat(pdf.getContentType()).isEqualTo(ContentInspector.PDF);
+        assertThat(pdf.getPageCount()).isEqualTo(3);
+        assertThat(pdf.getWidth()).isNull();
+    }
+
+    @Test
+    @DisplayName("끝 표시가 없는 PDF는 손상된 파일로 거절한다")
+    void rejectsTruncatedPdf() {
+        byte[] truncated = PDF.substring(0, PDF.indexOf("trailer")).getBytes(StandardCharsets.US_ASCII);
+
+        assertThatThrownBy(() -> inspect(truncated, 64))
+                .isInstanceOf(FileErrorException.class)
+                .hasMessageContaining("Corrupted Upload File");
+    }
+
+    @Test
+    @DisplayName("허용하지 않는 형식은 앞부분만 받고 바로 거절한다")
+    void rejectsUnknownContent() {
+        ContentInspector inspector = new ContentInspector();
+        ByteBuffer html = ByteBuffer.wrap("<html>".repeat(200).getBytes(StandardCharsets.US_ASCII));
+
+        assertThatThrownBy(() -> inspector.update(html))
+                .isInstanceOf(FileErrorException.class)
+                .hasMessageContaining("Not Allowed Content");
+    }
+
+    @Test
+    @DisplayName("형식별 최대 크기를 넘는 순간 예외가 발생한다")
+    void abortsWhenTypeLimitExceeded() {
+        ContentInspector inspector = new ContentInspector();
+        inspector.update(ByteBuffer.wrap(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0}));
+        ByteBuffer chunk = ByteBuffer.allocate(1024 * 1024);
+
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 11; i++) {
+                inspector.update(chunk);
+            }
+        }).isInstanceOf(FileErrorException.class).hasMessageContaining("image/jpeg");
+        assertThat(inspector.getSize()).isLessThanOrEqualTo(ContentInspector.maxSizeOf(ContentInspector.JPEG) + chunk.capacity());
+    }
+
+    private static ContentInspector inspect(byte[] content, int chunkSize) {
+        ContentInspector inspector = new ContentInspector();
+        for (int offset = 0; offset < content.length; offset += chunkSize) {
+            inspector.update(ByteBuffer.wrap(content, offset, Math.min(chunkSize, content.length - offset)));
+        }
+        inspector.finish();
+        return inspector;
+    }
+
+    private static byte[] image(String format, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,146 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImageRecompressor 테스트")
+class ImageRecompressorTest {
+
+    @TempDir
+    Path dir;
+
+    private ImageRecompressor recompressor;
+
+    @BeforeEach
+    void setUp() {
+        recompressor = new ImageRecompressor();
+        ReflectionTestUtils.setField(recompressor, "maxEdge", 800);
+        ReflectionTestUtils.setField(recompressor, "quality", 0.7f);
+    }
+
+    @Test
+    @DisplayName("큰 JPEG는 긴 변을 최대 크기로 줄이고 비율을 유지한 채 더 작게 인코딩한다")
+    void downscalesLargeJpeg() throws IOException {
+        Path source = Files.write(dir.resolve("photo.jpg"), encode(noise(3000, 2000, BufferedImage.TYPE_INT_RGB), "jpg"));
+
+        byte[] recompressed = recompressor.recompress(source, ContentInspector.JPEG);
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(recompressed));
+
+        assertThat(result.getWidth()).isEqualTo(800);
+        assertThat(result.getHeight()).isEqualTo(533);
+        assertThat(recompressed.length).isLessThan((int) Files.size(source));
+        assertThat(inspect(recompressed).getContentType()).isEqualTo(ContentInspector.JPEG);
+    }
+
+    @Test
+    @DisplayName("PNG는 PNG로 다시 쓰고 투명도를 유지한다")
+    void keepsPngTransparency() throws IOException {
+        BufferedImage image = new BufferedImage(1600, 400, BufferedImage.TYPE_INT_ARGB);
+        Path source = Files.write(dir.resolve("scan.png"), encode(image, "png"));
+
+        byte[] recompressed = recompressor.recompress(source, ContentInspector.PNG);
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(recompressed));
+
+        assertThat(inspect(recompressed).getContentType()).isEqualTo(ContentInspector.PNG);
+        assertThat(result.getWidth()).isEqualTo(800);
+        assertThat(result.getHeight()).isEqualTo(200);
+        assertThat(result.getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    @DisplayName("EXIF 방향이 있는 JPEG는 픽셀을 돌려 바로 세운다")
+    void appliesExifOrientation() throws IOException {
+        BufferedImage image = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 400, 200);
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 50, 50);       // 왼쪽 위 표시
+        g.dispose();
+        Path source = Files.write(dir.resolve("rotated.jpg"), withOrientation(encode(image, "jpg"), 6));
+
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(recompressor.recompress(source, ContentInspector.JPEG)));
+
+        // 시계 방향 90도: 세로로 서고 표시는 오른쪽 위로 간다
+        assertThat(result.getWidth()).isEqualTo(200);
+        assertThat(result.getHeight()).isEqualTo(400);
+        assertThat(new Color(result.getRGB(185, 15)).getRed()).isGreaterThan(200);
+        assertThat(new Color(result.getRGB(185, 15)).getGreen()).isLessThan(80);
+        assertThat(new Color(result.getRGB(15, 15)).getGreen()).isGreaterThan(200);
+    }
+
+    @Test
+    @DisplayName("설정 해상도를 넘는지는 긴 변으로 판단하고 크기를 모르면 넘지 않은 것으로 본다")
+    void exceedsMaxEdge() {
+        assertThat(recompressor.exceedsMaxEdge(600, 1200)).isTrue();
+        assertThat(recompressor.exceedsMaxEdge(800, 800)).isFalse();
+        assertThat(recompressor.exceedsMaxEdge(null, null)).isFalse();
+    }
+
+    private static ContentInspector inspect(byte[] content) {
+        ContentInspector inspector = new ContentInspector();
+        inspector.update(ByteBuffer.wrap(content));
+        inspector.finish();
+        return inspector;
+    }
+
+    private static BufferedImage noise(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Random random = new Random(7);
+        for (int y = 0; y < height; y += 4) {
+            for (int x = 0; x < width; x += 4) {
+                int rgb = random.nextInt(0xFFFFFF);
+                for (int dy = 0; dy < 4 && y + dy < height; dy++) {
+                    for (int dx = 0; dx < 4 && x + dx < width; dx++) {
+                        image.setRGB(x + dx, y + dy, rgb);
+                    }
+                }
+            }
+        }
+        return image;
+    }
+
+    static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * JFIF(APP0) 세그먼트 뒤에 방향 태그 하나만 있는 EXIF(APP1) 세그먼트를 끼워 넣는다.
+     */
+    static byte[] withOrientation(byte[] jpeg, int orientation) {
+        ByteBuffer exif = ByteBuffer.allocate(4 + 6 + 8 + 2 + 12 + 4);
+        exif.put((byte) 0xFF).put((byte) 0xE1).putShort((short) (exif.capacity() - 2));
+        exif.put("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        exif.put("MM".getBytes(StandardCharsets.US_ASCII)).putShort((short) 42).putInt(8);
+        exif.putShort((short) 1);
+        exif.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        exif.putInt(0);
+
+        int at = 2 + 2 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, at);
+        out.write(exif.array(), 0, exif.capacity());
+        out.write(jpeg, at, jpeg.length - at);
+        return out.toByteArray();
+    }
+}
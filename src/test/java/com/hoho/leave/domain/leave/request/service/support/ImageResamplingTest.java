@@ -0,0 +1,68 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImageResampling 테스트")
+class ImageResamplingTest {
+
+    @Test
+    @DisplayName("긴 변을 최대 크기로 줄이고 투명 영역은 배경색으로 채운다")
+    void scalesWithBackground() {
+        BufferedImage image = new BufferedImage(1000, 250, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage result = ImageResampling.scale(image, 200, BufferedImage.TYPE_INT_RGB, Color.WHITE);
+
+        assertThat(result.getWidth()).isEqualTo(200);
+        assertThat(result.getHeight()).isEqualTo(50);
+        assertThat(new Color(result.getRGB(100, 25))).isEqualTo(Color.WHITE);
+    }
+
+    @Test
+    @DisplayName("세로로 도는 방향은 너비와 높이를 바꾸고, 방향이 없으면 그대로 둔다")
+    void orients() {
+        BufferedImage image = new BufferedImage(40, 10, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, Color.RED.getRGB());
+
+        BufferedImage rotated = ImageResampling.orient(image, 8);      // 반시계 방향 90도
+
+        assertThat(rotated.getWidth()).isEqualTo(10);
+        assertThat(rotated.getHeight()).isEqualTo(40);
+        assertThat(rotated.getRGB(0, 39)).isEqualTo(Color.RED.getRGB());
+        assertThat(ImageResampling.orient(image, 1)).isSameAs(image);
+    }
+
+    @Test
+    @DisplayName("EXIF 방향은 바이트 순서와 상관없이 읽고, 잘렸거나 EXIF가 아니면 0을 돌려준다")
+    void readsExifOrientation() {
+        assertThat(ImageResampling.exifOrientation(exif(ByteOrder.BIG_ENDIAN, 6))).isEqualTo(6);
+        assertThat(ImageResampling.exifOrientation(exif(ByteOrder.LITTLE_ENDIAN, 3))).isEqualTo(3);
+
+        byte[] truncated = exif(ByteOrder.BIG_ENDIAN, 6);
+        assertThat(ImageResampling.exifOrientation(Arrays.copyOf(truncated, truncated.length - 8))).isZero();
+        assertThat(ImageResampling.exifOrientation("http://ns.adobe.com/xap/1.0/".getBytes(StandardCharsets.US_ASCII))).isZero();
+    }
+
+    /**
+     * 방향 태그 하나만 있는 APP1 세그먼트 본문.
+     */
+    private static byte[] exif(ByteOrder order, int orientation) {
+        ByteBuffer exif = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4);
+        exif.put("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        exif.put((order == ByteOrder.BIG_ENDIAN ? "MM" : "II").getBytes(StandardCharsets.US_ASCII));
+        exif.order(order).putShort((short) 42).putInt(8);
+        exif.putShort((short) 1);
+        exif.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        exif.putInt(0);
+        return exif.array();
+    }
+}
@@ -0,0 +1,121 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PackFileBlobStorage 테스트")
+class PackFileBlobStorageTest {
+
+    @TempDir
+    Path dir;
+
+    private PackFileBlobStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = open(256L);
+    }
+
+    @Test
+    @DisplayName("압축되는 내용은 줄여서, 압축되지 않는 내용은 그대로 넣고 원본대로 읽는다")
+    void roundTrip() throws IOException {
+        byte[] text = "연차 사용 증빙 서류\n".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        byte[] noise = new byte[200_000];
+        new Random(7).nextBytes(noise);
+
+        storage.put("aa/aa/text", write("text", text));
+        storage.put("bb/bb/noise", write("noise", noise));
+
+        assertThat(read("aa/aa/text")).isEqualTo(text);
+        assertThat(read("bb/bb/noise")).isEqualTo(noise);
+        assertThat(Files.size(dir.resolve("archive/pack-000001.pack"))).isLessThan(text.length / 10 + noise.length + 1);
+    }
+
+    @Test
+    @DisplayName("앞부분이 압축되지 않는 내용은 전체 압축 없이 원본 크기 그대로 넣고 임시 파일을 남기지 않는다")
+    void skipsDeflateForIncompressibleSample() throws IOException {
+        byte[] noise = new byte[PackFileBlobStorage.SAMPLE_SIZE * 3];
+        new Random(11).nextBytes(noise);
+        byte[] text = "반차 증빙\n".repeat(20_000).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(PackFileBlobStorage.compressible(write("noise", noise))).isFalse();
+        assertThat(PackFileBlobStorage.compressible(write("text", text))).isTrue();
+
+        storage.put("bb/bb/noise", dir.resolve("noise"));
+
+        assertThat(Files.size(dir.resolve("archive/pack-000001.pack"))).isEqualTo(noise.length);
+        assertThat(read("bb/bb/noise")).isEqualTo(noise);
+        try (Stream<Path> files = Files.list(dir.resolve("archive"))) {
+            assertThat(files.map(f -> f.getFileName().toString())).noneMatch(name -> name.endsWith(".tmp"));
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열면 색인을 재적용해 삭제 표시된 내용은 사라지고 나머지는 읽힌다")
+    void reloadsIndex() throws IOException {
+        storage.put("aa/aa/one", write("one", "one".getBytes(StandardCharsets.UTF_8)));
+        storage.put("bb/bb/two", write("two", "two".getBytes(StandardCharsets.UTF_8)));
+        storage.delete("aa/aa/one");
+        Files.writeString(dir.resolve("archive/" + PackFileBlobStorage.INDEX_FILE), "P cc/cc/partial 1 0",
+                StandardOpenOption.APPEND);
+
+        PackFileBlobStorage reopened = open(256L);
+
+        assertThat(reopened.exists("aa/aa/one")).isFalse();
+        assertThat(reopened.exists("cc/cc/partial")).isFalse();
+        assertThatThrownBy(() -> reopened.open("aa/aa/one")).isInstanceOf(NoSuchFileException.class);
+        try (InputStream in = reopened.open("bb/bb/two")) {
+            assertThat(in.readAllBytes()).isEqualTo("two".getBytes(StandardCharsets.UTF_8));
+        }
+
+        reopened.put("dd/dd/after", write("after", "after".getBytes(StandardCharsets.UTF_8)));
+        assertThat(open(256L).exists("dd/dd/after")).isTrue();
+    }
+
+    @Test
+    @DisplayName("팩이 최대 크기를 넘으면 다음 팩 파일에 이어 쓴다")
+    void rollsOverPacks() throws IOException {
+        storage = open(0L);
+        storage.put("aa/aa/one", write("one", "one".getBytes(StandardCharsets.UTF_8)));
+        storage.put("bb/bb/two", write("two", "two".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(dir.resolve("archive/pack-000001.pack")).exists();
+        assertThat(dir.resolve("archive/pack-000002.pack")).exists();
+        assertThat(read("aa/aa/one")).isEqualTo("one".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PackFileBlobStorage open(long packSizeMb) {
+        PackFileBlobStorage opened = new PackFileBlobStorage();
+        ReflectionTestUtils.setField(opened, "uploadDir", dir.toString());
+        ReflectionTestUtils.setField(opened, "archiveDir", "");
+        ReflectionTestUtils.setField(opened, "packSizeMb", packSizeMb);
+        opened.init();
+        return opened;
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(dir.resolve(name), content);
+    }
+
+    private byte[] read(String key) throws IOException {
+        try (InputStream in = storage.open(key)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 HTTP 스텁 서버를 S3 엔드포인트로 두고 요청/응답을 확인하는 테스트.
+ */
+@DisplayName("S3BlobStorage 테스트")
+class S3BlobStorageTest {
+
+    private static final byte[] CONTENT = "연차 사용 증빙".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path dir;
+
+    private HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> payloadHashes = new ConcurrentHashMap<>();
+
+    private S3BlobStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        storage = new S3BlobStorage();
+        ReflectionTestUtils.setField(storage, "endpoint", "http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        ReflectionTestUtils.setField(storage, "region", "us-east-1");
+        ReflectionTestUtils.setField(storage, "bucket", "leave");
+        ReflectionTestUtils.setField(storage, "accessKey", "AKIDEXAMPLE");
+        ReflectionTestUtils.setField(storage, "secretKey", "secret");
+        ReflectionTestUtils.setField(storage, "prefix", "attachments/");
+        storage.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("넣은 내용을 같은 키로 확인하고 읽으며, 지우면 없는 것으로 본다")
+    void putGetDelete() throws IOException {
+        String sha256 = SigV4Signer.sha256Hex(CONTENT);
+        String key = ContentAddressedStore.keyOf(sha256);
+
+        storage.put(key, Files.write(dir.resolve("content"), CONTENT), sha256);
+
+        assertThat(objects).containsKey("/leave/attachments/" + key);
+        assertThat(payloadHashes.get("/leave/attachments/" + key)).isEqualTo(sha256);
+        assertThat(storage.exists(key)).isTrue();
+        try (InputStream in = storage.open(key)) {
+            assertThat(in.readAllBytes()).isEqualTo(CONTENT);
+        }
+
+        storage.delete(key);
+
+        assertThat(storage.exists(key)).isFalse();
+        assertThatThrownBy(() -> storage.open(key)).isInstanceOf(NoSuchFileException.class);
+        storage.delete(key);
+    }
+
+    @Test
+    @DisplayName("해시를 모르고 넣으면 파일을 읽어 서명용 해시를 계산한다")
+    void computesHashWhenUnknown() throws IOException {
+        storage.put("aa/bb/plain", Files.write(dir.resolve("plain"), CONTENT));
+
+        assertThat(payloadHashes.get("/leave/attachments/aa/bb/plain")).isEqualTo(SigV4Signer.sha256Hex(CONTENT));
+    }
+
+    @Test
+    @DisplayName("저장소가 오류로 응답하면 IOException으로 알린다")
+    void failsOnServerError() throws IOException {
+        Path source = Files.write(dir.resolve("content"), CONTENT);
+
+        assertThatThrownBy(() -> storage.put("fail/put", source, SigV4Signer.sha256Hex(CONTENT)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("S3 PUT failed : 500");
+    }
+
+    /**
+     * 서명 헤더가 있는 요청만 받아 메모리에 객체를 두는 최소 S3 스텁.
+     * 키에 "fail"이 들어 있으면 500으로 응답한다.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getRawPath();
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        if (exchange.getRequestHeaders().getFirst("Authorization") == null || path.contains("fail")) {
+            respond(exchange, 500, null);
+            return;
+        }
+
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> {
+                objects.put(path, body);
+                payloadHashes.put(path, exchange.getRequestHeaders().getFirst("x-amz-content-sha256"));
+                respond(exchange, 200, null);
+            }
+            case "HEAD" -> respond(exchange, objects.containsKey(path) ? 200 : 404, null);
+            case "GET" -> respond(exchange, objects.containsKey(path) ? 200 : 404, objects.get(path));
+            case "DELETE" -> respond(exchange, objects.remove(path) != null ? 204 : 404, null);
+            default -> respond(exchange, 405, null);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        boolean empty = body == null || "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, empty ? -1 : body.length);
+        if (!empty) exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
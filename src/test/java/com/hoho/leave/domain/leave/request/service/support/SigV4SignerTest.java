@@ -0,0 +1,43 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SigV4 서명 테스트")
+class SigV4SignerTest {
+
+    @Test
+    @DisplayName("AWS SigV4 테스트 벡터(get-vanilla)와 같은 서명을 만든다")
+    void matchesReferenceVector() {
+        SigV4Signer signer = new SigV4Signer("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY", "us-east-1", "service");
+        SortedMap<String, String> headers = new TreeMap<>();
+        headers.put("host", "example.amazonaws.com");
+        headers.put("x-amz-date", "20150830T123600Z");
+
+        String authorization = signer.authorization("GET", "/", "", headers,
+                SigV4Signer.sha256Hex(new byte[0]));
+
+        assertThat(authorization).isEqualTo("AWS4-HMAC-SHA256 "
+                + "Credential=AKIDEXAMPLE/20150830/us-east-1/service/aws4_request, "
+                + "SignedHeaders=host;x-amz-date, "
+                + "Signature=5fa00fa31553b73ebf1942676e86291e8372ff2a2260956d9b8aae1d763fbf31");
+        assertThat(SigV4Signer.sha256Hex(new byte[0])).isEqualTo(S3BlobStorage.EMPTY_SHA256);
+        assertThat(SigV4Signer.sha256Hex("a".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo("ca978112ca1bbdcafac231b39a23dc4da786eff8147c4e72b9807785afee48bb");
+    }
+
+    @Test
+    @DisplayName("기본 포트가 아닌 엔드포인트는 Host 서명 값에 포트를 붙인다")
+    void hostIncludesNonDefaultPort() {
+        assertThat(S3BlobStorage.hostOf(URI.create("http://minio:9000/bucket/a"))).isEqualTo("minio:9000");
+        assertThat(S3BlobStorage.hostOf(URI.create("https://s3.amazonaws.com:443/bucket/a"))).isEqualTo("s3.amazonaws.com");
+        assertThat(S3BlobStorage.hostOf(URI.create("https://s3.amazonaws.com/bucket/a"))).isEqualTo("s3.amazonaws.com");
+    }
+}
@@ -0,0 +1,158 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("썸네일 생성/캐시 테스트")
+class ThumbnailCacheTest {
+
+    private static final int MB = 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private ThumbnailCache cache;
+    private ThumbnailGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ThumbnailCache();
+        ReflectionTestUtils.setField(cache, "uploadDir", dir.toString());
+        ReflectionTestUtils.setField(cache, "budgetMb", 2L);
+
+        generator = new ThumbnailGenerator();
+        ReflectionTestUtils.setField(generator, "maxEdge", 320);
+        ReflectionTestUtils.setField(generator, "quality", 0.8f);
+    }
+
+    @Test
+    @DisplayName("투명 PNG는 긴 변이 최대 크기인 흰 배경 JPEG 썸네일이 원본 옆에 만들어진다")
+    void generatesJpegNextToOriginal() throws IOException {
+        BufferedImage image = new BufferedImage(2400, 1200, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 1200, 1200);
+        g.dispose();
+        Path original = dir.resolve("scan.png");
+        ImageIO.write(image, "png", original.toFile());
+
+        Path thumbnail = ThumbnailCache.pathOf(original);
+        long size = generator.generate(original, thumbnail);
+
+        BufferedImage result = ImageIO.read(thumbnail.toFile());
+        assertThat(thumbnail.getParent()).isEqualTo(dir);
+        assertThat(size).isEqualTo(Files.size(thumbnail));
+        assertThat(result.getWidth()).isEqualTo(320);
+        assertThat(result.getHeight()).isEqualTo(160);
+        assertThat(new Color(result.getRGB(300, 80)).getRed()).isGreaterThan(240);    // 투명 → 흰색
+        assertThat(new Color(result.getRGB(20, 80)).getGreen()).isLessThan(30);       // 빨강 유지
+    }
+
+    @Test
+    @DisplayName("EXIF 방향이 있는 JPEG는 바로 세운 썸네일을 만든다")
+    void appliesExifOrientation() throws IOException {
+        BufferedImage image = new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 800, 400);
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 100, 100);     // 왼쪽 위 표시
+        g.dispose();
+        Path original = Files.write(dir.resolve("photo.jpg"),
+                ImageRecompressorTest.withOrientation(ImageRecompressorTest.encode(image, "jpg"), 6));
+
+        Path thumbnail = ThumbnailCache.pathOf(original);
+        generator.generate(original, thumbnail);
+
+        // 시계 방향 90도: 세로로 서고 표시는 오른쪽 위로 간다
+        BufferedImage result = ImageIO.read(thumbnail.toFile());
+        assertThat(result.getWidth()).isEqualTo(160);
+        assertThat(result.getHeight()).isEqualTo(320);
+        assertThat(new Color(result.getRGB(150, 10)).getGreen()).isLessThan(80);
+        assertThat(new Color(result.getRGB(10, 10)).getGreen()).isGreaterThan(200);
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 예외가 발생하고 썸네일을 남기지 않는다")
+    void rejectsNonImage() throws IOException {
+        Path original = Files.writeString(dir.resolve("fake.jpg"), "not an image");
+
+        assertThatThrownBy(() -> generator.generate(original, ThumbnailCache.pathOf(original)))
+                .isInstanceOf(IOException.class);
+        try (var files = Files.list(dir)) {
+            assertThat(files).containsExactly(original);
+        }
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 가장 오래 조회되지 않은 썸네일부터 지운다")
+    void evictsLeastRecentlyUsed() throws IOException {
+        Path a = thumbnail("a", MB);
+        Path b = thumbnail("b", MB);
+        cache.add(a, MB);
+        cache.add(b, MB);
+        assertThat(cache.touch(a)).isTrue();
+
+        Path c = thumbnail("c", MB);
+        cache.add(c, MB);
+
+        assertThat(Files.exists(a)).isTrue();
+        assertThat(Files.exists(b)).isFalse();
+        assertThat(Files.exists(c)).isTrue();
+        assertThat(cache.touch(b)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시작 시 디스크의 썸네일을 수정 시각 순서로 색인하고 예산을 맞춘다")
+    void loadsFromDisk() throws IOException {
+        Path old = thumbnail("old", MB);
+        Path mid = thumbnail("mid", MB);
+        Path recent = thumbnail("recent", MB);
+        Files.setLastModifiedTime(old, FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(mid, FileTime.fromMillis(2_000));
+        Files.setLastModifiedTime(recent, FileTime.fromMillis(3_000));
+        Files.writeString(dir.resolve("original.png"), "x");
+
+        cache.load();
+
+        assertThat(Files.exists(old)).isFalse();
+        assertThat(Files.exists(mid)).isTrue();
+        assertThat(Files.exists(recent)).isTrue();
+        assertThat(Files.exists(dir.resolve("original.png"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("재시작 시 EXIF 방향 적용 전 형식의 썸네일은 지워 다시 만들게 한다")
+    void deletesLegacyThumbnailsOnLoad() throws IOException {
+        Path legacy = Files.write(dir.resolve("old.jpg" + ThumbnailCache.LEGACY_SUFFIX), new byte[16]);
+        Path current = thumbnail("current", 16);
+
+        cache.load();
+
+        assertThat(ThumbnailCache.isThumbnail(legacy)).isTrue();
+        assertThat(Files.exists(legacy)).isFalse();
+        assertThat(Files.exists(current)).isTrue();
+        assertThat(cache.touch(current)).isTrue();
+    }
+
+    private Path thumbnail(String name, int size) throws IOException {
+        Path path = ThumbnailCache.pathOf(dir.resolve(name + ".png"));
+        Files.write(path, new byte[size]);
+        return path;
+    }
+}
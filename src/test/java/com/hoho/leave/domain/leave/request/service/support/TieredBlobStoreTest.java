@@ -0,0 +1,92 @@
+package com.hoho.leave.domain.leave.request.service.support;
+
+import com.hoho.leave.domain.leave.request.entity.StorageTier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TieredBlobStore 테스트")
+class TieredBlobStoreTest {
+
+    private static final byte[] CONTENT = "병가 진단서".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path dir;
+
+    private ContentAddressedStore localStore;
+    private PackFileBlobStorage archiveStorage;
+    private TieredBlobStore tieredStore;
+
+    @BeforeEach
+    void setUp() {
+        localStore = new ContentAddressedStore();
+        ReflectionTestUtils.setField(localStore, "uploadDir", dir.toString());
+        ReflectionTestUtils.invokeMethod(localStore, "init");
+
+        archiveStorage = new PackFileBlobStorage();
+        ReflectionTestUtils.setField(archiveStorage, "uploadDir", dir.toString());
+        ReflectionTestUtils.setField(archiveStorage, "archiveDir", "");
+        ReflectionTestUtils.setField(archiveStorage, "packSizeMb", 256L);
+        archiveStorage.init();
+
+        tieredStore = new TieredBlobStore(localStore, archiveStorage);
+    }
+
+    @Test
+    @DisplayName("보관 후 로컬 사본을 지우면 다음 읽기에서 보관 저장소로부터 되살린다")
+    void restoresEvictedCopy() throws IOException {
+        String key = storeLocally();
+        Path local = localStore.resolve(key);
+        Files.setLastModifiedTime(local, FileTime.from(Instant.now().minusSeconds(86_400)));
+
+        tieredStore.archive(key, key.substring(key.lastIndexOf('/') + 1));
+        assertThat(tieredStore.evictLocal(key, Instant.now().minusSeconds(60))).isTrue();
+        assertThat(local).doesNotExist();
+
+        assertThat(tieredStore.ensureLocal(key, StorageTier.ARCHIVE)).isEqualTo(local);
+        assertThat(Files.readAllBytes(local)).isEqualTo(CONTENT);
+        assertThat(tieredStore.evictLocal(key, Instant.now().minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("로컬 계층 blob은 보관 저장소를 보지 않고 로컬 경로를 그대로 돌려준다")
+    void localTierSkipsArchive() throws IOException {
+        String key = ContentAddressedStore.keyOf("ab".repeat(32));
+
+        assertThat(tieredStore.ensureLocal(key, StorageTier.LOCAL)).isEqualTo(localStore.resolve(key));
+        assertThatThrownBy(() -> tieredStore.ensureLocal(key, StorageTier.ARCHIVE))
+                .isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @DisplayName("보관된 내용의 해시가 키와 다르면 되살리지 않는다")
+    void rejectsCorruptedArchive() throws IOException {
+        String key = ContentAddressedStore.keyOf("cd".repeat(32));
+        archiveStorage.put(key, Files.write(dir.resolve("other"), CONTENT));
+
+        assertThatThrownBy(() -> tieredStore.ensureLocal(key, StorageTier.ARCHIVE))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("corrupted");
+        assertThat(localStore.resolve(key)).doesNotExist();
+    }
+
+    private String storeLocally() throws IOException {
+        StagedBlob staged = localStore.stage(new ByteArrayInputStream(CONTENT));
+        localStore.promote(staged);
+        return staged.getStorageKey();
+    }
+}
@@ -0,0 +1,54 @@
+package com.hoho.leave.domain.shared;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DayQuantity 테스트")
+class DayQuantityTest {
+
+    @Test
+    @DisplayName("반차와 2시간 단위 연산은 오차 없이 계산된다")
+    void exactUnitArithmetic() {
+        DayQuantity balance = DayQuantity.ofDays(15)
+                .minus(DayQuantity.HALF_DAY)
+                .minus(DayQuantity.ofTwoHourUnits(3));
+
+        assertThat(balance).isEqualTo(DayQuantity.ofHundredths(1375));
+        assertThat(balance.toBigDecimal()).isEqualTo(new BigDecimal("13.75"));
+        assertThat(DayQuantity.ofTwoHourUnits(2)).isEqualTo(DayQuantity.HALF_DAY);
+        assertThat(DayQuantity.ofHalfDays(3).isMultipleOf(DayQuantity.HALF_DAY)).isTrue();
+        assertThat(DayQuantity.ofTwoHourUnits(3).isMultipleOf(DayQuantity.HALF_DAY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("BigDecimal과 상호 변환하면 소수 둘째 자리로 맞춰지고 값은 스케일과 무관하게 같다")
+    void bigDecimalRoundTrip() {
+        DayQuantity quantity = DayQuantity.of(new BigDecimal("1.5"));
+
+        assertThat(quantity).isEqualTo(DayQuantity.of(new BigDecimal("1.500")));
+        assertThat(quantity.toBigDecimal()).isEqualTo(new BigDecimal("1.50"));
+        assertThat(quantity.toPlainString()).isEqualTo("1.5");
+        assertThat(DayQuantity.ofDays(15).toPlainString()).isEqualTo("15");
+        assertThat(DayQuantity.of(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("소수 셋째 자리 이하가 있으면 예외가 발생한다")
+    void rejectsFinerThanHundredths() {
+        assertThatThrownBy(() -> DayQuantity.of(new BigDecimal("0.125")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("자주 쓰이는 값은 같은 인스턴스를 재사용한다")
+    void reusesCachedInstances() {
+        assertThat(DayQuantity.ofDays(1)).isSameAs(DayQuantity.ONE_DAY);
+        assertThat(DayQuantity.ONE_DAY.negate().negate()).isSameAs(DayQuantity.ONE_DAY);
+        assertThat(DayQuantity.ofHundredths(1).plus(DayQuantity.ofHundredths(1))).isEqualTo(DayQuantity.ofHundredths(2));
+    }
+}